@@ -25,11 +25,13 @@ set DISPATCHER=%DISPATCHER_HOST%:%DISPATCHER_PORT%
 REM die Parameter fr die Anwendung
 set ARGS=
 
-REM Auf der Kommandozeile kann die Option -d zum Aktivieren des Debugging
-REM angegeben werden.
+REM Auf der Kommandozeile kann die Option -d zum Aktivieren des Debugging,
+REM die Option -slots <Anzahl> zur Festlegung der Anzahl gleichzeitig
+REM berechneter Teilprobleme und die Option -prefetch <Anzahl> zur Festlegung
+REM der Gre des Vorrats an Teilproblemen angegeben werden.
 
 REM die Main-Klasse ist
 REM   de.unistuttgart.architeuthis.operative.OperativeImpl
 REM und wird als Main-Class Attribut im jar-Manifest definiert
 
-%JAVA% %JVMPAR% -jar %DEPLOY_DIR%\Operative.jar %DISPATCHER% %ARGS% %1
+%JAVA% %JVMPAR% -jar %DEPLOY_DIR%\Operative.jar %DISPATCHER% %ARGS% %*
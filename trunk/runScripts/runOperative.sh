@@ -24,8 +24,10 @@ DISPATCHER="$DISPATCHER_HOST:$DISPATCHER_PORT"
 # die Parameter fr die Anwendung
 ARGS=" "
 
-# Auf der Kommandozeile kann die Option -d zum Aktivieren des Debugging
-# angegeben werden.
+# Auf der Kommandozeile kann die Option -d zum Aktivieren des Debugging,
+# die Option -slots <Anzahl> zur Festlegung der Anzahl gleichzeitig
+# berechneter Teilprobleme und die Option -prefetch <Anzahl> zur Festlegung
+# der Gre des Vorrats an Teilproblemen angegeben werden.
 
 # die Main-Klasse ist
 #   de.unistuttgart.architeuthis.operative.OperativeImpl
@@ -0,0 +1,39 @@
+@echo off
+
+REM Startet einen Unter-Dispatcher von Architeuthis. Er meldet sich beim
+REM Dispatcher wie ein Operative mit vielen Slots an und verteilt die
+REM erhaltenen Teilprobleme an lokale Operatives, die sich bei ihm anmelden.
+
+
+REM Bentigte Umgebungsvariablen (CONFIG_DIR, JAVA, DEPLOY_DIR,
+REM DISPATCHER_HOST, DISPATCHER_PORT, SUBDISPATCHER_PORT) werden gesetzt
+call setup.bat
+
+set POLICY_CONF=dispatcher.pol
+set LOGGING_CONF=logging.properties
+
+REM die Parameter fr die JVM. Der CacheFlushingRMIClSpi wird nicht
+REM verwendet, da der Unter-Dispatcher die Teilprobleme nur weiterreicht.
+set JVMPAR= 
+set JVMPAR=%JVMPAR% -Djava.security.policy=%CONFIG_DIR%/%POLICY_CONF%
+set JVMPAR=%JVMPAR% -Djava.util.logging.config.file=%CONFIG_DIR%/%LOGGING_CONF%
+
+REM Name und Port vom Dispatcher zusammenfassen
+set DISPATCHER=%DISPATCHER_HOST%:%DISPATCHER_PORT%
+
+REM die Parameter fr die Anwendung
+set ARGS=
+set ARGS=%ARGS% -port %SUBDISPATCHER_PORT%
+
+REM Auf der Kommandozeile kann die Option -d zum Aktivieren des Debugging,
+REM die Option -slots <Anzahl> zur Festlegung der Anzahl der Slots beim
+REM Dispatcher, die Option -batch <Anzahl> zur Festlegung der Anzahl der
+REM gemeinsam bermittelten Teillsungen und die Option -linger <Millisekunden>
+REM zur Festlegung der Zeit, die eine Teillsung hchstens gesammelt wird,
+REM angegeben werden.
+
+REM Die lokalen Operatives werden mit der Adresse des Unter-Dispatchers
+REM gestartet, z.B.:
+REM   %JAVA% ... -jar %DEPLOY_DIR%\Operative.jar rechner:%SUBDISPATCHER_PORT%
+
+%JAVA% %JVMPAR% -cp %DEPLOY_DIR%\Dispatcher.jar de.unistuttgart.architeuthis.dispatcher.subdispatcher.SubDispatcherImpl %DISPATCHER% %ARGS% %*
@@ -0,0 +1,40 @@
+#!/bin/sh
+
+# Startet einen Unter-Dispatcher von Architeuthis. Er meldet sich beim
+# Dispatcher wie ein Operative mit vielen Slots an und verteilt die
+# erhaltenen Teilprobleme an lokale Operatives, die sich bei ihm anmelden.
+
+
+# Bentigte Umgebungsvariablen (CONFIG_DIR, JAVA, DEPLOY_DIR,
+# DISPATCHER_HOST, DISPATCHER_PORT, SUBDISPATCHER_PORT) werden gesetzt
+. ./setup.sh
+
+POLICY_CONF=dispatcher.pol
+LOGGING_CONF=logging.properties
+
+# die Parameter fr die JVM. Der CacheFlushingRMIClSpi wird nicht
+# verwendet, da der Unter-Dispatcher die Teilprobleme nur weiterreicht.
+JVMPAR=" "
+JVMPAR="$JVMPAR -Djava.security.policy=$CONFIG_DIR/$POLICY_CONF"
+JVMPAR="$JVMPAR -Djava.util.logging.config.file=$CONFIG_DIR/$LOGGING_CONF"
+
+# Name und Port vom Dispatcher zusammenfassen
+DISPATCHER="$DISPATCHER_HOST:$DISPATCHER_PORT"
+
+# die Parameter fr die Anwendung
+ARGS=" "
+ARGS="$ARGS -port $SUBDISPATCHER_PORT"
+
+# Auf der Kommandozeile kann die Option -d zum Aktivieren des Debugging,
+# die Option -slots <Anzahl> zur Festlegung der Anzahl der Slots beim
+# Dispatcher, die Option -batch <Anzahl> zur Festlegung der Anzahl der
+# gemeinsam bermittelten Teillsungen und die Option -linger <Millisekunden>
+# zur Festlegung der Zeit, die eine Teillsung hchstens gesammelt wird,
+# angegeben werden.
+
+# Die lokalen Operatives werden mit der Adresse des Unter-Dispatchers
+# gestartet, z.B.:
+#   $JAVA ... -jar $DEPLOY_DIR/Operative.jar rechner:$SUBDISPATCHER_PORT
+
+exec $JAVA $JVMPAR -cp $DEPLOY_DIR/Dispatcher.jar de.unistuttgart.architeuthis.dispatcher.subdispatcher.SubDispatcherImpl $DISPATCHER $ARGS $@
+
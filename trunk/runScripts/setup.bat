@@ -39,6 +39,10 @@ set CLASS_SERVER_HOST=hostname
 REM Der Port, unter dem der ClassFileServer luft.
 set CLASS_SERVER_PORT=1855
 
+REM Der Port, unter dem ein Unter-Dispatcher fr seine lokalen Operatives
+REM erreichbar ist.
+set SUBDISPATCHER_PORT=1856
+
 REM URL, unter dem die Problemklassen abrufbar sind. Der URL mu fr alle
 REM Operatives gltig sein.
 REM set CLASSURL=http://meinrechner:1855/
@@ -42,6 +42,10 @@ CLASS_SERVER_HOST=`hostname`
 # Der Port, unter dem der ClassFielServer luft.
 CLASS_SERVER_PORT="1855"
 
+# Der Port, unter dem ein Unter-Dispatcher fr seine lokalen Operatives
+# erreichbar ist.
+SUBDISPATCHER_PORT="1856"
+
 # URL, unter dem die Problemklassen abrufbar sind. Der URL mu fr alle
 # Operatives gltig sein.
 #CLASSURL=http://meinrechner:1855/
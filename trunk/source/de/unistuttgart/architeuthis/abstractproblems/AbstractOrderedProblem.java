@@ -37,6 +37,7 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.LinkedList;
 
+import de.unistuttgart.architeuthis.userinterfaces.develop.AdaptiveProblem;
 import de.unistuttgart.architeuthis.userinterfaces.develop.PartialProblem;
 import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
 import de.unistuttgart.architeuthis.userinterfaces.develop.SerializableProblem;
@@ -44,11 +45,25 @@ import de.unistuttgart.architeuthis.userinterfaces.develop.SerializableProblem;
 /**
  * Abstrakte Klasse, die die Teillsungen mittels {@link receivePartialSolution}
  * in der gleichen Reihenfolge bergibt, in der die zugehrigen Teilprobleme
- * von {@link createPartialProblem} geliefert wurden.
+ * von {@link createPartialProblem} geliefert wurden.<p>
+ *
+ * Die Verwaltung der ausgegebenen Teilprobleme ist synchronisiert. Eine
+ * Unterklasse kann daher das Interface
+ * {@link de.unistuttgart.architeuthis.userinterfaces.develop.StagedProblem}
+ * implementieren, wenn ihre Methoden <code>createPartialProblem</code> und
+ * <code>receivePartialSolution</code> gleichzeitig aufgerufen werden drfen.<p>
+ *
+ * Die Hinweise des Dispatchers zur Gre der Teilprobleme werden
+ * aufgezeichnet. Eine Unterklasse, die ihre Teilprobleme erst bei Bedarf
+ * erzeugt, kann deren Gre mit dem Faktor von {@link #getSizeScale()}
+ * multiplizieren, um die angestrebte Berechnungszeit zu erreichen. Bei
+ * {@link AbstractFixedSizeProblem} werden alle Teilprobleme beim ersten
+ * Aufruf erzeugt, so da die Hinweise keine Wirkung haben.
  *
  * @author Achim Linke, Ralf Kible, Dietmar Lippold
  */
-public abstract class AbstractOrderedProblem implements SerializableProblem {
+public abstract class AbstractOrderedProblem
+    implements SerializableProblem, AdaptiveProblem {
 
     /**
      * Generierte <code>serialVersionUID</code>.
@@ -70,6 +85,18 @@ public abstract class AbstractOrderedProblem implements SerializableProblem {
      */
     private LinkedList dispensedPartialProblems = new LinkedList();
 
+    /**
+     * Der Faktor, um den die Teilprobleme nach den bisherigen Hinweisen des
+     * Dispatchers grer sein sollten als die ersten Teilprobleme.
+     */
+    private volatile double sizeScale = 1;
+
+    /**
+     * Die zuletzt vom Dispatcher angegebene angestrebte Berechnungszeit eines
+     * Teilproblems oder Null, wenn noch keine angegeben wurde.
+     */
+    private volatile long targetDuration = 0;
+
     /**
      * Ruft <code>createPartialProblem</code> der implementierenden
      * Unterklasse auf und speichert es, bis die zugehrige Teillsung
@@ -90,7 +117,9 @@ public abstract class AbstractOrderedProblem implements SerializableProblem {
         }
 
         // Der Schlange hinten anfgen.
-        dispensedPartialProblems.addLast(prob);
+        synchronized (dispensedPartialProblems) {
+            dispensedPartialProblems.addLast(prob);
+        }
 
         return prob;
     }
@@ -103,31 +132,72 @@ public abstract class AbstractOrderedProblem implements SerializableProblem {
      */
     public void collectPartialSolution(PartialSolution parSol,
                                        PartialProblem parProb) {
+        PartialProblem nextParProb;
 
         // Die Teillsung in die Hashmap einfgen.
         partialSolutions.put(parProb, parSol);
 
         // Die nchsten Teillsungen, falls diese vorhanden sind, an die
         // Unterklasse bergeben.
-        while ((!dispensedPartialProblems.isEmpty())
-               && (partialSolutions.containsKey(dispensedPartialProblems.getFirst()))
-               && (finalSolution == null)) {
-
-            // Die gesuchte Teillsung aus der Hashmap holen.
+        while (finalSolution == null) {
+            synchronized (dispensedPartialProblems) {
+                if (dispensedPartialProblems.isEmpty()
+                    || !partialSolutions.containsKey(dispensedPartialProblems.getFirst())) {
+                    break;
+                }
+
+                // Das Teilproblem kann nun aus der Liste entfernt werden.
+                nextParProb = (PartialProblem) dispensedPartialProblems.removeFirst();
+            }
+
+            // Die gesuchte Teillsung aus der Hashmap holen und entfernen.
             PartialSolution userParSol =
-                (PartialSolution) partialSolutions.get(dispensedPartialProblems.getFirst());
+                (PartialSolution) partialSolutions.remove(nextParProb);
 
             // Teillsung an das Problem schicken.
             // finalSolution bleibt null, wenn die Gesamtlsung noch nicht
             // vorhanden ist.
             finalSolution = receivePartialSolution(userParSol);
-
-            // Die verschickte Teillsung kann nun aus der Hashmap und der
-            // Liste entfernt werden.
-            partialSolutions.remove(dispensedPartialProblems.removeFirst());
         }
     }
 
+    /**
+     * Nimmt einen Hinweis des Dispatchers zur Gre der Teilprobleme entgegen
+     * und pat den Faktor an, der von {@link #getSizeScale()} geliefert
+     * wird.
+     *
+     * @param sizeFactor      Der Faktor, um den die nchsten Teilprobleme
+     *                        grer sein sollten als die zuletzt berechneten.
+     * @param targetDuration  Die angestrebte Berechnungszeit eines
+     *                        Teilproblems in Millisekunden.
+     */
+    public void setSizeHint(double sizeFactor, long targetDuration) {
+        this.sizeScale = sizeScale * sizeFactor;
+        this.targetDuration = targetDuration;
+    }
+
+    /**
+     * Liefert den Faktor, um den die als nchstes erzeugten Teilprobleme nach
+     * den Hinweisen des Dispatchers grer sein sollten als die ersten
+     * Teilprobleme. Solange kein Hinweis vorliegt, ist der Wert Eins.
+     *
+     * @return  Der Faktor fr die Gre der nchsten Teilprobleme.
+     */
+    protected double getSizeScale() {
+        return sizeScale;
+    }
+
+    /**
+     * Liefert die zuletzt vom Dispatcher angegebene angestrebte
+     * Berechnungszeit eines Teilproblems.
+     *
+     * @return  Die angestrebte Berechnungszeit in Millisekunden oder Null,
+     *          wenn noch keine angegeben wurde.
+     */
+    protected long getTargetDuration() {
+        return targetDuration;
+    }
+
     /**
      * Liefert die Gesamtlsung an den ComputeManager zurck oder
      * <code>null</code>, wenn diese noch nicht existiert.
@@ -0,0 +1,249 @@
+/*
+ * file:        AbstractParallelFixedSizeProblem.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.abstractproblems;
+
+import java.io.Serializable;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import de.unistuttgart.architeuthis.userinterfaces.develop.ParallelProblem;
+import de.unistuttgart.architeuthis.userinterfaces.develop.PartialProblem;
+import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
+import de.unistuttgart.architeuthis.userinterfaces.develop.SerializableProblem;
+
+/**
+ * Abstrakte Klasse zur Verwaltung einer festen Anzahl von Teilproblemen und
+ * deren Teillsungen, deren Teilprobleme von mehreren Threads gleichzeitig
+ * erzeugt werden. Im Unterschied zu {@link AbstractFixedSizeProblem} wird
+ * zuerst nur die Anzahl der Teilprobleme festgelegt. Die einzelnen
+ * Teilprobleme werden dann anhand ihrer Nummer unabhngig voneinander
+ * erzeugt, so da die Methode <code>createPartialProblem</code> der
+ * konkreten Unterklasse gleichzeitig von mehreren Threads aufgerufen wird.
+ * Sie mu daher ohne Synchronisation auskommen oder selbst dafr sorgen.<p>
+ *
+ * Die Teillsungen werden ebenfalls gleichzeitig entgegengenommen und
+ * anhand der Nummer ihres Teilproblems gespeichert. Sobald alle
+ * Teillsungen eingegangen sind, werden sie in der Reihenfolge der
+ * Teilprobleme der konkreten Unterklasse zur Erstellung einer Gesamtlsung
+ * bergeben.
+ */
+public abstract class AbstractParallelFixedSizeProblem
+    implements SerializableProblem, ParallelProblem {
+
+    /**
+     * Generierte <code>serialVersionUID</code>.
+     */
+    private static final long serialVersionUID = 2286163453915760521L;
+
+    /**
+     * Die maximale Anzahl der Threads, die gleichzeitig Teilprobleme
+     * erzeugen.
+     */
+    private int generatorThreads;
+
+    /**
+     * Die Anzahl der Teilprobleme, die beim ersten Aufruf von
+     * <code>getPartialProblem</code> festgelegt wird.
+     */
+    private int parProbNumber = 0;
+
+    /**
+     * Die Nummer des nchsten zu erzeugenden Teilproblems.
+     */
+    private int nextIndex = 0;
+
+    /**
+     * Ordnet jedem ausgegebenen Teilproblem seine Nummer zu.
+     */
+    private Map parProbIndices = new IdentityHashMap();
+
+    /**
+     * Array, das die bisher erhaltenen Teillsungen enthlt.
+     */
+    private PartialSolution[] partialSolutions = null;
+
+    /**
+     * Anzahl der eingesammelten Teillsungen.
+     */
+    private int collected = 0;
+
+    /**
+     * Gesamtlsung des Problems.
+     */
+    private volatile Serializable finalSolution = null;
+
+    /**
+     * Erzeugt eine neue Instanz, deren Teilprobleme von so vielen Threads
+     * gleichzeitig erzeugt werden, wie Prozessoren verfgbar sind.
+     */
+    protected AbstractParallelFixedSizeProblem() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param generatorThreads  Die maximale Anzahl der Threads, die
+     *                          gleichzeitig Teilprobleme erzeugen.
+     */
+    protected AbstractParallelFixedSizeProblem(int generatorThreads) {
+        this.generatorThreads = generatorThreads;
+    }
+
+    /**
+     * Liefert die maximale Anzahl der Threads, die gleichzeitig Teilprobleme
+     * erzeugen.
+     *
+     * @return  Die maximale Anzahl der Threads zur Erzeugung der
+     *          Teilprobleme.
+     */
+    public int getMaxGeneratorThreads() {
+        return generatorThreads;
+    }
+
+    /**
+     * Liefert den Wert <code>true</code>, da die Teillsungen gleichzeitig
+     * entgegengenommen werden knnen.
+     *
+     * @return  Den Wert <code>true</code>.
+     */
+    public boolean allowsConcurrentCollection() {
+        return true;
+    }
+
+    /**
+     * Beim ersten Aufruf wird <code>partialProblemNumber</code> aufgerufen,
+     * um die Anzahl der Teilprobleme festzulegen. Bei allen Aufrufen wird
+     * das Teilproblem mit der nchsten Nummer erzeugt, solange noch nicht
+     * alle Teilprobleme erzeugt wurden.
+     *
+     * @param parProbsSuggested  Die vorgeschlagene Gesamtanzahl der zu
+     *                           generierenden Teilprobleme. Diese ist grsser
+     *                           oder gleich Eins.
+     *
+     * @return  Das nchste Teilproblem oder <code>null</code>, falls kein
+     *          Teilproblem mehr geliefert werden kann.
+     */
+    public PartialProblem getPartialProblem(int parProbsSuggested) {
+        PartialProblem parProb;
+        int            index;
+        int            number;
+
+        synchronized (this) {
+            if (partialSolutions == null) {
+                parProbNumber = partialProblemNumber(parProbsSuggested);
+                partialSolutions = new PartialSolution[parProbNumber];
+            }
+            if (nextIndex >= parProbNumber) {
+                return null;
+            }
+            index = nextIndex;
+            number = parProbNumber;
+            nextIndex++;
+        }
+
+        // Die Erzeugung erfolgt ohne Sperre.
+        parProb = createPartialProblem(index, number);
+
+        synchronized (this) {
+            parProbIndices.put(parProb, new Integer(index));
+        }
+        return parProb;
+    }
+
+    /**
+     * Nimmt eine Teillsung entgegen und speichert sie anhand der Nummer
+     * ihres Teilproblems. Bei der letzten Teillsung wird
+     * <code>createSolution</code> aufgerufen, um die Gesamtlsung zu
+     * erzeugen.
+     *
+     * @param parSol   Die zum Teilproblem ermittelte Teillsung.
+     * @param parProb  Das Teilproblem, zu dem die Teillsung ermittelt wurde.
+     */
+    public void collectPartialSolution(PartialSolution parSol,
+                                       PartialProblem parProb) {
+        Integer index;
+        boolean complete;
+
+        synchronized (this) {
+            index = (Integer) parProbIndices.remove(parProb);
+            if (index == null) {
+                return;
+            }
+            partialSolutions[index.intValue()] = parSol;
+            collected++;
+            complete = (collected == parProbNumber);
+        }
+
+        if (complete) {
+            finalSolution = createSolution(partialSolutions);
+        }
+    }
+
+    /**
+     * Liefert die Gesamtlsung oder <code>null</code>, wenn diese noch nicht
+     * existiert.
+     *
+     * @return  Die Gesamtlsung.
+     */
+    public Serializable getSolution() {
+        return finalSolution;
+    }
+
+    /**
+     * Liefert die Anzahl der zu erzeugenden Teilprobleme. Die Methode wird
+     * genau einmal aufgerufen.
+     *
+     * @param parProbsSuggested  Die vorgeschlagene Anzahl von Teilproblemen.
+     *                           Diese ist grsser oder gleich Eins.
+     *
+     * @return  Die Anzahl der Teilprobleme, die grer als Null ist.
+     */
+    protected abstract int partialProblemNumber(int parProbsSuggested);
+
+    /**
+     * Erzeugt das Teilproblem mit der bergebenen Nummer. Die Methode wird
+     * gleichzeitig von mehreren Threads aufgerufen.
+     *
+     * @param index   Die Nummer des zu erzeugenden Teilproblems, beginnend
+     *                mit Null.
+     * @param number  Die Anzahl aller Teilprobleme.
+     *
+     * @return  Das Teilproblem mit der bergebenen Nummer, das nicht
+     *          <code>null</code> ist.
+     */
+    protected abstract PartialProblem createPartialProblem(int index,
+                                                           int number);
+
+    /**
+     * Erstellt eine Gesamtlsung aus den bergebenen Teillsungen.
+     *
+     * @param partialSolutions  Die Teillsungen zu allen Teilproblemen in der
+     *                          Reihenfolge der Nummern der Teilprobleme.
+     *
+     * @return  Die Gesamtlsung.
+     */
+    protected abstract Serializable createSolution(PartialSolution[] partialSolutions);
+}
+
@@ -0,0 +1,301 @@
+/*
+ * file:        CompactCodec.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.abstractproblems;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+
+import de.unistuttgart.architeuthis.userinterfaces.develop.SerializationCodec;
+
+/**
+ * Kodiert Felder und Listen von Zahlen kompakt. Untersttzt werden Felder
+ * vom Typ <code>long[]</code>, <code>int[]</code> und <code>double[]</code>
+ * sowie Instanzen von <code>ArrayList</code>, deren Elemente alle vom Typ
+ * <code>Long</code> oder alle vom Typ <code>Integer</code> sind. Ganze
+ * Zahlen werden als Differenz zum vorherigen Wert mit variabler Lnge
+ * geschrieben, so da aufsteigend geordnete Zahlen mit geringen Abstnden,
+ * wie z.B. die Primzahlen eines Intervalls, meist nur ein oder zwei Bytes
+ * bentigen.
+ */
+public class CompactCodec implements SerializationCodec {
+
+    /**
+     * Generierte <code>serialVersionUID</code>.
+     */
+    private static final long serialVersionUID = -2874302817266473901L;
+
+    /**
+     * Die gemeinsam verwendete Instanz.
+     */
+    public static final CompactCodec INSTANCE = new CompactCodec();
+
+    /**
+     * Kennung fr eine Liste von <code>Long</code>-Objekten.
+     */
+    private static final int LONG_LIST = 1;
+
+    /**
+     * Kennung fr eine Liste von <code>Integer</code>-Objekten.
+     */
+    private static final int INTEGER_LIST = 2;
+
+    /**
+     * Kennung fr ein Feld vom Typ <code>long[]</code>.
+     */
+    private static final int LONG_ARRAY = 3;
+
+    /**
+     * Kennung fr ein Feld vom Typ <code>int[]</code>.
+     */
+    private static final int INT_ARRAY = 4;
+
+    /**
+     * Kennung fr ein Feld vom Typ <code>double[]</code>.
+     */
+    private static final int DOUBLE_ARRAY = 5;
+
+    /**
+     * Ermittelt die Klasse der Elemente einer <code>ArrayList</code>, wenn
+     * alle Elemente vom Typ <code>Long</code> oder alle vom Typ
+     * <code>Integer</code> sind.
+     *
+     * @param list  Die zu prfende Liste.
+     *
+     * @return  Die Klasse der Elemente oder <code>null</code>, wenn die
+     *          Elemente nicht untersttzt werden. Bei einer leeren Liste
+     *          wird <code>Long.class</code> geliefert.
+     */
+    private static Class elementClass(ArrayList list) {
+        Class elemClass;
+        Object element;
+
+        if (list.isEmpty()) {
+            return Long.class;
+        }
+        element = list.get(0);
+        if (element == null) {
+            return null;
+        }
+        elemClass = element.getClass();
+        if ((elemClass != Long.class) && (elemClass != Integer.class)) {
+            return null;
+        }
+        for (int i = 1; i < list.size(); i++) {
+            element = list.get(i);
+            if ((element == null) || (element.getClass() != elemClass)) {
+                return null;
+            }
+        }
+        return elemClass;
+    }
+
+    /**
+     * Schreibt eine ganze Zahl mit variabler Lnge. Kleine positive und
+     * negative Zahlen bentigen dabei wenige Bytes.
+     *
+     * @param value  Die zu schreibende Zahl.
+     * @param out    Der Stream, auf den geschrieben wird.
+     *
+     * @throws IOException  Bei einem Fehler beim Schreiben.
+     */
+    private static void writeVarLong(long value, ObjectOutput out)
+        throws IOException {
+
+        // Vorzeichen in das niederwertigste Bit verschieben
+        long rest = (value << 1) ^ (value >> 63);
+
+        while ((rest & ~0x7FL) != 0) {
+            out.writeByte((int) ((rest & 0x7F) | 0x80));
+            rest >>>= 7;
+        }
+        out.writeByte((int) rest);
+    }
+
+    /**
+     * Liest eine mit <code>writeVarLong</code> geschriebene Zahl.
+     *
+     * @param in  Der Stream, von dem gelesen wird.
+     *
+     * @return  Die gelesene Zahl.
+     *
+     * @throws IOException  Bei einem Fehler beim Lesen.
+     */
+    private static long readVarLong(ObjectInput in) throws IOException {
+        long rest = 0;
+        int shift = 0;
+        int b;
+
+        do {
+            if (shift > 63) {
+                throw new StreamCorruptedException("Zahl zu lang");
+            }
+            b = in.readUnsignedByte();
+            rest |= ((long) (b & 0x7F)) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        return ((rest >>> 1) ^ -(rest & 1));
+    }
+
+    /**
+     * Ermittelt, ob das bergebene Objekt mit diesem Codec geschrieben
+     * werden kann.
+     *
+     * @param object  Das zu schreibende Objekt.
+     *
+     * @return  <code>true</code>, wenn das Objekt ein untersttztes Feld
+     *          oder eine untersttzte Liste ist, sonst <code>false</code>.
+     */
+    public boolean accepts(Object object) {
+        if ((object instanceof long[]) || (object instanceof int[])
+                || (object instanceof double[])) {
+            return true;
+        }
+        return ((object != null) && (object.getClass() == ArrayList.class)
+                && (elementClass((ArrayList) object) != null));
+    }
+
+    /**
+     * Schreibt das bergebene Feld oder die bergebene Liste.
+     *
+     * @param object  Das zu schreibende Objekt.
+     * @param out     Der Stream, auf den das Objekt geschrieben wird.
+     *
+     * @throws IOException  Bei einem Fehler beim Schreiben.
+     */
+    public void write(Object object, ObjectOutput out) throws IOException {
+        ArrayList list;
+        long[] longs;
+        int[] ints;
+        double[] doubles;
+        long previous = 0;
+        long value;
+
+        if (object instanceof long[]) {
+            longs = (long[]) object;
+            out.writeByte(LONG_ARRAY);
+            writeVarLong(longs.length, out);
+            for (int i = 0; i < longs.length; i++) {
+                writeVarLong(longs[i] - previous, out);
+                previous = longs[i];
+            }
+        } else if (object instanceof int[]) {
+            ints = (int[]) object;
+            out.writeByte(INT_ARRAY);
+            writeVarLong(ints.length, out);
+            for (int i = 0; i < ints.length; i++) {
+                writeVarLong(ints[i] - previous, out);
+                previous = ints[i];
+            }
+        } else if (object instanceof double[]) {
+            doubles = (double[]) object;
+            out.writeByte(DOUBLE_ARRAY);
+            writeVarLong(doubles.length, out);
+            for (int i = 0; i < doubles.length; i++) {
+                out.writeDouble(doubles[i]);
+            }
+        } else {
+            list = (ArrayList) object;
+            if (elementClass(list) == Integer.class) {
+                out.writeByte(INTEGER_LIST);
+            } else {
+                out.writeByte(LONG_LIST);
+            }
+            writeVarLong(list.size(), out);
+            for (int i = 0; i < list.size(); i++) {
+                value = ((Number) list.get(i)).longValue();
+                writeVarLong(value - previous, out);
+                previous = value;
+            }
+        }
+    }
+
+    /**
+     * Liest ein Feld oder eine Liste, die mit der Methode <code>write</code>
+     * geschrieben wurde.
+     *
+     * @param in  Der Stream, von dem das Objekt gelesen wird.
+     *
+     * @return  Das gelesene Feld bzw. die gelesene Liste.
+     *
+     * @throws IOException  Bei einem Fehler beim Lesen oder einer
+     *                      unbekannten Kennung.
+     */
+    public Object read(ObjectInput in) throws IOException {
+        ArrayList list;
+        long[] longs;
+        int[] ints;
+        double[] doubles;
+        long value = 0;
+        int type = in.readUnsignedByte();
+        long longLength = readVarLong(in);
+        int length;
+
+        if ((longLength < 0) || (longLength > Integer.MAX_VALUE)) {
+            throw new StreamCorruptedException("Ungltige Lnge " + longLength);
+        }
+        length = (int) longLength;
+        switch (type) {
+        case LONG_ARRAY:
+            longs = new long[length];
+            for (int i = 0; i < length; i++) {
+                value += readVarLong(in);
+                longs[i] = value;
+            }
+            return longs;
+        case INT_ARRAY:
+            ints = new int[length];
+            for (int i = 0; i < length; i++) {
+                value += readVarLong(in);
+                ints[i] = (int) value;
+            }
+            return ints;
+        case DOUBLE_ARRAY:
+            doubles = new double[length];
+            for (int i = 0; i < length; i++) {
+                doubles[i] = in.readDouble();
+            }
+            return doubles;
+        case LONG_LIST:
+            list = new ArrayList(length);
+            for (int i = 0; i < length; i++) {
+                value += readVarLong(in);
+                list.add(new Long(value));
+            }
+            return list;
+        case INTEGER_LIST:
+            list = new ArrayList(length);
+            for (int i = 0; i < length; i++) {
+                value += readVarLong(in);
+                list.add(new Integer((int) value));
+            }
+            return list;
+        default:
+            throw new StreamCorruptedException("Unbekannte Kennung " + type);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * file:        CompactCodecTest.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.abstractproblems;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests fr den {@link CompactCodec}. Jeder Wert wird geschrieben, wieder
+ * gelesen und mit dem ursprnglichen Wert verglichen.
+ */
+public class CompactCodecTest extends TestCase {
+
+    /**
+     * Werte, bei denen die Differenzen zum vorherigen Wert negativ sind oder
+     * ber den Wertebereich hinausgehen.
+     */
+    private static final long[] EXTREME_LONGS = {
+        0, -1, 1, Long.MAX_VALUE, Long.MIN_VALUE, -5, Long.MIN_VALUE,
+        Long.MAX_VALUE, 7, -300, 300, Long.MAX_VALUE - 1, 0};
+
+    /**
+     * Schreibt das bergebene Objekt mit dem Codec und liest es wieder.
+     *
+     * @param object  Das zu schreibende Objekt.
+     *
+     * @return  Das gelesene Objekt.
+     *
+     * @throws IOException  Bei einem Fehler beim Schreiben oder Lesen.
+     */
+    private static Object roundTrip(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        ObjectInputStream in;
+        Object result;
+
+        assertTrue(CompactCodec.INSTANCE.accepts(object));
+        CompactCodec.INSTANCE.write(object, out);
+        out.close();
+
+        in = new ObjectInputStream(
+            new ByteArrayInputStream(bytes.toByteArray()));
+        result = CompactCodec.INSTANCE.read(in);
+        assertEquals(-1, in.read());
+        return result;
+    }
+
+    /**
+     * Testet Felder vom Typ <code>long[]</code> mit negativen Differenzen
+     * und den Grenzen des Wertebereichs.
+     *
+     * @throws IOException  Bei einem Fehler beim Schreiben oder Lesen.
+     */
+    public void testLongArray() throws IOException {
+        long[] empty = new long[0];
+
+        assertTrue(Arrays.equals(EXTREME_LONGS,
+                                 (long[]) roundTrip(EXTREME_LONGS)));
+        assertTrue(Arrays.equals(empty, (long[]) roundTrip(empty)));
+    }
+
+    /**
+     * Testet Felder vom Typ <code>int[]</code> mit negativen Differenzen
+     * und den Grenzen des Wertebereichs.
+     *
+     * @throws IOException  Bei einem Fehler beim Schreiben oder Lesen.
+     */
+    public void testIntArray() throws IOException {
+        int[] ints = {5, 3, Integer.MIN_VALUE, Integer.MAX_VALUE,
+                      Integer.MIN_VALUE, -1, 0, 1000000};
+        int[] empty = new int[0];
+
+        assertTrue(Arrays.equals(ints, (int[]) roundTrip(ints)));
+        assertTrue(Arrays.equals(empty, (int[]) roundTrip(empty)));
+    }
+
+    /**
+     * Testet Felder vom Typ <code>double[]</code>.
+     *
+     * @throws IOException  Bei einem Fehler beim Schreiben oder Lesen.
+     */
+    public void testDoubleArray() throws IOException {
+        double[] doubles = {0.5, -1.25, Double.MAX_VALUE, Double.MIN_VALUE,
+                            Double.NEGATIVE_INFINITY, Double.NaN};
+
+        assertTrue(Arrays.equals(doubles, (double[]) roundTrip(doubles)));
+    }
+
+    /**
+     * Testet Listen von <code>Long</code>-Objekten.
+     *
+     * @throws IOException  Bei einem Fehler beim Schreiben oder Lesen.
+     */
+    public void testLongList() throws IOException {
+        ArrayList longs = new ArrayList();
+        Object result;
+
+        for (int i = 0; i < EXTREME_LONGS.length; i++) {
+            longs.add(new Long(EXTREME_LONGS[i]));
+        }
+        result = roundTrip(longs);
+        assertEquals(longs, result);
+        assertSame(Long.class, ((ArrayList) result).get(0).getClass());
+        assertEquals(new ArrayList(), roundTrip(new ArrayList()));
+    }
+
+    /**
+     * Testet Listen von <code>Integer</code>-Objekten.
+     *
+     * @throws IOException  Bei einem Fehler beim Schreiben oder Lesen.
+     */
+    public void testIntegerList() throws IOException {
+        ArrayList integers = new ArrayList();
+        Object result;
+
+        integers.add(new Integer(Integer.MAX_VALUE));
+        integers.add(new Integer(Integer.MIN_VALUE));
+        integers.add(new Integer(-7));
+        integers.add(new Integer(2));
+        result = roundTrip(integers);
+        assertEquals(integers, result);
+        assertSame(Integer.class, ((ArrayList) result).get(1).getClass());
+    }
+
+    /**
+     * Testet, da nicht untersttzte Objekte abgelehnt werden.
+     */
+    public void testAccepts() {
+        ArrayList mixed = new ArrayList();
+        ArrayList withNull = new ArrayList();
+        LinkedList linked = new LinkedList();
+
+        mixed.add(new Long(1));
+        mixed.add(new Integer(2));
+        withNull.add(new Long(1));
+        withNull.add(null);
+        linked.add(new Long(1));
+
+        assertFalse(CompactCodec.INSTANCE.accepts(null));
+        assertFalse(CompactCodec.INSTANCE.accepts(mixed));
+        assertFalse(CompactCodec.INSTANCE.accepts(withNull));
+        assertFalse(CompactCodec.INSTANCE.accepts(linked));
+        assertFalse(CompactCodec.INSTANCE.accepts(new float[0]));
+    }
+}
@@ -33,15 +33,32 @@
 
 package de.unistuttgart.architeuthis.abstractproblems;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 
 import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
+import de.unistuttgart.architeuthis.userinterfaces.develop.SerializationCodec;
 
 /**
  * Container fr ein Serializable-Objekt, das das Interface
  * <code>PartialSolution</code> implementiert. Das konkrete Objekt wird ber
  * den Konstruktor gesetzt und kann ber <code>getPartialSolution()</code>
- * ausgelesen werden.
+ * ausgelesen werden.<p>
+ *
+ * Bei der bertragung wird das Objekt mit einem {@link SerializationCodec}
+ * geschrieben, wenn dieser das Objekt untersttzt, und anderenfalls mit der
+ * Standard-Serialisierung. Per default wird der {@link CompactCodec}
+ * verwendet, so da z.B. eine <code>ArrayList</code> von
+ * <code>Long</code>-Objekten kompakt bertragen wird.<p>
+ *
+ * Die Klasse bleibt normal serialisierbar, so da Attribute von
+ * Unterklassen mit bertragen werden. Ein ohne Codec geschriebener
+ * Container kann auch von einer frheren Version der Klasse gelesen werden,
+ * und ein von dieser geschriebener Container von der aktuellen Version.
  *
  * @author Ralf Kible, Dietmar Lippold
  */
@@ -52,18 +69,69 @@ public class ContainerPartialSolution implements PartialSolution {
      */
     private static final long serialVersionUID = 5615189329048827290L;
 
+    /**
+     * Kennung fr ein mit der Standard-Serialisierung geschriebenes Objekt.
+     */
+    private static final int PLAIN = 0;
+
+    /**
+     * Kennung fr ein mit dem <code>CompactCodec</code> geschriebenes
+     * Objekt.
+     */
+    private static final int COMPACT = 1;
+
+    /**
+     * Kennung fr ein mit einem eigenen Codec geschriebenes Objekt. Der
+     * Codec wird vor dem Objekt geschrieben.
+     */
+    private static final int CUSTOM = 2;
+
+    /**
+     * Die serialisierten Attribute. Neben der Teillsung, die nur bei der
+     * Standard-Serialisierung geschrieben wird, sind das die Kennung der
+     * Art der bertragung und ggf. der eigene Codec. Fehlen die beiden
+     * letzten in einem Stream, wurde er ohne Codec geschrieben.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("partialSolution", Serializable.class),
+        new ObjectStreamField("kind", Integer.TYPE),
+        new ObjectStreamField("codec", SerializationCodec.class)};
+
     /**
      * Das im Container gespeicherte Serializable-Objekt
      */
     private Serializable partialSolution = null;
 
     /**
-     * Mit diesem Konstruktor wird die Teillsung bergeben.
+     * Der Codec, mit dem das Objekt geschrieben wird, oder <code>null</code>
+     * fr die Standard-Serialisierung.
+     */
+    private SerializationCodec codec = null;
+
+    /**
+     * Mit diesem Konstruktor wird die Teillsung bergeben. Sie wird mit dem
+     * <code>CompactCodec</code> bertragen, wenn dieser sie untersttzt.
      *
      * @param partialSolution  Die vom Container gekapselte Teillsung.
      */
     public ContainerPartialSolution(Serializable partialSolution) {
+        this(partialSolution, CompactCodec.INSTANCE);
+    }
+
+    /**
+     * Mit diesem Konstruktor werden die Teillsung und der Codec fr ihre
+     * bertragung bergeben.
+     *
+     * @param partialSolution  Die vom Container gekapselte Teillsung.
+     * @param codec            Der Codec, mit dem die Teillsung bertragen
+     *                         wird, wenn er sie untersttzt, oder
+     *                         <code>null</code> fr die
+     *                         Standard-Serialisierung.
+     */
+    public ContainerPartialSolution(Serializable partialSolution,
+                                    SerializationCodec codec) {
         this.partialSolution = partialSolution;
+        this.codec = codec;
     }
 
     /**
@@ -74,5 +142,65 @@ public class ContainerPartialSolution implements PartialSolution {
     public Serializable getPartialSolution() {
         return partialSolution;
     }
-}
 
+    /**
+     * Schreibt die Teillsung mit dem Codec, falls dieser sie untersttzt,
+     * und anderenfalls mit der Standard-Serialisierung. Die mit dem Codec
+     * geschriebenen Daten folgen den Attributen.
+     *
+     * @param out  Der Stream, auf den geschrieben wird.
+     *
+     * @throws IOException  Bei einem Fehler beim Schreiben.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        ObjectOutputStream.PutField fields = out.putFields();
+
+        if ((codec != null) && codec.accepts(partialSolution)) {
+            if (codec == CompactCodec.INSTANCE) {
+                fields.put("kind", COMPACT);
+            } else {
+                fields.put("kind", CUSTOM);
+                fields.put("codec", codec);
+            }
+            out.writeFields();
+            codec.write(partialSolution, out);
+        } else {
+            fields.put("kind", PLAIN);
+            fields.put("partialSolution", partialSolution);
+            out.writeFields();
+        }
+    }
+
+    /**
+     * Liest die mit <code>writeObject</code> geschriebene Teillsung.
+     *
+     * @param in  Der Stream, von dem gelesen wird.
+     *
+     * @throws IOException             Bei einem Fehler beim Lesen.
+     * @throws ClassNotFoundException  Wenn die Klasse der Teillsung oder
+     *                                 des Codecs nicht geladen werden kann.
+     */
+    private void readObject(ObjectInputStream in)
+        throws IOException, ClassNotFoundException {
+
+        ObjectInputStream.GetField fields = in.readFields();
+        int kind = fields.get("kind", PLAIN);
+
+        switch (kind) {
+        case PLAIN:
+            codec = null;
+            partialSolution = (Serializable) fields.get("partialSolution", null);
+            break;
+        case COMPACT:
+            codec = CompactCodec.INSTANCE;
+            partialSolution = (Serializable) codec.read(in);
+            break;
+        case CUSTOM:
+            codec = (SerializationCodec) fields.get("codec", null);
+            partialSolution = (Serializable) codec.read(in);
+            break;
+        default:
+            throw new StreamCorruptedException("Unbekannte Kennung " + kind);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * file:        ContainerPartialSolutionBenchmark.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.abstractproblems;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+
+import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
+
+/**
+ * Vergleicht die bertragung einer Teillsung, die wie bei den
+ * Primzahl-Problemen aus einer <code>ArrayList</code> mit
+ * <code>Long</code>-Objekten besteht, mit der Standard-Serialisierung und
+ * mit einer {@link ContainerPartialSolution}. Fr verschiedene Anzahlen von
+ * Primzahlen wird die Anzahl der geschriebenen Bytes sowie die Dauer des
+ * Schreibens und des Lesens ausgegeben.<P>
+ *
+ * Aufruf: <code>java de.unistuttgart.architeuthis.abstractproblems.ContainerPartialSolutionBenchmark
+ * [Elemente]</code>
+ */
+public class ContainerPartialSolutionBenchmark {
+
+    /**
+     * Die Anzahlen der Primzahlen einer Teillsung, fr die die Messung
+     * erfolgt.
+     */
+    private static final int[] PRIME_NUMBERS = {100, 1000, 10000, 100000};
+
+    /**
+     * Die voreingestellte Anzahl der Elemente, die je Messung insgesamt
+     * geschrieben und gelesen werden.
+     */
+    private static final int DEFAULT_ELEMENTS = 5000000;
+
+    /**
+     * Die Bezeichnungen der verglichenen Varianten.
+     */
+    private static final String[] VARIANTS = {"Standard      ",
+                                              "Ohne Codec    ",
+                                              "Kompakt       "};
+
+    /**
+     * Container mit der bisherigen Standard-Serialisierung als Vergleich.
+     */
+    private static class PlainContainer implements PartialSolution {
+
+        /**
+         * Generierte <code>serialVersionUID</code>.
+         */
+        private static final long serialVersionUID = 3904471625473297721L;
+
+        /**
+         * Das im Container gespeicherte Objekt.
+         */
+        private Serializable content;
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @param content  Das zu speichernde Objekt.
+         */
+        PlainContainer(Serializable content) {
+            this.content = content;
+        }
+    }
+
+    /**
+     * Liefert die ersten Primzahlen in aufsteigender Reihenfolge.
+     *
+     * @param number  Die Anzahl der zu liefernden Primzahlen.
+     *
+     * @return  Eine Liste mit <code>Long</code>-Objekten.
+     */
+    private static ArrayList primes(int number) {
+        ArrayList primes = new ArrayList(number);
+        boolean prime;
+        long candidate = 3;
+
+        primes.add(new Long(2));
+        while (primes.size() < number) {
+            prime = true;
+            for (long divisor = 3; divisor * divisor <= candidate; divisor += 2) {
+                if (candidate % divisor == 0) {
+                    prime = false;
+                    break;
+                }
+            }
+            if (prime) {
+                primes.add(new Long(candidate));
+            }
+            candidate += 2;
+        }
+        return primes;
+    }
+
+    /**
+     * Erzeugt den Container der bergebenen Variante.
+     *
+     * @param variant  Der Index der Variante.
+     * @param content  Der Inhalt des Containers.
+     *
+     * @return  Der Container.
+     */
+    private static PartialSolution container(int variant, ArrayList content) {
+        switch (variant) {
+        case 0:
+            return new PlainContainer(content);
+        case 1:
+            return new ContainerPartialSolution(content, null);
+        default:
+            return new ContainerPartialSolution(content);
+        }
+    }
+
+    /**
+     * Serialisiert das bergebene Objekt.
+     *
+     * @param object  Das zu serialisierende Objekt.
+     *
+     * @return  Die geschriebenen Bytes.
+     *
+     * @throws IOException  Bei einem Fehler beim Schreiben.
+     */
+    private static byte[] write(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+
+        out.writeObject(object);
+        out.close();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserialisiert ein Objekt.
+     *
+     * @param bytes  Die Bytes des serialisierten Objekts.
+     *
+     * @return  Das gelesene Objekt.
+     *
+     * @throws Exception  Bei einem Fehler beim Lesen.
+     */
+    private static Object read(byte[] bytes) throws Exception {
+        ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(bytes));
+
+        return in.readObject();
+    }
+
+    /**
+     * Fhrt die Messung einer Variante durch und gibt das Ergebnis aus.
+     *
+     * @param variant   Der Index der Variante.
+     * @param content   Die zu bertragende Liste.
+     * @param elements  Die Anzahl der Elemente, die insgesamt geschrieben
+     *                  und gelesen werden.
+     * @param print     Gibt an, ob das Ergebnis ausgegeben werden soll.
+     *
+     * @throws Exception  Wenn die Messung nicht durchgefhrt werden kann.
+     */
+    private static void measure(int variant, ArrayList content, int elements,
+                                boolean print)
+        throws Exception {
+
+        PartialSolution solution = container(variant, content);
+        int rounds = Math.max(1, elements / content.size());
+        byte[] bytes = write(solution);
+        long writeTime;
+        long readTime;
+        long startTime;
+        Object copy = null;
+
+        startTime = System.currentTimeMillis();
+        for (int r = 0; r < rounds; r++) {
+            bytes = write(solution);
+        }
+        writeTime = System.currentTimeMillis() - startTime;
+
+        startTime = System.currentTimeMillis();
+        for (int r = 0; r < rounds; r++) {
+            copy = read(bytes);
+        }
+        readTime = System.currentTimeMillis() - startTime;
+
+        if ((copy instanceof ContainerPartialSolution)
+                && !content.equals(((ContainerPartialSolution) copy)
+                                   .getPartialSolution())) {
+            throw new IllegalStateException("Teillsung verndert");
+        }
+
+        if (print) {
+            System.out.println(content.size() + "\t   " + VARIANTS[variant]
+                               + "  " + bytes.length + "\t  "
+                               + (writeTime * 1000 / rounds) + "\t  "
+                               + (readTime * 1000 / rounds));
+        }
+    }
+
+    /**
+     * Fhrt die Messungen durch und gibt die Ergebnisse aus.
+     *
+     * @param args  Optional die Anzahl der Elemente je Messung.
+     *
+     * @throws Exception  Wenn die Messung nicht durchgefhrt werden kann.
+     */
+    public static void main(String[] args) throws Exception {
+        int elements = DEFAULT_ELEMENTS;
+        ArrayList[] contents = new ArrayList[PRIME_NUMBERS.length];
+
+        if (args.length > 0) {
+            elements = Integer.parseInt(args[0]);
+        }
+
+        for (int i = 0; i < PRIME_NUMBERS.length; i++) {
+            contents[i] = primes(PRIME_NUMBERS[i]);
+        }
+
+        // Aufwrmen
+        for (int v = 0; v < VARIANTS.length; v++) {
+            measure(v, contents[1], elements, false);
+        }
+
+        System.out.println("Primzahlen Variante        Bytes\t  "
+                           + "Schreiben s  Lesen s");
+        for (int i = 0; i < PRIME_NUMBERS.length; i++) {
+            for (int v = 0; v < VARIANTS.length; v++) {
+                measure(v, contents[i], elements, true);
+            }
+        }
+    }
+}
@@ -55,6 +55,7 @@ import de.unistuttgart.commandline.ParameterParser;
 import de.unistuttgart.commandline.ParameterParserException;
 
 import de.unistuttgart.architeuthis.dispatcher.computemanaging.ComputeManagerImpl;
+import de.unistuttgart.architeuthis.dispatcher.problemmanaging.ProblemManagerImpl;
 import de.unistuttgart.architeuthis.systeminterfaces.ComputeManager;
 
 /**
@@ -89,6 +90,57 @@ public final class DispatcherImpl {
      */
     private static final int DEFAULT_REMOTE_OPERATIVE_MAXTRY = 3;
 
+    /**
+     * Maximale Anzahl der Threads fr die Hintergrundarbeiten des
+     * Dispatchers, insbesondere fr die Aufrufe der Operatives.
+     */
+    private static final int DEFAULT_BACKGROUND_THREADS = 64;
+
+    /**
+     * Maximale Anzahl der Auftrge, die auf einen Thread fr die
+     * Hintergrundarbeiten warten.
+     */
+    private static final int DEFAULT_TASK_QUEUE_SIZE = 10000;
+
+    /**
+     * Der Scheduler, der festlegt, von welchem Problem das nchste
+     * Teilproblem verteilt wird.
+     */
+    private static final String DEFAULT_SCHEDULER =
+        ProblemManagerImpl.TIME_SCHEDULER;
+
+    /**
+     * Anzahl der im voraus bereitgestellten Teilprobleme. Bei Null wird die
+     * Anzahl laufend angepat.
+     */
+    private static final int DEFAULT_STAGING_DEPTH = 0;
+
+    /**
+     * Quantil der Berechnungszeiten in Prozent, das ein Teilproblem
+     * berschreiten mu, um zustzlich vergeben zu werden. Bei Null wird
+     * jedes in Berechnung befindliche Teilproblem zustzlich vergeben.
+     */
+    private static final int DEFAULT_SPECULATION_PERCENTILE = 0;
+
+    /**
+     * Maximaler Anteil der zustzlichen Vergaben an den erzeugten
+     * Teilproblemen eines Problems. Bei Null ist der Anteil nicht begrenzt.
+     */
+    private static final float DEFAULT_SPECULATION_RATIO = 0;
+
+    /**
+     * Die Strategie, nach der den Slots die Teilprobleme zugewiesen werden.
+     */
+    private static final String DEFAULT_PLACEMENT =
+        ComputeManagerImpl.ORDER_PLACEMENT;
+
+    /**
+     * Anzahl der bereitgestellten Teilprobleme, unter denen eines nach den
+     * auf dem Operative schon verwendeten Schlsseln ausgewhlt wird. Bei
+     * Null wird jeweils das nchste Teilproblem zugewiesen.
+     */
+    private static final int DEFAULT_LOCALITY_WINDOW = 0;
+
     /**
      * Aktiviert das Logging zum Level FINEST.
      */
@@ -146,6 +198,24 @@ public final class DispatcherImpl {
         long millisOperativeMonitoringInterval = DEFAULT_INTERVAL_OPERATIVEMONITORING;
         // default port
         int port = Integer.parseInt(ComputeManager.PORT_NO);
+        // Threads fr die Hintergrundarbeiten und deren Warteschlange
+        // (fr ComputeManagerImpl Konstruktor)
+        int backgroundThreads = DEFAULT_BACKGROUND_THREADS;
+        int taskQueueSize = DEFAULT_TASK_QUEUE_SIZE;
+        // Scheduler fr die Verteilung der Teilprobleme der Probleme
+        // (fr ComputeManagerImpl Konstruktor)
+        String schedulerName = DEFAULT_SCHEDULER;
+        // Anzahl der im voraus bereitgestellten Teilprobleme
+        // (fr ComputeManagerImpl Konstruktor)
+        int stagingDepth = DEFAULT_STAGING_DEPTH;
+        // Strategie fr die zustzliche Vergabe von Teilproblemen
+        // (fr ComputeManagerImpl Konstruktor)
+        int speculationPercentile = DEFAULT_SPECULATION_PERCENTILE;
+        float speculationRatio = DEFAULT_SPECULATION_RATIO;
+        String placementName = DEFAULT_PLACEMENT;
+        // Auswahl der Teilprobleme nach den verwendeten Schlsseln
+        // (fr ComputeManagerImpl Konstruktor)
+        int localityWindow = DEFAULT_LOCALITY_WINDOW;
         // parameter fr ComputeManagerImpl Konstruktor. Beitzt keinen
         // default-Wert.
         boolean additionalThreads;
@@ -184,6 +254,50 @@ public final class DispatcherImpl {
         deadtimeOption.setParamDescription("number");
         parser.addOption(deadtimeOption);
 
+        Option threadsOption = new Option("threads");
+        threadsOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        threadsOption.setParamDescription("number");
+        parser.addOption(threadsOption);
+
+        Option taskqueueOption = new Option("taskqueue");
+        taskqueueOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        taskqueueOption.setParamDescription("number");
+        parser.addOption(taskqueueOption);
+
+        Option schedulerOption = new Option("scheduler");
+        schedulerOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        schedulerOption.setParamDescription(ProblemManagerImpl.TIME_SCHEDULER
+                                            + "|"
+                                            + ProblemManagerImpl.FAIR_SCHEDULER);
+        parser.addOption(schedulerOption);
+
+        Option stagingOption = new Option("staging");
+        stagingOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        stagingOption.setParamDescription("number");
+        parser.addOption(stagingOption);
+
+        Option speculationOption = new Option("speculation");
+        speculationOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        speculationOption.setParamDescription("percentile");
+        parser.addOption(speculationOption);
+
+        Option speculationRatioOption = new Option("speculationratio");
+        speculationRatioOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        speculationRatioOption.setParamDescription("ratio");
+        parser.addOption(speculationRatioOption);
+
+        Option placementOption = new Option("placement");
+        placementOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        placementOption.setParamDescription(ComputeManagerImpl.ORDER_PLACEMENT
+                                            + "|"
+                                            + ComputeManagerImpl.SPEED_PLACEMENT);
+        parser.addOption(placementOption);
+
+        Option localityOption = new Option("locality");
+        localityOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        localityOption.setParamDescription("number");
+        parser.addOption(localityOption);
+
         parser.setComandline(args);
 
         try {
@@ -240,11 +354,53 @@ public final class DispatcherImpl {
                         = parser.getParameterAsLong(deadtriesOption);
                 }
 
+                if (parser.isEnabled(threadsOption)) {
+                    backgroundThreads = parser.getParameterAsInt(threadsOption);
+                }
+
+                if (parser.isEnabled(taskqueueOption)) {
+                    taskQueueSize = parser.getParameterAsInt(taskqueueOption);
+                }
+
+                if (parser.isEnabled(schedulerOption)) {
+                    schedulerName = parser.getParameter(schedulerOption);
+                }
+
+                if (parser.isEnabled(stagingOption)) {
+                    stagingDepth = parser.getParameterAsInt(stagingOption);
+                }
+
+                if (parser.isEnabled(speculationOption)) {
+                    speculationPercentile
+                        = parser.getParameterAsInt(speculationOption);
+                }
+
+                if (parser.isEnabled(speculationRatioOption)) {
+                    speculationRatio
+                        = parser.getParameterAsFloat(speculationRatioOption);
+                }
+
+                if (parser.isEnabled(placementOption)) {
+                    placementName = parser.getParameter(placementOption);
+                }
+
+                if (parser.isEnabled(localityOption)) {
+                    localityWindow = parser.getParameterAsInt(localityOption);
+                }
+
                 new ComputeManagerImpl(
                         port,
                         millisOperativeMonitoringInterval,
                         remoteOperativeMaxtries,
-                        additionalThreads);
+                        additionalThreads,
+                        backgroundThreads,
+                        taskQueueSize,
+                        schedulerName,
+                        stagingDepth,
+                        speculationPercentile,
+                        speculationRatio,
+                        placementName,
+                        localityWindow);
             }
         // Exceptions vom ComputeManagerImpl Konstruktor:
         } catch (UnknownHostException e) {
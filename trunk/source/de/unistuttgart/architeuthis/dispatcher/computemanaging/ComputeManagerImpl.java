@@ -44,13 +44,17 @@ import java.rmi.RemoteException;
 import java.rmi.registry.LocateRegistry;
 import java.rmi.server.RemoteObject;
 import java.rmi.server.UnicastRemoteObject;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import de
@@ -59,6 +63,7 @@ import de
     .dispatcher
     .problemmanaging
     .ProblemManagerImpl;
+import de.unistuttgart.architeuthis.misc.util.ThreadPool;
 import de
     .unistuttgart
     .architeuthis
@@ -75,10 +80,12 @@ import de.unistuttgart.architeuthis.dispatcher.problemmanaging.ParProbWrapper;
 import de.unistuttgart.architeuthis.systeminterfaces.ComputeManager;
 import de.unistuttgart.architeuthis.systeminterfaces.ExceptionCodes;
 import de.unistuttgart.architeuthis.systeminterfaces.Operative;
+import de.unistuttgart.architeuthis.systeminterfaces.OperativeCapabilities;
 import de.unistuttgart.architeuthis.systeminterfaces.ProblemManager;
 import de.unistuttgart.architeuthis.userinterfaces.ProblemComputeException;
 import de.unistuttgart.architeuthis.userinterfaces.RemoteStoreException;
 import de.unistuttgart.architeuthis.userinterfaces.RemoteStoreGenException;
+import de.unistuttgart.architeuthis.userinterfaces.develop.PartialProblem;
 import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
 import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
 import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStoreGenerator;
@@ -102,12 +109,38 @@ public final class ComputeManagerImpl
     extends UnicastRemoteObject
     implements ComputeManager {
 
+    /**
+     * Der Name der Zuweisungsstrategie, bei der jeder Slot das nchste
+     * verfgbare Teilproblem erhlt.
+     */
+    public static final String ORDER_PLACEMENT = "order";
+
+    /**
+     * Der Name der Zuweisungsstrategie, bei der die letzten Teilprobleme
+     * eines Problems bevorzugt den schnellsten Operatives zugewiesen werden.
+     */
+    public static final String SPEED_PLACEMENT = "speed";
+
     /**
      * Anzahl der Millisekunden nach der eine fehlgeschlagene bermittlung von
      * "total solution" wiederholt wird.
      */
     private static final long REMOTE_FAIL_WAIT_TIMEOUT = 200;
 
+    /**
+     * Die angestrebte Dauer in Millisekunden fr die Berechnung der
+     * Teilprobleme, deren Teillsungen ein Operative gesammelt zurckgibt.
+     */
+    private static final long SOLUTION_BATCH_DURATION = 200;
+
+    /**
+     * Der Abstand in Millisekunden, in dem bei einer eingeschrnkten
+     * spekulativen Berechnung oder bei der Zuweisung nach der
+     * Geschwindigkeit geprft wird, ob passive Slots ein inzwischen
+     * langsames oder ein zurckgestelltes Teilproblem berechnen sollen.
+     */
+    private static final long PASSIVE_CHECK_INTERVAL = 250;
+
     // Informationen ber den Dispatcher
     /**
      * RMI Registry Binding des Compute-Managers.
@@ -121,39 +154,60 @@ public final class ComputeManagerImpl
 
     // Verwaltung der Operatives
     /**
-     * Liste der aktiven Operative, d.h. Operative, die ein
-     * Teilproblem berechnen.
+     * Die registrierten Operatives mit ihren aktiven Slots, d.h. Slots, die
+     * ein Teilproblem berechnen, und ihren passiven Slots, d.h. Slots, die
+     * kein Teilproblem berechnen und fr die Berechnung neuer Teilprobleme
+     * zur Verfgung stehen.
+     */
+    private OperativeRegistry operativeRegistry = new OperativeRegistry();
+
+    // Referenzen zu anderen Komponenten
+
+    /**
+     * Referenz auf den Problem-Manager.
      */
-    private List infosActiveStateOperatives =
-        Collections.synchronizedList(new LinkedList());
+    private ProblemManagerImpl problemManager;
 
     /**
-     * Liste der passiven Operative, d.h. Operative, die kein
-     * Teilproblem berechnen und fr die Berechnung neuer Teilprobleme zur
-     * Verfgung stehen.
+     * Referenz auf die InfoParProbWrapperQueue.
      */
-    private List infosPassiveStateOperatives =
-        Collections.synchronizedList(new LinkedList());
+    private InfoParProbWrapperQueue partProbQueue;
 
     /**
-     * Zu jedem Operative bzw. zu jeder zugehrigen Instanz der Klasse
-     * <CODE>InfoOperative</CODE> ist ein Objekt gespeichert, das gelockt
-     * wird, wenn dem Operative ein Teilproblem zur Berechnung gesandt wird.
+     * Die Strategie, nach der schon in Berechnung befindliche Teilprobleme
+     * zustzlich vergeben werden, oder <code>null</code>, wenn jedes solche
+     * Teilproblem zustzlich vergeben werden darf.
      */
-    private Map sendingParProbLocker =
-        Collections.synchronizedMap(new HashMap());
+    private SpeculationPolicy speculationPolicy = null;
 
-    // Referenzen zu anderen Komponenten
+    /**
+     * Die Strategie, nach der die letzten Teilprobleme eines Problems fr
+     * schnellere Operatives zurckgestellt werden, oder <code>null</code>,
+     * wenn jeder Slot das nchste verfgbare Teilproblem erhlt.
+     */
+    private PlacementPolicy placementPolicy = null;
 
     /**
-     * Referenz auf den Problem-Manager.
+     * Vermerkt die Schlssel, die die Teilprobleme auf den Operatives aus
+     * dem <code>RemoteStore</code> lesen, und bewertet danach die
+     * bereitgestellten Teilprobleme.
      */
-    private ProblemManagerImpl problemManager;
+    private LocalityPolicy localityPolicy = new LocalityPolicy();
 
     /**
-     * Referenz auf die InfoParProbWrapperQueue.
+     * Die Anzahl der bereitgestellten Teilprobleme, unter denen einem Slot
+     * dasjenige mit den meisten schon auf seinem Operative verwendeten
+     * Schlsseln zugewiesen wird. Bei einem Wert kleiner Zwei wird jeweils
+     * das nchste Teilproblem zugewiesen.
      */
-    private InfoParProbWrapperQueue partProbQueue;
+    private int localityWindow;
+
+    /**
+     * Objekt, auf dem die Erzeugung eines neuen Teilproblems und seine
+     * Aufnahme in die <code>partProbQueue</code> synchronisiert wird, damit
+     * die Teilprobleme in der Reihenfolge ihrer Erzeugung eingereiht werden.
+     */
+    private Object generationLocker = new Object();
 
     /**
      * Referenz auf die Operative-Monitoring-Unit.
@@ -178,10 +232,33 @@ public final class ComputeManagerImpl
     private long remoteOperativeMaxTries;
 
     /**
-     * Gibt an, ob fr bestimmte Aufrufe von Methoden eines Operatives ein
-     * neuer Thread erzeugt werden sollen.
+     * Der Thread, der die Ereignisse der Verteilung nacheinander verarbeitet,
+     * d.h. den freien Slots Teilprobleme zuweist. Er ruft selbst keinen
+     * Operative auf.
+     */
+    private ThreadPool dispatchEvents;
+
+    /**
+     * Die Threads fr alle Hintergrundarbeiten des Dispatchers, insbesondere
+     * fr die Aufrufe der Operatives, um ihnen Teilprobleme zu senden oder
+     * deren Berechnung abzubrechen. Bei den Aufrufen wird keine Sperre auf
+     * ein Info-Objekt gehalten. Je registriertem Operative wird ein Thread
+     * hinzugenommen, bis die vorgegebene maximale Anzahl erreicht ist.
+     */
+    private ThreadPool backgroundPool;
+
+    /**
+     * Die Auftrge fr den <code>backgroundPool</code>, die wegen voller
+     * Warteschlange zurckgestellt wurden, in der Reihenfolge ihrer
+     * bergabe. Sie werden bergeben, sobald ein Auftrag des Pools beendet
+     * ist. Auf dieses Objekt wird beim Zugriff synchronisiert.
      */
-    private boolean createNewThreads = false;
+    private LinkedList deferredTasks = new LinkedList();
+
+    /**
+     * Die Anzahl der bisher registrierten Operatives.
+     */
+    private int registrations = 0;
 
     /**
      * Gibt an, ob der Dienst dieses Objekts beendet wurde.
@@ -194,13 +271,40 @@ public final class ComputeManagerImpl
      * gestartet, der die Verfgbarkeit von angemeldeten Operative berwacht.
      *
      * @param port  Portnummer der zu startenden RMI-Registry
-     * @param additionalThreads gibt an, ob neue Threads fr den
-     *                          Aufruf des Operative verwendet werden sollen
+     * @param additionalThreads gibt an, ob zustzliche Threads fr die
+     *                          Aufrufe der Operatives verwendet werden
+     *                          sollen. In dem Fall wird die maximale
+     *                          Anzahl der Threads vervierfacht.
      * @param operativeMaxTries maximale Anzahl der Versuche mit dem Operative
      *                          zu kommunizieren
      * @param operativeMonitoringInterval Zeitinterval in ms in dem der Operative
      *                                    berwacht wird
-     *
+     * @param backgroundThreads maximale Anzahl der Threads fr die
+     *                          Hintergrundarbeiten des Dispatchers
+     * @param taskQueueSize     maximale Anzahl der wartenden Auftrge fr
+     *                          diese Threads, Null fr keine Begrenzung
+     * @param schedulerName     Name des Schedulers, der festlegt, von welchem
+     *                          Problem das nchste Teilproblem verteilt wird
+     * @param stagingDepth      Anzahl der im voraus bereitgestellten
+     *                          Teilprobleme, Null fr eine laufende
+     *                          Anpassung
+     * @param speculationPercentile  Quantil der Berechnungszeiten in
+     *                               Prozent, das die Berechnungszeit eines
+     *                               Teilproblems berschreiten mu, damit
+     *                               es zustzlich vergeben wird, Null fr
+     *                               keine Einschrnkung
+     * @param speculationRatio  maximaler Anteil der zustzlichen Vergaben an
+     *                          den erzeugten Teilproblemen eines Problems,
+     *                          Null fr keine Begrenzung
+     * @param placementName     Name der Zuweisungsstrategie, entweder
+     *                          {@link #ORDER_PLACEMENT} oder
+     *                          {@link #SPEED_PLACEMENT}. Bei einem anderen
+     *                          Namen wird <code>ORDER_PLACEMENT</code>
+     *                          verwendet.
+     * @param localityWindow    Anzahl der bereitgestellten Teilprobleme,
+     *                          unter denen ein Teilproblem nach den auf dem
+     *                          Operative schon verwendeten Schlsseln
+     *                          ausgewhlt wird, Null fr keine Auswahl
      *
      * @throws UnknownHostException  Falls die IP-Adresse von localhost nicht
      *                               ermittelt werden konnte.
@@ -216,7 +320,15 @@ public final class ComputeManagerImpl
         int port,
         long operativeMonitoringInterval,
         long operativeMaxTries,
-        boolean additionalThreads)
+        boolean additionalThreads,
+        int backgroundThreads,
+        int taskQueueSize,
+        String schedulerName,
+        int stagingDepth,
+        int speculationPercentile,
+        float speculationRatio,
+        String placementName,
+        int localityWindow)
         throws UnknownHostException, RemoteException,
                MalformedURLException, AlreadyBoundException {
 
@@ -227,11 +339,54 @@ public final class ComputeManagerImpl
         }
 
         systemStatistics = new SystemStatisticsCollector();
-        problemManager = new ProblemManagerImpl(this, systemStatistics);
+        problemManager = new ProblemManagerImpl(this, systemStatistics,
+                                                schedulerName, stagingDepth);
         partProbQueue = new InfoParProbWrapperQueue();
+        if (SPEED_PLACEMENT.equals(placementName)) {
+            placementPolicy = new PlacementPolicy(operativeRegistry,
+                                                  PASSIVE_CHECK_INTERVAL);
+        } else if (!ORDER_PLACEMENT.equals(placementName)) {
+            LOGGER.warning("Unbekannte Zuweisungsstrategie " + placementName
+                           + ", verwende " + ORDER_PLACEMENT);
+        }
+        this.localityWindow = localityWindow;
+        speculationPolicy = new SpeculationPolicy(speculationPercentile,
+                                                  speculationRatio,
+                                                  placementPolicy);
+        if (speculationPolicy.isUnrestricted()) {
+            speculationPolicy = null;
+        }
+        if ((speculationPolicy != null) || (placementPolicy != null)) {
+            // Passive Slots regelmig reaktivieren, da ein Teilproblem erst
+            // mit der Zeit zustzlich vergeben werden darf bzw. ein
+            // zurckgestelltes Teilproblem spter doch von einem langsamen
+            // Operative berechnet werden soll.
+            Thread passiveCheck = new Thread("PassiveCheck") {
+                public void run() {
+                    do {
+                        try {
+                            Thread.sleep(PASSIVE_CHECK_INTERVAL);
+                        } catch (InterruptedException e) {
+                            // Unterbrechung sollte hier nicht stren
+                        }
+                    } while (checkPassiveSlots());
+                }
+            };
+            passiveCheck.setDaemon(true);
+            passiveCheck.start();
+        }
 
         remoteOperativeMaxTries = operativeMaxTries;
-        createNewThreads = additionalThreads;
+
+        // Threads fr die Verteilung und fr die Hintergrundarbeiten
+        // erzeugen
+        dispatchEvents = new ThreadPool(1, "Dispatch");
+        if (additionalThreads) {
+            backgroundThreads *= 4;
+        }
+        backgroundPool = new ThreadPool(backgroundThreads, taskQueueSize,
+                                        "Background");
+        systemStatistics.setBackgroundPool(backgroundPool);
 
         // Nachsehen, wie die Maschine heit, auf der der ComputeManager luft.
         ipAddress = InetAddress.getLocalHost();
@@ -320,38 +475,31 @@ public final class ComputeManagerImpl
      *                          soll.
      */
     private void removeOperativeFromLists(InfoOperative operativeInfoObj) {
-        boolean contained;
+        int removal;
 
         synchronized (operativeInfoObj) {
 
             // ermitteln, ob der Operative schon von einem anderen Thread
             // entfernt wurde.
-            synchronized (infosActiveStateOperatives) {
-                synchronized (infosPassiveStateOperatives) {
-                    contained =
-                        (infosActiveStateOperatives.remove(operativeInfoObj)
-                         || infosPassiveStateOperatives.remove(operativeInfoObj));
-                    if (contained
-                            && infosActiveStateOperatives.isEmpty()
-                            && infosPassiveStateOperatives.isEmpty()) {
-                        problemManager.reportException(
-                            null,
-                            null,
-                            ExceptionCodes.NO_OPERATIVES_REGISTERED,
-                            "Letzter Operative wird abgemeldet");
-                    }
-                }
+            removal = operativeRegistry.remove(operativeInfoObj);
+            if (removal == OperativeRegistry.LAST_REMOVED) {
+                problemManager.reportException(
+                    null,
+                    null,
+                    ExceptionCodes.NO_OPERATIVES_REGISTERED,
+                    "Letzter Operative wird abgemeldet");
             }
 
             // Falls der Operative noch nicht entfernt worden war, mu er
             // jetzt aus der berwachung entfernt und die Statistik
             // aktualisiert werden.
-            if (contained) {
-                // locking-Objekt entfernen
-                sendingParProbLocker.remove(operativeInfoObj);
-
-                // aus OperativeMonitoringUnit austragen
-                operativeMonitoring.stopMonitoring(operativeInfoObj.getOperative());
+            if (removal != OperativeRegistry.NOT_REGISTERED) {
+                // aus OperativeMonitoringUnit austragen, wenn kein weiterer
+                // Slot des Operatives mehr verwaltet wird
+                if (removal != OperativeRegistry.SLOT_REMOVED) {
+                    operativeMonitoring.stopMonitoring(operativeInfoObj.getOperative());
+                    localityPolicy.removeOperative(operativeInfoObj.getOperative());
+                }
 
                 // Statistik aktualisieren und LOGGER-Ausgabe
                 systemStatistics.notifyOperativesUnregistration();
@@ -384,187 +532,284 @@ public final class ComputeManagerImpl
     }
 
     /**
-     * Stoppt die Berechnung auf einem bestimmten {@link Operative} und lscht
-     * die Verbindung zum Teilproblem im bergebenen Operative-Info-Objekt.
+     * Lst die Verbindung eines Slots zum bergebenen Teilproblem, falls sie
+     * noch besteht. Der Operative wird dabei nicht aufgerufen. Ein laufendes
+     * Senden an den Operative wird nicht abgewartet, da der anschlieende
+     * Abbruch der Berechnung erst nach dessen Ende erfolgt.
+     *
+     * @param operativeInfo  Info-Objekt des Slots.
+     * @param partProbInfo   Info-Objekt des Teilproblems.
+     *
+     * @return  <code>true</code>, wenn die Verbindung gelst wurde und die
+     *          Berechnung auf dem Slot abzubrechen ist, sonst
+     *          <code>false</code>.
+     */
+    private boolean unlinkPartialProblem(InfoOperative operativeInfo,
+                                         InfoParProbWrapper partProbInfo) {
+        synchronized (operativeInfo) {
+            if (operativeInfo.getInfoParProbWrapper() == partProbInfo) {
+                operativeInfo.setInfoParProbWrapper(null);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stoppt die Berechnung auf einem bestimmten Slot eines
+     * {@link Operative}, dessen Verbindung zum Teilproblem vorher gelst
+     * wurde. Ein laufendes Senden an den Operative wird vorher abgewartet.
+     * Hat der Slot in der Zwischenzeit ein neues Teilproblem erhalten, wird
+     * die Berechnung nicht gestoppt. Die Sperre zum Senden wird whrend des
+     * Aufrufs beim Operative nicht gehalten, stattdessen warten folgende
+     * bertragungen an den Slot, bis der Aufruf beendet ist. Beim Aufruf
+     * dieser Methode darf keine Sperre auf ein Info-Objekt gehalten werden.
+     *
+     * @param operativeInfo  Info-Objekt des Slots.
      *
-     * @param operativeInfo Info-Objekt eines Operatives
+     * @return  <code>true</code>, wenn der Operative erreichbar war, sonst
+     *          <code>false</code>. Im letzteren Fall wurde er entfernt.
      */
-    private void stopComputationOnOperative(InfoOperative operativeInfo) {
+    private boolean stopComputationOnOperative(InfoOperative operativeInfo) {
+        Object sendingLock = operativeInfo.getSendingLock();
+        boolean reachable = true;
 
-        if (operativeInfo.getInfoParProbWrapper() != null) {
-            LOGGER.fine("Stoppe Berechnung auf " + operativeInfo.toString());
-            synchronized (operativeInfo) {
-                try {
+        synchronized (sendingLock) {
+            if (operativeInfo.getInfoParProbWrapper() != null) {
+                return true;
+            }
+            operativeInfo.beginStop();
+        }
+
+        LOGGER.fine("Stoppe Berechnung auf " + operativeInfo.toString());
+        try {
 // Fr GC-Fehler auf Operative nachfolgende Zeile auskommentieren
-                    LOGGER.finest("Versuche Berechnung auf "
-                             + operativeInfo + " abzubrechen");
-                    operativeInfo.getOperative().stopComputation();
-                    LOGGER.finest("Berechnung auf " + operativeInfo
-                             + " erfolgreich abgebrochen");
-                } catch (RemoteException e1) {
-                    LOGGER.warning(
-                        "Konnte Berechnung auf "
-                            + operativeInfo.toString()
-                            + " nicht abbrechen");
-                    // falls Operative beim Stoppen nicht erreichbar war,
-                    // entferne ihn, ohne lang zu "fackeln".
-                    removeDeadOperative(operativeInfo);
+            LOGGER.finest("Versuche Berechnung auf "
+                     + operativeInfo + " abzubrechen");
+            operativeInfo.getOperative().stopComputation(operativeInfo.getSlot());
+            LOGGER.finest("Berechnung auf " + operativeInfo
+                     + " erfolgreich abgebrochen");
+        } catch (RemoteException e1) {
+            LOGGER.warning(
+                "Konnte Berechnung auf "
+                    + operativeInfo.toString()
+                    + " nicht abbrechen");
+            reachable = false;
+        } finally {
+            synchronized (sendingLock) {
+                operativeInfo.endStop();
+                sendingLock.notifyAll();
+            }
+        }
+
+        if (!reachable) {
+            // falls Operative beim Stoppen nicht erreichbar war,
+            // entferne ihn, ohne lang zu "fackeln".
+            removeDeadOperative(operativeInfo);
+        }
+        return reachable;
+    }
+
+    /**
+     * Wartet, bis auf keinem der bergebenen Slots mehr die Berechnung
+     * gestoppt wird. Beim Aufruf mu die Sperre auf das gemeinsame Objekt
+     * zum Senden der Slots gehalten werden.
+     *
+     * @param operativeInfos  Info-Objekte von Slots eines Operatives.
+     */
+    private static void awaitPendingStops(InfoOperative[] operativeInfos) {
+        Object sendingLock = operativeInfos[0].getSendingLock();
+        boolean pending = true;
+
+        while (pending) {
+            pending = false;
+            for (int i = 0; i < operativeInfos.length; i++) {
+                pending |= operativeInfos[i].isStopPending();
+            }
+            if (pending) {
+                try {
+                    sendingLock.wait();
+                } catch (InterruptedException e) {
+                    // Unterbrechung sollte hier nicht stren
+                }
+            }
+        }
+    }
+
+    /**
+     * Lst nach einer fehlgeschlagenen bertragung die Verbindung zwischen
+     * einem Slot und seinem Teilproblem, falls sie noch besteht, und vermerkt
+     * das Teilproblem gegebenenfalls als abgebrochen.
+     *
+     * @param operativeInfoObj  Info-Objekt des Slots.
+     * @param partProbInfoObj   Info-Objekt des Teilproblems.
+     */
+    private void releasePartialProblem(InfoOperative operativeInfoObj,
+                                       InfoParProbWrapper partProbInfoObj) {
+        synchronized (operativeInfoObj) {
+            synchronized (partProbInfoObj) {
+                if ((operativeInfoObj.getInfoParProbWrapper() == partProbInfoObj)
+                        && partProbInfoObj.getOperativeInfos()
+                                          .contains(operativeInfoObj)) {
+                    removeOperativeFromParProb(operativeInfoObj);
+                }
+                if (operativeInfoObj.getInfoParProbWrapper() == partProbInfoObj) {
+                    operativeInfoObj.setInfoParProbWrapper(null);
                 }
-                operativeInfo.setInfoParProbWrapper(null);
             }
         }
     }
 
     /**
      * Versucht, falls ntig mehrfach, einem {@link Operative} ein
-     * Teilproblem ({@link PartialProblem}) zur Berechnung zu bergeben. Falls
-     * das nicht mglich war, wird ermittelt, ob die Ursache dafr beim
-     * Teilproblem oder beim Operative lag und je nachdem wird entweder das
-     * Teilproblem oder der Operative entfernt.
+     * Teilproblem ({@link PartialProblem}) zur Berechnung zu bergeben, das
+     * dem Slot vorher zugewiesen wurde. Wurde die Zuweisung in der
+     * Zwischenzeit aufgehoben, erfolgt keine bergabe. Falls die bergabe
+     * nicht mglich war, wird die Zuweisung aufgehoben und ermittelt, ob die
+     * Ursache dafr beim Teilproblem oder beim Operative lag. Je nachdem wird
+     * das Problem benachrichtigt und dem Slot ein anderes Teilproblem
+     * zugewiesen oder der Operative entfernt. Beim Aufruf dieser Methode darf
+     * keine Sperre auf ein Info-Objekt gehalten werden.
      *
      * @param partProbInfoObj   InfoObjekt des Teilproblems.
      * @param operativeInfoObj  InfoObjekt des Operatives.
-     *
-     * @return  <code>true</code>, wenn das Teilproblem dem Operative
-     *          bergeben werden konnte, anderenfalls <code>false</code>.
      */
-    private boolean sendPartialProblemToOperative(InfoParProbWrapper partProbInfoObj,
-                                                  InfoOperative operativeInfoObj) {
+    private void sendPartialProblemToOperative(InfoParProbWrapper partProbInfoObj,
+                                               InfoOperative operativeInfoObj) {
         RemoteStoreGenerator generator;
         RemoteStore centralRemoteStore;
         String exceptionMessage = null;
         int exceptionCode = -1;
         boolean transmitted = false;
+        long tries = 0;
+        long dispatchStart;
+        ParProbWrapper parProbWrap = partProbInfoObj.getParProbWrapper();
+        Operative operative = operativeInfoObj.getOperative();
+
+        synchronized (operativeInfoObj.getSendingLock()) {
+            // Ein laufendes Stoppen der vorherigen Berechnung abwarten
+            awaitPendingStops(new InfoOperative[] {operativeInfoObj});
+
+            // Nur senden, wenn die Zuweisung nicht aufgehoben wurde
+            if (operativeInfoObj.getInfoParProbWrapper() != partProbInfoObj) {
+                return;
+            }
 
-        synchronized (sendingParProbLocker.get(operativeInfoObj)) {
-            synchronized (operativeInfoObj) {
-                synchronized (partProbInfoObj) {
-
-                    long tries = 0;
-                    ParProbWrapper parProbWrap = partProbInfoObj.getParProbWrapper();
-                    Operative operative = operativeInfoObj.getOperative();
-                    // Teilproblem versuchen zu senden
-                    while (!transmitted && (tries < remoteOperativeMaxTries)) {
-                        tries++;
-                        try {
-                            LOGGER.finest("Versuche Teilproblem an "
-                                     + operativeInfoObj + " zu senden");
-
-                            centralRemoteStore = parProbWrap.getCentralRemoteStore();
-                            LOGGER.finest("RemoteStore erhalten!");
-
-                            generator = parProbWrap.getRemoteStoreGenerator();
-                            LOGGER.finest("RemoteStoreGenerator erhalten!");
-
-                            operative.fetchPartialProblem(parProbWrap.getPartialProblem(),
-                                    centralRemoteStore, generator);
-                            LOGGER.fine("Teilproblem erfolgreich an "
-                                     + operativeInfoObj + " gesendet");
-                            transmitted = true;
-                        } catch (RemoteException e) {
-                            LOGGER.info("Senden des Teilproblems an "
-                                     + operativeInfoObj + " fehlgeschlagen");
-                            exceptionCode = ExceptionCodes.PARTIALPROBLEM_SEND_EXCEPTION;
-                            exceptionMessage = e.toString();
-                            try {
-                                Thread.sleep(REMOTE_FAIL_WAIT_TIMEOUT);
-                            } catch (InterruptedException e1) {
-                                // Unterbrechung sollte hier nicht stren
-                            }
-                            continue;
-                        } catch (RemoteStoreGenException e) {
-                            LOGGER.info("Erzeugung von RemoteStore fehlgeschlagen");
-                            exceptionCode = ExceptionCodes.REMOTE_STORE_GEN_EXCEPTION;
-                            exceptionMessage = e.toString();
-                        } catch (RemoteStoreException e) {
-                            LOGGER.info("Anmeldung von RemoteStore fehlgeschlagen");
-                            exceptionCode = ExceptionCodes.REMOTE_STORE_EXCEPTION;
-                            exceptionMessage = e.toString();
-                        } catch (ProblemComputeException e) {
-                            LOGGER.severe("<E> "
-                                       + operativeInfoObj.toString()
-                                       + " ist bereits beschftigt.");
-                            exceptionCode = ExceptionCodes.PARTIALPROBLEM_SEND_EXCEPTION;
-                            exceptionMessage = e.toString();
-                        } catch (RuntimeException e) {
-                            LOGGER.info("Senden des Teilproblems an "
-                                     + operativeInfoObj + " fehlgeschlagen");
-                            exceptionCode = ExceptionCodes.PARTIALPROBLEM_SEND_EXCEPTION;
-                            exceptionMessage = e.toString();
-                            tries = remoteOperativeMaxTries;
-                        }
+            // Teilproblem versuchen zu senden
+            while (!transmitted && (tries < remoteOperativeMaxTries)) {
+                tries++;
+                try {
+                    LOGGER.finest("Versuche Teilproblem an "
+                             + operativeInfoObj + " zu senden");
+
+                    centralRemoteStore = parProbWrap.getCentralRemoteStore();
+                    LOGGER.finest("RemoteStore erhalten!");
+
+                    generator = parProbWrap.getRemoteStoreGenerator();
+                    LOGGER.finest("RemoteStoreGenerator erhalten!");
+
+                    dispatchStart = System.currentTimeMillis();
+                    operative.fetchPartialProblem(operativeInfoObj.getSlot(),
+                            parProbWrap.getPartialProblem(),
+                            centralRemoteStore, generator);
+                    parProbWrap.getProblemStatisticCollector().notifyDispatchDuration(
+                        System.currentTimeMillis() - dispatchStart, 1);
+                    LOGGER.fine("Teilproblem erfolgreich an "
+                             + operativeInfoObj + " gesendet");
+                    transmitted = true;
+                } catch (RemoteException e) {
+                    LOGGER.info("Senden des Teilproblems an "
+                             + operativeInfoObj + " fehlgeschlagen");
+                    exceptionCode = ExceptionCodes.PARTIALPROBLEM_SEND_EXCEPTION;
+                    exceptionMessage = e.toString();
+                    try {
+                        Thread.sleep(REMOTE_FAIL_WAIT_TIMEOUT);
+                    } catch (InterruptedException e1) {
+                        // Unterbrechung sollte hier nicht stren
                     }
+                    continue;
+                } catch (RemoteStoreGenException e) {
+                    LOGGER.info("Erzeugung von RemoteStore fehlgeschlagen");
+                    exceptionCode = ExceptionCodes.REMOTE_STORE_GEN_EXCEPTION;
+                    exceptionMessage = e.toString();
+                } catch (RemoteStoreException e) {
+                    LOGGER.info("Anmeldung von RemoteStore fehlgeschlagen");
+                    exceptionCode = ExceptionCodes.REMOTE_STORE_EXCEPTION;
+                    exceptionMessage = e.toString();
+                } catch (ProblemComputeException e) {
+                    LOGGER.severe("<E> "
+                               + operativeInfoObj.toString()
+                               + " ist bereits beschftigt.");
+                    exceptionCode = ExceptionCodes.PARTIALPROBLEM_SEND_EXCEPTION;
+                    exceptionMessage = e.toString();
+                } catch (RuntimeException e) {
+                    LOGGER.info("Senden des Teilproblems an "
+                             + operativeInfoObj + " fehlgeschlagen");
+                    exceptionCode = ExceptionCodes.PARTIALPROBLEM_SEND_EXCEPTION;
+                    exceptionMessage = e.toString();
+                    tries = remoteOperativeMaxTries;
+                }
+            }
+        }
 
-                    if (transmitted) {
-                        // Referenzen setzen falls Teilproblem erfolgreich an
-                        // Operative bermittelt wurde.
-
-                        InfoParProbWrapper pp =
-                            operativeInfoObj.getInfoParProbWrapper();
-                        if (pp != null) {
-                            LOGGER.severe(operativeInfoObj.toString()
-                                          + " "
-                                          + partProbInfoObj.toString()
-                                          + " ist ein anderes");
-                            LOGGER.severe("nmlich " + pp.toString());
-                        }
-                        operativeInfoObj.setInfoParProbWrapper(partProbInfoObj);
-
-                        if (partProbInfoObj.getOperativeInfos()
-                                           .contains(operativeInfoObj)) {
-                            LOGGER.severe(partProbInfoObj.toString()
-                                          + " "
-                                          + operativeInfoObj.toString()
-                                          + " schon drin");
-                        }
-                        partProbInfoObj.addOperativeInfo(operativeInfoObj);
-                    } else {
-                        // Ermittlen, ob die fehlgeschlagene bertragung vom
-                        // Teilproblem oder am Operative verursacht wurde und je
-                        // nachdem das Teilproblem oder den Operative entfernen
-                        try {
-                            if (operativeInfoObj.getOperative().isReachable()) {
-                                // Die Ursache lag beim Teilproblem
-                                problemManager.reportException(
-                                    null,
-                                    partProbInfoObj.getParProbWrapper(),
-                                    exceptionCode,
-                                    exceptionMessage);
-                            } else {
-                                // Die Ursache lag beim Operative
-                                removeDeadOperative(operativeInfoObj);
-                            }
-                        } catch (RemoteException e) {
-                            // Die Ursache lag beim Operative
-                            removeDeadOperative(operativeInfoObj);
-                        }
-                    }
+        if (!transmitted) {
+            releasePartialProblem(operativeInfoObj, partProbInfoObj);
+
+            // Ermittlen, ob die fehlgeschlagene bertragung vom
+            // Teilproblem oder am Operative verursacht wurde und je
+            // nachdem das Teilproblem oder den Operative entfernen
+            try {
+                if (operative.isReachable()) {
+                    // Die Ursache lag beim Teilproblem
+                    problemManager.reportException(
+                        null,
+                        parProbWrap,
+                        exceptionCode,
+                        exceptionMessage);
+                    dispatchSlots(Collections.singletonList(operativeInfoObj));
+                } else {
+                    // Die Ursache lag beim Operative
+                    removeDeadOperative(operativeInfoObj);
                 }
+            } catch (RemoteException e) {
+                // Die Ursache lag beim Operative
+                removeDeadOperative(operativeInfoObj);
             }
         }
-        return transmitted;
     }
 
     /**
-     * Versucht, einem unbeschftigten aber aktiver {@link Operative} ein
-     * Teilproblem ({@link PartialProblem}) zuzuweisen. Dazu wird zuerst
-     * versucht, ihm ein abgebrochenes Teilproblem, dann ein neues Teilproblem
-     * und schlielich ein in Berechnung befindliches Teilproblem zuzuweisen.
-     * Wenn keines dieser Teilprobleme existiert, wird der Operative passiv
-     * gesetzt.
+     * Weist einem unbeschftigten aber aktiven Slot ein Teilproblem
+     * ({@link PartialProblem}) zu. Dazu wird zuerst versucht, ihm ein
+     * abgebrochenes Teilproblem, dann ein neues Teilproblem und schlielich
+     * ein in Berechnung befindliches Teilproblem zuzuweisen. Wenn keines
+     * dieser Teilprobleme existiert, wird der Slot passiv gesetzt. Das
+     * zugewiesene Teilproblem wird nicht sofort gesendet, sondern in ein
+     * Bndel aufgenommen. Ein Teilproblem, das einen RemoteStore verwendet,
+     * wird in ein eigenes Bndel aufgenommen, das der Liste
+     * <code>singleBatches</code> hinzugefgt wird. Ein Operative wird dabei
+     * nicht aufgerufen.
      *
-     * @param operativeInfoObj  unbeschftigten aber aktiver {@link Operative},
-     *                          der ein Teilproblem erhalten soll.
+     * @param operativeInfoObj  unbeschftigter aber aktiver Slot, der ein
+     *                          Teilproblem erhalten soll.
+     * @param batch             Das Bndel, in das das Teilproblem aufgenommen
+     *                          werden kann.
+     * @param singleBatches     Die Liste, der ein Bndel mit einem einzelnen
+     *                          Teilproblem hinzugefgt wird.
      */
-    private void distributePartialProblem(InfoOperative operativeInfoObj) {
+    private void distributePartialProblem(InfoOperative operativeInfoObj,
+                                          PartialProblemBatch batch,
+                                          List singleBatches) {
         InfoParProbWrapper partProbInfo = null;
-        ParProbWrapper parProbWrap;
+        ParProbWrapper parProbWrap = null;
         boolean succeeded;
+        boolean deferred = false;
 
         synchronized (operativeInfoObj) {
             // berprfen, ob der Operative in der Zwischenzeit nicht entfernt
-            // wurde
-            if (infosActiveStateOperatives.contains(operativeInfoObj)) {
+            // wurde und der Slot noch frei ist
+            if (operativeRegistry.isActive(operativeInfoObj)
+                    && (operativeInfoObj.getInfoParProbWrapper() == null)) {
                 LOGGER.fine("distributePartialProblem fr "
                          + operativeInfoObj.toString());
                 do {
@@ -581,11 +826,14 @@ public final class ComputeManagerImpl
                             if ((partProbInfo.getOperativeInfos().size() == 0)
                                 && (partProbQueue
                                         .isEnqueuedPartProbInfo(partProbInfo))) {
-                                succeeded =
-                                    sendPartialProblemToOperative(
-                                        partProbInfo,
-                                        operativeInfoObj);
-                                if (succeeded) {
+                                deferred = deferPartialProblem(operativeInfoObj,
+                                                               partProbInfo);
+                                if (!deferred) {
+                                    assignPartialProblem(partProbInfo,
+                                                         operativeInfoObj,
+                                                         batch, singleBatches,
+                                                         false);
+                                    succeeded = true;
                                     parProbWrap = partProbInfo.getParProbWrapper();
                                     parProbWrap.getProblemStatisticCollector()
                                                .startTimeMeasurement(parProbWrap);
@@ -595,20 +843,19 @@ public final class ComputeManagerImpl
                                             + " an "
                                             + operativeInfoObj.toString()
                                             + " wieder vergeben.");
-                                } else {
-                                    // Sicherstellen, dass das Teilproblem
-                                    // nicht wegen Fehler entfernt wurde
-                                    if (partProbQueue
-                                        .isEnqueuedPartProbInfo(partProbInfo)) {
-                                        partProbQueue.setAborted(partProbInfo);
-                                    }
                                 }
                             }
                         }
                     } else {
                         // Versuche dem Operative ein neues Teilproblem zuzuweisen
-                        synchronized (partProbQueue) {
-                            parProbWrap = problemManager.getParProbWrapper();
+                        synchronized (generationLocker) {
+                            if (localityWindow > 1) {
+                                parProbWrap = problemManager.getParProbWrapper(
+                                    localityPolicy.getRating(operativeInfoObj),
+                                    localityWindow);
+                            } else {
+                                parProbWrap = problemManager.getParProbWrapper();
+                            }
                             if (parProbWrap != null) {
                                 partProbInfo = new InfoParProbWrapper(parProbWrap);
                                 partProbQueue.enqueuePartProbInfo(partProbInfo);
@@ -622,11 +869,15 @@ public final class ComputeManagerImpl
                                 if ((partProbInfo.getOperativeInfos().size() == 0)
                                     && (partProbQueue
                                             .isEnqueuedPartProbInfo(partProbInfo))) {
-                                    succeeded =
-                                        sendPartialProblemToOperative(
-                                            partProbInfo,
-                                            operativeInfoObj);
-                                    if (succeeded) {
+                                    deferred = deferPartialProblem(operativeInfoObj,
+                                                                   partProbInfo);
+                                    if (!deferred) {
+                                        assignPartialProblem(partProbInfo,
+                                                             operativeInfoObj,
+                                                             batch,
+                                                             singleBatches,
+                                                             false);
+                                        succeeded = true;
                                         parProbWrap.getProblemStatisticCollector()
                                                    .startTimeMeasurement(parProbWrap);
                                         LOGGER.finest(
@@ -635,21 +886,16 @@ public final class ComputeManagerImpl
                                                 + " an "
                                                 + operativeInfoObj.toString()
                                                 + " vergeben");
-                                    } else {
-                                        // Sicherstellen, dass das Teilproblem
-                                        // nicht wegen Fehler entfernt wurde
-                                        if (partProbQueue
-                                            .isEnqueuedPartProbInfo(partProbInfo)) {
-                                            partProbQueue.setAborted(partProbInfo);
-                                        }
                                     }
                                 }
                             }
                         } else {
                             // Versuche dem Operative ein schon in Berechnung
-                            // befindliches Teilproblem zuzuweisen
-                            // (Teilproblem-Mehrfachvergabe)
-                            partProbInfo = partProbQueue.rotatePartProbInfo();
+                            // befindliches Teilproblem zuzuweisen, das nicht
+                            // schon auf einem anderen Slot von ihm berechnet
+                            // wird (Teilproblem-Mehrfachvergabe)
+                            partProbInfo = partProbQueue.rotatePartProbInfo(
+                                operativeInfoObj, speculationPolicy);
                             if (partProbInfo != null) {
                                 synchronized (partProbInfo) {
                                     // Prfen, ob das Teilproblem in der
@@ -657,85 +903,445 @@ public final class ComputeManagerImpl
                                     // Operative fertig berechnet wurde
                                     if (partProbQueue
                                         .isEnqueuedPartProbInfo(partProbInfo)) {
-                                        succeeded =
-                                            sendPartialProblemToOperative(
-                                                partProbInfo,
-                                                operativeInfoObj);
-                                        if (succeeded) {
-                                            parProbWrap = partProbInfo.getParProbWrapper();
-                                            parProbWrap.getProblemStatisticCollector()
-                                                       .incComputingOperatives();
-                                            LOGGER.finest(
-                                                "altes "
-                                                    + partProbInfo.toString()
-                                                    + " an "
-                                                    + operativeInfoObj.toString()
-                                                    + " mehrfachvergeben.");
-                                        } else {
-                                            // Sicherstellen, dass das Teilproblem
-                                            // nicht wegen Fehler entfernt wurde
-                                            if (partProbQueue
-                                                .isEnqueuedPartProbInfo(partProbInfo)) {
-                                                partProbQueue.undoRotation(partProbInfo);
-                                            }
-                                        }
+                                        assignPartialProblem(partProbInfo,
+                                                             operativeInfoObj,
+                                                             batch,
+                                                             singleBatches,
+                                                             true);
+                                        succeeded = true;
+                                        parProbWrap = partProbInfo.getParProbWrapper();
+                                        parProbWrap.getProblemStatisticCollector()
+                                                   .incComputingOperatives();
+                                        parProbWrap.getProblemStatisticCollector()
+                                                   .notifySpeculativeExecution();
+                                        LOGGER.finest(
+                                            "altes "
+                                                + partProbInfo.toString()
+                                                + " an "
+                                                + operativeInfoObj.toString()
+                                                + " mehrfachvergeben.");
                                     }
                                 }
                             } else {
                                 // Dereit ist kein Teilproblem zur Berechnung
                                 // vorhanden. Operative passiv setzen.
-                                synchronized (infosActiveStateOperatives) {
-                                    synchronized (infosPassiveStateOperatives) {
-                                        infosActiveStateOperatives.remove(
-                                            operativeInfoObj);
-                                        infosPassiveStateOperatives.add(
-                                            operativeInfoObj);
-                                        operativeInfoObj.setActive(false);
-                                        LOGGER.finest(
-                                            operativeInfoObj.toString()
-                                                + " ist jetzt passiv");
-                                    }
+                                if (operativeRegistry.setPassive(operativeInfoObj)) {
+                                    LOGGER.finest(
+                                        operativeInfoObj.toString()
+                                            + " ist jetzt passiv");
                                 }
                             }
                         }
                     }
-                } while ((!succeeded) && (partProbInfo != null)
-                         && infosActiveStateOperatives.contains(operativeInfoObj));
+                } while ((!succeeded) && (!deferred) && (partProbInfo != null)
+                         && operativeRegistry.isActive(operativeInfoObj));
+            }
+        }
+    }
+
+    /**
+     * Stellt ein Teilproblem, das noch von keinem Slot berechnet wird,
+     * zurck, wenn es nach der Zuweisungsstrategie nicht dem bergebenen
+     * Slot zugewiesen werden soll. Der Slot wird dann passiv gesetzt.
+     *
+     * @param operativeInfoObj  Info-Objekt des Slots, der ein Teilproblem
+     *                          erhalten soll.
+     * @param partProbInfoObj   Info-Objekt des Teilproblems.
+     *
+     * @return  <code>true</code>, wenn das Teilproblem zurckgestellt wurde,
+     *          sonst <code>false</code>.
+     */
+    private boolean deferPartialProblem(InfoOperative operativeInfoObj,
+                                        InfoParProbWrapper partProbInfoObj) {
+        if ((placementPolicy == null)
+                || !placementPolicy.defers(operativeInfoObj, partProbInfoObj,
+                                           partProbQueue.getPreferedNumber())) {
+            return false;
+        }
+
+        partProbQueue.deferPartProbInfo(partProbInfoObj);
+        operativeRegistry.setPassive(operativeInfoObj);
+        LOGGER.finest(partProbInfoObj.toString() + " fr schnelleren Slot als "
+                      + operativeInfoObj.toString() + " zurckgestellt");
+        return true;
+    }
+
+    /**
+     * Weist einem Slot ein Teilproblem zu. Die Verbindung zwischen Slot und
+     * Teilproblem wird sofort vermerkt. Das Teilproblem wird in das
+     * bergebene Bndel aufgenommen, wenn dieses es aufnehmen kann, und
+     * anderenfalls in ein eigenes Bndel, das der Liste
+     * <code>singleBatches</code> hinzugefgt wird. Das Senden an den
+     * Operative erfolgt spter.
+     *
+     * @param partProbInfoObj   InfoObjekt des Teilproblems.
+     * @param operativeInfoObj  InfoObjekt des Operatives.
+     * @param batch             Das Bndel fr Teilprobleme ohne RemoteStore.
+     * @param singleBatches     Die Liste der Bndel mit einem einzelnen
+     *                          Teilproblem.
+     * @param speculative       Gibt an, ob das Teilproblem schon von einem
+     *                          anderen Slot berechnet wird.
+     */
+    private void assignPartialProblem(InfoParProbWrapper partProbInfoObj,
+                                      InfoOperative operativeInfoObj,
+                                      PartialProblemBatch batch,
+                                      List singleBatches,
+                                      boolean speculative) {
+        PartialProblemBatch singleBatch;
+
+        synchronized (operativeInfoObj) {
+            synchronized (partProbInfoObj) {
+                operativeInfoObj.setInfoParProbWrapper(partProbInfoObj);
+                operativeInfoObj.markAssignment(speculative);
+                partProbInfoObj.addOperativeInfo(operativeInfoObj);
+                localityPolicy.recordAssignment(operativeInfoObj,
+                                                partProbInfoObj.getParProbWrapper());
+                if (batch.accepts(partProbInfoObj.getParProbWrapper())) {
+                    batch.add(operativeInfoObj, partProbInfoObj);
+                } else {
+                    singleBatch = new PartialProblemBatch();
+                    singleBatch.add(operativeInfoObj, partProbInfoObj);
+                    singleBatches.add(singleBatch);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sendet die Teilprobleme des bergebenen Bndels mit einem Aufruf an
+     * den Operative. Teilprobleme, deren Berechnung in der Zwischenzeit
+     * abgebrochen wurde, werden nicht gesendet. Dem Operative wird auerdem
+     * die Anzahl der Teillsungen mitgeteilt, die er gesammelt zurckgeben
+     * soll. Diese wird aus der durchschnittlichen Berechnungsdauer der
+     * Teilprobleme des Problems ermittelt. Falls das Senden nicht mglich
+     * war, werden die Verbindungen zwischen den Slots und den Teilproblemen
+     * wieder gelst und die Teilprobleme als abgebrochen vermerkt. Ist der
+     * Operative dann nicht erreichbar, wird er entfernt, anderenfalls wird
+     * den Slots erneut ein Teilproblem zugewiesen. Beim Aufruf dieser Methode
+     * darf keine Sperre auf ein Info-Objekt gehalten werden.
+     *
+     * @param batch  Das Bndel mit den Teilproblemen fr die Slots eines
+     *               Operatives.
+     */
+    private void sendPartialProblemsToOperative(PartialProblemBatch batch) {
+        InfoOperative operativeInfoObj;
+        ParProbWrapper parProbWrap;
+        Operative operative;
+        PartialProblem[] parProbs;
+        InfoOperative[] batchInfos;
+        List sentIndices = new ArrayList();
+        List freeOperativeInfos = new LinkedList();
+        int[] slots;
+        int solutionBatchSize;
+        int index;
+        long tries = 0;
+        long dispatchStart;
+        boolean transmitted = false;
+        boolean reachable;
+
+        operative = batch.getOperativeInfo(0).getOperative();
+        synchronized (batch.getOperativeInfo(0).getSendingLock()) {
+            // Ein laufendes Stoppen vorheriger Berechnungen abwarten
+            batchInfos = new InfoOperative[batch.size()];
+            for (int i = 0; i < batchInfos.length; i++) {
+                batchInfos[i] = batch.getOperativeInfo(i);
+            }
+            awaitPendingStops(batchInfos);
+
+            // Nur die Teilprobleme senden, die noch nicht abgebrochen wurden
+            for (int i = 0; i < batch.size(); i++) {
+                if (batch.getOperativeInfo(i).getInfoParProbWrapper()
+                        == batch.getPartProbInfo(i)) {
+                    sentIndices.add(new Integer(i));
+                }
+            }
+            if (sentIndices.isEmpty()) {
+                return;
+            }
+
+            slots = new int[sentIndices.size()];
+            parProbs = new PartialProblem[sentIndices.size()];
+            for (int i = 0; i < slots.length; i++) {
+                index = ((Integer) sentIndices.get(i)).intValue();
+                slots[i] = batch.getOperativeInfo(index).getSlot();
+                parProbs[i] = batch.getPartProbInfo(index).getParProbWrapper()
+                                                          .getPartialProblem();
+            }
+            parProbWrap = batch.getPartProbInfo(((Integer) sentIndices.get(0))
+                                                .intValue()).getParProbWrapper();
+            solutionBatchSize = parProbWrap.getProblemStatisticCollector()
+                .suggestedBatchSize(SOLUTION_BATCH_DURATION,
+                                    operativeRegistry.getSlotNumber(operative));
+
+            while (!transmitted && (tries < remoteOperativeMaxTries)) {
+                tries++;
+                try {
+                    LOGGER.finest("Versuche " + slots.length
+                                  + " Teilprobleme an "
+                                  + batch.getOperativeInfo(0) + " zu senden");
+                    dispatchStart = System.currentTimeMillis();
+                    operative.fetchPartialProblems(slots, parProbs,
+                                                   solutionBatchSize);
+                    parProbWrap.getProblemStatisticCollector().notifyDispatchDuration(
+                        System.currentTimeMillis() - dispatchStart, slots.length);
+                    LOGGER.fine(slots.length + " Teilprobleme erfolgreich an "
+                                + batch.getOperativeInfo(0) + " gesendet");
+                    transmitted = true;
+                } catch (RemoteException e) {
+                    LOGGER.info("Senden der Teilprobleme an "
+                                + batch.getOperativeInfo(0)
+                                + " fehlgeschlagen");
+                    try {
+                        Thread.sleep(REMOTE_FAIL_WAIT_TIMEOUT);
+                    } catch (InterruptedException e1) {
+                        // Unterbrechung sollte hier nicht stren
+                    }
+                } catch (ProblemComputeException e) {
+                    LOGGER.severe("<E> Ein Slot von "
+                                  + batch.getOperativeInfo(0)
+                                  + " ist bereits beschftigt.");
+                    tries = remoteOperativeMaxTries;
+                } catch (RuntimeException e) {
+                    LOGGER.info("Senden der Teilprobleme an "
+                                + batch.getOperativeInfo(0)
+                                + " fehlgeschlagen");
+                    tries = remoteOperativeMaxTries;
+                }
+            }
+        }
+
+        if (!transmitted) {
+            // Die Verbindungen zwischen den Slots und den Teilproblemen lsen
+            for (int i = 0; i < sentIndices.size(); i++) {
+                index = ((Integer) sentIndices.get(i)).intValue();
+                releasePartialProblem(batch.getOperativeInfo(index),
+                                      batch.getPartProbInfo(index));
+            }
+
+            // Ermitteln, ob der Operative noch erreichbar ist und je nachdem
+            // die Slots entfernen oder ihnen erneut Teilprobleme zuweisen
+            try {
+                reachable = operative.isReachable();
+            } catch (RemoteException e) {
+                reachable = false;
+            }
+            for (int i = 0; i < sentIndices.size(); i++) {
+                index = ((Integer) sentIndices.get(i)).intValue();
+                operativeInfoObj = batch.getOperativeInfo(index);
+                if (reachable) {
+                    freeOperativeInfos.add(operativeInfoObj);
+                } else {
+                    removeDeadOperative(operativeInfoObj);
+                }
             }
+            if (!freeOperativeInfos.isEmpty()) {
+                dispatchSlots(freeOperativeInfos);
+            }
+        }
+    }
+
+    /**
+     * Sendet die Teilprobleme des bergebenen Bndels an den Operative. Ein
+     * Bndel mit einem Teilproblem, das einen RemoteStore verwendet, wird
+     * einzeln gesendet, alle anderen mit einem gemeinsamen Aufruf.
+     *
+     * @param batch  Das Bndel mit den Teilproblemen fr die Slots eines
+     *               Operatives.
+     */
+    private void sendBatch(PartialProblemBatch batch) {
+        if (batch.accepts(batch.getPartProbInfo(0).getParProbWrapper())) {
+            sendPartialProblemsToOperative(batch);
+        } else {
+            sendPartialProblemToOperative(batch.getPartProbInfo(0),
+                                          batch.getOperativeInfo(0));
+        }
+    }
+
+    /**
+     * bergibt einen Auftrag, der einen Operative aufruft, an die Threads
+     * des <code>backgroundPool</code>. Ist deren Warteschlange voll, wird
+     * der Auftrag zurckgestellt. Er wird in keinem Fall im aufrufenden
+     * Thread ausgefhrt.
+     *
+     * @param task  Der Auftrag, der einen Operative aufruft.
+     */
+    private void callOperative(Runnable task) {
+        executeBackgroundTask(task);
+    }
+
+    /**
+     * bergibt einen Auftrag zur Ausfhrung an die Threads fr die
+     * Hintergrundarbeiten des Dispatchers. Ist deren Warteschlange voll oder
+     * sind bereits Auftrge zurckgestellt, wird der Auftrag ebenfalls
+     * zurckgestellt und nach dem Ende eines anderen Auftrags bergeben.
+     *
+     * @param task  Der auszufhrende Auftrag.
+     */
+    public void executeBackgroundTask(final Runnable task) {
+        Runnable wrappedTask = new Runnable() {
+            public void run() {
+                try {
+                    task.run();
+                } finally {
+                    submitDeferredTasks();
+                }
+            }
+        };
+
+        synchronized (deferredTasks) {
+            if (!deferredTasks.isEmpty()
+                    || !backgroundPool.execute(wrappedTask)) {
+                deferredTasks.addLast(wrappedTask);
+            }
+        }
+    }
+
+    /**
+     * bergibt die zurckgestellten Auftrge in der Reihenfolge ihrer
+     * Zurckstellung an den <code>backgroundPool</code>, solange dessen
+     * Warteschlange sie aufnimmt. Da ein Auftrag nur zurckgestellt wird,
+     * wenn sich Auftrge in der Warteschlange befinden, und diese Methode
+     * nach dem Ende jedes Auftrags aufgerufen wird, bleibt kein
+     * zurckgestellter Auftrag liegen.
+     */
+    private void submitDeferredTasks() {
+        synchronized (deferredTasks) {
+            while (!deferredTasks.isEmpty()
+                    && backgroundPool.execute((Runnable) deferredTasks.getFirst())) {
+                deferredTasks.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Versucht, jedem Slot der bergebenen Liste ein Teilproblem zuzuweisen,
+     * und sendet die Teilprobleme anschlieend an den Operative. Alle Slots
+     * mssen zum gleichen Operative gehren. Die Teilprobleme, die keinen
+     * RemoteStore verwenden, werden dem Operative mit einem Aufruf gesendet.
+     * Slots, denen kein Teilproblem zugewiesen werden konnte, werden passiv
+     * gesetzt. Die Methode wird im Thread von <code>dispatchEvents</code>
+     * aufgerufen. Das Senden erfolgt erst, nachdem alle Sperren auf
+     * Info-Objekte freigegeben wurden.
+     *
+     * @param operativeInfos  Liste von Info-Objekten unbeschftigter aber
+     *                        aktiver Slots eines Operatives.
+     */
+    private void distributePartialProblems(List operativeInfos) {
+        PartialProblemBatch batch = new PartialProblemBatch();
+        List batches = new LinkedList();
+        Iterator iter;
+
+        iter = operativeInfos.iterator();
+        while (iter.hasNext()) {
+            distributePartialProblem((InfoOperative) iter.next(),
+                                     batch, batches);
+        }
+        if (batch.size() > 0) {
+            batches.add(0, batch);
+        }
+
+        iter = batches.iterator();
+        while (iter.hasNext()) {
+            final PartialProblemBatch sendBatch = (PartialProblemBatch) iter.next();
+            callOperative(new Runnable() {
+                public void run() {
+                    sendBatch(sendBatch);
+                }
+            });
         }
     }
 
+    /**
+     * bergibt dem Thread fr die Ereignisse der Verteilung die Aufgabe, den
+     * Slots der bergebenen Liste, die alle zum gleichen Operative gehren
+     * mssen, Teilprobleme zuzuweisen und zu senden. Die Methode kehrt
+     * sofort zurck und darf daher auch aufgerufen werden, whrend Sperren
+     * auf Info-Objekte gehalten werden.
+     *
+     * @param operativeInfos  Liste von Info-Objekten unbeschftigter aber
+     *                        aktiver Slots eines Operatives.
+     */
+    private void dispatchSlots(final List operativeInfos) {
+        dispatchEvents.execute(new Runnable() {
+            public void run() {
+                distributePartialProblems(operativeInfos);
+            }
+        });
+    }
+
+    /**
+     * bergibt den Threads des <code>backgroundPool</code> die Aufgabe, die
+     * Berechnung auf einem Slot zu stoppen, dessen Verbindung zum
+     * Teilproblem vorher gelst wurde, und ihm anschlieend ein neues
+     * Teilproblem zuzuweisen.
+     *
+     * @param operativeInfo  Info-Objekt des Slots.
+     */
+    private void dispatchStop(final InfoOperative operativeInfo) {
+        callOperative(new Runnable() {
+            public void run() {
+                if (stopComputationOnOperative(operativeInfo)) {
+                    dispatchSlots(Collections.singletonList(operativeInfo));
+                }
+            }
+        });
+    }
+
     /**
      * Versucht, jedem {@link Operative} der bergebenen <code>Collection</code>
      * unbeschftigter aber aktiver Operatives ein Teilproblem
      * ({@link ParProbWrapper}) zuzuweisen. Operatives, bei denen das nicht
-     * mglich war, werden passiv gesetzt.
+     * mglich war, werden passiv gesetzt. Den Slots eines Operatives werden
+     * die Teilprobleme dabei gemeinsam zugewiesen. Die Zuweisung erfolgt
+     * im Thread fr die Ereignisse der Verteilung.
      *
      * @param operatives  Collection unbeschftigter aber aktiver Operatives
-     * @see  #distributePartialProblem(InfoOperative)
+     * @see  #dispatchSlots(List)
      */
     private void distributePartialProblem(Collection operatives) {
         Object[] operativeArray;
         InfoOperative operativeInfoObj;
+        Map operativeGroups = new HashMap();
+        List operativeGroup;
+        Iterator groupIter;
 
         synchronized (operatives) {
             operativeArray = operatives.toArray();
         }
+
+        // Die Slots nach ihren Operatives gruppieren
         for (int i = 0; i < operativeArray.length; i++) {
             operativeInfoObj = (InfoOperative) operativeArray[i];
-            if (createNewThreads) {
-                final InfoOperative opInfo = operativeInfoObj;
-                new Thread() {
-                    private InfoOperative infoOperative;
-                    public void run() {
-                        distributePartialProblem(opInfo);
-                    }
-                }
-                .start();
-            } else {
-                distributePartialProblem(operativeInfoObj);
+            operativeGroup = (List) operativeGroups.get(operativeInfoObj.getOperative());
+            if (operativeGroup == null) {
+                operativeGroup = new LinkedList();
+                operativeGroups.put(operativeInfoObj.getOperative(), operativeGroup);
             }
+            operativeGroup.add(operativeInfoObj);
         }
+
+        groupIter = operativeGroups.values().iterator();
+        while (groupIter.hasNext()) {
+            dispatchSlots((List) groupIter.next());
+        }
+    }
+
+    /**
+     * Reaktiviert die passiven Slots, wenn sich Teilprobleme in Berechnung
+     * befinden oder auf einen Slot warten, so da sie diese gegebenenfalls
+     * berechnen.
+     *
+     * @return  <code>false</code>, wenn der Dienst beendet wurde, sonst
+     *          <code>true</code>.
+     */
+    private synchronized boolean checkPassiveSlots() {
+        if (terminated) {
+            return false;
+        }
+        if (!partProbQueue.isEmpty()) {
+            reactivatePassiveOperatives();
+        }
+        return true;
     }
 
     /**
@@ -744,37 +1350,13 @@ public final class ComputeManagerImpl
      * beschfttig, so bleibt der Aufruf dieser Methode ohne Wirkung.
      */
     public synchronized void reactivatePassiveOperatives() {
-        List activeOperatives = new LinkedList();
+        List activeOperatives;
         List passiveOperatives = new LinkedList();
-        boolean removed;
 
-        synchronized (infosActiveStateOperatives) {
-            synchronized (infosPassiveStateOperatives) {
-                activeOperatives.addAll(infosActiveStateOperatives);
-                passiveOperatives.addAll(infosPassiveStateOperatives);
-            }
-        }
+        activeOperatives = operativeRegistry.getAllOperativeInfos();
 
         // reaktiviere alle passiven Operatives
-        Iterator passiveOpIter = passiveOperatives.iterator();
-        while (passiveOpIter.hasNext()) {
-            InfoOperative infoOp = (InfoOperative) passiveOpIter.next();
-            synchronized (infoOp) {
-                infoOp.setActive(true);
-                synchronized (infosActiveStateOperatives) {
-                    synchronized (infosPassiveStateOperatives) {
-                        removed = infosPassiveStateOperatives.remove(infoOp);
-                        if (removed) {
-                            // der Operative ist zwischenzeitlich nicht
-                            // abgemeldet worden
-                            infosActiveStateOperatives.add(infoOp);
-                        }
-                    }
-                }
-            }
-        }
-        distributePartialProblem(passiveOperatives);
-        passiveOperatives.clear();
+        distributePartialProblem(operativeRegistry.activateAll());
 
         // berprfe welche Operatives in der Zwischenzeit inaktiv
         // geworden sind.
@@ -783,17 +1365,10 @@ public final class ComputeManagerImpl
             InfoOperative infoOp = (InfoOperative) activeOpIter.next();
             synchronized (infoOp) {
                 if (!infoOp.isActive()) {
-                    infoOp.setActive(true);
-                    synchronized (infosActiveStateOperatives) {
-                        synchronized (infosPassiveStateOperatives) {
-                            removed = infosPassiveStateOperatives.remove(infoOp);
-                            if (removed) {
-                                // der Operative ist zwischenzeitlich nicht
-                                // abgemeldet worden
-                                infosActiveStateOperatives.add(infoOp);
-                                passiveOperatives.add(infoOp);
-                            }
-                        }
+                    if (operativeRegistry.setActive(infoOp)) {
+                        // der Operative ist zwischenzeitlich nicht
+                        // abgemeldet worden
+                        passiveOperatives.add(infoOp);
                     }
                 }
             }
@@ -807,91 +1382,100 @@ public final class ComputeManagerImpl
     }
 
     /**
-     * Liefert zum bergebenen <code>Operative</code> das zugehrige
-     * Operative-Info-Objekt. Ist der Operative nicht registiert oder ist der
-     * bergabeparameter <code>null</code>, so wird <code>null</code>
-     * zurckgeliefert.
+     * Liefert zum bergebenen <code>Operative</code> und Slot das zugehrige
+     * Operative-Info-Objekt. Ist der Operative oder der Slot nicht registiert
+     * oder ist der bergabeparameter <code>null</code>, so wird
+     * <code>null</code> zurckgeliefert.
      *
      * @param operative  {@link Operative} zu dem das Operative-Info-Objekt
      *                   geliefert werden soll.
-     * @return  zum <code>operative</code> gehriges Info-Objekt
+     * @param slot       Die Nummer des Slots des Operatives.
+     * @return  zum <code>operative</code> und <code>slot</code> gehriges
+     *          Info-Objekt
      */
-    private InfoOperative findOperativeInfo(Operative operative) {
-        boolean operativeFound = false;
-        InfoOperative operativeInfoObj = null;
-        Iterator operativeIter;
+    private InfoOperative findOperativeInfo(Operative operative, int slot) {
+        InfoOperative operativeInfoObj;
 
-        synchronized (infosActiveStateOperatives) {
-            synchronized (infosPassiveStateOperatives) {
-                if (infosActiveStateOperatives.isEmpty()
-                        && infosPassiveStateOperatives.isEmpty()) {
-                    return null;
-                } else {
-                    // suche zunchst in Collection der aktiven Operatives...
-                    operativeIter = infosActiveStateOperatives.iterator();
-                    while (operativeIter.hasNext() && !operativeFound) {
-                        operativeInfoObj = (InfoOperative) operativeIter.next();
-                        if (operative.equals(operativeInfoObj.getOperative())) {
-                            operativeFound = true;
-                        }
-                    }
-                }
-                if (!operativeFound) {
-                    // ... falls nicht gefunden, suche in Collection der
-                    // der passiven Operatives
-                    operativeIter = infosPassiveStateOperatives.iterator();
-                    while (operativeIter.hasNext() && !operativeFound) {
-                        operativeInfoObj = (InfoOperative) operativeIter.next();
-                        if (operative
-                            .equals(operativeInfoObj.getOperative())) {
-                            operativeFound = true;
-                        }
-                    }
-                }
-            }
-        }
-        if (operativeFound) {
-            return operativeInfoObj;
-        } else {
+        operativeInfoObj = operativeRegistry.getOperativeInfo(operative, slot);
+        if (operativeInfoObj == null) {
             LOGGER.config("Operative-Info-Objekt nicht gefunden.");
-            return null;
         }
+        return operativeInfoObj;
     }
 
     /**
-     * berprft genau einmal, ob ein Operative erreichbar ist. Falls nicht,
-     * so wird er aus der Verwaltung entfernt. Falls er erreichbar ist, so
-     * wird er nicht aus der Verwaltung entfernt.
+     * Entfernt einen Operative, der von der Operative-berwachung mehrfach
+     * nicht erreicht wurde, mit allen seinen Slots aus der Verwaltung. Er
+     * wird nicht erneut aufgerufen, da ein hngender Aufruf die Entfernung
+     * verzgern wrde.
      *
-     * @param operative  zu berprfender {@link Operative}
+     * @param operative         zu entfernender {@link Operative}
+     * @param detectionLatency  Die Zeitdauer in Millisekunden vom ersten
+     *                          fehlgeschlagenen Erreichbarkeitstest bis zur
+     *                          Entfernung.
      */
-    void verifyOperativeReachability(Operative operative) {
-        InfoOperative operativeInfoObj = findOperativeInfo(operative);
-        if (operativeInfoObj != null) {
-            try {
-                // gebe Operative noch eine Chance zu anworten
-                operative.isReachable();
-            } catch (RemoteException e) {
+    void removeUnreachableOperative(Operative operative, long detectionLatency) {
+        List operativeInfos = operativeRegistry.getOperativeInfos(operative);
+        InfoOperative operativeInfoObj;
+        Iterator operativeIter;
+
+        if (!operativeInfos.isEmpty()) {
+            // alle Slots des Operatives entfernen
+            operativeIter = operativeInfos.iterator();
+            while (operativeIter.hasNext()) {
+                operativeInfoObj = (InfoOperative) operativeIter.next();
                 removeOperativeFromParProb(operativeInfoObj);
                 removeDeadOperative(operativeInfoObj);
                 LOGGER.info(operativeInfoObj + " ist nicht erreichbar"
-                                             + " und wurde entfernt.");
+                                             + " und wurde nach "
+                                             + detectionLatency
+                                             + " ms entfernt.");
             }
+            systemStatistics.notifyUnreachableOperativeRemoved(detectionLatency);
         }
     }
 
     /**
      * Registrierung eines Operative am ComputeManager.
      * Diese Methode ruft ein {@link Operative} auf, der sich beim
-     * {@link ComputeManager} anmelden mchte.
+     * {@link ComputeManager} anmelden mchte. Fr jeden Slot des Operatives
+     * wird ein eigenes Info-Objekt angelegt, so da der Operative bis zu
+     * <code>slots</code> Teilprobleme gleichzeitig erhalten kann.
+     *
+     * @param  operative  Referenz auf den Operative
+     * @param  slots      Die Anzahl der Teilprobleme, die der Operative
+     *                    gleichzeitig berechnen kann.
+     * @throws RemoteException  RMI RemoteException wird bei Netzproblemen
+     *                          geworfen.
+     */
+    public void registerOperative(Operative operative, int slots)
+        throws RemoteException {
+
+        registerOperative(operative, slots, null);
+    }
+
+    /**
+     * Registrierung eines Operative am ComputeManager unter Angabe seiner
+     * Leistungsmerkmale. Fr jeden Slot des Operatives wird ein eigenes
+     * Info-Objekt angelegt, so da der Operative bis zu <code>slots</code>
+     * Teilprobleme gleichzeitig erhalten kann. Die Leistungsmerkmale dienen
+     * als erste Schtzung seiner Geschwindigkeit.
      *
-     * @param  operative Referenz auf den Operative
+     * @param  operative     Referenz auf den Operative
+     * @param  slots         Die Anzahl der Teilprobleme, die der Operative
+     *                       gleichzeitig berechnen kann.
+     * @param  capabilities  Die Leistungsmerkmale des Operatives oder
+     *                       <code>null</code>, wenn sie nicht bekannt sind.
      * @throws RemoteException  RMI RemoteException wird bei Netzproblemen
      *                          geworfen.
      */
-    public synchronized void registerOperative(Operative operative)
+    public synchronized void registerOperative(Operative operative, int slots,
+                                               OperativeCapabilities capabilities)
         throws RemoteException {
 
+        InfoOperative[] operativeInfoObjs;
+        long operativeId;
+
         if (!terminated) {
             // Verhindern, dass nicht ereichbare Operative sich anmelden knnen
             boolean reachable = false;
@@ -904,28 +1488,29 @@ public final class ComputeManagerImpl
 
             if (reachable) {
                 // ermitteln, ob bisher keine Operatives mehr angemeldet waren
-                synchronized (infosActiveStateOperatives) {
-                    synchronized (infosPassiveStateOperatives) {
-                        if (infosActiveStateOperatives.isEmpty()
-                                && infosPassiveStateOperatives.isEmpty()) {
-                            problemManager.reportException(
-                                null,
-                                null,
-                                ExceptionCodes.NEW_OPERATIVES_REGISTERED,
-                                "Neuer Operative hat sich angemeldet");
-                        }
-                    }
+                if (operativeRegistry.isEmpty()) {
+                    problemManager.reportException(
+                        null,
+                        null,
+                        ExceptionCodes.NEW_OPERATIVES_REGISTERED,
+                        "Neuer Operative hat sich angemeldet");
                 }
 
-                // neues Objekt wird am Ende der Liste eingefgt
-                InfoOperative operativeInfoObj = new InfoOperative(operative);
-                infosActiveStateOperatives.add(operativeInfoObj);
-                sendingParProbLocker.put(operativeInfoObj, new Object());
+                // Operative mit einer neuen Nummer registrieren
+                operativeInfoObjs = operativeRegistry.register(operative,
+                                                               Math.max(1, slots),
+                                                               capabilities);
+                operativeId = operativeInfoObjs[0].getOperativeId();
+                for (int i = 0; i < operativeInfoObjs.length; i++) {
+                    // Statistik aktualisieren
+                    systemStatistics.notifyOperativesRegistration();
+                }
 
-                // Statistik aktualisieren und LOGGER-Ausgabe
-                systemStatistics.notifyOperativesRegistration();
-                LOGGER.config(operativeInfoObj.toString()
-                              + " erfolgreich angemeldet.");
+                LOGGER.config("Operative " + operativeId + " mit "
+                              + operativeInfoObjs.length
+                              + " Slots erfolgreich angemeldet"
+                              + (capabilities == null
+                                 ? "." : " (" + capabilities + ")."));
 
                 if (!operativeMonitoring.isAlive()) {
                     operativeMonitoring.start();
@@ -934,8 +1519,12 @@ public final class ComputeManagerImpl
                 // in Operative-Monitoring-Unit eintragen
                 operativeMonitoring.startMonitoring(operative);
 
-                // ein Teilproblem zuweisen
-                distributePartialProblem(operativeInfoObj);
+                // fr den Operative einen Thread zum Senden vorsehen
+                registrations++;
+                backgroundPool.ensureThreads(registrations);
+
+                // jedem Slot ein Teilproblem zuweisen
+                dispatchSlots(Arrays.asList(operativeInfoObjs));
             }
         }
     }
@@ -975,16 +1564,23 @@ public final class ComputeManagerImpl
     public void unregisterOperative(Operative operative)
         throws RemoteException {
 
-        // Zugehriges Operative-Info-Object ermitteln
-        InfoOperative operativeInfoObj = findOperativeInfo(operative);
-        if (operativeInfoObj == null) {
+        InfoOperative operativeInfoObj;
+        Iterator operativeIter;
+
+        // Zugehrige Operative-Info-Objecte aller Slots ermitteln
+        List operativeInfos = operativeRegistry.getOperativeInfos(operative);
+        if (operativeInfos.isEmpty()) {
             LOGGER.severe(
                 "Unbekannter Operative hat versucht sich abzumelden.");
             throw new RemoteException(
                 "Unbekannter Operative hat versucht sich abzumelden.");
         }
-        LOGGER.config(operativeInfoObj.toString() + " meldet sich ab.");
-        unregisterOperative(operativeInfoObj);
+        operativeIter = operativeInfos.iterator();
+        while (operativeIter.hasNext()) {
+            operativeInfoObj = (InfoOperative) operativeIter.next();
+            LOGGER.config(operativeInfoObj.toString() + " meldet sich ab.");
+            unregisterOperative(operativeInfoObj);
+        }
     }
 
     /**
@@ -1004,23 +1600,21 @@ public final class ComputeManagerImpl
 
         // Berechnungen auf allen Operatives beenden
         LOGGER.config("Melde die angemeldeten Operatives ab ...");
-        List operativeList = new LinkedList();
-        synchronized (infosActiveStateOperatives) {
-            synchronized (infosPassiveStateOperatives) {
-                operativeList.addAll(infosActiveStateOperatives);
-                operativeList.addAll(infosPassiveStateOperatives);
-            }
-        }
+        List operativeList = operativeRegistry.getAllOperativeInfos();
         Iterator opInfoIt = operativeList.iterator();
+        Set exitedOperatives = new HashSet();
         InfoOperative opInfo;
         while (opInfoIt.hasNext()) {
-            // Den Operative beenden
+            // Den Operative beenden, wenn das nicht schon fr einen anderen
+            // Slot geschehen ist
             opInfo = (InfoOperative) opInfoIt.next();
-            try {
-                opInfo.getOperative().doExit();
-                LOGGER.config(opInfo.toString() + " wurde beendet.");
-            } catch (RemoteException e1) {
-                LOGGER.warning(opInfo.toString() + " konnte nicht beendet werden.");
+            if (exitedOperatives.add(opInfo.getOperative())) {
+                try {
+                    opInfo.getOperative().doExit();
+                    LOGGER.config(opInfo.toString() + " wurde beendet.");
+                } catch (RemoteException e1) {
+                    LOGGER.warning(opInfo.toString() + " konnte nicht beendet werden.");
+                }
             }
 
             // Den Operative in jedem Fall aus der Verwaltung entfernen
@@ -1043,6 +1637,11 @@ public final class ComputeManagerImpl
                 "Austragen der Dienste aus der "
                     + "RMI-Registry fehlgeschlagen.");
         }
+
+        // Threads fr die Verteilung und die Hintergrundarbeiten beenden
+        dispatchEvents.terminate();
+        backgroundPool.terminate();
+
         LOGGER.info("Dispatcher beendet.");
     }
 
@@ -1056,8 +1655,9 @@ public final class ComputeManagerImpl
      * @param abortCompletely  gibt an, dass die Zeitmessung fr das angegebene
      *                         Teilproblem noch abgebrochen werden muss und
      *                         veranlasst, dass die Methode erst nach dem
-     *                         Abbruch aller Teilprobleme beendet wird, also
-     *                         keine Threads erzeugt werden.
+     *                         Abbruch aller Teilprobleme beendet wird. Sonst
+     *                         erfolgt der Abbruch durch den
+     *                         <code>backgroundPool</code>.
      */
     private void abortPartialProblem(InfoParProbWrapper partProbInfo,
                                      boolean abortCompletely) {
@@ -1065,6 +1665,7 @@ public final class ComputeManagerImpl
         ProblemStatisticsCollector probStatCollector;
         InfoOperative opInfo;
         List abortOperativesCopy;
+        boolean stop;
 
         if (partProbInfo != null) {
             synchronized (partProbInfo) {
@@ -1085,24 +1686,21 @@ public final class ComputeManagerImpl
                 synchronized (opInfo) {
                     probStatCollector.abortTimeMeasurement(parProbWrap);
 
-                    // Berechnung auf Operative abbechen und ihm neues
-                    // Teilproblem zuweisen
-                    if (createNewThreads && (!abortCompletely)) {
-                        final InfoOperative finalOpInfo = opInfo;
-                        new Thread() {
-                            public void run() {
-                                stopComputationOnOperative(finalOpInfo);
-                                distributePartialProblem(finalOpInfo);
-                            }
+                    // Verbindung von Teilproblem zu Operative lsen
+                    stop = unlinkPartialProblem(opInfo, partProbInfo);
+                    partProbInfo.removeOperativeInfo(opInfo);
+                }
+
+                // Berechnung auf Operative abbechen und ihm neues
+                // Teilproblem zuweisen, ohne dabei eine Sperre zu halten
+                if (stop) {
+                    if (abortCompletely) {
+                        if (stopComputationOnOperative(opInfo)) {
+                            dispatchSlots(Collections.singletonList(opInfo));
                         }
-                        .start();
                     } else {
-                        stopComputationOnOperative(opInfo);
-                        distributePartialProblem(opInfo);
+                        dispatchStop(opInfo);
                     }
-
-                    // Verbindung von Teilproblem zu Operative lsen
-                    partProbInfo.removeOperativeInfo(opInfo);
                 }
             }
 
@@ -1133,157 +1731,392 @@ public final class ComputeManagerImpl
         }
     }
 
+    /**
+     * Vermerkt in der Statistik des Problems die Zeit der Berechnungen eines
+     * Teilproblems, die abgebrochen werden, weil ein Slot die Teillsung
+     * geliefert hat. Wenn die Berechnung des Slots spekulativ war, wird
+     * auerdem die Zeit vermerkt, die die ursprngliche Berechnung schon lief.
+     * Das ist die geschtzte Zeit, um die die Teillsung frher vorliegt.
+     *
+     * @param partProbInfoObj   Info-Objekt des berechneten Teilproblems, in
+     *                          dem der liefernde Slot nicht mehr enthalten
+     *                          ist.
+     * @param operativeInfoObj  Info-Objekt des Slots, der die Teillsung
+     *                          geliefert hat.
+     */
+    private void notifySpeculationOutcome(InfoParProbWrapper partProbInfoObj,
+                                          InfoOperative operativeInfoObj) {
+        ProblemStatisticsCollector probStatCollector;
+        InfoOperative otherInfoObj;
+        List otherOperatives;
+        long now = System.currentTimeMillis();
+        long wasted = 0;
+        long originalStart = Long.MAX_VALUE;
+
+        otherOperatives = partProbInfoObj.getOperativeInfos();
+        if (otherOperatives.isEmpty()) {
+            return;
+        }
+
+        Iterator otherIter = otherOperatives.iterator();
+        while (otherIter.hasNext()) {
+            otherInfoObj = (InfoOperative) otherIter.next();
+            if (otherInfoObj.getStartTime() != 0) {
+                wasted += now - otherInfoObj.getStartTime();
+            }
+            if (!otherInfoObj.isSpeculative()) {
+                originalStart = Math.min(originalStart,
+                                         otherInfoObj.getAssignmentTime());
+            }
+        }
+
+        probStatCollector = partProbInfoObj.getParProbWrapper()
+                                           .getProblemStatisticCollector();
+        probStatCollector.notifyWastedComputation(wasted);
+        if (operativeInfoObj.isSpeculative()
+                && (originalStart != Long.MAX_VALUE)) {
+            probStatCollector.notifySuccessfulSpeculation(now - originalStart);
+        }
+    }
+
+    /**
+     * Vermerkt eine von einem Slot berechnete Teillsung in der Verwaltung,
+     * ohne sie an den <code>ProblemManager</code> zu bergeben und ohne dem
+     * Slot ein neues Teilproblem zuzuweisen. Die Methode wird im Thread von
+     * <code>dispatchEvents</code> aufgerufen. Die Teillsung wird nur
+     * angenommen, wenn der Slot noch dem Teilproblem zugeordnet ist, das er
+     * beim Eingang der Teillsung berechnet hat.
+     *
+     * @param  operativeInfoObj  Info-Objekt des Slots, auf dem die Berechnung
+     *                           durchgefhrt wurde.
+     * @param  partProbInfoObj   Info-Objekt des Teilproblems, das dem Slot
+     *                           beim Eingang der Teillsung zugeordnet war,
+     *                           oder <CODE>null</CODE>.
+     *
+     * @return  Das Teilproblem, an dessen Problem die Teillsung zu bergeben
+     *          ist, wenn dem Slot anschlieend ein neues Teilproblem
+     *          zugewiesen werden soll, sonst <CODE>null</CODE>.
+     */
+    private ParProbWrapper processPartialSolution(InfoOperative operativeInfoObj,
+                                                  InfoParProbWrapper partProbInfoObj) {
+
+        ParProbWrapper parProbWrap = null;
+        boolean inList;
+
+        // Der Slot kann inzwischen gestoppt worden sein
+        if ((partProbInfoObj == null)
+                || (operativeInfoObj.getInfoParProbWrapper() != partProbInfoObj)) {
+            return null;
+        }
+
+        LOGGER.finest(
+            operativeInfoObj.toString()
+                + " liefert Teillsung zu "
+                + partProbInfoObj.toString());
+
+        inList = partProbQueue.removePartProbInfo(partProbInfoObj);
+        // inList ist nur true fr die erste Teillsung eines eventuell
+        // mehrfach verteilten Teilproblems.
+        // Da die Methoden beim Operative synchronisiert sind, darf die
+        // Berechnung fr einen Operative, der eine Teillsung oder
+        // Exception liefert, nicht abgebrochen werden.
+        if (inList) {
+            parProbWrap = partProbInfoObj.getParProbWrapper();
+            synchronized (operativeInfoObj) {
+                synchronized (partProbInfoObj) {
+                    // Geschwindigkeit des Operatives und Statistik
+                    // aktualisieren
+                    operativeInfoObj.getSpeed().notifyComputation(
+                        System.currentTimeMillis()
+                            - operativeInfoObj.getComputationStart(),
+                        parProbWrap.getProblemStatisticCollector()
+                                   .recentComputationDuration());
+                    parProbWrap.getProblemStatisticCollector()
+                               .stopTimeMeasurement(parProbWrap);
+
+                    // vermerke, dass der Operative, der die Teillsung
+                    // zurckliefert, das Teilproblem nicht mehr berechnet
+                    partProbInfoObj.removeOperativeInfo(operativeInfoObj);
+                    operativeInfoObj.setInfoParProbWrapper(null);
+
+                    // die Zeit der nun abzubrechenden Berechnungen
+                    // vermerken
+                    notifySpeculationOutcome(partProbInfoObj,
+                                             operativeInfoObj);
+                }
+            }
+
+            // breche das Teilproblem auf anderen Operatives, die es noch
+            // berechnet haben, ab
+            abortPartialProblem(partProbInfoObj, false);
+        }
+        return parProbWrap;
+    }
+
+    /**
+     * bergibt dem Thread fr die Ereignisse der Verteilung Teillsungen von
+     * Slots eines Operatives zur Verarbeitung. Zu jedem Slot wird dabei das
+     * Teilproblem vermerkt, das ihm gerade zugeordnet ist. Die angenommenen
+     * Teillsungen werden anschlieend vom <code>backgroundPool</code> an
+     * den <code>ProblemManager</code> bergeben, da das Problem sie im
+     * aufrufenden Thread verarbeiten kann. Erst danach werden den
+     * betreffenden Slots gemeinsam neue Teilprobleme zugewiesen, so da das
+     * Problem aus den Teillsungen schon neue Teilprobleme erzeugen konnte.
+     * Die Methode kehrt sofort zurck.
+     *
+     * @param parSols         Die Teillsungen.
+     * @param operativeInfos  Die Info-Objekte der Slots, auf denen die
+     *                        Berechnungen durchgefhrt wurden. Ein Eintrag
+     *                        ist <code>null</code>, wenn der Slot nicht
+     *                        registriert ist.
+     */
+    private void dispatchSolutions(final PartialSolution[] parSols,
+                                   final InfoOperative[] operativeInfos) {
+        final InfoParProbWrapper[] partProbInfos
+            = new InfoParProbWrapper[operativeInfos.length];
+
+        for (int i = 0; i < operativeInfos.length; i++) {
+            if (operativeInfos[i] != null) {
+                partProbInfos[i] = operativeInfos[i].getInfoParProbWrapper();
+            }
+        }
+
+        dispatchEvents.execute(new Runnable() {
+            public void run() {
+                final List freeOperativeInfos = new LinkedList();
+                final List collectedSolutions = new LinkedList();
+                final List parProbWrappers = new LinkedList();
+                ParProbWrapper parProbWrap;
+
+                for (int i = 0; i < parSols.length; i++) {
+                    if (operativeInfos[i] != null) {
+                        parProbWrap = processPartialSolution(operativeInfos[i],
+                                                             partProbInfos[i]);
+                        if (parProbWrap != null) {
+                            freeOperativeInfos.add(operativeInfos[i]);
+                            collectedSolutions.add(parSols[i]);
+                            parProbWrappers.add(parProbWrap);
+                        }
+                    }
+                }
+
+                if (!freeOperativeInfos.isEmpty()) {
+                    executeBackgroundTask(new Runnable() {
+                        public void run() {
+                            Iterator solutionIter = collectedSolutions.iterator();
+                            Iterator wrapperIter = parProbWrappers.iterator();
+
+                            while (solutionIter.hasNext()) {
+                                problemManager.collectPartialSolution(
+                                    (PartialSolution) solutionIter.next(),
+                                    (ParProbWrapper) wrapperIter.next());
+                            }
+
+                            // weise den Slots, die die Teillsungen
+                            // zurckliefern, gemeinsam neue Teilprobleme zu
+                            dispatchSlots(freeOperativeInfos);
+                        }
+                    });
+                }
+            }
+        });
+    }
+
     /**
      * Diese Remote-Methode wird von einem Operative aufgerufen um dem
-     * ComputeManager eine berechnete Teillsung zu bermitteln.
+     * ComputeManager eine berechnete Teillsung zu bermitteln. Die
+     * Teillsung wird im Thread fr die Ereignisse der Verteilung
+     * verarbeitet, die Methode kehrt sofort zurck.
      *
      * @param  parSol     Teillsungsobjekt.
      * @param  operative  Referenz auf den Operative, der die Berechnung
      *                    durchgefhrt hat.
+     * @param  slot       Die Nummer des Slots, auf dem die Berechnung
+     *                    durchgefhrt wurde.
      *
      * @throws RemoteException  RMI RemoteException wird bei Netzproblemen
      *                          geworfen.
      */
     public void collectPartialSolution(PartialSolution parSol,
-                                       Operative operative)
+                                       Operative operative,
+                                       int slot)
         throws RemoteException {
 
-        InfoOperative operativeInfoObj = findOperativeInfo(operative);
-        InfoParProbWrapper partProbInfoObj = null;
-        ParProbWrapper parProbWrap;
-        boolean inList = false;
-
+        operativeMonitoring.renewLease(operative);
         // nur Lsung annehmen, wenn Operative registriert ist;
         // von Operatives, die nicht erreichbar waren und aus der
         // Verwaltung entfernt wurden wird keine Teillsung angenommen
-        if (operativeInfoObj != null) {
-            // Testen, ob das vom Operative berechnete Teilproblem in der
-            // Liste der aktuell berechneten Teilprobleme enthalten ist.
+        dispatchSolutions(new PartialSolution[] {parSol},
+                          new InfoOperative[] {findOperativeInfo(operative,
+                                                                 slot)});
+    }
 
-            // Das Teilproblem kann erst ermittelt werden, wenn das Senden
-            // des Teilproblems an den Operative abgeschlossen ist.
-            synchronized (sendingParProbLocker.get(operativeInfoObj)) {
-                partProbInfoObj = operativeInfoObj.getInfoParProbWrapper();
-            }
+    /**
+     * Diese Remote-Methode wird von einem Operative aufgerufen um dem
+     * ComputeManager mit einem Aufruf mehrere berechnete Teillsungen zu
+     * bermitteln. Die Teillsungen werden im Thread fr die Ereignisse der
+     * Verteilung verarbeitet, die Methode kehrt sofort zurck.
+     *
+     * @param  parSols    Die Teillsungen.
+     * @param  operative  Referenz auf den Operative, der die Berechnungen
+     *                    durchgefhrt hat.
+     * @param  slots      Die Nummern der Slots, auf denen die Berechnungen
+     *                    durchgefhrt wurden.
+     *
+     * @throws RemoteException  RMI RemoteException wird bei Netzproblemen
+     *                          geworfen.
+     */
+    public void collectPartialSolutions(PartialSolution[] parSols,
+                                        Operative operative,
+                                        int[] slots)
+        throws RemoteException {
 
-            if (partProbInfoObj != null) {
-                LOGGER.finest(
-                    operativeInfoObj.toString()
-                        + " liefert Teillsung zu "
-                        + partProbInfoObj.toString());
-            }
+        InfoOperative[] operativeInfos = new InfoOperative[slots.length];
 
-            inList = partProbQueue.removePartProbInfo(partProbInfoObj);
-            // inList ist nur true fr den ersten Thread, der eine Teillsung
-            // eines eventuell mehrfach verteilten Teilproblems verarbeitet.
-            // Da die Methoden beim Operative synchronisiert sind, darf die
-            // Berechnung fr einen Operative, der eine Teillsung oder
-            // Exception liefert, nicht abgebrochen werden.
-            if (inList) {
-                synchronized (operativeInfoObj) {
-                    synchronized (partProbInfoObj) {
-                        // Statistik aktualisieren
-                        parProbWrap = partProbInfoObj.getParProbWrapper();
-                        parProbWrap.getProblemStatisticCollector()
-                                   .stopTimeMeasurement(parProbWrap);
+        operativeMonitoring.renewLease(operative);
+        for (int i = 0; i < slots.length; i++) {
+            operativeInfos[i] = findOperativeInfo(operative, slots[i]);
+        }
+        dispatchSolutions(parSols, operativeInfos);
+    }
+
+    /**
+     * Vermerkt den Beginn einer Berechnung auf einem Slot eines Operatives,
+     * der einen Vorrat an Teilproblemen hlt. Erst ab diesem Zeitpunkt wird
+     * die Berechnungszeit fr die Geschwindigkeit des Operatives und fr die
+     * Erkennung langsamer Berechnungen gezhlt.
+     *
+     * @param operative  Referenz auf den Operative.
+     * @param slot       Die Nummer des Slots, auf dem die Berechnung
+     *                   beginnt.
+     *
+     * @throws RemoteException  bei RMI-Verbindungsproblemen.
+     */
+    public void notifyComputationStart(Operative operative, int slot)
+        throws RemoteException {
 
-                        // vermerke, dass der Operative, der die Teillsung
-                        // zurckliefert, das Teilproblem nicht mehr berechnet
-                        partProbInfoObj.removeOperativeInfo(operativeInfoObj);
-                        operativeInfoObj.setInfoParProbWrapper(null);
+        InfoOperative operativeInfoObj;
 
-                        // breche das Teilproblem auf anderen Operatives, die
-                        // es noch berechnet haben, ab
-                        abortPartialProblem(partProbInfoObj, false);
+        operativeInfoObj = operativeRegistry.getOperativeInfo(operative, slot);
+        if (operativeInfoObj != null) {
+            operativeInfoObj.markStart();
+        }
+    }
 
-                        problemManager.collectPartialSolution(
-                            parSol,
-                            partProbInfoObj.getParProbWrapper());
+    /**
+     * Verarbeitet einen von einem Slot gemeldeten Fehler. Die Methode wird im
+     * Thread von <code>dispatchEvents</code> aufgerufen. Der Fehler wird nur
+     * angenommen, wenn der Slot noch dem Teilproblem zugeordnet ist, das er
+     * beim Eingang der Meldung berechnet hat. Die Weitermeldung an den
+     * <code>ProblemManager</code> und die anschlieende Zuweisung eines
+     * neuen Teilproblems an den Slot erfolgen durch den
+     * <code>backgroundPool</code>.
+     *
+     * @param operativeInfoObj  Info-Objekt des Slots, auf dem der Fehler
+     *                          auftrat.
+     * @param partProbInfoObj   Info-Objekt des Teilproblems, das dem Slot
+     *                          beim Eingang der Meldung zugeordnet war, oder
+     *                          <CODE>null</CODE>.
+     * @param exceptionCode     Integerwert, der die Ausnahme charakterisisert.
+     * @param exceptionMessage  Fehlermeldung um die Ausnahme nher zu
+     *                          beschreiben.
+     */
+    private void processException(final InfoOperative operativeInfoObj,
+                                  InfoParProbWrapper partProbInfoObj,
+                                  final int exceptionCode,
+                                  final String exceptionMessage) {
 
-                        // weise dem Operative, der die Teillsung
-                        // zurckliefert, ein neues Teilproblem zu
-                        distributePartialProblem(operativeInfoObj);
-                    }
+        final ParProbWrapper parProbWrap;
+        boolean inList;
+
+        // Der Slot kann inzwischen gestoppt worden sein
+        if ((partProbInfoObj == null)
+                || (operativeInfoObj.getInfoParProbWrapper() != partProbInfoObj)) {
+            return;
+        }
+
+        LOGGER.info(
+            operativeInfoObj.toString()
+                + " meldet Fehler bei "
+                + partProbInfoObj.toString());
+
+        inList = partProbQueue.removePartProbInfo(partProbInfoObj);
+        // inList ist nur true fr die erste Exception eines eventuell
+        // mehrfach verteilten Teilproblems.
+        // Da die Methoden beim Operative synchronisiert sind, darf die
+        // Berechnung fr einen Operative, der eine Teillsung oder
+        // Exception liefert, nicht abgebrochen werden.
+        if (inList) {
+            parProbWrap = partProbInfoObj.getParProbWrapper();
+            synchronized (operativeInfoObj) {
+                synchronized (partProbInfoObj) {
+                    // Statistik aktualisieren
+                    parProbWrap.getProblemStatisticCollector()
+                               .abortTimeMeasurement(parProbWrap);
+
+                    // vermerke, dass der Operative, der die Exception
+                    // gemeldet hat, das Teilproblem nicht mehr berechnet
+                    partProbInfoObj.removeOperativeInfo(operativeInfoObj);
+                    operativeInfoObj.setInfoParProbWrapper(null);
                 }
             }
+
+            // breche das Teilproblem auf anderen Operatives, die es noch
+            // berechnen, ab
+            abortPartialProblem(partProbInfoObj, false);
+
+            // Der ProblemManager kann den ProblemTransmitter aufrufen, daher
+            // nicht im Thread der Verteilung.
+            executeBackgroundTask(new Runnable() {
+                public void run() {
+                    problemManager.reportException(null, parProbWrap,
+                                                   exceptionCode,
+                                                   exceptionMessage);
+
+                    // weise dem Operative, der die Exception gemeldet hat,
+                    // ein neues Teilproblem zu
+                    dispatchSlots(Collections.singletonList(operativeInfoObj));
+                }
+            });
         }
     }
 
     /**
      * Ausnahmen bei der Arbeit von Operatives werden ber diese Methode an
-     * den Compute-Manager gemeldet.
+     * den Compute-Manager gemeldet. Die Meldung wird im Thread fr die
+     * Ereignisse der Verteilung verarbeitet, die Methode kehrt sofort
+     * zurck.
      *
      * @param operative         Referenz auf den Operative, auf dem der Fehler
      *                          auftrat.
+     * @param slot              Die Nummer des Slots, auf dem der Fehler
+     *                          auftrat.
      * @param exceptionCode     Integerwert, der die Ausnahme charakterisisert.
      * @param exceptionMessage  Fehlermeldung um die Ausnahme nher zu beschreiben.
      * @throws RemoteException  bei RMI-Verbindungsproblemen.
      */
     public void reportException(Operative operative,
-                                int exceptionCode,
-                                String exceptionMessage)
+                                int slot,
+                                final int exceptionCode,
+                                final String exceptionMessage)
         throws RemoteException {
 
-        InfoOperative operativeInfoObj = findOperativeInfo(operative);
-        InfoParProbWrapper partProbInfoObj = null;
-        ParProbWrapper parProbWrap;
-        boolean inList;
+        final InfoOperative operativeInfoObj = findOperativeInfo(operative, slot);
+        final InfoParProbWrapper partProbInfoObj;
+
+        operativeMonitoring.renewLease(operative);
 
         // nur Exception annehmen, wenn Operative registriert ist;
         // von Operatives, die nicht erreichbar waren und aus der
         // Verwaltung entfernt wurden wird keine Exception angenommen
         if (operativeInfoObj != null) {
-            // Testen, ob das vom Operative berechnete Teilproblem in der
-            // Liste der aktuell berechneten Teilprobleme enthalten ist.
-
-            // Das Teilproblem kann erst ermittelt werden, wenn das Senden
-            // des Teilproblems an den Operative abgeschlossen ist.
-            synchronized (sendingParProbLocker.get(operativeInfoObj)) {
-                partProbInfoObj = operativeInfoObj.getInfoParProbWrapper();
-            }
-
-            if (partProbInfoObj != null) {
-                LOGGER.info(
-                    operativeInfoObj.toString()
-                        + " meldet Fehler bei "
-                        + partProbInfoObj.toString());
-            }
-
-            inList = partProbQueue.removePartProbInfo(partProbInfoObj);
-            // inList ist nur true fr den ersten Thread, der eine Exception
-            // eines eventuell mehrfach verteilten Teilproblems verarbeitet.
-            // Da die Methoden beim Operative synchronisiert sind, darf die
-            // Berechnung fr einen Operative, der eine Teillsung oder
-            // Exception liefert, nicht abgebrochen werden.
-            if (inList) {
-                synchronized (operativeInfoObj) {
-                    synchronized (partProbInfoObj) {
-                        // Statistik aktualisieren
-                        parProbWrap = partProbInfoObj.getParProbWrapper();
-                        parProbWrap.getProblemStatisticCollector()
-                                   .abortTimeMeasurement(parProbWrap);
-
-                        // vermerke, dass der Operative, der die Exception
-                        // gemeldet hat, das Teilproblem nicht mehr berechnet
-                        partProbInfoObj.removeOperativeInfo(operativeInfoObj);
-                        operativeInfoObj.setInfoParProbWrapper(null);
-
-                        // breche das Teilproblem auf anderen Operatives, die
-                        // es noch berechnen, ab
-                        abortPartialProblem(partProbInfoObj, false);
-
-                        problemManager.reportException(
-                            null,
-                            partProbInfoObj.getParProbWrapper(),
-                            exceptionCode,
-                            exceptionMessage);
-
-                        // weise dem Operative, der die Exception gemeldet
-                        // hat, ein neues Teilproblem zu
-                        distributePartialProblem(operativeInfoObj);
-                    }
+            partProbInfoObj = operativeInfoObj.getInfoParProbWrapper();
+            dispatchEvents.execute(new Runnable() {
+                public void run() {
+                    processException(operativeInfoObj, partProbInfoObj,
+                                     exceptionCode, exceptionMessage);
                 }
-            }
+            });
         }
     }
 }
@@ -0,0 +1,869 @@
+/*
+ * file:        DispatchBenchmark.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ * Realease 1.0 dieser Software wurde am Institut fr Intelligente Systeme der
+ * Universitt Stuttgart (http://www.informatik.uni-stuttgart.de/ifi/is/) unter
+ * Leitung von Dietmar Lippold (dietmar.lippold@informatik.uni-stuttgart.de)
+ * entwickelt.
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.computemanaging;
+
+import java.io.Serializable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.Permission;
+
+import de.unistuttgart.architeuthis.dispatcher.problemmanaging.ProblemManagerImpl;
+import de.unistuttgart.architeuthis.misc.util.BlockingBuffer;
+import de.unistuttgart.architeuthis.systeminterfaces.Operative;
+import de.unistuttgart.architeuthis.systeminterfaces.ProblemTransmitter;
+import de.unistuttgart.architeuthis.userinterfaces.develop.ParallelProblem;
+import de.unistuttgart.architeuthis.userinterfaces.develop.PartialProblem;
+import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
+import de.unistuttgart.architeuthis.userinterfaces.develop.SerializableProblem;
+import de.unistuttgart.architeuthis.userinterfaces.develop.StagedProblem;
+import de.unistuttgart.architeuthis.userinterfaces.exec.ProblemStatistics;
+import de.unistuttgart.architeuthis.userinterfaces.exec.SystemStatistics;
+
+/**
+ * Misst den Durchsatz der Verteilung von Teilproblemen durch den
+ * {@link ComputeManagerImpl}. Simuliert werden Operatives, bei denen jeder
+ * Aufruf durch den ComputeManager eine bestimmte Zeitdauer bentigt, wie es
+ * bei einem RMI-Aufruf ber das Netz der Fall ist. Ausgegeben werden die
+ * Zeitdauer fr die Berechnung eines Problems, der Durchsatz in
+ * Teilproblemen pro Sekunde sowie die durchschnittliche und die maximale
+ * Zeitdauer, die die bergabe einer Teillsung fr den Operative
+ * bentigt.<P>
+ *
+ * Optional werden vor dem gemessenen Problem weitere Probleme mit dem
+ * Gewicht Eins bergeben, die stndig Teilprobleme liefern. Das gemessene
+ * Problem wird mit dem angegebenen Gewicht bergeben. Damit lt sich
+ * prfen, welchen Anteil der Operatives der verwendete Scheduler dem
+ * gemessenen Problem zuteilt.<P>
+ *
+ * Die Erzeugung eines Teilproblems kann eine vorgegebene Zeitdauer
+ * bentigen. Fr die Anzahl der im voraus bereitgestellten Teilprobleme
+ * bedeutet der Wert Null eine laufende Anpassung. Bei mehr als einem
+ * Erzeugungsthread werden die Teilprobleme nebenlufig erzeugt und die
+ * Teillsungen nebenlufig verarbeitet.<P>
+ *
+ * Die Verarbeitung einer Teillsung kann ebenfalls eine vorgegebene
+ * Zeitdauer bentigen. Optional ist das Problem ein
+ * <code>StagedProblem</code>, dessen Teillsungen in einem eigenen Thread
+ * verarbeitet werden.<P>
+ *
+ * Einige Operatives knnen die Teilprobleme um einen Faktor langsamer
+ * berechnen. Damit lt sich die spekulative Berechnung von Teilproblemen
+ * mit dem angegebenen Quantil und dem maximalen Anteil der spekulativen
+ * Berechnungen prfen. Ausgegeben werden dann auch die durch abgebrochene
+ * Berechnungen verschwendete und die durch spekulative Berechnungen
+ * eingesparte Zeit. Mit der Zuweisungsstrategie
+ * {@link ComputeManagerImpl#SPEED_PLACEMENT} sollen die letzten
+ * Teilprobleme nicht den langsamen Operatives zugewiesen werden.<P>
+ *
+ * Aufruf: <code>java de.unistuttgart.architeuthis.dispatcher.computemanaging.DispatchBenchmark
+ * [Operatives [Slots [Teilprobleme [Aufrufdauer [Berechnungsdauer [Threads
+ * [Scheduler [Hintergrundprobleme [Gewicht [Erzeugungsdauer
+ * [Bereitstellung [Erzeugungsthreads [Verarbeitungsdauer
+ * [Stufen [Spekulation [Spekulationsanteil [Langsame
+ * [Verlangsamung [Zuweisung]]]]]]]]]]]]]]]]]]]</code>
+ */
+public class DispatchBenchmark {
+
+    /**
+     * Die Nummer des Ports der zu startenden RMI-Registry.
+     */
+    private static final int PORT = 17077;
+
+    /**
+     * Die maximale Anzahl der Threads fr die Hintergrundarbeiten des
+     * Dispatchers.
+     */
+    private static final int BACKGROUND_THREADS = 64;
+
+    /**
+     * Die maximale Anzahl der wartenden Auftrge fr die Threads.
+     */
+    private static final int TASK_QUEUE_SIZE = 10000;
+
+    /**
+     * Die Zeitdauer in Millisekunden, die ein Aufruf eines Operatives
+     * bentigt.
+     */
+    private static long callMillis = 5;
+
+    /**
+     * Die Zeitdauer in Millisekunden fr die Berechnung eines Teilproblems.
+     */
+    private static long computeMillis = 2;
+
+    /**
+     * Der ComputeManager, an den die Teillsungen bergeben werden.
+     */
+    private static ComputeManagerImpl computeManager;
+
+    /**
+     * Die Summe der Zeitdauern fr die bergabe der Teillsungen.
+     */
+    private static long deliveryMillisSum = 0;
+
+    /**
+     * Die maximale Zeitdauer fr die bergabe von Teillsungen.
+     */
+    private static long deliveryMillisMax = 0;
+
+    /**
+     * Die Anzahl der bergaben von Teillsungen.
+     */
+    private static long deliveries = 0;
+
+    /**
+     * Der Zeitpunkt, zu dem die Gesamtlsung geliefert wurde, oder Null.
+     */
+    private static long solutionTime = 0;
+
+    /**
+     * Die mit der Gesamtlsung gelieferte Statistik des gemessenen Problems.
+     */
+    private static ProblemStatistics finalStatistics = null;
+
+    /**
+     * Ein Teilproblem, das nur seine Nummer enthlt.
+     */
+    private static class NumberPartialProblem implements PartialProblem {
+
+        /**
+         * Die Nummer des Teilproblems.
+         */
+        private int number;
+
+        /**
+         * Erzeugt ein Teilproblem.
+         *
+         * @param number  Die Nummer des Teilproblems.
+         */
+        NumberPartialProblem(int number) {
+            this.number = number;
+        }
+    }
+
+    /**
+     * Eine Teillsung ohne Inhalt.
+     */
+    private static class EmptyPartialSolution implements PartialSolution {
+    }
+
+    /**
+     * Ein Problem, das eine feste Anzahl von Teilproblemen erzeugt und
+     * gelst ist, wenn zu jedem eine Teillsung vorliegt. Da der
+     * ComputeManager zu jedem Teilproblem nur eine Teillsung bergibt,
+     * werden die Teillsungen nur gezhlt. Die Klasse wird von einem
+     * eigenen <code>URLClassLoader</code> geladen, wie es der
+     * ProblemManager erwartet. Die Methoden knnen nebenlufig aufgerufen
+     * werden.
+     */
+    private static class NumberProblem
+        implements SerializableProblem, ParallelProblem {
+
+        /**
+         * Die Anzahl der zu erzeugenden Teilprobleme.
+         */
+        private int parProbNumber;
+
+        /**
+         * Die Zeitdauer in Millisekunden fr die Erzeugung eines
+         * Teilproblems.
+         */
+        private long generateMillis;
+
+        /**
+         * Die Anzahl der Threads zur Erzeugung der Teilprobleme.
+         */
+        private int generatorThreads;
+
+        /**
+         * Die Zeitdauer in Millisekunden fr die Verarbeitung einer
+         * Teillsung.
+         */
+        private long collectMillis;
+
+        /**
+         * Die Anzahl der bisher erzeugten Teilprobleme.
+         */
+        private int generated = 0;
+
+        /**
+         * Die Anzahl der bisher erhaltenen Teillsungen.
+         */
+        private int solved = 0;
+
+        /**
+         * Erzeugt ein Problem.
+         *
+         * @param parProbNumber   Die Anzahl der zu erzeugenden Teilprobleme.
+         * @param generateMillis  Die Zeitdauer in Millisekunden fr die
+         *                        Erzeugung eines Teilproblems.
+         * @param generatorThreads  Die Anzahl der Threads zur Erzeugung der
+         *                          Teilprobleme.
+         * @param collectMillis   Die Zeitdauer in Millisekunden fr die
+         *                        Verarbeitung einer Teillsung.
+         */
+        NumberProblem(int parProbNumber, long generateMillis,
+                      int generatorThreads, long collectMillis) {
+            this.parProbNumber = parProbNumber;
+            this.generateMillis = generateMillis;
+            this.generatorThreads = generatorThreads;
+            this.collectMillis = collectMillis;
+        }
+
+        /**
+         * Liefert die Anzahl der Threads zur Erzeugung der Teilprobleme.
+         *
+         * @return  Die Anzahl der Erzeugungsthreads.
+         */
+        public int getMaxGeneratorThreads() {
+            return generatorThreads;
+        }
+
+        /**
+         * Liefert, ob die Teillsungen nebenlufig verarbeitet werden
+         * sollen. Das ist der Fall, wenn mehr als ein Erzeugungsthread
+         * verwendet wird.
+         *
+         * @return  <code>true</code> bei mehr als einem Erzeugungsthread,
+         *          sonst <code>false</code>.
+         */
+        public boolean allowsConcurrentCollection() {
+            return (generatorThreads > 1);
+        }
+
+        /**
+         * Liefert das nchste Teilproblem.
+         *
+         * @param parProbsSuggested  Wird nicht verwendet.
+         *
+         * @return  Das nchste Teilproblem oder <code>null</code>, wenn alle
+         *          erzeugt wurden.
+         */
+        public PartialProblem getPartialProblem(int parProbsSuggested) {
+            int number;
+
+            synchronized (this) {
+                if (generated >= parProbNumber) {
+                    return null;
+                }
+                generated++;
+                number = generated;
+            }
+
+            if (generateMillis > 0) {
+                try {
+                    Thread.sleep(generateMillis);
+                } catch (InterruptedException e) {
+                }
+            }
+            return new NumberPartialProblem(number);
+        }
+
+        /**
+         * Nimmt eine Teillsung entgegen.
+         *
+         * @param parSol   Die Teillsung.
+         * @param parProb  Das zugehrige Teilproblem.
+         */
+        public void collectPartialSolution(PartialSolution parSol,
+                                           PartialProblem parProb) {
+            if (collectMillis > 0) {
+                try {
+                    Thread.sleep(collectMillis);
+                } catch (InterruptedException e) {
+                }
+            }
+            synchronized (this) {
+                solved++;
+            }
+        }
+
+        /**
+         * Liefert die Anzahl der gelsten Teilprobleme, wenn alle gelst
+         * sind.
+         *
+         * @return  Die Gesamtlsung oder <code>null</code>.
+         */
+        public synchronized Serializable getSolution() {
+            if (solved == parProbNumber) {
+                return new Integer(parProbNumber);
+            } else {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Ein <code>NumberProblem</code>, dessen Teillsungen in einem eigenen
+     * Thread verarbeitet werden.
+     */
+    private static class StagedNumberProblem extends NumberProblem
+        implements StagedProblem {
+
+        /**
+         * Erzeugt ein Problem.
+         *
+         * @param parProbNumber   Die Anzahl der zu erzeugenden Teilprobleme.
+         * @param generateMillis  Die Zeitdauer in Millisekunden fr die
+         *                        Erzeugung eines Teilproblems.
+         * @param generatorThreads  Die Anzahl der Threads zur Erzeugung der
+         *                          Teilprobleme.
+         * @param collectMillis   Die Zeitdauer in Millisekunden fr die
+         *                        Verarbeitung einer Teillsung.
+         */
+        StagedNumberProblem(int parProbNumber, long generateMillis,
+                            int generatorThreads, long collectMillis) {
+            super(parProbNumber, generateMillis, generatorThreads,
+                  collectMillis);
+        }
+    }
+
+    /**
+     * Eine Berechnung, die ein simulierter Operative fr einige seiner
+     * Slots durchfhrt.
+     */
+    private static class Computation {
+
+        /**
+         * Die Slots der Berechnung.
+         */
+        private int[] slots;
+
+        /**
+         * Die Teilprobleme zu den Slots.
+         */
+        private PartialProblem[] parProbs;
+
+        /**
+         * Erzeugt eine Berechnung.
+         *
+         * @param slots     Die Slots der Berechnung.
+         * @param parProbs  Die Teilprobleme zu den Slots.
+         */
+        Computation(int[] slots, PartialProblem[] parProbs) {
+            this.slots = slots;
+            this.parProbs = parProbs;
+        }
+    }
+
+    /**
+     * Simuliert einen Operative, der die ihm bergebenen Teilprobleme in
+     * einem eigenen Thread berechnet und die Teillsungen anschlieend an
+     * den ComputeManager bergibt.
+     */
+    private static class SimulatedOperative extends Thread
+        implements InvocationHandler {
+
+        /**
+         * Der Proxy, der den Operative darstellt.
+         */
+        private Operative proxy;
+
+        /**
+         * Die noch durchzufhrenden Berechnungen.
+         */
+        private BlockingBuffer computations = new BlockingBuffer();
+
+        /**
+         * Die aktuelle Berechnung je Slot. Ein Eintrag wird beim Abbruch
+         * der Berechnung gelscht.
+         */
+        private Computation[] current;
+
+        /**
+         * Die Zeitdauer in Millisekunden fr die Berechnung eines
+         * Teilproblems.
+         */
+        private long computeTime;
+
+        /**
+         * Erzeugt einen simulierten Operative und startet seinen Thread.
+         *
+         * @param slots        Die Anzahl der Slots.
+         * @param computeTime  Die Zeitdauer fr die Berechnung eines
+         *                     Teilproblems.
+         */
+        SimulatedOperative(int slots, long computeTime) {
+            current = new Computation[slots];
+            this.computeTime = computeTime;
+            proxy = (Operative) Proxy.newProxyInstance(
+                Operative.class.getClassLoader(),
+                new Class[] {Operative.class},
+                this);
+            setDaemon(true);
+            start();
+        }
+
+        /**
+         * Beantwortet den Aufruf einer Methode des Operatives.
+         *
+         * @param proxy   Der Proxy des Operatives.
+         * @param method  Die aufgerufene Methode.
+         * @param args    Die Parameter des Aufrufs.
+         *
+         * @return  Das Ergebnis des Aufrufs.
+         *
+         * @throws Throwable  Wird nicht geworfen.
+         */
+        public Object invoke(Object proxy, Method method, Object[] args)
+            throws Throwable {
+
+            String name = method.getName();
+            Computation computation = null;
+
+            if (name.equals("equals")) {
+                return new Boolean(proxy == args[0]);
+            } else if (name.equals("hashCode")) {
+                return new Integer(System.identityHashCode(proxy));
+            } else if (name.equals("toString")) {
+                return "SimulatedOperative@"
+                       + Integer.toHexString(System.identityHashCode(proxy));
+            }
+
+            Thread.sleep(callMillis);
+            if (name.equals("fetchPartialProblem")) {
+                computation = new Computation(
+                    new int[] {((Integer) args[0]).intValue()},
+                    new PartialProblem[] {(PartialProblem) args[1]});
+            } else if (name.equals("fetchPartialProblems")) {
+                computation = new Computation((int[]) args[0],
+                                              (PartialProblem[]) args[1]);
+            } else if (name.equals("stopComputation")) {
+                synchronized (this) {
+                    current[((Integer) args[0]).intValue()] = null;
+                }
+            }
+            if (computation != null) {
+                synchronized (this) {
+                    for (int i = 0; i < computation.slots.length; i++) {
+                        current[computation.slots[i]] = computation;
+                    }
+                }
+                computations.enqueue(computation);
+            }
+            return Boolean.TRUE;
+        }
+
+        /**
+         * Berechnet fortlaufend die bergebenen Teilprobleme und bergibt
+         * die Teillsungen der nicht abgebrochenen Slots dem ComputeManager.
+         */
+        public void run() {
+            Computation computation;
+            int[] slots;
+            PartialSolution[] parSols;
+            int count;
+            long start;
+            long duration;
+
+            while (true) {
+                computation = (Computation) computations.dequeue();
+                try {
+                    Thread.sleep(computeTime);
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                count = 0;
+                slots = new int[computation.slots.length];
+                parSols = new PartialSolution[computation.slots.length];
+                synchronized (this) {
+                    for (int i = 0; i < computation.slots.length; i++) {
+                        if (current[computation.slots[i]] == computation) {
+                            current[computation.slots[i]] = null;
+                            slots[count] = computation.slots[i];
+                            parSols[count] = new EmptyPartialSolution();
+                            count++;
+                        }
+                    }
+                }
+                if (count == 0) {
+                    continue;
+                }
+
+                start = System.currentTimeMillis();
+                try {
+                    if (count == 1) {
+                        computeManager.collectPartialSolution(parSols[0],
+                                                              proxy, slots[0]);
+                    } else {
+                        PartialSolution[] sentSols = new PartialSolution[count];
+                        int[] sentSlots = new int[count];
+                        System.arraycopy(parSols, 0, sentSols, 0, count);
+                        System.arraycopy(slots, 0, sentSlots, 0, count);
+                        computeManager.collectPartialSolutions(sentSols, proxy,
+                                                               sentSlots);
+                    }
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+                duration = System.currentTimeMillis() - start;
+                synchronized (DispatchBenchmark.class) {
+                    deliveries++;
+                    deliveryMillisSum += duration;
+                    deliveryMillisMax = Math.max(deliveryMillisMax, duration);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ldt die Klassen des Problems selbst, statt das zuerst beim
+     * bergeordneten <code>ClassLoader</code> zu versuchen.
+     */
+    private static class ProblemClassLoader extends URLClassLoader {
+
+        /**
+         * Erzeugt einen <code>ClassLoader</code>, der die Klassen des
+         * Problems von der Stelle ldt, von der auch diese Klasse geladen
+         * wurde.
+         */
+        ProblemClassLoader() {
+            super(new URL[] {DispatchBenchmark.class.getProtectionDomain()
+                                                    .getCodeSource()
+                                                    .getLocation()},
+                  DispatchBenchmark.class.getClassLoader());
+        }
+
+        /**
+         * Ldt die Klasse mit dem bergebenen Namen. Die Klassen des
+         * Problems werden von diesem <code>ClassLoader</code> geladen, alle
+         * anderen vom bergeordneten.
+         *
+         * @param name     Der Name der Klasse.
+         * @param resolve  Gibt an, ob die Klasse gebunden werden soll.
+         *
+         * @return  Die geladene Klasse.
+         *
+         * @throws ClassNotFoundException  Wenn die Klasse nicht gefunden
+         *                                 wurde.
+         */
+        protected synchronized Class loadClass(String name, boolean resolve)
+            throws ClassNotFoundException {
+
+            Class loadedClass;
+
+            if (name.startsWith(NumberProblem.class.getName())
+                    || name.equals(StagedNumberProblem.class.getName())
+                    || name.equals(NumberPartialProblem.class.getName())) {
+                loadedClass = findLoadedClass(name);
+                if (loadedClass == null) {
+                    loadedClass = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(loadedClass);
+                }
+                return loadedClass;
+            }
+            return super.loadClass(name, resolve);
+        }
+    }
+
+    /**
+     * Simuliert einen Problem-bermittler, der den Zeitpunkt der Lieferung
+     * der Gesamtlsung vermerkt.
+     */
+    private static class SimulatedTransmitter implements InvocationHandler {
+
+        /**
+         * Gibt an, ob die Lieferung der Gesamtlsung vermerkt wird.
+         */
+        private boolean measured;
+
+        /**
+         * Erzeugt einen Problem-bermittler.
+         *
+         * @param measured  Gibt an, ob die Lieferung der Gesamtlsung
+         *                  vermerkt werden soll.
+         */
+        SimulatedTransmitter(boolean measured) {
+            this.measured = measured;
+        }
+
+        /**
+         * Beantwortet den Aufruf einer Methode des Problem-bermittlers.
+         *
+         * @param proxy   Der Proxy des Problem-bermittlers.
+         * @param method  Die aufgerufene Methode.
+         * @param args    Die Parameter des Aufrufs.
+         *
+         * @return  Das Ergebnis des Aufrufs.
+         */
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+
+            if (name.equals("equals")) {
+                return new Boolean(proxy == args[0]);
+            } else if (name.equals("hashCode")) {
+                return new Integer(System.identityHashCode(proxy));
+            } else if (name.equals("toString")) {
+                return "SimulatedTransmitter";
+            } else if (name.equals("fetchSolution") && measured) {
+                synchronized (DispatchBenchmark.class) {
+                    solutionTime = System.currentTimeMillis();
+                    finalStatistics = (ProblemStatistics) args[1];
+                    DispatchBenchmark.class.notifyAll();
+                }
+            } else if (name.equals("fetchMessage")) {
+                System.out.println("Meldung: " + args[1]);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Fhrt die Messung durch und gibt die Ergebnisse aus.
+     *
+     * @param args  Optional die Anzahl der Operatives, die Anzahl der Slots
+     *              je Operative, die Anzahl der Teilprobleme, die Dauer
+     *              eines Aufrufs und die Dauer der Berechnung eines
+     *              Teilproblems in Millisekunden und ob mehrere Threads fr
+     *              die Aufrufe der Operatives verwendet werden sollen,
+     *              auerdem der Name des Schedulers, die Anzahl der
+     *              Hintergrundprobleme und das Gewicht des gemessenen
+     *              Problems, die Dauer der Erzeugung eines Teilproblems
+     *              und die Anzahl der im voraus bereitgestellten
+     *              Teilprobleme. Zuletzt das Quantil und der maximale
+     *              Anteil fr spekulative Berechnungen, die Anzahl der
+     *              langsamen Operatives, deren Verlangsamungsfaktor und
+     *              der Name der Zuweisungsstrategie.
+     *
+     * @throws Exception  Wenn die Messung fehlschlgt.
+     */
+    public static void main(String[] args) throws Exception {
+        int operativeNumber = 20;
+        int slots = 1;
+        int parProbNumber = 2000;
+        boolean additionalThreads = false;
+        String schedulerName = ProblemManagerImpl.TIME_SCHEDULER;
+        int backgroundProblems = 0;
+        int weight = 1;
+        long generateMillis = 0;
+        int stagingDepth = 0;
+        int generatorThreads = 1;
+        long collectMillis = 0;
+        boolean staged = false;
+        int speculationPercentile = 0;
+        float speculationRatio = 0;
+        int slowOperatives = 0;
+        long slowdown = 10;
+        String placementName = ComputeManagerImpl.ORDER_PLACEMENT;
+        SystemStatistics sysStat;
+        ProblemTransmitter transmitter;
+        ProblemManagerImpl problemManager;
+        Field problemManagerField;
+        Constructor problemConstructor;
+        SerializableProblem problem;
+        long startTime;
+        long duration;
+
+        if (args.length > 0) {
+            operativeNumber = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            slots = Integer.parseInt(args[1]);
+        }
+        if (args.length > 2) {
+            parProbNumber = Integer.parseInt(args[2]);
+        }
+        if (args.length > 3) {
+            callMillis = Long.parseLong(args[3]);
+        }
+        if (args.length > 4) {
+            computeMillis = Long.parseLong(args[4]);
+        }
+        if (args.length > 5) {
+            additionalThreads = Boolean.valueOf(args[5]).booleanValue();
+        }
+        if (args.length > 6) {
+            schedulerName = args[6];
+        }
+        if (args.length > 7) {
+            backgroundProblems = Integer.parseInt(args[7]);
+        }
+        if (args.length > 8) {
+            weight = Integer.parseInt(args[8]);
+        }
+        if (args.length > 9) {
+            generateMillis = Long.parseLong(args[9]);
+        }
+        if (args.length > 10) {
+            stagingDepth = Integer.parseInt(args[10]);
+        }
+        if (args.length > 11) {
+            generatorThreads = Integer.parseInt(args[11]);
+        }
+        if (args.length > 12) {
+            collectMillis = Long.parseLong(args[12]);
+        }
+        if (args.length > 13) {
+            staged = Boolean.valueOf(args[13]).booleanValue();
+        }
+        if (args.length > 14) {
+            speculationPercentile = Integer.parseInt(args[14]);
+        }
+        if (args.length > 15) {
+            speculationRatio = Float.parseFloat(args[15]);
+        }
+        if (args.length > 16) {
+            slowOperatives = Integer.parseInt(args[16]);
+        }
+        if (args.length > 17) {
+            slowdown = Long.parseLong(args[17]);
+        }
+        if (args.length > 18) {
+            placementName = args[18];
+        }
+
+        // Alle Zugriffe erlauben, damit keine Policy-Datei ntig ist.
+        System.setSecurityManager(new SecurityManager() {
+            public void checkPermission(Permission perm) {
+            }
+            public void checkPermission(Permission perm, Object context) {
+            }
+        });
+
+        computeManager = new ComputeManagerImpl(PORT, 60000, 3,
+                                                additionalThreads,
+                                                BACKGROUND_THREADS,
+                                                TASK_QUEUE_SIZE,
+                                                schedulerName,
+                                                stagingDepth,
+                                                speculationPercentile,
+                                                speculationRatio,
+                                                placementName, 0);
+
+        problemManagerField = ComputeManagerImpl.class.getDeclaredField("problemManager");
+        problemManagerField.setAccessible(true);
+        problemManager = (ProblemManagerImpl) problemManagerField.get(computeManager);
+
+        for (int i = 0; i < operativeNumber; i++) {
+            computeManager.registerOperative(
+                new SimulatedOperative(slots,
+                                       (i < slowOperatives
+                                        ? computeMillis * slowdown
+                                        : computeMillis)).proxy, slots);
+        }
+        problemConstructor = new ProblemClassLoader()
+            .loadClass(staged ? StagedNumberProblem.class.getName()
+                              : NumberProblem.class.getName())
+            .getDeclaredConstructor(new Class[] {Integer.TYPE, Long.TYPE,
+                                                 Integer.TYPE, Long.TYPE});
+        problemConstructor.setAccessible(true);
+
+        // Die Hintergrundprobleme liefern mehr Teilprobleme, als whrend
+        // der Messung berechnet werden.
+        for (int i = 0; i < backgroundProblems; i++) {
+            transmitter = (ProblemTransmitter) Proxy.newProxyInstance(
+                ProblemTransmitter.class.getClassLoader(),
+                new Class[] {ProblemTransmitter.class},
+                new SimulatedTransmitter(false));
+            problem = (SerializableProblem) problemConstructor.newInstance(
+                new Object[] {new Integer(Integer.MAX_VALUE),
+                              new Long(generateMillis),
+                              new Integer(generatorThreads),
+                              new Long(collectMillis)});
+            problemManager.receiveProblem(transmitter, problem, null);
+        }
+
+        transmitter = (ProblemTransmitter) Proxy.newProxyInstance(
+            ProblemTransmitter.class.getClassLoader(),
+            new Class[] {ProblemTransmitter.class},
+            new SimulatedTransmitter(true));
+        problem = (SerializableProblem) problemConstructor.newInstance(
+            new Object[] {new Integer(parProbNumber),
+                          new Long(generateMillis),
+                          new Integer(generatorThreads),
+                          new Long(collectMillis)});
+
+        startTime = System.currentTimeMillis();
+        problemManager.receiveProblem(transmitter, problem, null, weight);
+
+        synchronized (DispatchBenchmark.class) {
+            while (solutionTime == 0) {
+                DispatchBenchmark.class.wait();
+            }
+            duration = solutionTime - startTime;
+
+            System.out.println("Operatives: " + operativeNumber
+                               + ", Slots: " + slots
+                               + ", Teilprobleme: " + parProbNumber
+                               + ", Aufrufdauer: " + callMillis + "ms"
+                               + ", Berechnungsdauer: " + computeMillis + "ms"
+                               + ", Threads: " + additionalThreads);
+            System.out.println("Scheduler: " + schedulerName
+                               + ", Hintergrundprobleme: " + backgroundProblems
+                               + ", Gewicht: " + weight
+                               + ", Erzeugungsdauer: " + generateMillis + "ms"
+                               + ", Bereitstellung: " + stagingDepth
+                               + ", Erzeugungsthreads: " + generatorThreads);
+            System.out.println("Verarbeitungsdauer: " + collectMillis + "ms"
+                               + ", Stufen: " + staged);
+            System.out.println("Spekulation: " + speculationPercentile + "%"
+                               + ", Spekulationsanteil: " + speculationRatio
+                               + ", Langsame: " + slowOperatives
+                               + ", Verlangsamung: " + slowdown
+                               + ", Zuweisung: " + placementName);
+            System.out.println("Gesamtdauer: " + duration + "ms");
+            System.out.println("Durchsatz: "
+                               + (parProbNumber * 1000L / Math.max(1, duration))
+                               + " Teilprobleme/s");
+            System.out.println("bergabe der Teillsungen: "
+                               + (deliveryMillisSum / Math.max(1, deliveries))
+                               + "ms im Mittel, "
+                               + deliveryMillisMax + "ms maximal");
+            sysStat = problemManager.getSystemStatistics();
+            System.out.println("Abgewiesene Auftrge: "
+                               + sysStat.getRejectedBackgroundTasks());
+            System.out.println("Bereitgestellte Teilprobleme maximal: "
+                               + sysStat.getStagingDepth()
+                               + ", Anfragen ohne Teilproblem: "
+                               + sysStat.getStagingStarvations());
+            if (finalStatistics != null) {
+                System.out.println("Spekulative Berechnungen: "
+                                   + finalStatistics.getSpeculativeExecutions()
+                                   + ", erfolgreich: "
+                                   + finalStatistics.getSuccessfulSpeculations()
+                                   + ", verschwendet: "
+                                   + finalStatistics.getWastedComputationDuration()
+                                   + "ms, eingespart: "
+                                   + finalStatistics.getSavedComputationDuration()
+                                   + "ms");
+            }
+        }
+        System.exit(0);
+    }
+}
+
@@ -36,18 +36,15 @@ package de.unistuttgart.architeuthis.dispatcher.computemanaging;
 import de.unistuttgart.architeuthis.systeminterfaces.Operative;
 
 /**
- * Hilfsklasse zur Verwaltung eines Operatives auf dem
- * {@link de.unistuttgart.architeuthis.dispatcher.computemanaging.ComputeManagerImpl}
+ * Hilfsklasse zur Verwaltung eines Slots eines Operatives auf dem
+ * {@link de.unistuttgart.architeuthis.dispatcher.computemanaging.ComputeManagerImpl}.
+ * Zu einem Operative mit mehreren Slots gibt es fr jeden Slot eine eigene
+ * Instanz.
  *
  * @author Jrgen Heit, Dietmar Lippold
  */
 class InfoOperative {
 
-    /**
-     * Eine eindeutige, fortlaufende Nummer.
-     */
-    private static long nextOperativeId = 0;
-
     /**
      * Referenz auf den verwalteten Operative.
      */
@@ -60,8 +57,34 @@ class InfoOperative {
     private volatile InfoParProbWrapper infoParProbWrapper = null;
 
     /**
-     * Eine Nummer, die dieses Objekt und damit den darin gespeicherten
-     * Operative eindeutig kennzeichnet.
+     * Der Zeitpunkt, zu dem dem Slot das aktuelle Teilproblem zugewiesen
+     * wurde.
+     */
+    private volatile long assignmentTime = 0;
+
+    /**
+     * Der Zeitpunkt, zu dem der Slot mit der Berechnung des aktuellen
+     * Teilproblems begonnen hat, oder Null, solange das Teilproblem im
+     * Vorrat des Operatives auf den Beginn der Berechnung wartet.
+     */
+    private volatile long startTime = 0;
+
+    /**
+     * Gibt an, ob der Operative einen Vorrat an Teilproblemen hlt und den
+     * Beginn jeder Berechnung meldet.
+     */
+    private boolean reportsStart;
+
+    /**
+     * Gibt an, ob das aktuelle Teilproblem dem Slot zugewiesen wurde, als es
+     * schon von einem anderen Slot berechnet wurde.
+     */
+    private volatile boolean speculative = false;
+
+    /**
+     * Eine Nummer, die den darin gespeicherten Operative eindeutig
+     * kennzeichnet. Zusammen mit der Nummer des Slots kennzeichnet sie dieses
+     * Objekt eindeutig.
      */
     private long operativeId;
 
@@ -71,17 +94,75 @@ class InfoOperative {
     private volatile boolean active = true;
 
     /**
-     * Legt den Operative fest, auf die sich die zu verwaltenden
-     * Informationen beziehen.
+     * Die Nummer des Slots des Operative, auf den sich dieses Objekt bezieht.
+     */
+    private int slot;
+
+    /**
+     * Das Objekt, das gelockt wird, wenn dem Operative Teilprobleme zur
+     * Berechnung gesandt werden. Alle Slots eines Operatives verwenden das
+     * gleiche Objekt.
+     */
+    private Object sendingLock;
+
+    /**
+     * Die Anzahl der laufenden Aufrufe, die die Berechnung auf dem Slot
+     * stoppen. Der Wert wird nur bei gehaltener Sperre auf
+     * <CODE>sendingLock</CODE> gelesen und verndert.
+     */
+    private int pendingStops = 0;
+
+    /**
+     * Die Schtzung der Geschwindigkeit des Operatives. Alle Slots eines
+     * Operatives verwenden das gleiche Objekt.
+     */
+    private OperativeSpeed speed;
+
+    /**
+     * Legt den Operative und dessen Slot fest, auf die sich die zu
+     * verwaltenden Informationen beziehen. Alle Slots eines Operatives
+     * erhalten die gleiche Nummer zur Kennzeichnung des Operatives.
      *
-     * @param operative       Referenz auf den Operative
+     * @param operative    Referenz auf den Operative.
+     * @param operativeId  Die Nummer des Operatives, die bei seiner
+     *                     Registrierung vergeben wurde.
+     * @param slot         Die Nummer des Slots des Operative.
+     * @param sendingLock  Das gemeinsame Objekt aller Slots des Operatives,
+     *                     das beim Senden von Teilproblemen gelockt wird.
+     * @param speed        Das gemeinsame Objekt aller Slots des Operatives
+     *                     zur Schtzung seiner Geschwindigkeit.
+     */
+    InfoOperative(Operative operative, long operativeId, int slot,
+                  Object sendingLock, OperativeSpeed speed) {
+        this(operative, operativeId, slot, sendingLock, speed, false);
+    }
+
+    /**
+     * Legt den Operative und dessen Slot fest, auf die sich die zu
+     * verwaltenden Informationen beziehen, und ob der Operative den Beginn
+     * jeder Berechnung meldet.
      *
+     * @param operative     Referenz auf den Operative.
+     * @param operativeId   Die Nummer des Operatives, die bei seiner
+     *                      Registrierung vergeben wurde.
+     * @param slot          Die Nummer des Slots des Operative.
+     * @param sendingLock   Das gemeinsame Objekt aller Slots des Operatives,
+     *                      das beim Senden von Teilproblemen gelockt wird.
+     * @param speed         Das gemeinsame Objekt aller Slots des Operatives
+     *                      zur Schtzung seiner Geschwindigkeit.
+     * @param reportsStart  Gibt an, ob der Operative einen Vorrat an
+     *                      Teilproblemen hlt und den Beginn jeder
+     *                      Berechnung meldet.
      */
-    InfoOperative(Operative operative) {
+    InfoOperative(Operative operative, long operativeId, int slot,
+                  Object sendingLock, OperativeSpeed speed,
+                  boolean reportsStart) {
         this.operative = operative;
-        synchronized (getClass()) {
-            operativeId = nextOperativeId++;
-        }
+        this.operativeId = operativeId;
+        this.slot = slot;
+        this.sendingLock = sendingLock;
+        this.speed = speed;
+        this.reportsStart = reportsStart;
     }
 
     /**
@@ -94,6 +175,76 @@ class InfoOperative {
         return operative;
     }
 
+    /**
+     * Liefert die Nummer des Slots des Operative, auf den sich dieses Objekt
+     * bezieht.
+     *
+     * @return  Die Nummer des Slots.
+     */
+    int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Liefert das Objekt, das gelockt wird, wenn dem Operative Teilprobleme
+     * zur Berechnung gesandt werden.
+     *
+     * @return  Das gemeinsame Objekt aller Slots des Operatives.
+     */
+    Object getSendingLock() {
+        return sendingLock;
+    }
+
+    /**
+     * Vermerkt den Beginn eines Aufrufs, der die Berechnung auf dem Slot
+     * stoppt. Beim Aufruf mu die Sperre auf das Objekt von
+     * <CODE>getSendingLock()</CODE> gehalten werden.
+     */
+    void beginStop() {
+        pendingStops++;
+    }
+
+    /**
+     * Vermerkt das Ende eines Aufrufs, der die Berechnung auf dem Slot
+     * stoppt. Beim Aufruf mu die Sperre auf das Objekt von
+     * <CODE>getSendingLock()</CODE> gehalten werden.
+     */
+    void endStop() {
+        pendingStops--;
+    }
+
+    /**
+     * Gibt an, ob gerade die Berechnung auf dem Slot gestoppt wird. Beim
+     * Aufruf mu die Sperre auf das Objekt von <CODE>getSendingLock()</CODE>
+     * gehalten werden.
+     *
+     * @return  <CODE>true</CODE>, wenn die Berechnung gerade gestoppt wird,
+     *          sonst <CODE>false</CODE>.
+     */
+    boolean isStopPending() {
+        return (pendingStops > 0);
+    }
+
+    /**
+     * Liefert das Objekt zur Schtzung der Geschwindigkeit des Operatives.
+     *
+     * @return  Das gemeinsame Objekt aller Slots des Operatives zur
+     *          Schtzung seiner Geschwindigkeit.
+     */
+    OperativeSpeed getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Liefert die Nummer, die den Operative eindeutig kennzeichnet. Die
+     * Nummer ist fr alle Slots eines Operative gleich.
+     *
+     * @return  Die Nummer des Operative.
+     */
+    long getOperativeId() {
+        return operativeId;
+    }
+
     /**
      * Liefert eine Referenz auf das Objekt zurck, das Informationen ber das
      * vom Operative aktuell behandelte Teilproblem enthlt.
@@ -114,6 +265,78 @@ class InfoOperative {
         infoParProbWrapper = infoParProbWrap;
     }
 
+    /**
+     * Vermerkt die Zuweisung eines Teilproblems an den Slot zum aktuellen
+     * Zeitpunkt. Meldet der Operative den Beginn seiner Berechnungen, gilt
+     * die Berechnung bis zu dieser Meldung als noch nicht begonnen, sonst
+     * beginnt sie mit der Zuweisung.
+     *
+     * @param speculative  Gibt an, ob das Teilproblem schon von einem
+     *                     anderen Slot berechnet wird.
+     */
+    void markAssignment(boolean speculative) {
+        this.assignmentTime = System.currentTimeMillis();
+        this.startTime = (reportsStart ? 0 : assignmentTime);
+        this.speculative = speculative;
+    }
+
+    /**
+     * Vermerkt, da der Slot zum aktuellen Zeitpunkt mit der Berechnung des
+     * ihm zugewiesenen Teilproblems begonnen hat. Ist dem Slot kein
+     * Teilproblem zugewiesen oder hat die Berechnung schon begonnen,
+     * erfolgt keine nderung.
+     */
+    void markStart() {
+        if ((infoParProbWrapper != null) && (startTime == 0)) {
+            startTime = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Liefert den Zeitpunkt, zu dem der Slot mit der Berechnung des
+     * aktuellen Teilproblems begonnen hat.
+     *
+     * @return  Der Zeitpunkt des Beginns in Millisekunden oder Null, solange
+     *          das Teilproblem im Vorrat des Operatives wartet.
+     */
+    long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Liefert den Zeitpunkt, ab dem die Berechnung des aktuellen
+     * Teilproblems gezhlt wird. Das ist der gemeldete Beginn der Berechnung
+     * oder, wenn dieser nicht gemeldet wurde, der Zeitpunkt der Zuweisung.
+     *
+     * @return  Der Zeitpunkt in Millisekunden.
+     */
+    long getComputationStart() {
+        long start = startTime;
+
+        return ((start != 0) ? start : assignmentTime);
+    }
+
+    /**
+     * Liefert den Zeitpunkt, zu dem dem Slot das aktuelle Teilproblem
+     * zugewiesen wurde.
+     *
+     * @return  Der Zeitpunkt der Zuweisung in Millisekunden.
+     */
+    long getAssignmentTime() {
+        return assignmentTime;
+    }
+
+    /**
+     * Liefert, ob das aktuelle Teilproblem dem Slot zugewiesen wurde, als es
+     * schon von einem anderen Slot berechnet wurde.
+     *
+     * @return  <code>true</code>, wenn die Berechnung spekulativ ist, sonst
+     *          <code>false</code>.
+     */
+    boolean isSpeculative() {
+        return speculative;
+    }
+
     /**
      * Liefert zurck, ob der Operative aktiv oder inaktiv ist.
      *
@@ -144,6 +367,6 @@ class InfoOperative {
      * @see java.lang.Object#toString()
      */
     public String toString() {
-        return "Operative " + operativeId;
+        return "Operative " + operativeId + ", Slot " + slot;
     }
 }
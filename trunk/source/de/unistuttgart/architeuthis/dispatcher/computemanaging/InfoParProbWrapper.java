@@ -33,10 +33,12 @@
 package de.unistuttgart.architeuthis.dispatcher.computemanaging;
 
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
 import de.unistuttgart.architeuthis.dispatcher.problemmanaging.ParProbWrapper;
+import de.unistuttgart.architeuthis.systeminterfaces.Operative;
 
 /**
  * Hilfsklasse zur Verwaltung eines Teilproblem-Wrappers auf dem
@@ -57,6 +59,24 @@ class InfoParProbWrapper {
      */
     private ParProbWrapper parProbWrapper;
 
+    /**
+     * Der Zustand des Objekts in der {@link InfoParProbWrapperQueue}. Er wird
+     * nur von dieser gesetzt.
+     */
+    volatile int queueState = InfoParProbWrapperQueue.NOT_ENQUEUED;
+
+    /**
+     * Das vorangehende Objekt in der Liste der {@link InfoParProbWrapperQueue},
+     * in der sich dieses Objekt befindet.
+     */
+    InfoParProbWrapper queuePrevious = null;
+
+    /**
+     * Das nachfolgende Objekt in der Liste der {@link InfoParProbWrapperQueue},
+     * in der sich dieses Objekt befindet.
+     */
+    InfoParProbWrapper queueNext = null;
+
     /**
      * Erzeugt eine Instanz fr den zu verwaltende Teilproblem-Wrapper, ohne
      * dass bisher ein Operative bekannt ist, der das Teilproblem berechnet.
@@ -108,6 +128,55 @@ class InfoParProbWrapper {
         return operativeInfosCopy;
     }
 
+    /**
+     * Ermittelt, ob das Teilproblem bereits auf einem Slot des bergebenen
+     * Operatives berechnet wird.
+     *
+     * @param operative  Der Operative, fr den die Prfung erfolgen soll.
+     *
+     * @return  <code>true</code>, falls das Teilproblem auf einem Slot des
+     *          Operatives berechnet wird, sonst <code>false</code>.
+     */
+    boolean isComputedBy(Operative operative) {
+        Iterator infoIter;
+
+        synchronized (operativeInfos) {
+            infoIter = operativeInfos.iterator();
+            while (infoIter.hasNext()) {
+                if (((InfoOperative) infoIter.next()).getOperative()
+                                                     .equals(operative)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Liefert den frhesten Zeitpunkt, zu dem ein Slot mit der Berechnung
+     * des Teilproblems begonnen hat. Slots, bei denen das Teilproblem noch
+     * im Vorrat des Operatives wartet, werden nicht bercksichtigt.
+     *
+     * @return  Der frheste Beginn einer Berechnung in Millisekunden oder
+     *          Null, wenn noch keine Berechnung begonnen hat.
+     */
+    long getEarliestStartTime() {
+        Iterator infoIter;
+        long earliest = 0;
+        long start;
+
+        synchronized (operativeInfos) {
+            infoIter = operativeInfos.iterator();
+            while (infoIter.hasNext()) {
+                start = ((InfoOperative) infoIter.next()).getStartTime();
+                if ((start != 0) && ((earliest == 0) || (start < earliest))) {
+                    earliest = start;
+                }
+            }
+        }
+        return earliest;
+    }
+
     /**
      * Liefert eine Referenz auf den verwaltete Teilproblem-Wrapper.
      *
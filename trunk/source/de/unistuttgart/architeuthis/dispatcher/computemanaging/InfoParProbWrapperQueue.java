@@ -35,39 +35,193 @@
 
 package de.unistuttgart.architeuthis.dispatcher.computemanaging;
 
-import java.util.logging.Level;
-import java.util.logging.Logger;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 
 import de.unistuttgart.architeuthis.dispatcher.problemmanaging.ParProbWrapper;
+import de.unistuttgart.architeuthis.systeminterfaces.Operative;
 
 /**
  * Die Klasse verwaltet alle Teilproblem-Wrapper-Info-Objekte, die vom
- * ComputeManager berechnet werden.
+ * ComputeManager berechnet werden.<P>
+ *
+ * Die Teilproblem-Info-Objekte werden in zwei doppelt verketteten Listen
+ * gehalten, deren Verweise in den Info-Objekten selbst gespeichert sind,
+ * und sind zustzlich ber ihren Teilproblem-Wrapper indiziert. Dadurch
+ * bentigen das Einfgen, das Entfernen, der Wechsel zwischen den Listen
+ * und die Abfrage der Zugehrigkeit nur konstante Zeit, unabhngig von der
+ * Anzahl der in Berechnung befindlichen Teilprobleme. Die Abfrage der
+ * Zugehrigkeit und der Test auf Leere erfolgen ohne Sperre. Alle anderen
+ * Operationen synchronisieren auf einem internen Objekt, nicht auf der
+ * Instanz selbst.
  *
  * @author Andreas Heydlauff, Jrgen Heit, Dietmar Lippold
  */
 class InfoParProbWrapperQueue {
 
     /**
-     * Logger fr diese Klasse.
+     * Der Zustand eines Teilproblem-Info-Objekts, das in keiner Liste
+     * enthalten ist.
+     */
+    static final int NOT_ENQUEUED = 0;
+
+    /**
+     * Der Zustand eines Teilproblem-Info-Objekts, das sich in Berechnung
+     * befindet.
+     */
+    static final int IN_COMPUTATION = 1;
+
+    /**
+     * Der Zustand eines Teilproblem-Info-Objekts, dessen Berechnung
+     * abgebrochen wurde und das bevorzugt zu vergeben ist.
+     */
+    static final int ABORTED = 2;
+
+    /**
+     * Die maximale Anzahl von Teilproblemen, die bei einem Aufruf von
+     * <code>rotatePartProbInfo</code> von der Strategie fr die spekulative
+     * Berechnung abgelehnt werden, bevor die Suche erfolglos beendet wird.
      */
-    private static final Logger LOGGER
-        = Logger.getLogger(InfoParProbWrapperQueue.class.getName());
+    static final int MAX_POLICY_REJECTIONS = 32;
+
+    /**
+     * Das Objekt, auf dem alle verndernden Operationen synchronisiert
+     * werden.
+     */
+    private final Object locker = new Object();
 
     /**
      * Alle Teilproblem-Info-Objekte, die erzeugt wurden und nicht fertig
      * berechnet sind.
      */
-    private List partProbsInComputation = new LinkedList();
+    private InfoList partProbsInComputation = new InfoList();
 
     /**
      * Teilproblem-Info-Objekte, die bevorzugt bei der Vergabe zu behandlen
      * sind, da sie aus beliebigen Grnden nicht berechnet werden.
      */
-    private List preferedPartProbs = new LinkedList();
+    private InfoList preferedPartProbs = new InfoList();
+
+    /**
+     * Ordnet jedem Teilproblem-Wrapper, der sich in einer der beiden Listen
+     * befindet, sein Teilproblem-Info-Objekt zu.
+     */
+    private Map infosByWrapper = new HashMap();
+
+    /**
+     * Die Anzahl der Teilproblem-Info-Objekte in beiden Listen.
+     */
+    private volatile int infoNumber = 0;
+
+    /**
+     * Doppelt verkettete Liste von Teilproblem-Info-Objekten, deren Verweise
+     * in den Info-Objekten gespeichert sind. Die Methoden sind nicht
+     * synchronisiert.
+     */
+    private static class InfoList {
+
+        /**
+         * Das erste Element der Liste.
+         */
+        private InfoParProbWrapper first = null;
+
+        /**
+         * Das letzte Element der Liste.
+         */
+        private InfoParProbWrapper last = null;
+
+        /**
+         * Die Anzahl der Elemente der Liste.
+         */
+        private int size = 0;
+
+        /**
+         * Liefert die Anzahl der Elemente der Liste.
+         *
+         * @return  Die Anzahl der Elemente.
+         */
+        int size() {
+            return size;
+        }
+
+        /**
+         * Liefert das erste Element der Liste.
+         *
+         * @return  Das erste Element oder <code>null</code>, wenn die Liste
+         *          leer ist.
+         */
+        InfoParProbWrapper getFirst() {
+            return first;
+        }
+
+        /**
+         * Liefert das letzte Element der Liste.
+         *
+         * @return  Das letzte Element oder <code>null</code>, wenn die Liste
+         *          leer ist.
+         */
+        InfoParProbWrapper getLast() {
+            return last;
+        }
+
+        /**
+         * Fgt das bergebene Element am Ende der Liste ein.
+         *
+         * @param info  Das einzufgende Element, das in keiner Liste
+         *              enthalten sein darf.
+         */
+        void addLast(InfoParProbWrapper info) {
+            info.queuePrevious = last;
+            info.queueNext = null;
+            if (last == null) {
+                first = info;
+            } else {
+                last.queueNext = info;
+            }
+            last = info;
+            size++;
+        }
+
+        /**
+         * Fgt das bergebene Element am Anfang der Liste ein.
+         *
+         * @param info  Das einzufgende Element, das in keiner Liste
+         *              enthalten sein darf.
+         */
+        void addFirst(InfoParProbWrapper info) {
+            info.queuePrevious = null;
+            info.queueNext = first;
+            if (first == null) {
+                last = info;
+            } else {
+                first.queuePrevious = info;
+            }
+            first = info;
+            size++;
+        }
+
+        /**
+         * Entfernt das bergebene Element aus der Liste.
+         *
+         * @param info  Das zu entfernende Element, das in dieser Liste
+         *              enthalten sein muss.
+         */
+        void unlink(InfoParProbWrapper info) {
+            if (info.queuePrevious == null) {
+                first = info.queueNext;
+            } else {
+                info.queuePrevious.queueNext = info.queueNext;
+            }
+            if (info.queueNext == null) {
+                last = info.queuePrevious;
+            } else {
+                info.queueNext.queuePrevious = info.queuePrevious;
+            }
+            info.queuePrevious = null;
+            info.queueNext = null;
+            size--;
+        }
+    }
 
     /**
      * Reiht ein Teilproblem-Info-Objekt in die Queue aller in Berechnung
@@ -75,54 +229,129 @@ class InfoParProbWrapperQueue {
      *
      * @param partProbInf  hinzuzufgendes Teilproblem.
      */
-    synchronized void enqueuePartProbInfo(InfoParProbWrapper partProbInf) {
+    void enqueuePartProbInfo(InfoParProbWrapper partProbInf) {
         if (partProbInf != null) {
-            partProbsInComputation.add(partProbInf);
+            synchronized (locker) {
+                if (partProbInf.queueState == NOT_ENQUEUED) {
+                    partProbsInComputation.addLast(partProbInf);
+                    infosByWrapper.put(partProbInf.getParProbWrapper(),
+                                       partProbInf);
+                    partProbInf.queueState = IN_COMPUTATION;
+                    infoNumber++;
+                }
+            }
         }
     }
 
     /**
      * Vermerkt, dass ein Teilproblem-Info-Objekt abgebrochen wurde. Hierzu
-     * wird das Teilproblem-Info-Objekt aus der <code>Collection</code> der in
-     * Berechnung befindlichen Teilprobleme entfernt und zur
-     * <code>Collection</code> der abgebrochenen Teilprobleme hinzugefgt.
+     * wird das Teilproblem-Info-Objekt aus der Liste der in Berechnung
+     * befindlichen Teilprobleme entfernt und am Ende der Liste der
+     * abgebrochenen Teilprobleme eingefgt.
      *
      * @param partProbInf  abgebrochenes Teilproblem
      */
-    synchronized void setAborted(InfoParProbWrapper partProbInf) {
-        if (partProbsInComputation.contains(partProbInf)) {
-            partProbsInComputation.remove(partProbInf);
-            preferedPartProbs.add(partProbInf);
+    void setAborted(InfoParProbWrapper partProbInf) {
+        synchronized (locker) {
+            if (partProbInf.queueState == IN_COMPUTATION) {
+                partProbsInComputation.unlink(partProbInf);
+                preferedPartProbs.addLast(partProbInf);
+                partProbInf.queueState = ABORTED;
+            }
         }
     }
 
     /**
-     * Holt das vorderste Teilproblem-Info-Objekt aus der Schlange aller
-     * Teilproblem-Info-Objekte heraus und entfernt dieses aus der Schlange.
+     * Stellt ein Teilproblem-Info-Objekt, das noch von keinem Slot berechnet
+     * wird, zurck, so da es spter einem anderen Slot zugewiesen wird.
+     * Hierzu wird es aus der Liste der in Berechnung befindlichen
+     * Teilprobleme entfernt und am Anfang der Liste der bevorzugten
+     * Teilprobleme eingefgt.
      *
-     * @return  vorderstes Teilproblem.
+     * @param partProbInf  zurckzustellendes Teilproblem
      */
-    private InfoParProbWrapper dequeuePartProbInfo() {
-        if (partProbsInComputation.isEmpty()) {
-            return null;
-        } else {
-            InfoParProbWrapper partProbInfoObj =
-                (InfoParProbWrapper) partProbsInComputation.remove(0);
-            return partProbInfoObj;
+    void deferPartProbInfo(InfoParProbWrapper partProbInf) {
+        synchronized (locker) {
+            if (partProbInf.queueState == IN_COMPUTATION) {
+                partProbsInComputation.unlink(partProbInf);
+                preferedPartProbs.addFirst(partProbInf);
+                partProbInf.queueState = ABORTED;
+            }
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der bevorzugten Teilproblem-Info-Objekte, d.h. der
+     * abgebrochenen und zurckgestellten Teilprobleme, die auf einen Slot
+     * warten.
+     *
+     * @return  Die Anzahl der bevorzugten Teilproblem-Info-Objekte.
+     */
+    int getPreferedNumber() {
+        synchronized (locker) {
+            return preferedPartProbs.size();
         }
     }
 
     /**
      * Gibt das vorderste Teilproblem-Info-Objekt aus der Schlange aller
-     * Teilproblem-Info-Objekte zurck und verschiebt es an das Ende der
-     * Schlange.
+     * Teilproblem-Info-Objekte zurck, das nicht bereits auf einem Slot des
+     * bergebenen Operatives berechnet wird, und verschiebt es an das Ende
+     * der Schlange. bersprungen werden Teilprobleme, die der Operative schon
+     * berechnet, deren Anzahl hchstens so gro wie die Anzahl seiner Slots
+     * ist. Teilprobleme, die nach der bergebenen Strategie nicht spekulativ
+     * berechnet werden drfen, werden ebenfalls an das Ende der Schlange
+     * verschoben. Nach <code>MAX_POLICY_REJECTIONS</code> solchen
+     * Teilproblemen wird die Suche erfolglos beendet, so da ein Aufruf
+     * unabhngig von der Anzahl der in Berechnung befindlichen Teilprobleme
+     * begrenzt ist. Aufeinanderfolgende Aufrufe prfen dadurch jeweils
+     * andere Teilprobleme, bis jedes einmal geprft wurde.
      *
-     * @return  das vorderste Teilproblem.
+     * @param operativeInfo  Der Slot, der das Teilproblem zustzlich
+     *                       berechnen soll.
+     * @param policy         Die Strategie fr die spekulative Berechnung
+     *                       oder <code>null</code>, wenn jedes Teilproblem
+     *                       geliefert werden darf.
+     *
+     * @return  das vorderste Teilproblem, das nicht bereits vom Operative
+     *          berechnet wird, oder <code>null</code>, falls es kein solches
+     *          gibt.
      */
-    synchronized InfoParProbWrapper rotatePartProbInfo() {
-        InfoParProbWrapper partProbInf = dequeuePartProbInfo();
-        enqueuePartProbInfo(partProbInf);
-        return partProbInf;
+    InfoParProbWrapper rotatePartProbInfo(InfoOperative operativeInfo,
+                                          SpeculationPolicy policy) {
+        Operative operative = operativeInfo.getOperative();
+        InfoParProbWrapper partProbInf;
+        InfoParProbWrapper nextPartProbInf;
+        InfoParProbWrapper lastPartProbInf;
+        int rejections = 0;
+
+        synchronized (locker) {
+            // Ans Ende verschobene Teilprobleme nicht erneut prfen
+            lastPartProbInf = partProbsInComputation.getLast();
+            partProbInf = partProbsInComputation.getFirst();
+            while ((partProbInf != null)
+                       && (rejections < MAX_POLICY_REJECTIONS)) {
+                nextPartProbInf = partProbInf.queueNext;
+                if (!partProbInf.isComputedBy(operative)) {
+                    if ((policy == null)
+                            || policy.allows(partProbInf, operativeInfo)) {
+                        partProbsInComputation.unlink(partProbInf);
+                        partProbsInComputation.addLast(partProbInf);
+                        return partProbInf;
+                    }
+                    rejections++;
+                    if (partProbInf != lastPartProbInf) {
+                        partProbsInComputation.unlink(partProbInf);
+                        partProbsInComputation.addLast(partProbInf);
+                    }
+                }
+                if (partProbInf == lastPartProbInf) {
+                    break;
+                }
+                partProbInf = nextPartProbInf;
+            }
+        }
+        return null;
     }
 
     /**
@@ -134,12 +363,14 @@ class InfoParProbWrapperQueue {
      * @param partProbInfo  Teilproblem-Info-Objekt, das an den Kopf der Queue
      *                      gebracht werden soll.
      */
-    synchronized void undoRotation(InfoParProbWrapper partProbInfo) {
-        boolean inList = partProbsInComputation.remove(partProbInfo);
-        // das Teilproblem darf nur dann am Anfang der Liste eingefgt werden,
-        // wenn es vorher tatschlich entfernt wurde
-        if (inList) {
-            partProbsInComputation.add(0, partProbInfo);
+    void undoRotation(InfoParProbWrapper partProbInfo) {
+        synchronized (locker) {
+            // das Teilproblem darf nur dann am Anfang der Liste eingefgt
+            // werden, wenn es sich tatschlich in der Liste befindet
+            if (partProbInfo.queueState == IN_COMPUTATION) {
+                partProbsInComputation.unlink(partProbInfo);
+                partProbsInComputation.addFirst(partProbInfo);
+            }
         }
     }
 
@@ -152,53 +383,24 @@ class InfoParProbWrapperQueue {
      * @return  <code>true</code>, falls das Teilproblem-Infoobjekt entfernt
      *          wurde.
      */
-    synchronized boolean removePartProbInfo(InfoParProbWrapper partProbInf) {
-        return (partProbsInComputation.remove(partProbInf)
-                || preferedPartProbs.remove(partProbInf));
-    }
-
-    /**
-     * Sucht das <code>InfoParProbWrapper</code> zu einem Teilproblem in
-     * Berechnung.
-     *
-     * @param partProbWrap  Teilproblem der gesuchten <code>InfoParProbWrapper</code>.
-     * @return   dem Teilproblem zugeordnete <code>InfoParProbWrapper</code>,
-     *           oder <code>null</code>, wenn das Teilproblem nicht in
-     *           Berechnung ist.
-     */
-    private InfoParProbWrapper partProbInfoInComputation(ParProbWrapper partProbWrap) {
-        InfoParProbWrapper partProbInfo = null;
-
-        Iterator partProbIter = partProbsInComputation.iterator();
-        while (partProbIter.hasNext()) {
-            partProbInfo = (InfoParProbWrapper) partProbIter.next();
-            if (partProbInfo.getParProbWrapper() == partProbWrap) {
-                return partProbInfo;
-            }
+    boolean removePartProbInfo(InfoParProbWrapper partProbInf) {
+        if (partProbInf == null) {
+            return false;
         }
-        return null;
-    }
 
-    /**
-     * Sucht das <code>InfoParProbWrapper</code> zu einem abgebrochenen
-     * Teilproblem.
-     *
-     * @param partProbWrap  Teilproblem der gesuchten <code>InfoParProbWrapper</code>.
-     * @return   dem Teilproblem zugeordnete <code>InfoParProbWrapper</code>,
-     *           oder <code>null</code>, wenn das Teilproblem nicht abgebrochen
-     *           wurde.
-     */
-    private InfoParProbWrapper partProbInfoAborted(ParProbWrapper partProbWrap) {
-        InfoParProbWrapper partProbInfo = null;
-
-        Iterator partProbIter = preferedPartProbs.iterator();
-        while (partProbIter.hasNext()) {
-            partProbInfo = (InfoParProbWrapper) partProbIter.next();
-            if (partProbInfo.getParProbWrapper() == partProbWrap) {
-                return partProbInfo;
+        synchronized (locker) {
+            if (partProbInf.queueState == IN_COMPUTATION) {
+                partProbsInComputation.unlink(partProbInf);
+            } else if (partProbInf.queueState == ABORTED) {
+                preferedPartProbs.unlink(partProbInf);
+            } else {
+                return false;
             }
+            infosByWrapper.remove(partProbInf.getParProbWrapper());
+            partProbInf.queueState = NOT_ENQUEUED;
+            infoNumber--;
+            return true;
         }
-        return null;
     }
 
     /**
@@ -206,41 +408,34 @@ class InfoParProbWrapperQueue {
      *
      * @param partProbWrap  Teilproblem-Wrapper, der entfernt werden soll.
      *
-     * @return  Das zum entfernten Teilproblem-Wrapper gehrige Info-Objekt.
+     * @return  Das zum entfernten Teilproblem-Wrapper gehrige Info-Objekt
+     *          oder <code>null</code>, wenn er nicht in der Verwaltung
+     *          enthalten war.
      */
-    synchronized InfoParProbWrapper removeParProbWrapper(ParProbWrapper partProbWrap) {
+    InfoParProbWrapper removeParProbWrapper(ParProbWrapper partProbWrap) {
         InfoParProbWrapper partProbInfo;
 
-        partProbInfo = partProbInfoInComputation(partProbWrap);
-        if (partProbInfo == null) {
-            partProbInfo = partProbInfoAborted(partProbWrap);
-        } else {
-            if (partProbInfoAborted(partProbWrap) != null) {
-                if (LOGGER.isLoggable(Level.WARNING)) {
-                    LOGGER.log(Level.WARNING,
-                        "Teilproblem ist sowohl in der Liste der Teilprobleme"
-                        + " in Berechnung als auch in der der abgebrochenen Teilprobleme.");
-                }
-            }
+        synchronized (locker) {
+            partProbInfo = (InfoParProbWrapper) infosByWrapper.get(partProbWrap);
+            removePartProbInfo(partProbInfo);
         }
-        removePartProbInfo(partProbInfo);
         return partProbInfo;
     }
 
     /**
      * Ermittelt, ob das Teilproblem vom bergebenen Teilproblem-Info-Objekt
-     * ({@link InfoParProbWrapper}) in der <code>Collection</code> der sich in
-     * Berechnung befindenden Teilprobleme enthalten ist.
+     * ({@link InfoParProbWrapper}) in der Liste der sich in Berechnung
+     * befindenden Teilprobleme enthalten ist.
      *
      * @param partProbInfo  Teilproblem-Info-Objekt von dessen Teilrpoblem
      *                      ermittelt werden soll, ob es sich in Berechnung
      *                      befindet.
-     * @return  <code>true</code> falls das Objekt in Collection der in
+     * @return  <code>true</code> falls das Objekt in der Liste der in
      *          Berechnung befindlichen Teilprobleme enthalten ist,
-     *           <code>false</code> sonst.
+     *          <code>false</code> sonst.
      */
-    synchronized boolean isEnqueuedPartProbInfo(InfoParProbWrapper partProbInfo) {
-        return partProbsInComputation.contains(partProbInfo);
+    boolean isEnqueuedPartProbInfo(InfoParProbWrapper partProbInfo) {
+        return (partProbInfo.queueState == IN_COMPUTATION);
     }
 
     /**
@@ -251,25 +446,29 @@ class InfoParProbWrapperQueue {
      *
      * @return  vorderstes bevorzugtes Teilproblem.
      */
-    synchronized InfoParProbWrapper getPreferedPartialProblemInfo() {
-        if (preferedPartProbs.isEmpty()) {
-            return null;
-        } else {
-            InfoParProbWrapper partProbInfoObj =
-                (InfoParProbWrapper) preferedPartProbs.remove(0);
-            partProbsInComputation.add(partProbInfoObj);
-            return partProbInfoObj;
+    InfoParProbWrapper getPreferedPartialProblemInfo() {
+        InfoParProbWrapper partProbInfoObj;
+
+        synchronized (locker) {
+            partProbInfoObj = preferedPartProbs.getFirst();
+            if (partProbInfoObj != null) {
+                preferedPartProbs.unlink(partProbInfoObj);
+                partProbsInComputation.addLast(partProbInfoObj);
+                partProbInfoObj.queueState = IN_COMPUTATION;
+            }
         }
+        return partProbInfoObj;
     }
 
     /**
      * berprft, ob sich berhaupt Teilproblem-Info-Objekte in der
-     * {@link PartialProblemQueue} befinden.
+     * Verwaltung befinden.
      *
-     * @return  <code>true</code> falls {@link PartialProblemQueue} leer,
-     *          <code>false</code>, sonst.
+     * @return  <code>true</code> falls keine Teilproblem-Info-Objekte
+     *          enthalten sind, <code>false</code>, sonst.
      */
-    synchronized boolean isEmpty() {
-        return (partProbsInComputation.isEmpty() && preferedPartProbs.isEmpty());
+    boolean isEmpty() {
+        return (infoNumber == 0);
     }
 }
+
@@ -0,0 +1,165 @@
+/*
+ * file:        InfoParProbWrapperQueueBenchmark.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ * Realease 1.0 dieser Software wurde am Institut fr Intelligente Systeme der
+ * Universitt Stuttgart (http://www.informatik.uni-stuttgart.de/ifi/is/) unter
+ * Leitung von Dietmar Lippold (dietmar.lippold@informatik.uni-stuttgart.de)
+ * entwickelt.
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.computemanaging;
+
+import java.lang.reflect.Constructor;
+import java.util.Random;
+
+import de.unistuttgart.architeuthis.dispatcher.problemmanaging.ParProbWrapper;
+
+/**
+ * Misst die Dauer der Operationen der {@link InfoParProbWrapperQueue} in
+ * Abhngigkeit von der Anzahl der in Berechnung befindlichen Teilprobleme.
+ * Ein Durchlauf besteht aus dem Abschluss eines zufllig gewhlten
+ * Teilproblems, dem Einreihen eines neuen Teilproblems, dem Abbruch und der
+ * erneuten Vergabe eines Teilproblems sowie einer Mehrfachvergabe mit
+ * anschlieender Rcknahme. Die Dauer eines Durchlaufs sollte unabhngig
+ * von der Anzahl der Teilprobleme sein.<P>
+ *
+ * Aufruf: <code>java de.unistuttgart.architeuthis.dispatcher.computemanaging.InfoParProbWrapperQueueBenchmark
+ * [Durchlufe]</code>
+ */
+public class InfoParProbWrapperQueueBenchmark {
+
+    /**
+     * Die Anzahlen der in Berechnung befindlichen Teilprobleme, fr die die
+     * Messung erfolgt.
+     */
+    private static final int[] PAR_PROB_NUMBERS = {10, 100, 1000, 10000};
+
+    /**
+     * Die voreingestellte Anzahl der Durchlufe je Messung.
+     */
+    private static final int DEFAULT_ROUNDS = 200000;
+
+    /**
+     * Erzeugt die bergebene Anzahl von Teilproblem-Wrappern ohne
+     * Teilproblem. Da der einzige Konstruktor von <code>ParProbWrapper</code>
+     * nur innerhalb seines Pakets sichtbar ist, wird er per Reflection
+     * aufgerufen.
+     *
+     * @param number  Die Anzahl der zu erzeugenden Wrapper.
+     *
+     * @return  Die erzeugten Wrapper.
+     *
+     * @throws Exception  Wenn der Konstruktor nicht aufgerufen werden kann.
+     */
+    private static ParProbWrapper[] createWrappers(int number)
+        throws Exception {
+
+        Constructor constructor;
+        ParProbWrapper[] wrappers = new ParProbWrapper[number];
+
+        constructor = ParProbWrapper.class.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        for (int i = 0; i < number; i++) {
+            wrappers[i] = (ParProbWrapper) constructor.newInstance(
+                new Object[] {null, null, null});
+        }
+        return wrappers;
+    }
+
+    /**
+     * Fhrt eine Messung mit der bergebenen Anzahl von Teilproblemen durch.
+     *
+     * @param parProbNumber  Die Anzahl der in Berechnung befindlichen
+     *                       Teilprobleme.
+     * @param rounds         Die Anzahl der Durchlufe.
+     *
+     * @return  Die mittlere Dauer eines Durchlaufs in Nanosekunden.
+     *
+     * @throws Exception  Wenn die Wrapper nicht erzeugt werden knnen.
+     */
+    private static long measure(int parProbNumber, int rounds)
+        throws Exception {
+
+        InfoParProbWrapperQueue queue = new InfoParProbWrapperQueue();
+        InfoParProbWrapper[] infos = new InfoParProbWrapper[parProbNumber];
+        ParProbWrapper[] wrappers = createWrappers(parProbNumber);
+        Random random = new Random(parProbNumber);
+        InfoOperative requester = new InfoOperative(null, 0, 0, new Object(),
+                                                    null);
+        InfoParProbWrapper partProbInfo;
+        long startTime;
+        int index;
+
+        for (int i = 0; i < parProbNumber; i++) {
+            infos[i] = new InfoParProbWrapper(wrappers[i]);
+            queue.enqueuePartProbInfo(infos[i]);
+        }
+
+        startTime = System.currentTimeMillis();
+        for (int r = 0; r < rounds; r++) {
+            // Abschluss eines Teilproblems und Erzeugung eines neuen
+            index = random.nextInt(parProbNumber);
+            queue.removeParProbWrapper(infos[index].getParProbWrapper());
+            infos[index] = new InfoParProbWrapper(wrappers[index]);
+            queue.enqueuePartProbInfo(infos[index]);
+
+            // Abbruch eines Teilproblems und erneute Vergabe
+            index = random.nextInt(parProbNumber);
+            queue.setAborted(infos[index]);
+            partProbInfo = queue.getPreferedPartialProblemInfo();
+            if (!queue.isEnqueuedPartProbInfo(partProbInfo)) {
+                throw new IllegalStateException("Teilproblem fehlt");
+            }
+
+            // Mehrfachvergabe und deren Rcknahme
+            partProbInfo = queue.rotatePartProbInfo(requester, null);
+            queue.undoRotation(partProbInfo);
+        }
+        return ((System.currentTimeMillis() - startTime) * 1000000L / rounds);
+    }
+
+    /**
+     * Fhrt die Messungen durch und gibt die Ergebnisse aus.
+     *
+     * @param args  Optional die Anzahl der Durchlufe je Messung.
+     *
+     * @throws Exception  Wenn die Messung nicht durchgefhrt werden kann.
+     */
+    public static void main(String[] args) throws Exception {
+        int rounds = DEFAULT_ROUNDS;
+
+        if (args.length > 0) {
+            rounds = Integer.parseInt(args[0]);
+        }
+
+        // Aufwrmen
+        measure(PAR_PROB_NUMBERS[PAR_PROB_NUMBERS.length - 1], rounds);
+
+        System.out.println("Teilprobleme  ns/Durchlauf");
+        for (int i = 0; i < PAR_PROB_NUMBERS.length; i++) {
+            System.out.println(PAR_PROB_NUMBERS[i] + "\t      "
+                               + measure(PAR_PROB_NUMBERS[i], rounds));
+        }
+    }
+}
+
@@ -0,0 +1,231 @@
+/*
+ * file:        InfoParProbWrapperQueueTest.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.computemanaging;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import junit.framework.TestCase;
+
+import de.unistuttgart.architeuthis.dispatcher.problemmanaging.ParProbWrapper;
+import de.unistuttgart.architeuthis.systeminterfaces.Operative;
+
+/**
+ * Tests fr die {@link InfoParProbWrapperQueue}.
+ */
+public class InfoParProbWrapperQueueTest extends TestCase {
+
+    /**
+     * Die zu testende Queue.
+     */
+    private InfoParProbWrapperQueue queue;
+
+    /**
+     * Der Slot, fr den Teilprobleme mehrfach vergeben werden.
+     */
+    private InfoOperative requester;
+
+    /**
+     * Erzeugt einen Operative, dessen Methoden nicht aufgerufen werden
+     * drfen. Er dient nur zur Unterscheidung der Slots verschiedener
+     * Operatives.
+     *
+     * @return  Der erzeugte Operative.
+     */
+    private static Operative createOperative() {
+        return (Operative) Proxy.newProxyInstance(
+            Operative.class.getClassLoader(),
+            new Class[] {Operative.class},
+            new InvocationHandler() {
+                public Object invoke(Object proxy, Method method,
+                                     Object[] args) {
+                    if (method.getName().equals("equals")) {
+                        return Boolean.valueOf(proxy == args[0]);
+                    } else if (method.getName().equals("hashCode")) {
+                        return new Integer(System.identityHashCode(proxy));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    /**
+     * Erzeugt die bergebene Anzahl von Teilproblem-Info-Objekten, deren
+     * Wrapper kein Teilproblem enthalten. Der Konstruktor von
+     * <code>ParProbWrapper</code> ist nur innerhalb seines Pakets sichtbar
+     * und wird daher per Reflection aufgerufen.
+     *
+     * @param number  Die Anzahl der zu erzeugenden Info-Objekte.
+     *
+     * @return  Die erzeugten Info-Objekte.
+     *
+     * @throws Exception  Wenn der Konstruktor nicht aufgerufen werden kann.
+     */
+    private static InfoParProbWrapper[] createInfos(int number)
+        throws Exception {
+
+        Constructor constructor;
+        InfoParProbWrapper[] infos = new InfoParProbWrapper[number];
+
+        constructor = ParProbWrapper.class.getDeclaredConstructors()[0];
+        constructor.setAccessible(true);
+        for (int i = 0; i < number; i++) {
+            infos[i] = new InfoParProbWrapper((ParProbWrapper)
+                constructor.newInstance(new Object[] {null, null, null}));
+        }
+        return infos;
+    }
+
+    /**
+     * Erzeugt eine leere Queue und den anfragenden Slot.
+     */
+    protected void setUp() {
+        queue = new InfoParProbWrapperQueue();
+        requester = new InfoOperative(createOperative(), 0, 0, new Object(),
+                                      null);
+    }
+
+    /**
+     * Testet das Einreihen und Entfernen von Teilproblemen.
+     *
+     * @throws Exception  Wenn die Info-Objekte nicht erzeugt werden knnen.
+     */
+    public void testEnqueueAndRemove() throws Exception {
+        InfoParProbWrapper[] infos = createInfos(2);
+
+        assertTrue(queue.isEmpty());
+        queue.enqueuePartProbInfo(infos[0]);
+        queue.enqueuePartProbInfo(infos[0]);
+        queue.enqueuePartProbInfo(infos[1]);
+        assertFalse(queue.isEmpty());
+        assertTrue(queue.isEnqueuedPartProbInfo(infos[0]));
+
+        assertTrue(queue.removePartProbInfo(infos[0]));
+        assertFalse(queue.removePartProbInfo(infos[0]));
+        assertFalse(queue.isEnqueuedPartProbInfo(infos[0]));
+        assertFalse(queue.removePartProbInfo(null));
+
+        assertSame(infos[1],
+                   queue.removeParProbWrapper(infos[1].getParProbWrapper()));
+        assertNull(queue.removeParProbWrapper(infos[1].getParProbWrapper()));
+        assertTrue(queue.isEmpty());
+    }
+
+    /**
+     * Testet, da abgebrochene Teilprobleme in der Reihenfolge ihres
+     * Abbruchs und zurckgestellte Teilprobleme vor diesen geliefert werden.
+     *
+     * @throws Exception  Wenn die Info-Objekte nicht erzeugt werden knnen.
+     */
+    public void testPreferedPartialProblems() throws Exception {
+        InfoParProbWrapper[] infos = createInfos(3);
+
+        for (int i = 0; i < infos.length; i++) {
+            queue.enqueuePartProbInfo(infos[i]);
+        }
+        assertNull(queue.getPreferedPartialProblemInfo());
+
+        queue.setAborted(infos[1]);
+        queue.setAborted(infos[0]);
+        queue.deferPartProbInfo(infos[2]);
+        assertEquals(3, queue.getPreferedNumber());
+        assertFalse(queue.isEnqueuedPartProbInfo(infos[0]));
+
+        assertSame(infos[2], queue.getPreferedPartialProblemInfo());
+        assertSame(infos[1], queue.getPreferedPartialProblemInfo());
+        assertSame(infos[0], queue.getPreferedPartialProblemInfo());
+        assertNull(queue.getPreferedPartialProblemInfo());
+        assertEquals(0, queue.getPreferedNumber());
+        assertTrue(queue.isEnqueuedPartProbInfo(infos[0]));
+
+        // ein abgebrochenes Teilproblem kann ebenfalls entfernt werden
+        queue.setAborted(infos[0]);
+        assertTrue(queue.removePartProbInfo(infos[0]));
+        assertEquals(0, queue.getPreferedNumber());
+    }
+
+    /**
+     * Testet die Rotation bei der Mehrfachvergabe und deren Rcknahme.
+     *
+     * @throws Exception  Wenn die Info-Objekte nicht erzeugt werden knnen.
+     */
+    public void testRotation() throws Exception {
+        InfoParProbWrapper[] infos = createInfos(3);
+
+        assertNull(queue.rotatePartProbInfo(requester, null));
+        for (int i = 0; i < infos.length; i++) {
+            queue.enqueuePartProbInfo(infos[i]);
+        }
+
+        assertSame(infos[0], queue.rotatePartProbInfo(requester, null));
+        assertSame(infos[1], queue.rotatePartProbInfo(requester, null));
+        queue.undoRotation(infos[1]);
+        assertSame(infos[1], queue.rotatePartProbInfo(requester, null));
+        assertSame(infos[2], queue.rotatePartProbInfo(requester, null));
+        assertSame(infos[0], queue.rotatePartProbInfo(requester, null));
+
+        // Teilprobleme, die der Operative schon berechnet, berspringen
+        infos[1].addOperativeInfo(new InfoOperative(requester.getOperative(),
+                                                    0, 1, new Object(),
+                                                    null));
+        assertSame(infos[2], queue.rotatePartProbInfo(requester, null));
+        assertSame(infos[0], queue.rotatePartProbInfo(requester, null));
+    }
+
+    /**
+     * Testet, da ein Aufruf von <code>rotatePartProbInfo</code> nach
+     * <code>MAX_POLICY_REJECTIONS</code> von der Strategie abgelehnten
+     * Teilproblemen endet und der nchste Aufruf die folgenden Teilprobleme
+     * prft.
+     *
+     * @throws Exception  Wenn die Info-Objekte nicht erzeugt werden knnen.
+     */
+    public void testBoundedPolicyRejections() throws Exception {
+        final InfoParProbWrapper[] infos = createInfos(
+            3 * InfoParProbWrapperQueue.MAX_POLICY_REJECTIONS);
+        final InfoParProbWrapper allowed
+            = infos[InfoParProbWrapperQueue.MAX_POLICY_REJECTIONS + 1];
+        final int[] checks = new int[1];
+        SpeculationPolicy policy = new SpeculationPolicy(0, 0, null) {
+            boolean allows(InfoParProbWrapper partProbInfo,
+                           InfoOperative operativeInfo) {
+                checks[0]++;
+                return (partProbInfo == allowed);
+            }
+        };
+
+        for (int i = 0; i < infos.length; i++) {
+            queue.enqueuePartProbInfo(infos[i]);
+        }
+
+        assertNull(queue.rotatePartProbInfo(requester, policy));
+        assertEquals(InfoParProbWrapperQueue.MAX_POLICY_REJECTIONS, checks[0]);
+
+        assertSame(allowed, queue.rotatePartProbInfo(requester, policy));
+        assertEquals(InfoParProbWrapperQueue.MAX_POLICY_REJECTIONS + 2,
+                     checks[0]);
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * file:        LocalityPolicy.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.computemanaging;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+import de.unistuttgart.architeuthis.dispatcher.problemmanaging.ParProbWrapper;
+import de.unistuttgart.architeuthis.misc.util.ElementRating;
+import de.unistuttgart.architeuthis.systeminterfaces.Operative;
+import de.unistuttgart.architeuthis.userinterfaces.develop.LocalityPartialProblem;
+import de.unistuttgart.architeuthis.userinterfaces.develop.PartialProblem;
+
+/**
+ * Vermerkt fr jeden Operative die Schlssel der Eintrge im
+ * <code>RemoteStore</code>, die die ihm zugewiesenen Teilprobleme vom Typ
+ * {@link LocalityPartialProblem} lesen, und bewertet neue Teilprobleme
+ * danach, wieviele ihrer Schlssel auf einem Operative schon verwendet
+ * wurden. Die Schlssel werden je Problem unterschieden. Je Operative wird
+ * nur eine begrenzte Anzahl von Schlsseln vermerkt, wobei die am lngsten
+ * nicht mehr verwendeten zuerst verworfen werden.<p>
+ *
+ * Bei jeder Zuweisung eines solchen Teilproblems wird in der Statistik
+ * seines Problems vermerkt, wieviele seiner Schlssel auf dem Operative
+ * schon verwendet wurden und wieviele nicht.
+ */
+class LocalityPolicy {
+
+    /**
+     * Die maximale Anzahl der Schlssel, die je Operative vermerkt werden.
+     */
+    static final int MAX_KEYS = 10000;
+
+    /**
+     * Ein Schlssel zusammen mit dem Problem, zu dem er gehrt.
+     */
+    private static class LocalityKey {
+
+        /**
+         * Das Problem, zu dem der Schlssel gehrt.
+         */
+        private Object problem;
+
+        /**
+         * Der Schlssel.
+         */
+        private Object key;
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @param problem  Das Problem, zu dem der Schlssel gehrt.
+         * @param key      Der Schlssel.
+         */
+        LocalityKey(Object problem, Object key) {
+            this.problem = problem;
+            this.key = key;
+        }
+
+        /**
+         * Ermittelt, ob das bergebene Objekt den gleichen Schlssel zum
+         * gleichen Problem darstellt.
+         *
+         * @param obj  Das zu vergleichende Objekt.
+         *
+         * @return  <code>true</code>, wenn Problem und Schlssel gleich
+         *          sind, sonst <code>false</code>.
+         */
+        public boolean equals(Object obj) {
+            LocalityKey other;
+
+            if (!(obj instanceof LocalityKey)) {
+                return false;
+            }
+            other = (LocalityKey) obj;
+            return ((problem == other.problem) && key.equals(other.key));
+        }
+
+        /**
+         * Liefert den Hash-Code zu Problem und Schlssel.
+         *
+         * @return  Den Hash-Code.
+         */
+        public int hashCode() {
+            return (System.identityHashCode(problem) * 31 + key.hashCode());
+        }
+    }
+
+    /**
+     * Die vermerkten Schlssel zu jedem Operative. Der Schlssel ist der
+     * Operative und der Wert ein <code>LinkedHashSet</code> mit Objekten vom
+     * Typ <code>LocalityKey</code>.
+     */
+    private HashMap operativeKeys = new HashMap();
+
+    /**
+     * Liefert die Schlssel, die das Teilproblem des bergebenen Wrappers
+     * liest.
+     *
+     * @param parProbWrap  Der Wrapper des Teilproblems.
+     *
+     * @return  Die Schlssel oder <code>null</code>, wenn das Teilproblem
+     *          keine angibt.
+     */
+    private static Collection localityKeys(ParProbWrapper parProbWrap) {
+        PartialProblem parProb = parProbWrap.getPartialProblem();
+
+        if (parProb instanceof LocalityPartialProblem) {
+            return ((LocalityPartialProblem) parProb).getLocalityKeys();
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Ermittelt, wieviele der bergebenen Schlssel zum Problem des
+     * bergebenen Teilproblems auf dem Operative schon verwendet wurden.
+     *
+     * @param operative    Der Operative.
+     * @param parProbWrap  Der Wrapper des Teilproblems.
+     * @param keys         Die Schlssel des Teilproblems.
+     *
+     * @return  Die Anzahl der schon verwendeten Schlssel.
+     */
+    private int knownKeys(Operative operative, ParProbWrapper parProbWrap,
+                          Collection keys) {
+        LinkedHashSet known = (LinkedHashSet) operativeKeys.get(operative);
+        Object problem = parProbWrap.getCreatingWrapper();
+        Iterator keyIter;
+        int number = 0;
+
+        if (known != null) {
+            keyIter = keys.iterator();
+            while (keyIter.hasNext()) {
+                if (known.contains(new LocalityKey(problem, keyIter.next()))) {
+                    number++;
+                }
+            }
+        }
+        return number;
+    }
+
+    /**
+     * Liefert eine Bewertung der Teilprobleme fr den bergebenen Slot. Die
+     * Bewertung eines Teilproblems ist die Anzahl seiner Schlssel, die auf
+     * dem Operative des Slots schon verwendet wurden.
+     *
+     * @param operativeInfo  Info-Objekt des Slots, der ein Teilproblem
+     *                       erhalten soll.
+     *
+     * @return  Die Bewertung fr Objekte vom Typ {@link ParProbWrapper}.
+     */
+    ElementRating getRating(InfoOperative operativeInfo) {
+        final Operative operative = operativeInfo.getOperative();
+
+        return new ElementRating() {
+            public double rate(Object element) {
+                ParProbWrapper parProbWrap = (ParProbWrapper) element;
+                Collection keys = localityKeys(parProbWrap);
+
+                if (keys == null) {
+                    return 0;
+                }
+                synchronized (LocalityPolicy.this) {
+                    return knownKeys(operative, parProbWrap, keys);
+                }
+            }
+        };
+    }
+
+    /**
+     * Vermerkt die Zuweisung eines Teilproblems an einen Slot. Fr ein
+     * Teilproblem, das keine Schlssel angibt, passiert nichts.
+     *
+     * @param operativeInfo  Info-Objekt des Slots.
+     * @param parProbWrap    Der Wrapper des zugewiesenen Teilproblems.
+     */
+    void recordAssignment(InfoOperative operativeInfo,
+                          ParProbWrapper parProbWrap) {
+        Operative operative = operativeInfo.getOperative();
+        Object problem = parProbWrap.getCreatingWrapper();
+        Collection keys = localityKeys(parProbWrap);
+        LinkedHashSet known;
+        LocalityKey localityKey;
+        Iterator keyIter;
+        int localKeys;
+
+        if ((keys == null) || keys.isEmpty()) {
+            return;
+        }
+
+        synchronized (this) {
+            localKeys = knownKeys(operative, parProbWrap, keys);
+
+            known = (LinkedHashSet) operativeKeys.get(operative);
+            if (known == null) {
+                known = new LinkedHashSet();
+                operativeKeys.put(operative, known);
+            }
+            keyIter = keys.iterator();
+            while (keyIter.hasNext()) {
+                localityKey = new LocalityKey(problem, keyIter.next());
+                known.remove(localityKey);
+                known.add(localityKey);
+            }
+
+            // Die am lngsten nicht mehr verwendeten Schlssel verwerfen
+            keyIter = known.iterator();
+            while (known.size() > MAX_KEYS) {
+                keyIter.next();
+                keyIter.remove();
+            }
+        }
+
+        parProbWrap.getProblemStatisticCollector()
+                   .notifyLocality(localKeys, keys.size() - localKeys);
+    }
+
+    /**
+     * Verwirft die vermerkten Schlssel eines Operatives.
+     *
+     * @param operative  Der Operative, der abgemeldet wurde.
+     */
+    synchronized void removeOperative(Operative operative) {
+        operativeKeys.remove(operative);
+    }
+}
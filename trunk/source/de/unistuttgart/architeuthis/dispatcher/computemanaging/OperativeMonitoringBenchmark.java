@@ -0,0 +1,258 @@
+/*
+ * file:        OperativeMonitoringBenchmark.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ * Realease 1.0 dieser Software wurde am Institut fr Intelligente Systeme der
+ * Universitt Stuttgart (http://www.informatik.uni-stuttgart.de/ifi/is/) unter
+ * Leitung von Dietmar Lippold (dietmar.lippold@informatik.uni-stuttgart.de)
+ * entwickelt.
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.computemanaging;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.rmi.RemoteException;
+import java.util.HashMap;
+import java.util.Map;
+
+import de.unistuttgart.architeuthis.systeminterfaces.Operative;
+
+/**
+ * Misst die Zeitdauer, nach der die {@link OperativeMonitoringUnit} nicht
+ * mehr erreichbare Operatives erkennt. Simuliert werden viele erreichbare
+ * Operatives, von denen nach dem ersten Intervall einige keine Antwort mehr
+ * geben (der Aufruf hngt) und einige den Aufruf sofort ablehnen. Fr jeden
+ * ausgefallenen Operative wird die Zeitdauer vom Ausfall bis zur Meldung an
+ * den ComputeManager ausgegeben.<P>
+ *
+ * Wenn die Operatives als beschftigt simuliert werden, verlngern die
+ * erreichbaren Operatives ihren Lease laufend, wie es bei der Lieferung von
+ * Teillsungen geschieht. Ausgegeben wird zustzlich die Anzahl der
+ * insgesamt gesendeten Heartbeats.<P>
+ *
+ * Aufruf: <code>java de.unistuttgart.architeuthis.dispatcher.computemanaging.OperativeMonitoringBenchmark
+ * [Operatives [hngende [ablehnende [Intervall [Versuche [beschftigt]]]]]]</code>
+ */
+public class OperativeMonitoringBenchmark {
+
+    /**
+     * Die Zeitdauer in Millisekunden, die ein erreichbarer Operative fr die
+     * Antwort bentigt.
+     */
+    private static final long RESPONSE_MILLIS = 2;
+
+    /**
+     * Der Zeitpunkt des Ausfalls oder Null, solange alle Operatives
+     * erreichbar sind.
+     */
+    private static volatile long failureTime = 0;
+
+    /**
+     * Die Zeitdauern bis zur Meldung je ausgefallenem Operative.
+     */
+    private static Map detectionTimes = new HashMap();
+
+    /**
+     * Die Anzahl der bisher gesendeten Heartbeats.
+     */
+    private static int heartbeats = 0;
+
+    /**
+     * Simuliert einen Operative, der nach dem Ausfallzeitpunkt entweder
+     * nicht mehr antwortet oder den Aufruf ablehnt.
+     */
+    private static class SimulatedOperative implements InvocationHandler {
+
+        /**
+         * Die Art des Ausfalls: 0 fr keinen, 1 fr hngende Aufrufe und 2
+         * fr abgelehnte Aufrufe.
+         */
+        private int failureKind;
+
+        /**
+         * Erzeugt einen simulierten Operative.
+         *
+         * @param failureKind  Die Art des Ausfalls.
+         */
+        SimulatedOperative(int failureKind) {
+            this.failureKind = failureKind;
+        }
+
+        /**
+         * Beantwortet den Aufruf einer Methode des Operatives.
+         *
+         * @param proxy   Der Proxy des Operatives.
+         * @param method  Die aufgerufene Methode.
+         * @param args    Die Parameter des Aufrufs.
+         *
+         * @return  Das Ergebnis des Aufrufs.
+         *
+         * @throws Throwable  Wenn der Aufruf abgelehnt wird.
+         */
+        public Object invoke(Object proxy, Method method, Object[] args)
+            throws Throwable {
+
+            if (method.getName().equals("equals")) {
+                return new Boolean(proxy == args[0]);
+            } else if (method.getName().equals("hashCode")) {
+                return new Integer(System.identityHashCode(proxy));
+            } else if (method.getName().equals("toString")) {
+                return "SimulatedOperative@"
+                       + Integer.toHexString(System.identityHashCode(proxy));
+            }
+
+            synchronized (OperativeMonitoringBenchmark.class) {
+                heartbeats++;
+            }
+            if ((failureTime > 0) && (failureKind == 1)) {
+                Thread.sleep(Long.MAX_VALUE / 2);
+            } else if ((failureTime > 0) && (failureKind == 2)) {
+                throw new RemoteException("Verbindung abgelehnt");
+            }
+            Thread.sleep(RESPONSE_MILLIS);
+            return Boolean.TRUE;
+        }
+    }
+
+    /**
+     * Fhrt die Messung durch und gibt die Ergebnisse aus.
+     *
+     * @param args  Optional die Anzahl der Operatives, der hngenden und der
+     *              ablehnenden Operatives, das Intervall in Millisekunden,
+     *              die maximale Anzahl der Fehlversuche und ob die
+     *              Operatives beschftigt sind.
+     *
+     * @throws Exception  Wenn die Messung unterbrochen wird.
+     */
+    public static void main(String[] args) throws Exception {
+        int operativeNumber = 500;
+        int hangingNumber = 5;
+        int refusingNumber = 5;
+        long interval = 2000;
+        long maxTries = 3;
+        boolean busy = false;
+        final OperativeMonitoringUnit monitoring;
+        final Operative[] operatives;
+        final int failingNumber;
+        Thread leaseThread = null;
+        int failureKind;
+        long maxLatency = 0;
+        long latency;
+
+        if (args.length > 0) {
+            operativeNumber = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            hangingNumber = Integer.parseInt(args[1]);
+        }
+        if (args.length > 2) {
+            refusingNumber = Integer.parseInt(args[2]);
+        }
+        if (args.length > 3) {
+            interval = Long.parseLong(args[3]);
+        }
+        if (args.length > 4) {
+            maxTries = Long.parseLong(args[4]);
+        }
+        if (args.length > 5) {
+            busy = Boolean.valueOf(args[5]).booleanValue();
+        }
+        failingNumber = hangingNumber + refusingNumber;
+
+        monitoring = new OperativeMonitoringUnit(null, maxTries, interval) {
+            void reportUnreachable(Operative operative, long detectionLatency) {
+                synchronized (detectionTimes) {
+                    detectionTimes.put(operative, new Long(
+                        System.currentTimeMillis() - failureTime));
+                    detectionTimes.notifyAll();
+                }
+            }
+        };
+
+        operatives = new Operative[operativeNumber];
+        for (int i = 0; i < operativeNumber; i++) {
+            if (i < hangingNumber) {
+                failureKind = 1;
+            } else if (i < hangingNumber + refusingNumber) {
+                failureKind = 2;
+            } else {
+                failureKind = 0;
+            }
+            operatives[i] = (Operative) Proxy.newProxyInstance(
+                Operative.class.getClassLoader(),
+                new Class[] {Operative.class},
+                new SimulatedOperative(failureKind));
+            monitoring.startMonitoring(operatives[i]);
+        }
+        monitoring.start();
+
+        if (busy) {
+            final long renewInterval = interval / 10;
+            leaseThread = new Thread() {
+                public void run() {
+                    while (true) {
+                        for (int i = failingNumber; i < operatives.length; i++) {
+                            monitoring.renewLease(operatives[i]);
+                        }
+                        try {
+                            Thread.sleep(renewInterval);
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                }
+            };
+            leaseThread.setDaemon(true);
+            leaseThread.start();
+        }
+
+        // Ein Intervall lang alle Operatives erreichbar lassen.
+        Thread.sleep(interval);
+        failureTime = System.currentTimeMillis();
+
+        synchronized (detectionTimes) {
+            while (detectionTimes.size() < failingNumber) {
+                detectionTimes.wait();
+            }
+        }
+        monitoring.terminate();
+
+        System.out.println("Operatives: " + operativeNumber
+                           + ", hngend: " + hangingNumber
+                           + ", ablehnend: " + refusingNumber
+                           + ", Intervall: " + interval + "ms"
+                           + ", Versuche: " + maxTries
+                           + ", beschftigt: " + busy);
+        for (int i = 0; i < failingNumber; i++) {
+            latency = ((Long) detectionTimes.get(operatives[i])).longValue();
+            maxLatency = Math.max(maxLatency, latency);
+            System.out.println((i < hangingNumber ? "hngend   " : "ablehnend ")
+                               + i + ": " + latency + "ms");
+        }
+        System.out.println("Maximale Erkennungsdauer: " + maxLatency + "ms");
+        System.out.println("Gesendete Heartbeats: " + heartbeats);
+        System.exit(0);
+    }
+}
+
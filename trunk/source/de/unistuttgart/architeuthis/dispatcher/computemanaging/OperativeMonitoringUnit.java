@@ -35,21 +35,51 @@
 package de.unistuttgart.architeuthis.dispatcher.computemanaging;
 
 import java.rmi.RemoteException;
-import java.util.Enumeration;
-import java.util.Hashtable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
+import de.unistuttgart.architeuthis.misc.util.BlockingBuffer;
 import de.unistuttgart.architeuthis.systeminterfaces.Operative;
 
 /**
  * berprft in regelmigen Zeitabstnden die Erreichbar von
  * {@link de.unistuttgart.architeuthis.interfaces.Operative}s, die sich beim
- * {@link de.unistuttgart.architeuthis.interfaces.ComputeManager} angemeldet haben.
+ * {@link de.unistuttgart.architeuthis.interfaces.ComputeManager} angemeldet haben.<P>
+ *
+ * Die Aufrufe von <code>isReachable</code> erfolgen gleichzeitig durch
+ * mehrere Heartbeat-Threads. Ein Aufruf, der nicht innerhalb einer festen
+ * Frist beantwortet wird, zhlt als Fehlversuch, so dass ein hngender
+ * Rechner die berprfung der anderen Operatives nicht verzgert. Ein
+ * Operative, der nicht erreicht wurde, wird innerhalb desselben Intervalls
+ * erneut berprft. Nach mehr als der maximalen Anzahl von Fehlversuchen
+ * wird er beim ComputeManager entfernt, zusammen mit der Zeitdauer seit dem
+ * ersten Fehlversuch.<P>
+ *
+ * Jeder Aufruf eines Operatives beim ComputeManager verlngert seinen
+ * Lease um die Dauer eines Intervalls. Ein Operative erhlt nur dann einen
+ * Heartbeat, wenn von seinem Lease weniger als die Hlfte verbleibt. Ein
+ * Operative, der laufend Teillsungen liefert, wird daher nicht zustzlich
+ * aufgerufen.
  *
  * @author Jrgen Heit, Dietmar Lippold
  */
 class OperativeMonitoringUnit extends Thread {
 
+    /**
+     * Die Anzahl der Threads, die gleichzeitig Operatives berprfen. Ein
+     * Thread, dessen Aufruf die Frist berschritten hat, wird ersetzt.
+     */
+    private static final int HEARTBEAT_THREADS = 16;
+
+    /**
+     * Die minimale Frist in Millisekunden fr die Antwort eines Operatives.
+     */
+    private static final long MIN_HEARTBEAT_TIMEOUT = 100;
+
     /**
      * Referenz auf den Compute-Manager, der fr die Verwaltung der
      * Operatives zustndig ist.
@@ -57,10 +87,27 @@ class OperativeMonitoringUnit extends Thread {
     private ComputeManagerImpl computeManager;
 
     /**
-     * Fr jeden Operative als Key ist als Value die Anzahl der bisherigen
-     * fehlgeschlagenen Versuche, den Operative zu erreichen, gespeichert.
+     * Fr jeden berwachten Operative als Key ist als Value sein
+     * <code>HeartbeatState</code> gespeichert. Das Objekt dient auch zur
+     * Synchronisation und Benachrichtigung ber eingegangene Antworten.
      */
-    private Hashtable operativesTries = new Hashtable();
+    private Map operativeStates = new HashMap();
+
+    /**
+     * Die Heartbeats, die noch von einem Thread auszufhren sind.
+     */
+    private BlockingBuffer heartbeatQueue = new BlockingBuffer();
+
+    /**
+     * Die Anzahl der laufenden Heartbeat-Threads.
+     */
+    private int heartbeatThreads = 0;
+
+    /**
+     * Die Anzahl der Heartbeat-Threads, deren Aufruf die Frist berschritten
+     * hat.
+     */
+    private int hangingThreads = 0;
 
     /**
      * Sobald <code>threadTerminated</code> auf <code>true</code> gesetzt wird,
@@ -79,6 +126,13 @@ class OperativeMonitoringUnit extends Thread {
      */
     private long minOperativeMonitoringMillis;
 
+    /**
+     * Die Frist in Millisekunden, innerhalb der ein Operative auf einen
+     * Heartbeat antworten muss. Sie ist so bemessen, dass alle Versuche
+     * innerhalb eines Intervalls stattfinden knnen.
+     */
+    private long heartbeatTimeout;
+
     /**
      * {@link java.util.logging.Logger} eingestellt auf
      * de.unistuttgart.architeuthis.dispatcher
@@ -86,6 +140,116 @@ class OperativeMonitoringUnit extends Thread {
     private static final Logger LOGGER
         = Logger.getLogger(OperativeMonitoringUnit.class.getName());
 
+    /**
+     * Der Zustand der berwachung eines Operatives. Die Attribute werden nur
+     * unter der Sperre von <code>operativeStates</code> verndert.
+     */
+    private static class HeartbeatState {
+
+        /**
+         * Der berwachte Operative.
+         */
+        private Operative operative;
+
+        /**
+         * Die Anzahl der aufeinander folgenden Fehlversuche.
+         */
+        private long failures = 0;
+
+        /**
+         * Der Zeitpunkt des ersten der aufeinander folgenden Fehlversuche.
+         */
+        private long firstFailureTime = 0;
+
+        /**
+         * Gibt an, ob ein Heartbeat eingereiht oder in Ausfhrung ist.
+         */
+        private boolean pending = false;
+
+        /**
+         * Der Zeitpunkt, zu dem fr den laufenden Aufruf der nchste
+         * Fehlversuch gezhlt wird, oder Null, wenn der Heartbeat noch nicht
+         * begonnen wurde.
+         */
+        private long deadline = 0;
+
+        /**
+         * Gibt an, ob der laufende Aufruf die Frist berschritten hat und
+         * bereits als Fehlversuch gezhlt wurde.
+         */
+        private boolean timedOut = false;
+
+        /**
+         * Der frheste Zeitpunkt, zu dem ein nicht erreichter Operative
+         * erneut berprft wird.
+         */
+        private long nextProbeTime = 0;
+
+        /**
+         * Der Zeitpunkt des letzten Aufrufs des Operatives beim
+         * ComputeManager oder seiner letzten Antwort auf einen Heartbeat.
+         */
+        private long lastContactTime;
+
+        /**
+         * Gibt an, ob der Operative nicht mehr berwacht wird.
+         */
+        private boolean removed = false;
+
+        /**
+         * Erzeugt den Zustand fr den bergebenen Operative.
+         *
+         * @param operative  Der zu berwachende Operative.
+         */
+        HeartbeatState(Operative operative) {
+            this.operative = operative;
+            lastContactTime = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Fhrt die eingereihten Heartbeats aus.
+     */
+    private class HeartbeatThread extends Thread {
+
+        /**
+         * Erzeugt einen Heartbeat-Thread als Daemon.
+         */
+        HeartbeatThread() {
+            setDaemon(true);
+        }
+
+        /**
+         * Ruft fr jeden eingereihten Heartbeat <code>isReachable</code> auf
+         * und vermerkt das Ergebnis, bis der Wert <code>null</code> entnommen
+         * wird oder der Thread nach einer Fristberschreitung berzhlig ist.
+         */
+        public void run() {
+            HeartbeatState state;
+            boolean reachable;
+
+            while (true) {
+                state = (HeartbeatState) heartbeatQueue.dequeue();
+                if (state == null) {
+                    return;
+                }
+
+                synchronized (operativeStates) {
+                    state.deadline = System.currentTimeMillis()
+                                     + heartbeatTimeout;
+                }
+                try {
+                    state.operative.isReachable();
+                    reachable = true;
+                } catch (RemoteException e) {
+                    reachable = false;
+                }
+                if (!heartbeatFinished(state, reachable)) {
+                    return;
+                }
+            }
+        }
+    }
 
     /**
      * Initialisert den Operative-Erreichbarkeitstest.
@@ -106,6 +270,8 @@ class OperativeMonitoringUnit extends Thread {
         threadTerminated = false;
         operativeReachableMaxTries = reachMaxTries;
         minOperativeMonitoringMillis = monitoringMillis;
+        heartbeatTimeout = Math.max(MIN_HEARTBEAT_TIMEOUT,
+                                    monitoringMillis / (reachMaxTries + 2));
         computeManager = compMan;
     }
 
@@ -121,9 +287,31 @@ class OperativeMonitoringUnit extends Thread {
      *                   Erreichbarkeitsberwachung miteinbezogen werden soll.
      */
     void startMonitoring(Operative operative) {
-        synchronized (operativesTries) {
-            operativesTries.put(operative, new Long(0));
-            LOGGER.fine("Operative zur berwachung hinzugefgt.");
+        synchronized (operativeStates) {
+            if (!operativeStates.containsKey(operative)) {
+                operativeStates.put(operative, new HeartbeatState(operative));
+                LOGGER.fine("Operative zur berwachung hinzugefgt.");
+            }
+        }
+    }
+
+    /**
+     * Verlngert den Lease eines {@link Operative}, weil dieser den
+     * ComputeManager aufgerufen hat und daher erreichbar ist. Bisherige
+     * Fehlversuche werden dabei verworfen.
+     *
+     * @param operative  Der {@link Operative}, der den ComputeManager
+     *                   aufgerufen hat.
+     */
+    void renewLease(Operative operative) {
+        HeartbeatState state;
+
+        synchronized (operativeStates) {
+            state = (HeartbeatState) operativeStates.get(operative);
+            if (state != null) {
+                state.lastContactTime = System.currentTimeMillis();
+                state.failures = 0;
+            }
         }
     }
 
@@ -143,12 +331,198 @@ class OperativeMonitoringUnit extends Thread {
      *                   Erreichbarkeitsberwachung ausgeschlossen werden soll.
      */
     void stopMonitoring(Operative operative) {
-        synchronized (operativesTries) {
-            operativesTries.remove(operative);
-            LOGGER.fine("Operative aus berwachung entfernt.");
+        HeartbeatState state;
+
+        synchronized (operativeStates) {
+            state = (HeartbeatState) operativeStates.remove(operative);
+            if (state != null) {
+                state.removed = true;
+                LOGGER.fine("Operative aus berwachung entfernt.");
+            }
+        }
+    }
+
+    /**
+     * Vermerkt das Ergebnis eines Heartbeats. Wenn der Aufruf die Frist
+     * berschritten hatte, wurde der Fehlversuch schon gezhlt und der
+     * aufrufende Thread ist mglicherweise berzhlig.
+     *
+     * @param state      Der Zustand des berprften Operatives.
+     * @param reachable  Gibt an, ob der Operative erreichbar war.
+     *
+     * @return  <code>true</code>, wenn der aufrufende Thread weitere
+     *          Heartbeats ausfhren soll, <code>false</code>, wenn er sich
+     *          beenden soll.
+     */
+    private boolean heartbeatFinished(HeartbeatState state, boolean reachable) {
+        boolean continueThread = true;
+
+        synchronized (operativeStates) {
+            if (state.timedOut) {
+                hangingThreads--;
+                if (heartbeatThreads - hangingThreads > HEARTBEAT_THREADS) {
+                    heartbeatThreads--;
+                    continueThread = false;
+                }
+            } else if (reachable) {
+                state.failures = 0;
+                state.lastContactTime = System.currentTimeMillis();
+            } else {
+                countFailure(state, System.currentTimeMillis());
+            }
+            state.pending = false;
+            state.timedOut = false;
+            state.deadline = 0;
+            operativeStates.notifyAll();
+        }
+        return continueThread;
+    }
+
+    /**
+     * Zhlt einen Fehlversuch fr einen Operative. Die Methode wird nur unter
+     * der Sperre von <code>operativeStates</code> aufgerufen.
+     *
+     * @param state  Der Zustand des nicht erreichten Operatives.
+     * @param now    Der aktuelle Zeitpunkt.
+     */
+    private void countFailure(HeartbeatState state, long now) {
+        if (state.failures == 0) {
+            state.firstFailureTime = now;
+        }
+        state.failures++;
+        state.nextProbeTime = now + heartbeatTimeout;
+        if (!state.removed && (state.failures <= operativeReachableMaxTries)) {
+            LOGGER.config("Verbindungsfehler zu Operative. "
+                          + "Erhhe seinen Verbindungsfehlerzhler");
         }
     }
 
+    /**
+     * Reiht fr alle berwachten Operatives, fr die kein Heartbeat aussteht
+     * und deren Lease zu weniger als der Hlfte verbleibt oder die, wenn
+     * <code>onlySuspected</code> gesetzt ist, zuletzt nicht erreicht wurden
+     * und erneut zu berprfen sind, einen Heartbeat ein.
+     * Die Methode wird nur unter der Sperre von <code>operativeStates</code>
+     * aufgerufen.
+     *
+     * @param onlySuspected  Gibt an, ob nur zuletzt nicht erreichte
+     *                       Operatives berprft werden sollen.
+     * @param now            Der aktuelle Zeitpunkt.
+     */
+    private void sendHeartbeats(boolean onlySuspected, long now) {
+        HeartbeatState state;
+        Iterator stateIter;
+
+        stateIter = operativeStates.values().iterator();
+        while (stateIter.hasNext()) {
+            state = (HeartbeatState) stateIter.next();
+            if (!state.pending
+                && (onlySuspected
+                    ? ((state.failures > 0) && (now >= state.nextProbeTime))
+                    : ((state.failures > 0)
+                       || (now - state.lastContactTime
+                           >= minOperativeMonitoringMillis / 2)))) {
+
+                state.pending = true;
+                heartbeatQueue.enqueue(state);
+            }
+        }
+        while ((heartbeatThreads - hangingThreads < HEARTBEAT_THREADS)
+               && (heartbeatThreads - hangingThreads < heartbeatQueue.size())) {
+            heartbeatThreads++;
+            new HeartbeatThread().start();
+        }
+    }
+
+    /**
+     * Zhlt fr alle laufenden Aufrufe, deren Frist abgelaufen ist, einen
+     * Fehlversuch und setzt die nchste Frist. Ein Thread, dessen Aufruf die
+     * Frist zum ersten Mal berschritten hat, wird ersetzt. Die Methode wird
+     * nur unter der Sperre von <code>operativeStates</code> aufgerufen.
+     *
+     * @param now  Der aktuelle Zeitpunkt.
+     */
+    private void checkDeadlines(long now) {
+        HeartbeatState state;
+        Iterator stateIter;
+
+        stateIter = operativeStates.values().iterator();
+        while (stateIter.hasNext()) {
+            state = (HeartbeatState) stateIter.next();
+            if (state.pending && (state.deadline > 0)
+                && (now >= state.deadline)) {
+
+                if (!state.timedOut) {
+                    state.timedOut = true;
+                    hangingThreads++;
+                    if (heartbeatThreads - hangingThreads < HEARTBEAT_THREADS) {
+                        heartbeatThreads++;
+                        new HeartbeatThread().start();
+                    }
+                }
+                countFailure(state, now);
+                state.deadline = now + heartbeatTimeout;
+            }
+        }
+    }
+
+    /**
+     * Ermittelt, ob noch ein Heartbeat aussteht oder ein zuletzt nicht
+     * erreichter Operative erneut zu berprfen ist. Die Methode wird nur
+     * unter der Sperre von <code>operativeStates</code> aufgerufen.
+     *
+     * @return  <code>true</code>, wenn die berprfung noch nicht
+     *          abgeschlossen ist, sonst <code>false</code>.
+     */
+    private boolean checkingOutstanding() {
+        Iterator stateIter;
+        HeartbeatState state;
+
+        stateIter = operativeStates.values().iterator();
+        while (stateIter.hasNext()) {
+            state = (HeartbeatState) stateIter.next();
+            if (state.pending || (state.failures > 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Entnimmt alle Operatives, die fter als zulssig nicht erreicht
+     * wurden, aus der berwachung. Die Methode wird nur unter der Sperre von
+     * <code>operativeStates</code> aufgerufen.
+     *
+     * @return  Die Zustnde der entnommenen Operatives.
+     */
+    private List takeUnreachableOperatives() {
+        List unreachable = new ArrayList();
+        HeartbeatState state;
+        Iterator stateIter;
+
+        stateIter = operativeStates.values().iterator();
+        while (stateIter.hasNext()) {
+            state = (HeartbeatState) stateIter.next();
+            if (state.failures > operativeReachableMaxTries) {
+                state.removed = true;
+                stateIter.remove();
+                unreachable.add(state);
+            }
+        }
+        return unreachable;
+    }
+
+    /**
+     * Meldet dem ComputeManager einen Operative, der fter als zulssig
+     * nicht erreicht wurde, damit er ihn entfernt.
+     *
+     * @param operative         Der nicht erreichbare Operative.
+     * @param detectionLatency  Die Zeitdauer in Millisekunden seit dem ersten
+     *                          Fehlversuch.
+     */
+    void reportUnreachable(Operative operative, long detectionLatency) {
+        computeManager.removeUnreachableOperative(operative, detectionLatency);
+    }
 
     /**
      * Beendet den Prozess, der alle {@link Operative}s in regelmigen
@@ -159,15 +533,80 @@ class OperativeMonitoringUnit extends Thread {
     public void terminate() {
         LOGGER.fine("Operative berwachungsprozess wird gestoppt.");
         threadTerminated = true;
+        synchronized (operativeStates) {
+            operativeStates.notifyAll();
+        }
         synchronized (this) {
             this.notifyAll();
         }
         try {
-            this.join();
+            if (isAlive()) {
+                this.join();
+            }
             LOGGER.fine("Operative-berwachung gestoppt.");
         } catch (InterruptedException e2) {
             LOGGER.fine("Benutzerabbruch.");
         }
+
+        // Die wartenden Heartbeat-Threads beenden.
+        heartbeatQueue.clear();
+        synchronized (operativeStates) {
+            for (int i = 0; i < heartbeatThreads; i++) {
+                heartbeatQueue.enqueue(null);
+            }
+        }
+    }
+
+    /**
+     * Fhrt eine berprfung aller Operatives durch. Zuerst wird jeder
+     * Operative einmal berprft, dann werden die nicht erreichten
+     * Operatives jeweils nach Ablauf der Frist erneut berprft, bis sie
+     * erreicht oder entfernt wurden oder das Intervall abgelaufen ist.
+     *
+     * @param endTime  Der Zeitpunkt, zu dem das Intervall endet.
+     */
+    private void checkOperatives(long endTime) {
+        List unreachable;
+        HeartbeatState state;
+        Iterator stateIter;
+        long now;
+        boolean checking;
+
+        synchronized (operativeStates) {
+            sendHeartbeats(false, System.currentTimeMillis());
+            checking = checkingOutstanding();
+        }
+
+        while (checking && !threadTerminated) {
+            synchronized (operativeStates) {
+                now = System.currentTimeMillis();
+                if (now < endTime) {
+                    try {
+                        operativeStates.wait(Math.max(1, Math.min(
+                            heartbeatTimeout / 2, endTime - now)));
+                    } catch (InterruptedException e) {
+                        LOGGER.warning(
+                            "Operative-berwachung konnte nicht warten.");
+                    }
+                    now = System.currentTimeMillis();
+                }
+                checkDeadlines(now);
+                unreachable = takeUnreachableOperatives();
+                sendHeartbeats(true, now);
+                checking = ((now < endTime) && checkingOutstanding());
+            }
+
+            // Die Operatives ohne Sperre beim ComputeManager entfernen.
+            stateIter = unreachable.iterator();
+            while (stateIter.hasNext()) {
+                state = (HeartbeatState) stateIter.next();
+                LOGGER.info("Verbindungsfehler zu Operative. "
+                            + "Schlage vor ihn zu entfernen.");
+                reportUnreachable(state.operative,
+                                  System.currentTimeMillis()
+                                  - state.firstFailureTime);
+            }
+        }
     }
 
     /**
@@ -177,64 +616,17 @@ class OperativeMonitoringUnit extends Thread {
      * @see java.lang.Runnable#run()
      */
     public void run() {
+        long startTime;
+        long durationMillis;
+
         LOGGER.config("Operative berwachungsprozess gestartet.");
         while (!threadTerminated) {
             LOGGER.finest("berprfe Operatives auf Erreichbarkeit");
-            Enumeration operatives = (Enumeration) operativesTries.keys();
-            long startTime = System.currentTimeMillis();
-            while (operatives.hasMoreElements()) {
-                Operative operative = (Operative) operatives.nextElement();
-                if (!threadTerminated) {
-                    try {
-                        operative.isReachable();
-                        // wenn der Operative noch nicht entfernt wurde,
-                        // dann resete seinen Verbindungsfehlerzhler, da
-                        // Operative erreichbar.
-                        synchronized (operativesTries) {
-                            if (operativesTries.containsKey(operative)) {
-                                operativesTries.put(operative, new Long(0));
-                            }
-                        }
-                    } catch (RemoteException e) {
-                        // falls der Operative nicht erreichbar ist setze seinen
-                        // Fehlerzhler hoch, sofern er nicht schon entfernt
-                        // wurde
-                        long oldErrNo = 0;
-                        boolean inList = false;
-                        synchronized (operativesTries) {
-                            inList = operativesTries.containsKey(operative);
-                            if (inList) {
-                                Long aux = (Long) operativesTries.get(operative);
-                                oldErrNo = aux.intValue();
-                                oldErrNo++;
-                                if (oldErrNo > operativeReachableMaxTries) {
-                                    // solange der ComputeManager den
-                                    // Operative nicht aus der Verwaltung
-                                    // entfernt gehen wir davon aus, dass alles
-                                    // o.k. ist. (s.u.)
-                                    operativesTries.put(operative, new Long(0));
-                                } else {
-                                    operativesTries.put(operative, new Long(oldErrNo));
-                                    LOGGER.config(
-                                        "Verbindungsfehler zu Operative. "
-                                            + "Erhhe seinen "
-                                            + "Verbindungsfehlerzhler");
-                                }
-                            }
-                        }
-                        // falls der Operative schon zu oft nicht erreichbar
-                        // war, so berprft der ComputeManager ob der
-                        // Operative aus der Verwaltung entfernt werden muss.
-                        if (inList && (oldErrNo > operativeReachableMaxTries)) {
-                            LOGGER.info("Verbindungsfehler zu Operative. "
-                                        + "Schlage vor ihn zu entfernen.");
-                            computeManager.verifyOperativeReachability(operative);
-                        }
-                    }
-                }
-            }
-            long durationMillis = System.currentTimeMillis() - startTime;
-            if (durationMillis < minOperativeMonitoringMillis) {
+            startTime = System.currentTimeMillis();
+            checkOperatives(startTime + minOperativeMonitoringMillis);
+            durationMillis = System.currentTimeMillis() - startTime;
+            if (!threadTerminated
+                && (durationMillis < minOperativeMonitoringMillis)) {
                 synchronized (this) {
                     try {
                         this.wait(minOperativeMonitoringMillis - durationMillis);
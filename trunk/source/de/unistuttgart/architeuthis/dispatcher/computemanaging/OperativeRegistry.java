@@ -0,0 +1,412 @@
+/*
+ * file:        OperativeRegistry.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ * Realease 1.0 dieser Software wurde am Institut fr Intelligente Systeme der
+ * Universitt Stuttgart (http://www.informatik.uni-stuttgart.de/ifi/is/) unter
+ * Leitung von Dietmar Lippold (dietmar.lippold@informatik.uni-stuttgart.de)
+ * entwickelt.
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.computemanaging;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import de.unistuttgart.architeuthis.systeminterfaces.Operative;
+import de.unistuttgart.architeuthis.systeminterfaces.OperativeCapabilities;
+
+/**
+ * Verwaltet die angemeldeten Operatives und deren Slots fr den
+ * {@link ComputeManagerImpl}. Jeder Operative erhlt bei der Anmeldung eine
+ * eindeutige Nummer. ber diese sind die Info-Objekte seiner Slots direkt
+ * zugreifbar, so da das Auffinden eines Slots und der Wechsel eines Slots
+ * zwischen dem aktiven und dem passiven Zustand unabhngig von der Anzahl
+ * der Operatives in konstanter Zeit erfolgt. Die passiven Slots werden in
+ * der Reihenfolge gehalten, in der sie passiv wurden.<P>
+ *
+ * Alle Methoden sind auf die Instanz synchronisiert. Sie rufen keine
+ * Methoden anderer Objekte auf, so da die Sperre immer nur kurz gehalten
+ * wird.
+ */
+class OperativeRegistry {
+
+    /**
+     * Rckgabewert von <CODE>remove</CODE>, wenn der Slot nicht registriert
+     * war.
+     */
+    static final int NOT_REGISTERED = 0;
+
+    /**
+     * Rckgabewert von <CODE>remove</CODE>, wenn der Slot entfernt wurde und
+     * vom Operative noch weitere Slots registriert sind.
+     */
+    static final int SLOT_REMOVED = 1;
+
+    /**
+     * Rckgabewert von <CODE>remove</CODE>, wenn der letzte Slot eines
+     * Operatives entfernt wurde, aber noch andere Operatives registriert
+     * sind.
+     */
+    static final int OPERATIVE_REMOVED = 2;
+
+    /**
+     * Rckgabewert von <CODE>remove</CODE>, wenn der letzte Slot des letzten
+     * Operatives entfernt wurde.
+     */
+    static final int LAST_REMOVED = 3;
+
+    /**
+     * Die nchste zu vergebende Nummer eines Operatives.
+     */
+    private long nextOperativeId = 0;
+
+    /**
+     * Zu jedem registrierten Operative die Nummer als <CODE>Long</CODE>.
+     */
+    private Map operativeIds = new HashMap();
+
+    /**
+     * Zu jeder Nummer eines registrierten Operatives ein Array mit den
+     * Info-Objekten seiner Slots. Ein bereits entfernter Slot ist darin
+     * durch <CODE>null</CODE> vertreten.
+     */
+    private Map operativeSlots = new HashMap();
+
+    /**
+     * Zu jeder Nummer eines registrierten Operatives die Anzahl seiner noch
+     * registrierten Slots als <CODE>Integer</CODE>.
+     */
+    private Map slotCounts = new HashMap();
+
+    /**
+     * Die Info-Objekte der aktiven Slots, d.h. der Slots, die ein
+     * Teilproblem berechnen oder eines erhalten sollen.
+     */
+    private Set activeSlots = new HashSet();
+
+    /**
+     * Die Info-Objekte der passiven Slots in der Reihenfolge, in der sie
+     * passiv wurden. Diese berechnen kein Teilproblem und stehen fr neue
+     * Teilprobleme zur Verfgung.
+     */
+    private Set passiveSlots = new LinkedHashSet();
+
+    /**
+     * Die Summe der Ergebnisse der Leistungstests der registrierten
+     * Operatives, die ein Ergebnis geliefert haben.
+     */
+    private double benchmarkScoreSum = 0;
+
+    /**
+     * Die Anzahl der registrierten Operatives, die ein Ergebnis des
+     * Leistungstests geliefert haben.
+     */
+    private int benchmarkScoreNumber = 0;
+
+    /**
+     * Registriert einen Operative mit der angegebenen Anzahl von Slots, die
+     * alle aktiv sind. Der Operative erhlt eine neue Nummer. Alle Slots
+     * erhalten ein gemeinsames Objekt, auf das beim Senden von
+     * Teilproblemen synchronisiert wird, und ein gemeinsames Objekt zur
+     * Schtzung der Geschwindigkeit des Operatives. Rechnen laut den
+     * Leistungsmerkmalen nicht alle Slots gleichzeitig, meldet der
+     * Operative den Beginn jeder Berechnung.
+     *
+     * @param operative     Der zu registrierende Operative.
+     * @param slots         Die Anzahl der Slots. Diese mu grer oder gleich
+     *                      Eins sein.
+     * @param capabilities  Die Leistungsmerkmale des Operatives oder
+     *                      <CODE>null</CODE>, wenn sie nicht bekannt sind.
+     *
+     * @return  Die Info-Objekte der Slots des Operatives.
+     */
+    synchronized InfoOperative[] register(Operative operative, int slots,
+                                          OperativeCapabilities capabilities) {
+        InfoOperative[] operativeInfos = new InfoOperative[slots];
+        Object sendingLock = new Object();
+        OperativeSpeed speed = new OperativeSpeed(capabilities);
+        Long operativeId = new Long(nextOperativeId++);
+        boolean reportsStart = ((capabilities != null)
+                                && (capabilities.getComputations() > 0)
+                                && (capabilities.getComputations() < slots));
+
+        for (int i = 0; i < slots; i++) {
+            operativeInfos[i] = new InfoOperative(operative,
+                                                  operativeId.longValue(),
+                                                  i, sendingLock, speed,
+                                                  reportsStart);
+            activeSlots.add(operativeInfos[i]);
+        }
+        if (speed.getBenchmarkScore() > 0) {
+            benchmarkScoreSum += speed.getBenchmarkScore();
+            benchmarkScoreNumber++;
+        }
+        operativeIds.put(operative, operativeId);
+        operativeSlots.put(operativeId, (InfoOperative[]) operativeInfos.clone());
+        slotCounts.put(operativeId, new Integer(slots));
+
+        return operativeInfos;
+    }
+
+    /**
+     * Entfernt einen Slot aus der Verwaltung.
+     *
+     * @param operativeInfo  Das Info-Objekt des zu entfernenden Slots.
+     *
+     * @return  Einen der Werte <CODE>NOT_REGISTERED</CODE>,
+     *          <CODE>SLOT_REMOVED</CODE>, <CODE>OPERATIVE_REMOVED</CODE> oder
+     *          <CODE>LAST_REMOVED</CODE>.
+     */
+    synchronized int remove(InfoOperative operativeInfo) {
+        Long operativeId = new Long(operativeInfo.getOperativeId());
+        InfoOperative[] operativeInfos;
+        int remainingSlots;
+
+        if (!activeSlots.remove(operativeInfo)
+                && !passiveSlots.remove(operativeInfo)) {
+            return NOT_REGISTERED;
+        }
+
+        operativeInfos = (InfoOperative[]) operativeSlots.get(operativeId);
+        operativeInfos[operativeInfo.getSlot()] = null;
+        remainingSlots = ((Integer) slotCounts.get(operativeId)).intValue() - 1;
+        if (remainingSlots > 0) {
+            slotCounts.put(operativeId, new Integer(remainingSlots));
+            return SLOT_REMOVED;
+        }
+
+        operativeSlots.remove(operativeId);
+        slotCounts.remove(operativeId);
+        if (operativeInfo.getSpeed().getBenchmarkScore() > 0) {
+            benchmarkScoreSum -= operativeInfo.getSpeed().getBenchmarkScore();
+            benchmarkScoreNumber--;
+        }
+        if (operativeId.equals(operativeIds.get(operativeInfo.getOperative()))) {
+            operativeIds.remove(operativeInfo.getOperative());
+        }
+        if (activeSlots.isEmpty() && passiveSlots.isEmpty()) {
+            return LAST_REMOVED;
+        } else {
+            return OPERATIVE_REMOVED;
+        }
+    }
+
+    /**
+     * Liefert das Info-Objekt zu einem Slot eines Operatives.
+     *
+     * @param operative  Der Operative.
+     * @param slot       Die Nummer des Slots.
+     *
+     * @return  Das Info-Objekt des Slots oder <CODE>null</CODE>, wenn der
+     *          Operative oder der Slot nicht registriert ist.
+     */
+    synchronized InfoOperative getOperativeInfo(Operative operative, int slot) {
+        InfoOperative[] operativeInfos = slotArray(operative);
+
+        if ((operativeInfos == null)
+                || (slot < 0) || (slot >= operativeInfos.length)) {
+            return null;
+        }
+        return operativeInfos[slot];
+    }
+
+    /**
+     * Liefert die Info-Objekte aller registrierten Slots eines Operatives.
+     *
+     * @param operative  Der Operative.
+     *
+     * @return  Eine neu erzeugte Liste mit den Info-Objekten. Ist der
+     *          Operative nicht registriert, ist die Liste leer.
+     */
+    synchronized List getOperativeInfos(Operative operative) {
+        InfoOperative[] operativeInfos = slotArray(operative);
+        List infoList = new ArrayList();
+
+        if (operativeInfos != null) {
+            for (int i = 0; i < operativeInfos.length; i++) {
+                if (operativeInfos[i] != null) {
+                    infoList.add(operativeInfos[i]);
+                }
+            }
+        }
+        return infoList;
+    }
+
+    /**
+     * Liefert die Anzahl der registrierten Slots eines Operatives.
+     *
+     * @param operative  Der Operative.
+     *
+     * @return  Die Anzahl der Slots oder Null, wenn der Operative nicht
+     *          registriert ist.
+     */
+    synchronized int getSlotNumber(Operative operative) {
+        Long operativeId = (Long) operativeIds.get(operative);
+
+        if (operativeId == null) {
+            return 0;
+        }
+        return ((Integer) slotCounts.get(operativeId)).intValue();
+    }
+
+    /**
+     * Liefert das Array mit den Info-Objekten der Slots eines Operatives.
+     *
+     * @param operative  Der Operative.
+     *
+     * @return  Das Array oder <CODE>null</CODE>, wenn der Operative nicht
+     *          registriert ist.
+     */
+    private InfoOperative[] slotArray(Operative operative) {
+        Long operativeId;
+
+        if (operative == null) {
+            return null;
+        }
+        operativeId = (Long) operativeIds.get(operative);
+        if (operativeId == null) {
+            return null;
+        }
+        return (InfoOperative[]) operativeSlots.get(operativeId);
+    }
+
+    /**
+     * Ermittelt, ob kein Slot registriert ist.
+     *
+     * @return  <CODE>true</CODE>, wenn kein Slot registriert ist, sonst
+     *          <CODE>false</CODE>.
+     */
+    synchronized boolean isEmpty() {
+        return (activeSlots.isEmpty() && passiveSlots.isEmpty());
+    }
+
+    /**
+     * Ermittelt, ob ein Slot registriert und aktiv ist.
+     *
+     * @param operativeInfo  Das Info-Objekt des Slots.
+     *
+     * @return  <CODE>true</CODE>, wenn der Slot registriert und aktiv ist,
+     *          sonst <CODE>false</CODE>.
+     */
+    synchronized boolean isActive(InfoOperative operativeInfo) {
+        return activeSlots.contains(operativeInfo);
+    }
+
+    /**
+     * Setzt einen aktiven Slot passiv und hngt ihn an das Ende der passiven
+     * Slots an.
+     *
+     * @param operativeInfo  Das Info-Objekt des Slots.
+     *
+     * @return  <CODE>true</CODE>, wenn der Slot registriert und aktiv war,
+     *          sonst <CODE>false</CODE>.
+     */
+    synchronized boolean setPassive(InfoOperative operativeInfo) {
+        if (activeSlots.remove(operativeInfo)) {
+            passiveSlots.add(operativeInfo);
+            operativeInfo.setActive(false);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Setzt einen passiven Slot aktiv.
+     *
+     * @param operativeInfo  Das Info-Objekt des Slots.
+     *
+     * @return  <CODE>true</CODE>, wenn der Slot registriert und passiv war,
+     *          sonst <CODE>false</CODE>.
+     */
+    synchronized boolean setActive(InfoOperative operativeInfo) {
+        if (passiveSlots.remove(operativeInfo)) {
+            activeSlots.add(operativeInfo);
+            operativeInfo.setActive(true);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Setzt alle passiven Slots aktiv.
+     *
+     * @return  Eine neu erzeugte Liste mit den Info-Objekten der Slots, die
+     *          aktiv gesetzt wurden, in der Reihenfolge, in der sie passiv
+     *          wurden.
+     */
+    synchronized List activateAll() {
+        List activated = new ArrayList(passiveSlots);
+
+        for (int i = 0; i < activated.size(); i++) {
+            ((InfoOperative) activated.get(i)).setActive(true);
+        }
+        activeSlots.addAll(activated);
+        passiveSlots.clear();
+        return activated;
+    }
+
+    /**
+     * Liefert die Info-Objekte aller registrierten Slots.
+     *
+     * @return  Eine neu erzeugte Liste mit den Info-Objekten.
+     */
+    synchronized List getAllOperativeInfos() {
+        List infoList = new ArrayList(activeSlots);
+
+        infoList.addAll(passiveSlots);
+        return infoList;
+    }
+
+    /**
+     * Liefert das mittlere Ergebnis der Leistungstests der registrierten
+     * Operatives.
+     *
+     * @return  Das mittlere Ergebnis oder Null, wenn kein registrierter
+     *          Operative ein Ergebnis geliefert hat.
+     */
+    synchronized double getMeanBenchmarkScore() {
+        if (benchmarkScoreNumber == 0) {
+            return 0;
+        }
+        return benchmarkScoreSum / benchmarkScoreNumber;
+    }
+
+    /**
+     * Liefert die geschtzte relative Geschwindigkeit des Operatives eines
+     * Slots.
+     *
+     * @param operativeInfo  Das Info-Objekt des Slots.
+     *
+     * @return  Die geschtzte relative Geschwindigkeit, wobei ein Wert von
+     *          Eins einem durchschnittlichen Operative entspricht.
+     */
+    double getSpeed(InfoOperative operativeInfo) {
+        return operativeInfo.getSpeed().getSpeed(getMeanBenchmarkScore());
+    }
+}
+
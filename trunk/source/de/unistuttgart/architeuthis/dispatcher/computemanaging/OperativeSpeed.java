@@ -0,0 +1,157 @@
+/*
+ * file:        OperativeSpeed.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.computemanaging;
+
+import de.unistuttgart.architeuthis.systeminterfaces.OperativeCapabilities;
+
+/**
+ * Schtzt die Geschwindigkeit eines Operatives im Verhltnis zu den anderen
+ * Operatives. Alle Slots eines Operatives verwenden die gleiche Instanz.<p>
+ *
+ * Fr jede von dem Operative gelieferte Teillsung wird das Verhltnis der
+ * gegltteten Berechnungszeit der Teilprobleme des Problems zur
+ * beobachteten Berechnungszeit auf dem Operative ermittelt. Die Schtzung
+ * ist ein gleitender Mittelwert dieser Verhltnisse. Solange noch keine
+ * Berechnungszeit beobachtet wurde, wird das Ergebnis des Leistungstests
+ * des Operatives im Verhltnis zum mittleren Ergebnis aller Operatives
+ * verwendet.
+ */
+class OperativeSpeed {
+
+    /**
+     * Das Gewicht einer neuen Beobachtung im gleitenden Mittelwert.
+     */
+    private static final double RECENT_WEIGHT = 0.25;
+
+    /**
+     * Der kleinste und der grte Wert einer einzelnen Beobachtung. Damit
+     * wird der Einflu von Ausreiern, z.B. durch eine Verzgerung beim
+     * Senden, begrenzt.
+     */
+    private static final double MIN_RATIO = 0.01;
+    private static final double MAX_RATIO = 100;
+
+    /**
+     * Die Leistungsmerkmale des Operatives oder <code>null</code>, wenn sie
+     * nicht bekannt sind.
+     */
+    private OperativeCapabilities capabilities;
+
+    /**
+     * Der gleitende Mittelwert der beobachteten relativen Geschwindigkeiten.
+     */
+    private double observedSpeed = 1;
+
+    /**
+     * Die Anzahl der bisherigen Beobachtungen.
+     */
+    private long observations = 0;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param capabilities  Die Leistungsmerkmale des Operatives oder
+     *                      <code>null</code>, wenn sie nicht bekannt sind.
+     */
+    OperativeSpeed(OperativeCapabilities capabilities) {
+        this.capabilities = capabilities;
+    }
+
+    /**
+     * Liefert die Leistungsmerkmale des Operatives.
+     *
+     * @return  Die Leistungsmerkmale des Operatives oder <code>null</code>,
+     *          wenn sie nicht bekannt sind.
+     */
+    OperativeCapabilities getCapabilities() {
+        return capabilities;
+    }
+
+    /**
+     * Liefert das Ergebnis des Leistungstests des Operatives.
+     *
+     * @return  Das Ergebnis des Leistungstests oder Null, wenn keines
+     *          vorliegt.
+     */
+    double getBenchmarkScore() {
+        if ((capabilities == null) || (capabilities.getBenchmarkScore() <= 0)) {
+            return 0;
+        }
+        return capabilities.getBenchmarkScore();
+    }
+
+    /**
+     * Vermerkt die beobachtete Berechnungszeit eines Teilproblems.
+     *
+     * @param duration          Die beobachtete Berechnungszeit in
+     *                          Millisekunden.
+     * @param expectedDuration  Die geglttete Berechnungszeit der
+     *                          Teilprobleme des Problems in Millisekunden.
+     */
+    synchronized void notifyComputation(long duration, long expectedDuration) {
+        double ratio;
+
+        if ((duration <= 0) || (expectedDuration <= 0)) {
+            return;
+        }
+        ratio = ((double) expectedDuration) / duration;
+        ratio = Math.max(MIN_RATIO, Math.min(MAX_RATIO, ratio));
+        if (observations == 0) {
+            observedSpeed = ratio;
+        } else {
+            observedSpeed = RECENT_WEIGHT * ratio
+                            + (1 - RECENT_WEIGHT) * observedSpeed;
+        }
+        observations++;
+    }
+
+    /**
+     * Liefert die geschtzte relative Geschwindigkeit des Operatives. Ein
+     * Wert von Eins entspricht einem durchschnittlichen Operative.
+     *
+     * @param meanBenchmarkScore  Das mittlere Ergebnis des Leistungstests
+     *                            aller Operatives oder Null, wenn keines
+     *                            vorliegt.
+     *
+     * @return  Die geschtzte relative Geschwindigkeit.
+     */
+    synchronized double getSpeed(double meanBenchmarkScore) {
+        if (observations > 0) {
+            return observedSpeed;
+        }
+        if ((meanBenchmarkScore > 0) && (getBenchmarkScore() > 0)) {
+            return getBenchmarkScore() / meanBenchmarkScore;
+        }
+        return 1;
+    }
+
+    /**
+     * Liefert die Anzahl der bisherigen Beobachtungen.
+     *
+     * @return  Die Anzahl der beobachteten Berechnungszeiten.
+     */
+    synchronized long getObservations() {
+        return observations;
+    }
+}
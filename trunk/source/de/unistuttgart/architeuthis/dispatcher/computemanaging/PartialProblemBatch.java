@@ -0,0 +1,115 @@
+/*
+ * file:        PartialProblemBatch.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ * Realease 1.0 dieser Software wurde am Institut fr Intelligente Systeme der
+ * Universitt Stuttgart (http://www.informatik.uni-stuttgart.de/ifi/is/) unter
+ * Leitung von Dietmar Lippold (dietmar.lippold@informatik.uni-stuttgart.de)
+ * entwickelt.
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.computemanaging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import de.unistuttgart.architeuthis.dispatcher.problemmanaging.ParProbWrapper;
+
+/**
+ * Hilfsklasse zur Sammlung der Teilprobleme, die mehreren Slots eines
+ * Operatives mit einem Aufruf bergeben werden sollen. Es werden nur
+ * Teilprobleme aufgenommen, die keinen RemoteStore verwenden.
+ */
+class PartialProblemBatch {
+
+    /**
+     * Die Info-Objekte der Slots, denen die Teilprobleme bergeben werden
+     * sollen.
+     */
+    private List operativeInfos = new ArrayList();
+
+    /**
+     * Die Info-Objekte der Teilprobleme. Das Teilproblem mit einem bestimmten
+     * Index ist fr den Slot mit dem gleichen Index in
+     * <CODE>operativeInfos</CODE> bestimmt.
+     */
+    private List partProbInfos = new ArrayList();
+
+    /**
+     * Ermittelt, ob das Teilproblem des bergebenen Wrappers in das Bndel
+     * aufgenommen werden kann. Das ist der Fall, wenn es weder einen zentralen
+     * RemoteStore noch einen Generator fr einen dezentralen RemoteStore
+     * verwendet.
+     *
+     * @param parProbWrap  Der Wrapper des zu prfenden Teilproblems.
+     *
+     * @return  <CODE>true</CODE>, wenn das Teilproblem aufgenommen werden
+     *          kann, sonst <CODE>false</CODE>.
+     */
+    boolean accepts(ParProbWrapper parProbWrap) {
+        return ((parProbWrap.getCentralRemoteStore() == null)
+                && (parProbWrap.getRemoteStoreGenerator() == null));
+    }
+
+    /**
+     * Nimmt ein Teilproblem zur bergabe an einen Slot in das Bndel auf.
+     *
+     * @param operativeInfo  Das Info-Objekt des Slots.
+     * @param partProbInfo   Das Info-Objekt des Teilproblems.
+     */
+    void add(InfoOperative operativeInfo, InfoParProbWrapper partProbInfo) {
+        operativeInfos.add(operativeInfo);
+        partProbInfos.add(partProbInfo);
+    }
+
+    /**
+     * Liefert die Anzahl der Teilprobleme im Bndel.
+     *
+     * @return  Die Anzahl der Teilprobleme.
+     */
+    int size() {
+        return operativeInfos.size();
+    }
+
+    /**
+     * Liefert das Info-Objekt des Slots mit dem angegebenen Index.
+     *
+     * @param index  Der Index des Slots im Bndel.
+     *
+     * @return  Das Info-Objekt des Slots.
+     */
+    InfoOperative getOperativeInfo(int index) {
+        return (InfoOperative) operativeInfos.get(index);
+    }
+
+    /**
+     * Liefert das Info-Objekt des Teilproblems mit dem angegebenen Index.
+     *
+     * @param index  Der Index des Teilproblems im Bndel.
+     *
+     * @return  Das Info-Objekt des Teilproblems.
+     */
+    InfoParProbWrapper getPartProbInfo(int index) {
+        return (InfoParProbWrapper) partProbInfos.get(index);
+    }
+}
+
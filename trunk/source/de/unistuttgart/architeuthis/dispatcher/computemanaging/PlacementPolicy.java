@@ -0,0 +1,231 @@
+/*
+ * file:        PlacementPolicy.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.computemanaging;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import de.unistuttgart.architeuthis.dispatcher.statistic.ProblemStatisticsCollector;
+
+/**
+ * Legt fest, ob ein Slot ein Teilproblem in der Schluphase eines Problems
+ * zurckstellen soll, damit es ein schnellerer Operative berechnet. In der
+ * Schluphase, d.h. wenn das Problem zuletzt kein neues Teilproblem mehr
+ * geliefert hat, bestimmt das zuletzt fertige Teilproblem die Gesamtdauer.
+ * Ein langsamer Operative soll dann keines der letzten Teilprobleme
+ * erhalten, wenn ein schnellerer Operative es voraussichtlich frher fertig
+ * berechnet, auch wenn er dafr erst seine aktuelle Berechnung beenden
+ * mu.<p>
+ *
+ * Dazu wird fr jeden Slot eines um mindestens den Faktor
+ * <code>MIN_ADVANTAGE</code> schnelleren Operatives der Zeitpunkt
+ * geschtzt, zu dem er das Teilproblem fertig berechnet htte. Warten
+ * bereits andere zurckgestellte Teilprobleme, werden die frhesten dieser
+ * Zeitpunkte diesen zugerechnet. Ist der danach frheste Zeitpunkt vor dem
+ * geschtzten Zeitpunkt fr den anfragenden Slot, wird das Teilproblem
+ * zurckgestellt.<p>
+ *
+ * Da das Ende der Erzeugung der Teilprobleme oft erst bekannt ist, wenn die
+ * langsamen Operatives ihre letzten Teilprobleme schon erhalten haben, darf
+ * ein unbeschftigter Slot auerdem ein Teilproblem der Schluphase
+ * zustzlich berechnen, wenn alle Slots, die es bisher berechnen, um
+ * mindestens den Faktor <code>MIN_ADVANTAGE</code> langsamer sind und
+ * voraussichtlich spter fertig werden als er.
+ */
+class PlacementPolicy {
+
+    /**
+     * Der Faktor, um den ein Operative mindestens schneller sein mu, damit
+     * ein Teilproblem fr ihn zurckgestellt wird.
+     */
+    private static final double MIN_ADVANTAGE = 1.2;
+
+    /**
+     * Die registrierten Operatives mit ihren Slots.
+     */
+    private OperativeRegistry operativeRegistry;
+
+    /**
+     * Die maximale Zeitdauer in Millisekunden, bis ein passiver Slot
+     * reaktiviert wird.
+     */
+    private long reactivationDelay;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param operativeRegistry  Die registrierten Operatives.
+     * @param reactivationDelay  Die maximale Zeitdauer in Millisekunden, bis
+     *                           ein passiver Slot reaktiviert wird.
+     */
+    PlacementPolicy(OperativeRegistry operativeRegistry,
+                    long reactivationDelay) {
+        this.operativeRegistry = operativeRegistry;
+        this.reactivationDelay = reactivationDelay;
+    }
+
+    /**
+     * Schtzt die Zeitdauer, bis ein Slot seine aktuelle Berechnung beendet
+     * hat. Hat die Berechnung bereits lnger gedauert als erwartet, wird
+     * angenommen, da sie noch so lange dauert, wie sie die erwartete
+     * Berechnungszeit berschritten hat. Wartet das Teilproblem noch im
+     * Vorrat des Operatives, wird die gesamte erwartete Berechnungszeit
+     * angenommen.
+     *
+     * @param operativeInfo  Das Info-Objekt des Slots.
+     * @param speed          Die geschtzte Geschwindigkeit des Slots.
+     * @param now            Der aktuelle Zeitpunkt.
+     *
+     * @return  Die geschtzte Zeitdauer in Millisekunden, bis der Slot ein
+     *          neues Teilproblem berechnen kann.
+     */
+    private long availableIn(InfoOperative operativeInfo, double speed,
+                             long now) {
+        InfoParProbWrapper current = operativeInfo.getInfoParProbWrapper();
+        long expected;
+        long elapsed = 0;
+        long start;
+
+        if (current == null) {
+            return (operativeInfo.isActive() ? 0 : reactivationDelay);
+        }
+        expected = Math.round(current.getParProbWrapper()
+                                     .getProblemStatisticCollector()
+                                     .recentComputationDuration() / speed);
+        start = operativeInfo.getStartTime();
+        if (start != 0) {
+            elapsed = now - start;
+        }
+        return Math.abs(expected - elapsed);
+    }
+
+    /**
+     * Ermittelt, ob der bergebene Slot das bergebene Teilproblem
+     * zurckstellen soll.
+     *
+     * @param operativeInfo  Das Info-Objekt des Slots, der ein Teilproblem
+     *                       berechnen soll.
+     * @param partProbInfo   Das Info-Objekt des Teilproblems, das noch von
+     *                       keinem Slot berechnet wird.
+     * @param waiting        Die Anzahl der anderen Teilprobleme, die schon
+     *                       zurckgestellt wurden oder aus anderen Grnden
+     *                       auf einen Slot warten.
+     *
+     * @return  <code>true</code>, wenn das Teilproblem zurckgestellt
+     *          werden soll, sonst <code>false</code>.
+     */
+    boolean defers(InfoOperative operativeInfo, InfoParProbWrapper partProbInfo,
+                   int waiting) {
+        ProblemStatisticsCollector statistic =
+            partProbInfo.getParProbWrapper().getProblemStatisticCollector();
+        double meanScore;
+        InfoOperative otherInfo;
+        List operativeInfos;
+        long[] finishTimes;
+        int candidates = 0;
+        long now = System.currentTimeMillis();
+        long duration;
+        double speed;
+        double otherSpeed;
+
+        if (!statistic.isFinalPhase()) {
+            return false;
+        }
+        duration = statistic.recentComputationDuration();
+        if (duration <= 0) {
+            return false;
+        }
+
+        meanScore = operativeRegistry.getMeanBenchmarkScore();
+        speed = operativeInfo.getSpeed().getSpeed(meanScore);
+        operativeInfos = operativeRegistry.getAllOperativeInfos();
+        finishTimes = new long[operativeInfos.size()];
+        Iterator iter = operativeInfos.iterator();
+        while (iter.hasNext()) {
+            otherInfo = (InfoOperative) iter.next();
+            otherSpeed = otherInfo.getSpeed().getSpeed(meanScore);
+            if (otherSpeed >= speed * MIN_ADVANTAGE) {
+                finishTimes[candidates++] =
+                    availableIn(otherInfo, otherSpeed, now)
+                    + Math.round(duration / otherSpeed);
+            }
+        }
+
+        if (candidates <= waiting) {
+            return false;
+        }
+        Arrays.sort(finishTimes, 0, candidates);
+        return (finishTimes[waiting] < duration / speed);
+    }
+
+    /**
+     * Ermittelt, ob der bergebene Slot das bergebene, schon in Berechnung
+     * befindliche Teilproblem zustzlich berechnen soll, weil er es
+     * voraussichtlich frher fertig berechnet als die Slots, die es bisher
+     * berechnen.
+     *
+     * @param operativeInfo  Das Info-Objekt des unbeschftigten Slots.
+     * @param partProbInfo   Das Info-Objekt des in Berechnung befindlichen
+     *                       Teilproblems.
+     *
+     * @return  <code>true</code>, wenn der Slot das Teilproblem zustzlich
+     *          berechnen soll, sonst <code>false</code>.
+     */
+    boolean replaces(InfoOperative operativeInfo,
+                     InfoParProbWrapper partProbInfo) {
+        ProblemStatisticsCollector statistic =
+            partProbInfo.getParProbWrapper().getProblemStatisticCollector();
+        InfoOperative otherInfo;
+        List computingInfos;
+        long now = System.currentTimeMillis();
+        long duration;
+        double meanScore;
+        double speed;
+        double otherSpeed;
+
+        if (!statistic.isFinalPhase()) {
+            return false;
+        }
+        duration = statistic.recentComputationDuration();
+        computingInfos = partProbInfo.getOperativeInfos();
+        if ((duration <= 0) || computingInfos.isEmpty()) {
+            return false;
+        }
+
+        meanScore = operativeRegistry.getMeanBenchmarkScore();
+        speed = operativeInfo.getSpeed().getSpeed(meanScore);
+        Iterator iter = computingInfos.iterator();
+        while (iter.hasNext()) {
+            otherInfo = (InfoOperative) iter.next();
+            otherSpeed = otherInfo.getSpeed().getSpeed(meanScore);
+            if ((otherSpeed * MIN_ADVANTAGE > speed)
+                    || (availableIn(otherInfo, otherSpeed, now)
+                        <= duration / speed)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
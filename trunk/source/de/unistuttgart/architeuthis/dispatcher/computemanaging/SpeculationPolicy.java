@@ -0,0 +1,129 @@
+/*
+ * file:        SpeculationPolicy.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.computemanaging;
+
+import de.unistuttgart.architeuthis.dispatcher.problemmanaging.ParProbWrapper;
+import de.unistuttgart.architeuthis.dispatcher.statistic.ProblemStatisticsCollector;
+
+/**
+ * Legt fest, welche schon in Berechnung befindlichen Teilprobleme einem
+ * unbeschftigten Slot zustzlich zugewiesen werden drfen. Ein Teilproblem
+ * wird nur dann spekulativ ein weiteres Mal berechnet, wenn seine bisherige
+ * Berechnungszeit ein vorgegebenes Quantil der Berechnungszeiten der
+ * fertig berechneten Teilprobleme des gleichen Problems berschreitet.
+ * Auerdem ist der Anteil der spekulativen Berechnungen an den erzeugten
+ * Teilproblemen eines Problems begrenzt.<p>
+ *
+ * Bei einem Quantil von Null und einem Anteil von Null darf wie bisher
+ * jedes Teilproblem mehrfach berechnet werden.<p>
+ *
+ * Unabhngig davon darf ein Teilproblem zustzlich berechnet werden, wenn
+ * es nach der Zuweisungsstrategie fr die Schluphase eines Problems auf
+ * dem anfragenden Slot voraussichtlich frher fertig wird.
+ */
+class SpeculationPolicy {
+
+    /**
+     * Das Quantil der Berechnungszeiten in Prozent, das die bisherige
+     * Berechnungszeit berschreiten mu.
+     */
+    private int percentile;
+
+    /**
+     * Der maximale Anteil der spekulativen Berechnungen an den erzeugten
+     * Teilproblemen eines Problems.
+     */
+    private float maxRatio;
+
+    /**
+     * Die Zuweisungsstrategie fr die Schluphase eines Problems oder
+     * <code>null</code>, wenn keine verwendet wird.
+     */
+    private PlacementPolicy placementPolicy;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param percentile  Das Quantil der Berechnungszeiten in Prozent, das
+     *                    die bisherige Berechnungszeit eines Teilproblems
+     *                    berschreiten mu, damit es mehrfach berechnet
+     *                    wird. Bei einem Wert kleiner oder gleich Null wird
+     *                    die Berechnungszeit nicht bercksichtigt.
+     * @param maxRatio    Der maximale Anteil der spekulativen Berechnungen
+     *                    an den erzeugten Teilproblemen eines Problems. Bei
+     *                    einem Wert kleiner oder gleich Null ist der Anteil
+     *                    nicht begrenzt.
+     * @param placementPolicy  Die Zuweisungsstrategie fr die Schluphase
+     *                         eines Problems oder <code>null</code>, wenn
+     *                         keine verwendet wird.
+     */
+    SpeculationPolicy(int percentile, float maxRatio,
+                      PlacementPolicy placementPolicy) {
+        this.percentile = Math.min(100, percentile);
+        this.maxRatio = maxRatio;
+        this.placementPolicy = placementPolicy;
+    }
+
+    /**
+     * Liefert, ob jedes in Berechnung befindliche Teilproblem mehrfach
+     * berechnet werden darf.
+     *
+     * @return  <code>true</code>, wenn keine Einschrnkung besteht, sonst
+     *          <code>false</code>.
+     */
+    boolean isUnrestricted() {
+        return (percentile <= 0) && (maxRatio <= 0);
+    }
+
+    /**
+     * Ermittelt, ob das bergebene Teilproblem spekulativ ein weiteres Mal
+     * berechnet werden darf.
+     *
+     * @param partProbInfo   Das Info-Objekt des in Berechnung befindlichen
+     *                       Teilproblems.
+     * @param operativeInfo  Das Info-Objekt des anfragenden Slots.
+     *
+     * @return  <code>true</code>, wenn das Teilproblem zustzlich vergeben
+     *          werden darf, sonst <code>false</code>.
+     */
+    boolean allows(InfoParProbWrapper partProbInfo,
+                   InfoOperative operativeInfo) {
+        ParProbWrapper parProbWrap = partProbInfo.getParProbWrapper();
+        ProblemStatisticsCollector statistic =
+            parProbWrap.getProblemStatisticCollector();
+
+        if ((placementPolicy != null)
+                && placementPolicy.replaces(operativeInfo, partProbInfo)) {
+            return true;
+        }
+        if (!statistic.allowsSpeculation(maxRatio)) {
+            return false;
+        }
+        return ((percentile <= 0)
+                || statistic.isStraggler(parProbWrap,
+                                         partProbInfo.getEarliestStartTime(),
+                                         percentile));
+    }
+}
+
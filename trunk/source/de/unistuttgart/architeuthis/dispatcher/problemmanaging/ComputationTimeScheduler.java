@@ -0,0 +1,134 @@
+/*
+ * file:        ComputationTimeScheduler.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.problemmanaging;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Whlt das Problem, dessen Teilprobleme, die ausgeliefert aber noch nicht
+ * berechnet wurden, die geringste geschtzte Berechnungszeit haben. Wenn
+ * es mehrere Probleme gibt, von denen derzeit kein Teilproblem ausgeliefert
+ * ist, deren geschtzte Berechnungszeit also einheitlich Null ist, wird das
+ * Problem mit dem geringsten Verhltnis von bisheriger Berechnungsdauer zu
+ * Existenzdauer gewhlt. Die Gewichte der Probleme werden nicht
+ * bercksichtigt.<p>
+ *
+ * Zur Auswahl werden bei jedem Aufruf alle Probleme durchlaufen.
+ *
+ * @author Jrgen Heit, Andreas Heydlauff, Dietmar Lippold
+ */
+class ComputationTimeScheduler implements ProblemScheduler {
+
+    /**
+     * Die Wrapper der verwalteten Probleme.
+     */
+    private Set problemWrappers = new LinkedHashSet();
+
+    /**
+     * Nimmt ein neues Problem in die Verwaltung auf. Das Gewicht wird
+     * ignoriert.
+     *
+     * @param probWrap  Der Wrapper des neuen Problems.
+     * @param weight    Das Gewicht des Problems.
+     */
+    public synchronized void addProblem(ProblemWrapper probWrap, int weight) {
+        problemWrappers.add(probWrap);
+    }
+
+    /**
+     * Entfernt ein Problem aus der Verwaltung.
+     *
+     * @param probWrap  Der Wrapper des zu entfernenden Problems.
+     */
+    public synchronized void removeProblem(ProblemWrapper probWrap) {
+        problemWrappers.remove(probWrap);
+    }
+
+    /**
+     * Hat keine Wirkung, da bei jeder Auswahl alle Probleme geprft werden.
+     *
+     * @param probWrap  Der Wrapper des Problems, das ein neues Teilproblem
+     *                  erzeugt hat.
+     */
+    public void parProbWrapperAdded(ProblemWrapper probWrap) {
+    }
+
+    /**
+     * Liefert einen Teilproblem-Wrapper des Problems mit der geschtzten
+     * geringsten Berechnungszeit der in Bearbeitung befindlichen
+     * Teilprobleme oder <code>null</code>, wenn kein Teilproblem-Wrapper
+     * verfgbar ist.
+     *
+     * @return  Der nchste zu verteilende Teilproblem-Wrapper oder
+     *          <code>null</code>.
+     */
+    public ParProbWrapper nextParProbWrapper() {
+        ProblemWrapper nextProbWrap;
+        ProblemWrapper minTimeProbWrap;
+        ParProbWrapper parProbWrap;
+        Iterator       probWrapIter;
+        float          nextCompRatio = 0;
+        float          minCompRatio = 0;
+        long           nextTime = 0;
+        long           minTime = 0;
+
+        do {
+            parProbWrap = null;
+            minTimeProbWrap = null;
+            synchronized (this) {
+                probWrapIter = problemWrappers.iterator();
+                while (probWrapIter.hasNext()) {
+                    nextProbWrap = (ProblemWrapper) probWrapIter.next();
+                    if (nextProbWrap.newParProbWrapperAvailable()) {
+                        nextTime = nextProbWrap.estimatedComputationTime();
+                        if ((minTimeProbWrap == null) || (nextTime < minTime)) {
+                            minTimeProbWrap = nextProbWrap;
+                            minTime = nextTime;
+                            if (minTime == 0) {
+                                minCompRatio = minTimeProbWrap.computationRatio();
+                            }
+                        } else if (nextTime == 0) {
+                            // Es ist auch minTime == 0
+                            nextCompRatio = nextProbWrap.computationRatio();
+                            if (nextCompRatio < minCompRatio) {
+                                minTimeProbWrap = nextProbWrap;
+                                minCompRatio = nextCompRatio;
+                            }
+                        }
+                    }
+                }
+            }
+
+            if (minTimeProbWrap != null) {
+                synchronized (minTimeProbWrap) {
+                    parProbWrap = minTimeProbWrap.getNewParProbWrapper();
+                }
+            }
+        } while ((minTimeProbWrap != null) && (parProbWrap == null));
+        return parProbWrap;
+    }
+}
+
@@ -0,0 +1,236 @@
+/*
+ * file:        GranularityBenchmark.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.problemmanaging;
+
+import java.util.Random;
+
+/**
+ * Vergleicht die Dauer der Berechnung eines Problems bei fester Gre der
+ * Teilprobleme mit der Dauer bei einer Anpassung der Gre durch den
+ * {@link GranularityController}. Die Berechnung wird simuliert, so da
+ * auch lange Berechnungen mit vielen Operatives schnell ausgewertet werden
+ * knnen. Jedes Teilproblem bentigt auer seiner Berechnungszeit einen
+ * festen Aufwand fr die bertragung. Die Berechnungszeit streut
+ * logarithmisch normalverteilt mit der angegebenen Standardabweichung um
+ * den Wert, der der Gre des Teilproblems entspricht.<P>
+ *
+ * Ausgegeben werden fr jedes Verfahren die Anzahl der Teilprobleme, die
+ * Dauer der Berechnung und die Effizienz, d.h. das Verhltnis der reinen
+ * Berechnungszeit zur gesamten Zeit aller Operatives, jeweils gemittelt
+ * ber mehrere Durchlufe.<P>
+ *
+ * Aufruf: <code>java de.unistuttgart.architeuthis.dispatcher.problemmanaging.GranularityBenchmark
+ * [Operatives [Gesamtdauer [bertragungsdauer [Streuung]]]]</code>
+ */
+public class GranularityBenchmark {
+
+    /**
+     * Die Anzahl der Durchlufe fr jedes Verfahren.
+     */
+    private static final int RUNS = 5;
+
+    /**
+     * Die Anzahl der Teilprobleme der letzten Simulation.
+     */
+    private static long simulatedParProbs;
+
+    /**
+     * Simuliert die Berechnung eines Problems und liefert deren Dauer.
+     *
+     * @param operatives  Die Anzahl der Operatives.
+     * @param totalWork   Die gesamte Berechnungszeit aller Teilprobleme in
+     *                    Millisekunden ohne Streuung.
+     * @param overhead    Der Aufwand fr die bertragung eines Teilproblems
+     *                    in Millisekunden.
+     * @param sigma       Die Standardabweichung des Logarithmus der
+     *                    Berechnungszeiten.
+     * @param parProbSize  Die Berechnungszeit der ersten Teilprobleme in
+     *                     Millisekunden ohne Streuung.
+     * @param adaptive    Gibt an, ob die Gre der Teilprobleme angepat
+     *                    werden soll.
+     * @param seed        Der Startwert fr die Zufallszahlen.
+     *
+     * @return  Die Dauer der Berechnung in Millisekunden.
+     */
+    private static double simulate(int operatives, double totalWork,
+                                   long overhead, double sigma,
+                                   double parProbSize, boolean adaptive,
+                                   long seed) {
+        Random random = new Random(seed);
+        GranularityController controller = null;
+        double[] freeAt = new double[operatives];
+        double[] running = new double[operatives];
+        double remaining = totalWork;
+        double size = parProbSize;
+        double makespan = 0;
+        double sum = 0, squares = 0, recent = 0;
+        double now, work, duration, average, deviation;
+        long computed = 0;
+        int processing = 0;
+        int active = operatives;
+        int op;
+
+        if (adaptive) {
+            controller = new GranularityController(null);
+        }
+        simulatedParProbs = 0;
+
+        while (active > 0) {
+            // Den Operative ermitteln, der als nchstes frei wird.
+            op = 0;
+            for (int i = 1; i < operatives; i++) {
+                if (freeAt[i] < freeAt[op]) {
+                    op = i;
+                }
+            }
+            now = freeAt[op];
+
+            // Die Berechnung seines Teilproblems abschlieen.
+            if (running[op] > 0) {
+                duration = running[op];
+                running[op] = 0;
+                processing--;
+                computed++;
+                sum += duration;
+                squares += duration * duration;
+                if (computed == 1) {
+                    recent = duration;
+                } else {
+                    recent = 0.75 * recent + 0.25 * duration;
+                }
+                makespan = Math.max(makespan, now);
+            }
+
+            if (remaining <= 0) {
+                freeAt[op] = Double.MAX_VALUE;
+                active--;
+                continue;
+            }
+
+            if ((controller != null) && (computed > 0)) {
+                average = sum / computed;
+                deviation = Math.sqrt(Math.max(0, squares / computed
+                                                  - average * average));
+                if (controller.adjust((long) now, computed, processing,
+                                      Math.round(average),
+                                      Math.round(deviation),
+                                      Math.round(recent), overhead / 2,
+                                      (long) now)) {
+                    size *= controller.getSizeFactor();
+                }
+            }
+
+            // Dem Operative das nchste Teilproblem bergeben.
+            work = Math.min(size, remaining);
+            remaining -= work;
+            duration = (overhead
+                        + work * Math.exp(sigma * random.nextGaussian()
+                                          - sigma * sigma / 2));
+            running[op] = duration;
+            freeAt[op] = now + duration;
+            processing++;
+            simulatedParProbs++;
+        }
+
+        return makespan;
+    }
+
+    /**
+     * Simuliert ein Verfahren mehrmals und gibt die Mittelwerte aus.
+     *
+     * @param name         Die Bezeichnung des Verfahrens.
+     * @param operatives   Die Anzahl der Operatives.
+     * @param totalWork    Die gesamte Berechnungszeit aller Teilprobleme.
+     * @param overhead     Der Aufwand fr die bertragung eines
+     *                     Teilproblems.
+     * @param sigma        Die Standardabweichung des Logarithmus der
+     *                     Berechnungszeiten.
+     * @param parProbSize  Die Berechnungszeit der ersten Teilprobleme.
+     * @param adaptive     Gibt an, ob die Gre angepat werden soll.
+     */
+    private static void report(String name, int operatives, double totalWork,
+                               long overhead, double sigma,
+                               double parProbSize, boolean adaptive) {
+        double makespan = 0;
+        long parProbs = 0;
+
+        for (int run = 0; run < RUNS; run++) {
+            makespan += simulate(operatives, totalWork, overhead, sigma,
+                                 parProbSize, adaptive, run);
+            parProbs += simulatedParProbs;
+        }
+        makespan /= RUNS;
+        parProbs /= RUNS;
+
+        System.out.println(name + " : " + parProbs + " Teilprobleme, "
+                           + Math.round(makespan) + " ms, Effizienz "
+                           + Math.round(100 * totalWork
+                                        / (operatives * makespan))
+                           + " %");
+    }
+
+    /**
+     * Fhrt die Simulationen durch.
+     *
+     * @param args  Die optionalen Parameter, siehe Klassenbeschreibung.
+     */
+    public static void main(String[] args) {
+        int operatives = 16;
+        double totalWork = 1200000;
+        long overhead = 20;
+        double sigma = 0.5;
+        int[] parProbsPerOperative = {1, 4, 16, 64, 256, 1024};
+
+        if (args.length > 0) {
+            operatives = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            totalWork = Double.parseDouble(args[1]);
+        }
+        if (args.length > 2) {
+            overhead = Long.parseLong(args[2]);
+        }
+        if (args.length > 3) {
+            sigma = Double.parseDouble(args[3]);
+        }
+
+        System.out.println("Operatives: " + operatives
+                           + ", Gesamtdauer: " + Math.round(totalWork) + " ms"
+                           + ", bertragungsdauer: " + overhead + " ms"
+                           + ", Streuung: " + sigma);
+        System.out.println("Ideale Dauer: "
+                           + Math.round(totalWork / operatives) + " ms");
+
+        for (int i = 0; i < parProbsPerOperative.length; i++) {
+            report("Fest, " + parProbsPerOperative[i] + " je Operative",
+                   operatives, totalWork, overhead, sigma,
+                   totalWork / (operatives * parProbsPerOperative[i]), false);
+        }
+        report("Angepat, Beginn mit 2 je Operative", operatives, totalWork,
+               overhead, sigma, totalWork / (operatives * 2), true);
+        report("Angepat, Beginn mit 64 je Operative", operatives, totalWork,
+               overhead, sigma, totalWork / (operatives * 64), true);
+    }
+}
+
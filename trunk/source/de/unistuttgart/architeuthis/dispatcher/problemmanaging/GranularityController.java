@@ -0,0 +1,259 @@
+/*
+ * file:        GranularityController.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.problemmanaging;
+
+import de.unistuttgart.architeuthis.dispatcher.statistic.ProblemStatisticsCollector;
+import de.unistuttgart.architeuthis.userinterfaces.exec.ProblemStatistics;
+import de.unistuttgart.architeuthis.userinterfaces.develop.AdaptiveProblem;
+
+/**
+ * Ermittelt fr ein {@link AdaptiveProblem} aus den gemessenen
+ * Berechnungszeiten der Teilprobleme die angestrebte Berechnungszeit eines
+ * Teilproblems und den Faktor, um den die nchsten Teilprobleme grer oder
+ * kleiner sein sollten als die zuletzt berechneten.<p>
+ *
+ * Die angestrebte Berechnungszeit ist das Maximum aus zwei Werten. Der
+ * untere Wert ist ein Vielfaches des Aufwands fr die bertragung eines
+ * Teilproblems und seiner Teillsung, der als doppelte Dauer der bergabe
+ * an einen Operative geschtzt wird. Der obere Wert ist ein kleiner Anteil
+ * vom Alter des Problems, der um so kleiner ist, je strker die
+ * Berechnungszeiten streuen. Da die gesamte Dauer der Berechnung nicht
+ * bekannt ist, dient das Alter als untere Abschtzung davon. Die
+ * Teilprobleme werden dadurch mit der Zeit grer, ohne da einzelne lange
+ * laufende Teilprobleme das Ende der Berechnung wesentlich verzgern.<p>
+ *
+ * Ein neuer Faktor wird frhestens nach einem festen Zeitintervall und erst
+ * dann ermittelt, wenn weitere Teilprobleme berechnet wurden, die nach der
+ * letzten nderung der Gre erzeugt wurden.
+ */
+class GranularityController {
+
+    /**
+     * Der minimale Abstand in Millisekunden zwischen zwei Ermittlungen des
+     * Faktors.
+     */
+    static final long ADJUST_INTERVAL = 500;
+
+    /**
+     * Die Anzahl der Teilprobleme, die seit der letzten Ermittlung
+     * mindestens berechnet worden sein mssen.
+     */
+    static final int MIN_NEW_SAMPLES = 3;
+
+    /**
+     * Das Vielfache des Aufwands fr die bertragung eines Teilproblems, das
+     * dessen Berechnungszeit mindestens betragen soll.
+     */
+    static final int OVERHEAD_FACTOR = 20;
+
+    /**
+     * Der Anteil vom Alter des Problems, den die Berechnungszeit eines
+     * Teilproblems ohne Streuung hchstens betragen soll.
+     */
+    static final double STRAGGLER_FRACTION = 0.05;
+
+    /**
+     * Die minimale angestrebte Berechnungszeit in Millisekunden.
+     */
+    static final long MIN_TARGET_DURATION = 10;
+
+    /**
+     * Die maximale angestrebte Berechnungszeit in Millisekunden.
+     */
+    static final long MAX_TARGET_DURATION = 600000;
+
+    /**
+     * Der minimale Faktor, um den die Gre bei einer nderung verndert
+     * wird.
+     */
+    static final double MIN_SIZE_FACTOR = 0.1;
+
+    /**
+     * Der maximale Faktor, um den die Gre bei einer nderung verndert
+     * wird.
+     */
+    static final double MAX_SIZE_FACTOR = 2.0;
+
+    /**
+     * Die relative Abweichung des Faktors von Eins, bis zu der keine
+     * nderung der Gre empfohlen wird.
+     */
+    static final double TOLERANCE = 0.2;
+
+    /**
+     * Die Statistik des Problems, aus der die Zeiten entnommen werden.
+     */
+    private ProblemStatisticsCollector statistic;
+
+    /**
+     * Der Zeitpunkt der letzten Ermittlung des Faktors.
+     */
+    private long lastAdjustment = 0;
+
+    /**
+     * Die Anzahl der berechneten Teilprobleme, ab der wieder ein Faktor
+     * ermittelt werden darf.
+     */
+    private long nextComputed = MIN_NEW_SAMPLES;
+
+    /**
+     * Die zuletzt ermittelte angestrebte Berechnungszeit.
+     */
+    private long targetDuration = 0;
+
+    /**
+     * Der zuletzt ermittelte Faktor.
+     */
+    private double sizeFactor = 1;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param statistic  Die Statistik des Problems.
+     */
+    GranularityController(ProblemStatisticsCollector statistic) {
+        this.statistic = statistic;
+    }
+
+    /**
+     * Liefert die angestrebte Berechnungszeit eines Teilproblems.
+     *
+     * @param average    Die durchschnittliche Berechnungszeit der bisher
+     *                   berechneten Teilprobleme.
+     * @param deviation  Die Standardabweichung der Berechnungszeiten.
+     * @param dispatch   Die durchschnittliche Dauer der bergabe eines
+     *                   Teilproblems an einen Operative.
+     * @param age        Das Alter des Problems.
+     *
+     * @return  Die angestrebte Berechnungszeit in Millisekunden.
+     */
+    static long targetDuration(long average, long deviation, long dispatch,
+                               long age) {
+        double variation = 0;
+        long lower, upper;
+
+        if (average > 0) {
+            variation = ((double) deviation) / average;
+        }
+
+        lower = OVERHEAD_FACTOR * 2 * dispatch;
+        upper = Math.round(age * STRAGGLER_FRACTION / (1 + 2 * variation));
+        return Math.max(MIN_TARGET_DURATION,
+                        Math.min(MAX_TARGET_DURATION, Math.max(lower, upper)));
+    }
+
+    /**
+     * Ermittelt mit den bergebenen Werten, ob die Gre der Teilprobleme
+     * verndert werden sollte. Ist das der Fall, knnen die angestrebte
+     * Berechnungszeit und der Faktor anschlieend abgefragt werden.
+     *
+     * @param now         Der aktuelle Zeitpunkt.
+     * @param computed    Die Anzahl der berechneten Teilprobleme.
+     * @param processing  Die Anzahl der in Bearbeitung befindlichen
+     *                    Teilprobleme.
+     * @param average     Die durchschnittliche Berechnungszeit der bisher
+     *                    berechneten Teilprobleme.
+     * @param deviation   Die Standardabweichung der Berechnungszeiten.
+     * @param recent      Die geglttete Berechnungszeit der zuletzt
+     *                    berechneten Teilprobleme.
+     * @param dispatch    Die durchschnittliche Dauer der bergabe eines
+     *                    Teilproblems an einen Operative.
+     * @param age         Das Alter des Problems.
+     *
+     * @return  <code>true</code>, wenn die Gre der Teilprobleme verndert
+     *          werden sollte, sonst <code>false</code>.
+     */
+    boolean adjust(long now, long computed, long processing, long average,
+                   long deviation, long recent, long dispatch, long age) {
+
+        if ((now - lastAdjustment < ADJUST_INTERVAL)
+                || (computed < nextComputed)) {
+            return false;
+        }
+        lastAdjustment = now;
+
+        targetDuration = targetDuration(average, deviation, dispatch, age);
+        sizeFactor = ((double) targetDuration) / Math.max(1, recent);
+        sizeFactor = Math.max(MIN_SIZE_FACTOR,
+                              Math.min(MAX_SIZE_FACTOR, sizeFactor));
+
+        if (Math.abs(sizeFactor - 1) <= TOLERANCE) {
+            nextComputed = computed + MIN_NEW_SAMPLES;
+            return false;
+        } else {
+            // Die in Bearbeitung befindlichen Teilprobleme haben noch die
+            // bisherige Gre und sollen nicht zu einer weiteren nderung
+            // fhren.
+            nextComputed = computed + processing + MIN_NEW_SAMPLES;
+            return true;
+        }
+    }
+
+    /**
+     * Ermittelt mit den Werten der Statistik, ob die Gre der Teilprobleme
+     * verndert werden sollte.
+     *
+     * @return  <code>true</code>, wenn die Gre der Teilprobleme verndert
+     *          werden sollte, sonst <code>false</code>.
+     */
+    boolean adjust() {
+        ProblemStatistics snapshot;
+        long now = System.currentTimeMillis();
+
+        if (now - lastAdjustment < ADJUST_INTERVAL) {
+            return false;
+        }
+
+        snapshot = statistic.getSnapshot();
+        return adjust(now,
+                      snapshot.getComputedPartialProblems(),
+                      snapshot.getProcessingPartialProblems(),
+                      snapshot.getAverageComputationDuration(),
+                      snapshot.getComputationDurationDeviation(),
+                      statistic.recentComputationDuration(),
+                      snapshot.getAverageDispatchDuration(),
+                      snapshot.getProblemAge());
+    }
+
+    /**
+     * Liefert die zuletzt ermittelte angestrebte Berechnungszeit eines
+     * Teilproblems.
+     *
+     * @return  Die angestrebte Berechnungszeit in Millisekunden.
+     */
+    long getTargetDuration() {
+        return targetDuration;
+    }
+
+    /**
+     * Liefert den zuletzt ermittelten Faktor, um den die nchsten
+     * Teilprobleme grer sein sollten als die zuletzt berechneten.
+     *
+     * @return  Der Faktor fr die Gre der Teilprobleme.
+     */
+    double getSizeFactor() {
+        return sizeFactor;
+    }
+}
+
@@ -0,0 +1,238 @@
+/*
+ * file:        ParallelGenerator.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.problemmanaging;
+
+import java.util.LinkedList;
+
+import de.unistuttgart.architeuthis.userinterfaces.develop.ParallelProblem;
+import de.unistuttgart.architeuthis.userinterfaces.develop.PartialProblem;
+
+/**
+ * Erzeugt die Teilprobleme eines {@link ParallelProblem} mit mehreren
+ * Threads gleichzeitig im voraus. Der Thread des
+ * <code>ProblemWrapper</code> holt die erzeugten Teilprobleme mit der
+ * Methode <code>nextPartialProblem</code> ab und gibt dabei an, wie viele
+ * Teilprobleme insgesamt im voraus erzeugt werden drfen.<p>
+ *
+ * Liefert das Problem bei einem Aufruf den Wert <code>null</code>, werden
+ * keine weiteren Teilprobleme erzeugt, bis alle laufenden Aufrufe beendet
+ * sind und der Wert <code>null</code> an den <code>ProblemWrapper</code>
+ * geliefert wurde. Erst beim folgenden Aufruf von
+ * <code>nextPartialProblem</code> wird das Problem wieder nach Teilproblemen
+ * gefragt, wie es auch bei der Erzeugung durch einen einzelnen Thread der
+ * Fall ist.
+ */
+class ParallelGenerator {
+
+    /**
+     * Das Problem, dessen Teilprobleme erzeugt werden.
+     */
+    private ParallelProblem problem;
+
+    /**
+     * Die im voraus erzeugten und noch nicht abgeholten Teilprobleme.
+     */
+    private LinkedList generated = new LinkedList();
+
+    /**
+     * Die Anzahl der laufenden Aufrufe von <code>getPartialProblem</code>.
+     */
+    private int generating = 0;
+
+    /**
+     * Die Anzahl der Teilprobleme, die insgesamt im voraus erzeugt werden
+     * drfen.
+     */
+    private int allowance = 0;
+
+    /**
+     * Die vorgeschlagene Anzahl der zu erzeugenden Teilprobleme, die dem
+     * Problem bergeben wird.
+     */
+    private int parProbsSuggested = 1;
+
+    /**
+     * Gibt an, ob das Problem zuletzt den Wert <code>null</code> geliefert
+     * hat.
+     */
+    private boolean exhausted = false;
+
+    /**
+     * Gibt an, ob zuletzt der Wert <code>null</code> an den
+     * <code>ProblemWrapper</code> geliefert wurde.
+     */
+    private boolean nullDelivered = false;
+
+    /**
+     * Die Ausnahme oder der Fehler, die bzw. der bei der Erzeugung eines
+     * Teilproblems aufgetreten ist, oder <code>null</code>.
+     */
+    private Throwable failure = null;
+
+    /**
+     * Gibt an, ob die Threads beendet werden sollen.
+     */
+    private boolean terminated = false;
+
+    /**
+     * Erzeugt eine neue Instanz und startet die Threads.
+     *
+     * @param problem      Das Problem, dessen Teilprobleme erzeugt werden.
+     * @param threadNumber Die Anzahl der zu startenden Threads.
+     * @param name         Der Name, mit dem die Threads bezeichnet werden.
+     */
+    ParallelGenerator(ParallelProblem problem, int threadNumber, String name) {
+        Thread generatorThread;
+
+        this.problem = problem;
+        for (int i = 0; i < threadNumber; i++) {
+            generatorThread = new Thread(name + "-Generator-" + i) {
+                public void run() {
+                    generate();
+                }
+            };
+            generatorThread.setDaemon(true);
+            generatorThread.start();
+        }
+    }
+
+    /**
+     * Liefert das nchste erzeugte Teilproblem. Wenn keines vorhanden ist,
+     * wartet der Aufruf, bis ein Teilproblem erzeugt wurde oder das Problem
+     * derzeit keine Teilprobleme liefert. Tritt bei der Erzeugung eine
+     * Ausnahme auf, wird sie hier ausgelst.
+     *
+     * @param suggested  Die vorgeschlagene Anzahl der zu erzeugenden
+     *                   Teilprobleme.
+     * @param allowed    Die Anzahl der Teilprobleme, die einschlielich des
+     *                   abzuholenden Teilproblems im voraus erzeugt werden
+     *                   drfen.
+     *
+     * @return  Das nchste Teilproblem oder <code>null</code>, wenn das
+     *          Problem derzeit kein Teilproblem liefert oder die Erzeugung
+     *          beendet wurde.
+     */
+    synchronized PartialProblem nextPartialProblem(int suggested, int allowed) {
+        PartialProblem parProb = null;
+
+        if (nullDelivered) {
+            // Das Problem nach einem gelieferten Wert null erneut fragen.
+            nullDelivered = false;
+            exhausted = false;
+        }
+        parProbsSuggested = suggested;
+        allowance = allowed;
+        notifyAll();
+
+        while ((!terminated) && (failure == null) && generated.isEmpty()
+               && !(exhausted && (generating == 0))) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+            }
+        }
+
+        if (failure != null) {
+            Throwable thrown = failure;
+            failure = null;
+            if (thrown instanceof RuntimeException) {
+                throw (RuntimeException) thrown;
+            } else {
+                throw (Error) thrown;
+            }
+        }
+
+        if ((!terminated) && !generated.isEmpty()) {
+            parProb = (PartialProblem) generated.removeFirst();
+            allowance--;
+        } else {
+            nullDelivered = true;
+        }
+        return parProb;
+    }
+
+    /**
+     * Beendet die Erzeugung der Teilprobleme. Laufende Aufrufe des Problems
+     * werden nicht unterbrochen, ihre Ergebnisse werden aber verworfen.
+     */
+    synchronized void terminate() {
+        terminated = true;
+        generated.clear();
+        notifyAll();
+    }
+
+    /**
+     * Erzeugt fortlaufend Teilprobleme, solange die zulssige Anzahl nicht
+     * erreicht ist und das Problem Teilprobleme liefert.
+     */
+    private void generate() {
+        PartialProblem parProb;
+        int            suggested;
+
+        while (true) {
+            synchronized (this) {
+                while ((!terminated)
+                       && (exhausted || (failure != null)
+                           || (generated.size() + generating >= allowance))) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                    }
+                }
+                if (terminated) {
+                    return;
+                }
+                generating++;
+                suggested = parProbsSuggested;
+            }
+
+            parProb = null;
+            try {
+                parProb = problem.getPartialProblem(suggested);
+            } catch (ThreadDeath e) {
+                // Dieser Error darf nicht abgefangen werden.
+                throw e;
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    failure = e;
+                }
+            } catch (Error e) {
+                synchronized (this) {
+                    failure = e;
+                }
+            }
+
+            synchronized (this) {
+                generating--;
+                if (parProb == null) {
+                    exhausted = true;
+                } else if (!terminated) {
+                    generated.addLast(parProb);
+                }
+                notifyAll();
+            }
+        }
+    }
+}
+
@@ -89,6 +89,7 @@ class PartialProblemCollector extends Thread {
         ParProbWrapper partProbWrap;
 
         while (!terminated) {
+            problemManager.adjustStagingDepth();
             partProbWrap = problemManager.collectParProbWrapper();
             if ((partProbWrap != null) && (lastParProbWarp == null)) {
                 // null-Objekte aus Teilproblem-Puffer entfernen
@@ -52,6 +52,11 @@ class PartialSolutionParProbWrapper {
      */
     private PartialSolution parSol;
 
+    /**
+     * Gibt an, ob die Teillsung dem Problem bereits bergeben wurde.
+     */
+    private boolean collected;
+
     /**
      * Konstruktor, der die Verbindung zwischen Teillsung und Wrapper eines
      * Teilproblems herstellt.
@@ -64,8 +69,27 @@ class PartialSolutionParProbWrapper {
         ParProbWrapper parProbWrapper,
         PartialSolution partialSolution) {
 
+        this(parProbWrapper, partialSolution, false);
+    }
+
+    /**
+     * Konstruktor, der die Verbindung zwischen Teillsung und Wrapper eines
+     * Teilproblems herstellt und angibt, ob die Teillsung dem Problem
+     * bereits bergeben wurde.
+     *
+     * @param parProbWrapper   ein Wrapper fr das Teilproblem
+     * @param partialSolution  die Teillsung
+     * @param collected        gibt an, ob die Teillsung dem Problem bereits
+     *                         bergeben wurde
+     */
+    public PartialSolutionParProbWrapper(
+        ParProbWrapper parProbWrapper,
+        PartialSolution partialSolution,
+        boolean collected) {
+
         parProbWrap = parProbWrapper;
         parSol = partialSolution;
+        this.collected = collected;
     }
 
     /**
@@ -86,4 +110,14 @@ class PartialSolutionParProbWrapper {
         return parSol;
     }
 
+    /**
+     * Gibt an, ob die Teillsung dem Problem bereits bergeben wurde.
+     *
+     * @return  <code>true</code>, wenn die Teillsung dem Problem bereits
+     *          bergeben wurde, anderenfalls <code>false</code>.
+     */
+    public boolean isCollected() {
+        return collected;
+    }
+
 }
@@ -48,6 +48,7 @@ import java.util.HashMap;
 import java.util.logging.Logger;
 
 import de.unistuttgart.architeuthis.misc.util.BlockingBuffer;
+import de.unistuttgart.architeuthis.misc.util.ElementRating;
 import de.unistuttgart.architeuthis.dispatcher.computemanaging.ComputeManagerImpl;
 import de.unistuttgart.architeuthis.dispatcher.statistic.SystemStatisticsCollector;
 import de.unistuttgart.architeuthis.systeminterfaces.ExceptionCodes;
@@ -71,10 +72,22 @@ import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStoreGenerator;
 public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemManager {
 
     /**
-     * Die Gre des Puffers, in dem die erzeugten Teilprobleme aller Probleme
-     * gespeichert werden.
+     * Die Zeitdauer in Millisekunden, nach der die Gre des Puffers der
+     * bereitgestellten Teilprobleme frhestens erneut angepat wird.
      */
-    private static final int BLOCKING_BUFFER_SIZE = 1;
+    private static final long STAGING_ADJUST_INTERVAL = 500;
+
+    /**
+     * Der Name des Schedulers, der die Teilprobleme nach der geschtzten
+     * Berechnungszeit der in Bearbeitung befindlichen Teilprobleme auswhlt.
+     */
+    public static final String TIME_SCHEDULER = "time";
+
+    /**
+     * Der Name des Schedulers, der die Teilprobleme entsprechend den
+     * Gewichten der Probleme verteilt.
+     */
+    public static final String FAIR_SCHEDULER = "fair";
 
     /**
      * Die maximale Anzahl der Versuche, eine Lsung an den Problem-Transmitter
@@ -100,15 +113,34 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
         Collections.synchronizedMap(new HashMap());
 
     /**
-     * Puffer fr die Teilproblem-Wrapper aller Probleme.
+     * Puffer fr die Teilproblem-Wrapper aller Probleme, die als nchstes
+     * verteilt werden.
      */
     private BlockingBuffer parProbWrapperBuffer;
 
+    /**
+     * Die fest vorgegebene Gre des Puffers der bereitgestellten
+     * Teilprobleme oder Null, wenn die Gre laufend angepat wird.
+     */
+    private int fixedStagingDepth;
+
+    /**
+     * Der Zeitpunkt der letzten Anpassung der Gre des Puffers der
+     * bereitgestellten Teilprobleme.
+     */
+    private long lastStagingAdjustment = 0;
+
     /**
      * Thread, der die Teilproblem-Wrapper aller Probleme einsammelt.
      */
     private PartialProblemCollector partialProblemCollectorThread;
 
+    /**
+     * Der Scheduler, der festlegt, von welchem Problem das nchste
+     * Teilproblem verteilt wird.
+     */
+    private ProblemScheduler scheduler;
+
     /**
      * Statistik ber den Dispatcher
      */
@@ -131,84 +163,134 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
      *
      * @param computeManager    Referenz auf aufrufenden ComputeManager.
      * @param sysStatCollector  Statistik Collector.
+     * @param schedulerName     Der Name des zu verwendenden Schedulers,
+     *                          {@link #TIME_SCHEDULER} oder
+     *                          {@link #FAIR_SCHEDULER}. Bei einem anderen
+     *                          Namen wird <code>TIME_SCHEDULER</code>
+     *                          verwendet.
+     * @param stagingDepth      Die Gre des Puffers, in dem die als nchstes
+     *                          zu verteilenden Teilprobleme bereitgestellt
+     *                          werden. Bei einem Wert von Null wird die
+     *                          Gre laufend an die Anzahl der Operatives
+     *                          und an das Verhltnis der Erzeugungszeit zur
+     *                          Berechnungszeit der Teilprobleme angepat.
      *
      * @throws RemoteException  Falls es zu Fehlern bei der RMI-Kommunikation
      *                          kommt.
      */
     public ProblemManagerImpl(ComputeManagerImpl computeManager,
-                              SystemStatisticsCollector sysStatCollector)
+                              SystemStatisticsCollector sysStatCollector,
+                              String schedulerName,
+                              int stagingDepth)
         throws RemoteException {
 
         cmpManager = computeManager;
         systemStatistic = sysStatCollector;
-        parProbWrapperBuffer = new BlockingBuffer(BLOCKING_BUFFER_SIZE);
+        if (FAIR_SCHEDULER.equals(schedulerName)) {
+            scheduler = new WeightedFairScheduler();
+        } else {
+            if (!TIME_SCHEDULER.equals(schedulerName)) {
+                LOGGER.warning("Unbekannter Scheduler " + schedulerName
+                               + ", verwende " + TIME_SCHEDULER);
+            }
+            scheduler = new ComputationTimeScheduler();
+        }
+        fixedStagingDepth = Math.max(0, stagingDepth);
+        if (fixedStagingDepth > 0) {
+            parProbWrapperBuffer = new BlockingBuffer(fixedStagingDepth);
+        } else {
+            parProbWrapperBuffer = new BlockingBuffer(1);
+        }
+        systemStatistic.setStagingBuffer(parProbWrapperBuffer);
         partialProblemCollectorThread =
             new PartialProblemCollector(this, parProbWrapperBuffer);
     }
 
     /**
-     * Liefert einn Teilproblem-Wrapper ({@link ParProbWrapper}) zurck, falls
+     * Liefert einen Teilproblem-Wrapper ({@link ParProbWrapper}) zurck, falls
      * es ein {@link Problem} in der Problem-Verwaltungs-Collection gibt,
      * welches noch Teilproblem-Wrapper hat.
      * Falls kein Problem aktuell ein Teilproblem verfgbar hat, wird
-     * <code>null</code> zurckgeliefert. Wenn mindestens ein Problem ein
-     * Teilproblem-Wrapper verfgbar hat, wird der Teilproblem-Wrapper von dem
-     * Problem geliefert, von dem die geschtzte gesamte Berechnungszeit der
-     * Teilprobleme, die vom <code>ProblemWrapper</code> ausgeliefert aber noch
-     * nicht berechnet wurden, am geringsten ist. Wenn es mehrere Probleme gibt,
-     * von denen derzeit kein Teilproblem ausgeliefert ist, deren geschtzte
-     * Berechnungszeit also einheitlich Null ist, wird das Problem mit dem
-     * geringsten Verhltnis von bisheriger Berechnungsdauer zu Existenzdauer
-     * gewhlt.
-     *
-     * @return  Teilproblem-Wrapper ({@link ParProbWrapper}) des Problems mit
-     *          der geschtzten geringsten Berechnungszeit der in Bearbeitung
-     *          befindlichen Teilprobleme, oder <code>null</code>, wenn kein
+     * <code>null</code> zurckgeliefert. Von welchem Problem der
+     * Teilproblem-Wrapper geliefert wird, legt der Scheduler fest.
+     *
+     * @return  Teilproblem-Wrapper ({@link ParProbWrapper}) des vom Scheduler
+     *          gewhlten Problems oder <code>null</code>, wenn kein
      *          Teilproblem-Wrapper verfgbar ist.
      */
     ParProbWrapper collectParProbWrapper() {
-        ProblemWrapper nextProbWrap;
-        ProblemWrapper minTimeProbWrap = null;
-        ParProbWrapper parProbWrap;
-        Iterator       probWrapIter;
-        float          nextCompRatio = 0;
-        float          minCompRatio = 0;
-        long           nextTime = 0;
-        long           minTime = 0;
-
-        do {
-            parProbWrap = null;
-            synchronized (probWrapTransmitter) {
-                probWrapIter = probWrapTransmitter.keySet().iterator();
-                while (probWrapIter.hasNext()) {
-                    nextProbWrap = (ProblemWrapper) probWrapIter.next();
-                    if (nextProbWrap.newParProbWrapperAvailable()) {
-                        nextTime = nextProbWrap.estimatedComputationTime();
-                        if ((minTimeProbWrap == null) || (nextTime < minTime)) {
-                            minTimeProbWrap = nextProbWrap;
-                            minTime = nextTime;
-                            if (minTime == 0) {
-                                minCompRatio = minTimeProbWrap.computationRatio();
-                            }
-                        } else if (nextTime == 0) {
-                            // Es ist auch minTime == 0
-                            nextCompRatio = nextProbWrap.computationRatio();
-                            if (nextCompRatio < minCompRatio) {
-                                minTimeProbWrap = nextProbWrap;
-                                minCompRatio = nextCompRatio;
-                            }
-                        }
-                    }
-                }
-            }
+        return scheduler.nextParProbWrapper();
+    }
 
-            if (minTimeProbWrap != null) {
-                synchronized (minTimeProbWrap) {
-                    parProbWrap = minTimeProbWrap.getNewParProbWrapper();
-                }
-            }
-        } while ((minTimeProbWrap != null) && (parProbWrap == null));
-        return parProbWrap;
+    /**
+     * Teilt dem Scheduler mit, da vom bergebenen Problem ein neuer
+     * Teilproblem-Wrapper erzeugt wurde.
+     *
+     * @param probWrapper  Der Wrapper des Problems, das einen neuen
+     *                     Teilproblem-Wrapper erzeugt hat.
+     */
+    void parProbWrapperAdded(ProblemWrapper probWrapper) {
+        scheduler.parProbWrapperAdded(probWrapper);
+    }
+
+    /**
+     * Liefert die derzeitige Gre des Puffers der bereitgestellten
+     * Teilprobleme.
+     *
+     * @return  Die maximale Anzahl der bereitgestellten Teilprobleme.
+     */
+    int getStagingDepth() {
+        return parProbWrapperBuffer.getMaximumSize();
+    }
+
+    /**
+     * Pat die Gre des Puffers der bereitgestellten Teilprobleme an, wenn
+     * sie nicht fest vorgegeben ist und die letzte Anpassung mindestens
+     * <code>STAGING_ADJUST_INTERVAL</code> Millisekunden zurckliegt.<p>
+     *
+     * Der Puffer soll so viele Teilprobleme enthalten, wie von allen
+     * Operatives berechnet werden, whrend ein Problem ein neues Teilproblem
+     * erzeugt. Zur Erzeugungszeit wird eine Millisekunde fr die bergabe
+     * hinzugerechnet. Solange noch keine Berechnungszeit bekannt ist, wird
+     * fr jeden Operative ein Teilproblem bereitgestellt. Die Gre ist
+     * mindestens Eins und hchstens um Eins grer als die Anzahl der
+     * Operatives.
+     */
+    void adjustStagingDepth() {
+        SystemStatistics sysStat;
+        long now;
+        long operatives;
+        long generationTime;
+        long computationTime;
+        long depth;
+
+        if (fixedStagingDepth > 0) {
+            return;
+        }
+
+        now = System.currentTimeMillis();
+        if (now - lastStagingAdjustment < STAGING_ADJUST_INTERVAL) {
+            return;
+        }
+        lastStagingAdjustment = now;
+
+        sysStat = systemStatistic.getSnapshot();
+        operatives = Math.max(1, sysStat.getRegisteredOperatives());
+        computationTime = sysStat.getAverageComputationDuration();
+        if (computationTime == 0) {
+            depth = operatives;
+        } else {
+            generationTime = sysStat.getAverageGenerationDuration() + 1;
+            depth = (operatives * generationTime + computationTime - 1)
+                    / computationTime + 1;
+        }
+        depth = Math.max(1, Math.min(operatives + 1, depth));
+
+        if (depth != parProbWrapperBuffer.getMaximumSize()) {
+            LOGGER.fine("Gre des Puffers der bereitgestellten Teilprobleme: "
+                        + depth);
+            parProbWrapperBuffer.setMaximumSize((int) depth);
+        }
     }
 
     /**
@@ -224,13 +306,12 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
     void reactivatePassiveOperatives() {
         // Null-Objekte aus Teilproblem-Puffer entfernen
         parProbWrapperBuffer.removeNullElements();
-        new Thread() {
+        cmpManager.executeBackgroundTask(new Runnable() {
             public void run() {
-                LOGGER.fine("Start vom Thread reactivatePassiveOperatives()");
+                LOGGER.fine("Start von reactivatePassiveOperatives()");
                 cmpManager.reactivatePassiveOperatives();
             }
-        }
-        .start();
+        });
     }
 
     /**
@@ -288,6 +369,8 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
         }
 
         if (removedTransmitter != null) {
+            scheduler.removeProblem(probWrapper);
+
             LOGGER.finest("Breche fr " + probWrapper.toString()
                         + " alle Teilprobleme ab");
 
@@ -328,6 +411,33 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
     public ParProbWrapper getParProbWrapper() {
         ParProbWrapper partProbWrap =
             (ParProbWrapper) parProbWrapperBuffer.dequeue();
+
+        if ((partProbWrap == null) && (!probWrapTransmitter.isEmpty())) {
+            systemStatistic.notifyStagingStarvation();
+        }
+        return partProbWrap;
+    }
+
+    /**
+     * Liefert unter den ersten bereitgestellten Teilproblemen das mit der
+     * hchsten Bewertung. Ansonsten verhlt sich die Methode wie
+     * {@link #getParProbWrapper()}. Die Teilprobleme werden dadurch nicht
+     * unbedingt in der Reihenfolge ihrer Bereitstellung geliefert.
+     *
+     * @param rating  Die Bewertung der Teilprobleme. Sie erhlt die
+     *                Objekte vom Typ {@link ParProbWrapper}.
+     * @param window  Die maximale Anzahl der betrachteten Teilprobleme.
+     *
+     * @return  Das nchste zu berechnende Teilproblem oder <code>null</code>,
+     *          wenn zur Zeit kein Teilproblem vorhanden ist.
+     */
+    public ParProbWrapper getParProbWrapper(ElementRating rating, int window) {
+        ParProbWrapper partProbWrap =
+            (ParProbWrapper) parProbWrapperBuffer.dequeueBest(rating, window);
+
+        if ((partProbWrap == null) && (!probWrapTransmitter.isEmpty())) {
+            systemStatistic.notifyStagingStarvation();
+        }
         return partProbWrap;
     }
 
@@ -734,6 +844,40 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
         return (systemStatistic.getSnapshot().getRegisteredOperatives() > 0);
     }
 
+    /**
+     * Teilt dem ProblemManager die Position der Quelldateien fr ein neues
+     * Problem mit, das mit dem Standard-Gewicht
+     * {@link ProblemManager#DEFAULT_PROBLEM_WEIGHT} berechnet wird.
+     *
+     * @param transmitter        Problem-bermittler, der das Problem sendet
+     *                           und die Lsung empfangen soll.
+     * @param url                Pfad zu den Quelldateien auf einem
+     *                           HTTP-Server.
+     * @param className          {@link Problem}-spezifischer Name, das die
+     *                           Berechnung startet.
+     * @param problemParameters  Die formalen Parameter des vom Problem zu
+     *                           startenden Konstruktors.
+     * @param generator          Der RemoteStore-Generator.
+     *
+     * @throws RemoteException          Falls ein Netzproblemen aufgetreten ist
+     *                                  oder der Dispatcher gerade beendet wird.
+     * @throws ClassNotFoundException   Tritt auf, wenn der Zugriff auf die
+     *                                  Problemklasse nicht funktioniert.
+     * @throws ProblemComputeException  Wenn nicht genung Compute-System-Resourcen
+     *                                  vorhanden sind.
+     * @throws RemoteStoreGenException  Der zentrale <CODE>RemoteStore</CODE>
+     *                                  konnte nicht erzeugt werden.
+     */
+    public void loadProblem(ProblemTransmitter transmitter, URL url,
+                            String className, Object[] problemParameters,
+                            RemoteStoreGenerator generator)
+        throws RemoteException, ClassNotFoundException,
+               ProblemComputeException, RemoteStoreGenException {
+
+        loadProblem(transmitter, url, className, problemParameters,
+                    generator, DEFAULT_PROBLEM_WEIGHT);
+    }
+
     /**
      * Teilt dem ProblemManager die Position der Quelldateien fr ein neues
      * Problem mit. Die ntigten Klassen werden von einem HTTP-Server geladen und
@@ -754,6 +898,9 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
      * @param problemParameters  Die formalen Parameter des vom Problem zu
      *                           startenden Konstruktors.
      * @param generator          Der RemoteStore-Generator.
+     * @param weight             Das Gewicht des Problems bei der Verteilung
+     *                           der Teilprobleme, das grer als Null sein
+     *                           mu.
      *
      * @throws RemoteException          Falls ein Netzproblemen aufgetreten ist
      *                                  oder der Dispatcher gerade beendet wird.
@@ -772,7 +919,8 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
                                          URL url,
                                          String className,
                                          Object[] problemParameters,
-                                         RemoteStoreGenerator generator)
+                                         RemoteStoreGenerator generator,
+                                         int weight)
         throws RemoteException, ClassNotFoundException,
                ProblemComputeException, RemoteStoreGenException {
 
@@ -780,6 +928,11 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
             throw new RemoteException("Dispatcher ist beim Shutdown");
         }
 
+        if (weight <= 0) {
+            throw new ProblemComputeException("Das Gewicht des Problems mu"
+                                              + " grer als Null sein.");
+        }
+
         if (transmitter == null) {
             throw new ProblemComputeException(
             "Kein gltiger Problem-bermittler angegeben.");
@@ -814,6 +967,7 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
                     new ProblemWrapper(this, problem, generator, systemStatistic);
                 LOGGER.fine(probWrapper.toString() + " erzeugt");
                 probWrapTransmitter.put(probWrapper, transmitter);
+                scheduler.addProblem(probWrapper, weight);
 
                 // Null-Objekte aus Teilproblem-Puffer entfernen, da das neue
                 // Problems mglicherweise ein Teilproblem erzeugt hat, die
@@ -840,6 +994,32 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
         }
     }
 
+    /**
+     * Verarbeitet ein neues serialisierbares Problem, das mit dem
+     * Standard-Gewicht {@link ProblemManager#DEFAULT_PROBLEM_WEIGHT} berechnet
+     * wird.
+     *
+     * @param transmitter  Problem-bermittler, der das Problem sendet und die
+     *                     Lsung empfangen soll
+     * @param problem      Serialisierbares Problem, das verteilt berechnet
+     *                     werden soll.
+     * @param generator    Der verwendete RemoteStoreGenerator oder
+     *                     <CODE>null</CODE>, falls kein RemoteStoreGenerator
+     *                     verwendet wird.
+     *
+     * @throws RemoteException          Bei einem RMI-Verbindungsproblem.
+     * @throws ProblemComputeException  Bei einem Berechnungsfehler.
+     * @throws RemoteStoreGenException  Der zentrale <CODE>RemoteStore</CODE>
+     *                                  konnte nicht erzeugt werden.
+     */
+    public void receiveProblem(ProblemTransmitter transmitter,
+                               SerializableProblem problem,
+                               RemoteStoreGenerator generator)
+        throws RemoteException, ProblemComputeException, RemoteStoreGenException {
+
+        receiveProblem(transmitter, problem, generator, DEFAULT_PROBLEM_WEIGHT);
+    }
+
     /**
      * Verarbeitet ein neues serialisierbares Problem.
      * Ntiger Quellcode wird durch RMI von einem HTTP-Server geladen.<p>
@@ -855,6 +1035,8 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
      * @param generator    Der verwendete RemoteStoreGenerator oder
      *                     <CODE>null</CODE>, falls kein RemoteStoreGenerator
      *                     verwendet wird.
+     * @param weight       Das Gewicht des Problems bei der Verteilung der
+     *                     Teilprobleme, das grer als Null sein mu.
      *
      * @throws RemoteException          Bei einem RMI-Verbindungsproblem.
      * @throws ProblemComputeException  Bei einem Berechnungsfehler.
@@ -866,13 +1048,19 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
      */
     public synchronized void receiveProblem(ProblemTransmitter transmitter,
                                             SerializableProblem problem,
-                                            RemoteStoreGenerator generator)
+                                            RemoteStoreGenerator generator,
+                                            int weight)
         throws RemoteException, ProblemComputeException, RemoteStoreGenException {
 
         if (terminated) {
             throw new RemoteException("Dispatcher ist beim Shutdown");
         }
 
+        if (weight <= 0) {
+            throw new ProblemComputeException("Das Gewicht des Problems mu"
+                                              + " grer als Null sein.");
+        }
+
         if (transmitter == null) {
             throw new ProblemComputeException(
             "Kein gltiger Problem-bermittler angegeben.");
@@ -890,6 +1078,7 @@ public class ProblemManagerImpl extends UnicastRemoteObject implements ProblemMa
                 new ProblemWrapper(this, problem, generator, systemStatistic);
             LOGGER.fine(probWrapper.toString() + " erzeugt");
             probWrapTransmitter.put(probWrapper, transmitter);
+            scheduler.addProblem(probWrapper, weight);
 
             // Null-Objekte aus Teilproblem-Puffer entfernen, da das neue
             // Problems mglicher Weise ein Teilproblem erzeugt hat, die
@@ -0,0 +1,70 @@
+/*
+ * file:        ProblemScheduler.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.problemmanaging;
+
+/**
+ * Legt fest, von welchem der verwalteten Probleme das nchste Teilproblem an
+ * die Operatives verteilt wird. Der <code>ProblemManagerImpl</code> meldet
+ * jedes neue Problem mit seinem Gewicht an und beim Ende des Problems wieder
+ * ab. Jeder <code>ProblemWrapper</code> teilt auerdem mit, wenn er einen
+ * neuen Teilproblem-Wrapper erzeugt hat.
+ */
+interface ProblemScheduler {
+
+    /**
+     * Nimmt ein neues Problem in die Verwaltung auf.
+     *
+     * @param probWrap  Der Wrapper des neuen Problems.
+     * @param weight    Das Gewicht des Problems, das grer als Null ist.
+     */
+    void addProblem(ProblemWrapper probWrap, int weight);
+
+    /**
+     * Entfernt ein Problem aus der Verwaltung. Ist das Problem nicht
+     * enthalten, geschieht nichts.
+     *
+     * @param probWrap  Der Wrapper des zu entfernenden Problems.
+     */
+    void removeProblem(ProblemWrapper probWrap);
+
+    /**
+     * Teilt mit, da der bergebene <code>ProblemWrapper</code> einen neuen
+     * Teilproblem-Wrapper in seinen Puffer aufgenommen hat.
+     *
+     * @param probWrap  Der Wrapper des Problems, das ein neues Teilproblem
+     *                  erzeugt hat.
+     */
+    void parProbWrapperAdded(ProblemWrapper probWrap);
+
+    /**
+     * Liefert den nchsten zu verteilenden Teilproblem-Wrapper oder
+     * <code>null</code>, wenn derzeit kein Problem einen Teilproblem-Wrapper
+     * verfgbar hat.
+     *
+     * @return  Der nchste zu verteilende Teilproblem-Wrapper oder
+     *          <code>null</code>.
+     */
+    ParProbWrapper nextParProbWrapper();
+}
+
@@ -51,11 +51,14 @@ import de.unistuttgart.architeuthis.systeminterfaces.ExceptionCodes;
 import de.unistuttgart.architeuthis.userinterfaces.RemoteStoreGenException;
 import de.unistuttgart.architeuthis.userinterfaces.exec.SystemStatistics;
 import de.unistuttgart.architeuthis.userinterfaces.exec.ProblemStatistics;
+import de.unistuttgart.architeuthis.userinterfaces.develop.AdaptiveProblem;
+import de.unistuttgart.architeuthis.userinterfaces.develop.ParallelProblem;
 import de.unistuttgart.architeuthis.userinterfaces.develop.Problem;
 import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
 import de.unistuttgart.architeuthis.userinterfaces.develop.PartialProblem;
 import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
 import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStoreGenerator;
+import de.unistuttgart.architeuthis.userinterfaces.develop.StagedProblem;
 
 /**
  * Die Klasse kapselt ein Problem mit den schon erzeugten Teilproblemen und
@@ -101,6 +104,38 @@ class ProblemWrapper extends Thread {
      */
     private Problem problem;
 
+    /**
+     * Erzeugt die Teilprobleme mit mehreren Threads, wenn das Problem ein
+     * {@link ParallelProblem} ist und dies erlaubt, anderenfalls
+     * <code>null</code>.
+     */
+    private ParallelGenerator parallelGenerator = null;
+
+    /**
+     * Gibt an, ob die Teillsungen dem Problem sofort von den Threads, die
+     * sie liefern, bergeben werden.
+     */
+    private boolean concurrentCollection = false;
+
+    /**
+     * Buffer fr Paare aus Teilproblemen und Teillsungen, die noch dem
+     * Problem bergeben werden mssen, wenn die Teillsungen in einem
+     * eigenen Thread verarbeitet werden, anderenfalls <code>null</code>.
+     */
+    private BlockingBuffer uncollectedBuffer = null;
+
+    /**
+     * Der Thread, der die Teillsungen verarbeitet, wenn das Problem ein
+     * {@link StagedProblem} ist, anderenfalls <code>null</code>.
+     */
+    private Thread collectionStage = null;
+
+    /**
+     * Ermittelt die Hinweise zur Gre der Teilprobleme, wenn das Problem ein
+     * {@link AdaptiveProblem} ist, anderenfalls <code>null</code>.
+     */
+    private GranularityController granularityController = null;
+
     /**
      * Zentrales Speicherobjekt fr dieses Problem.
      */
@@ -185,6 +220,37 @@ class ProblemWrapper extends Thread {
         problemStatistic = new ProblemStatisticsCollector(sysStatistic);
         problemId = problemIdNumerator.nextNumber();
 
+        // Einem AdaptiveProblem Hinweise zur Gre der Teilprobleme geben
+        if (problem instanceof AdaptiveProblem) {
+            granularityController = new GranularityController(problemStatistic);
+        }
+
+        // Bei einem ParallelProblem die Teilprobleme gegebenenfalls mit
+        // mehreren Threads erzeugen
+        if (problem instanceof ParallelProblem) {
+            ParallelProblem parallelProblem = (ParallelProblem) problem;
+            int generatorThreads = parallelProblem.getMaxGeneratorThreads();
+            if (generatorThreads > 1) {
+                parallelGenerator = new ParallelGenerator(parallelProblem,
+                                                          generatorThreads,
+                                                          toString());
+            }
+            concurrentCollection = parallelProblem.allowsConcurrentCollection();
+        }
+
+        // Bei einem StagedProblem die Teillsungen in einem eigenen Thread
+        // verarbeiten
+        if ((problem instanceof StagedProblem) && !concurrentCollection) {
+            uncollectedBuffer = new BlockingBuffer();
+            collectionStage = new Thread(toString() + "-Collector") {
+                public void run() {
+                    collectStaged();
+                }
+            };
+            collectionStage.setDaemon(true);
+            collectionStage.start();
+        }
+
         // URLs des ClassLoader des Problems registrieren
         URLClassLoader ucl = (URLClassLoader) problem.getClass().getClassLoader();
         CacheFlushingRMIClSpi.registerUrls(ucl.getURLs());
@@ -273,10 +339,19 @@ class ProblemWrapper extends Thread {
                                 PartialSolution parSol) {
         PartialSolutionParProbWrapper parProbWrapSolPair;
 
+        if (concurrentCollection) {
+            collectPartialSolutionConcurrently(parProbWrap, parSol);
+            return;
+        }
+
         synchronized (parProbSolBuffer) {
             if (deliveredParProbWrapper.remove(parProbWrap)) {
                 parProbWrapSolPair = new PartialSolutionParProbWrapper(parProbWrap, parSol);
-                parProbSolBuffer.enqueue(parProbWrapSolPair);
+                if (uncollectedBuffer != null) {
+                    uncollectedBuffer.enqueue(parProbWrapSolPair);
+                } else {
+                    parProbSolBuffer.enqueue(parProbWrapSolPair);
+                }
             } else {
                 LOGGER.severe("Teillsung erhalten zu einem Teilproblem,"
                               + " das nicht in Berechnung war.");
@@ -285,6 +360,99 @@ class ProblemWrapper extends Thread {
         }
     }
 
+    /**
+     * bergibt eine berechnete Teillsung sofort im aufrufenden Thread an das
+     * Problem. Dem Thread dieses Objekts wird anschlieend nur noch die
+     * bergabe mitgeteilt. Diese Methode wird nur verwendet, wenn das Problem
+     * die gleichzeitige bergabe der Teillsungen erlaubt.
+     *
+     * @param parProbWrap  Der Wrapper des zur Teillsung gehrenden
+     *                     brechneten Teilproblem.
+     * @param parSol       Die berechnete Teillsung.
+     */
+    private void collectPartialSolutionConcurrently(ParProbWrapper parProbWrap,
+                                                    PartialSolution parSol) {
+        boolean delivered;
+
+        synchronized (parProbSolBuffer) {
+            delivered = deliveredParProbWrapper.remove(parProbWrap);
+        }
+        if (!delivered) {
+            LOGGER.severe("Teillsung erhalten zu einem Teilproblem,"
+                          + " das nicht in Berechnung war.");
+            return;
+        }
+
+        try {
+            problem.collectPartialSolution(parSol,
+                                           parProbWrap.getPartialProblem());
+        } catch (ThreadDeath e) {
+            // Dieser Error darf nicht abgefangen werden.
+            throw e;
+        } catch (Throwable e) {
+            LOGGER.info("Fehler bei der Verarbeitung einer Teillsung");
+            problemManager.reportException(
+                this,
+                parProbWrap,
+                ExceptionCodes.PARTIALSOLUTION_COLLECT_EXCEPTION,
+                exceptionMessage(e));
+            terminate();
+            return;
+        }
+
+        parProbSolBuffer.enqueue(
+            new PartialSolutionParProbWrapper(parProbWrap, parSol, true));
+    }
+
+    /**
+     * bergibt in einer Schleife bis zur Terminierung die Teillsungen aus
+     * <code>uncollectedBuffer</code> dem Problem und fragt danach jeweils
+     * nach der Gesamtlsung. Dem Thread dieses Objekts wird anschlieend nur
+     * noch die bergabe mitgeteilt. Diese Methode wird nur von einem eigenen
+     * Thread ausgefhrt, wenn das Problem ein {@link StagedProblem} ist.
+     */
+    private void collectStaged() {
+        PartialSolutionParProbWrapper parProbWrapSolPair;
+        ParProbWrapper                parProbWrap;
+
+        while (!terminated) {
+            parProbWrapSolPair = (PartialSolutionParProbWrapper) uncollectedBuffer.dequeue();
+
+            // Sicherstellen, dass es sich nicht um den Wert null handelt,
+            // der von der Methode terminate hinzugefgt wurde.
+            if (parProbWrapSolPair != null) {
+                parProbWrap = parProbWrapSolPair.getParProbWrapper();
+                try {
+                    problem.collectPartialSolution(
+                        parProbWrapSolPair.getPartialSolution(),
+                        parProbWrap.getPartialProblem());
+                } catch (ThreadDeath e) {
+                    // Dieser Error darf nicht abgefangen werden.
+                    throw e;
+                } catch (Throwable e) {
+                    LOGGER.info("Fehler bei der Verarbeitung einer Teillsung");
+                    problemManager.reportException(
+                        this,
+                        parProbWrap,
+                        ExceptionCodes.PARTIALSOLUTION_COLLECT_EXCEPTION,
+                        exceptionMessage(e));
+                    terminate();
+                    return;
+                }
+
+                askForSolution();
+
+                if (!terminated) {
+                    parProbSolBuffer.enqueue(
+                        new PartialSolutionParProbWrapper(
+                            parProbWrap,
+                            parProbWrapSolPair.getPartialSolution(),
+                            true));
+                }
+            }
+        }
+    }
+
     /**
      * Liefert die statistischen Daten des {@link Problem}s zurck.
      *
@@ -334,8 +502,17 @@ class ProblemWrapper extends Thread {
     void terminate() {
         terminated = true;
 
+        if (parallelGenerator != null) {
+            parallelGenerator.terminate();
+        }
+
         // Eine mgliche Blockierung vom Puffer parProbSolBuffer aufheben
         parProbSolBuffer.enqueue(null);
+
+        // Ebenso eine mgliche Blockierung vom Puffer uncollectedBuffer
+        if (uncollectedBuffer != null) {
+            uncollectedBuffer.enqueue(null);
+        }
     }
 
     /**
@@ -406,14 +583,18 @@ class ProblemWrapper extends Thread {
 
     /**
      * Liefert die maximale Anzahl von Teilproblemen, die ausgegeben werden
-     * drfen, von denen noch keine Teillsung geliefert wurde.
+     * drfen, von denen noch keine Teillsung geliefert wurde. Neben den
+     * Teilproblemen, die die Operatives berechnen, knnen so viele
+     * Teilprobleme im voraus erzeugt werden, wie der ProblemManager
+     * bereitstellt, und drei weitere.
      *
      * @param sysStat  Die Systemstatistik.
      *
      * @return  Die maximal zulssige Anzahl von ausstehenden Teilproblemen.
      */
     private int parProbsOutLimit(SystemStatistics sysStat) {
-        return (int) (sysStat.getRegisteredOperatives() + 3);
+        return (int) (sysStat.getRegisteredOperatives()
+                      + problemManager.getStagingDepth() + 3);
     }
 
     /**
@@ -458,6 +639,7 @@ class ProblemWrapper extends Thread {
         int                           parProbsOut = 0;  // Anzahl ausstehender
                                                         // Teilprobleme
         int                           suggestedParProbNumber;
+        long                          generationStart;
 
         while (!terminated) {
             sysStat = systemStatistic.getSnapshot();
@@ -465,13 +647,29 @@ class ProblemWrapper extends Thread {
             // Teilproblem abfragen, falls noch nicht zuviele ausgegeben wurden
             if (parProbsOut < parProbsOutLimit(sysStat)) {
                 try {
+                    if ((granularityController != null)
+                            && granularityController.adjust()) {
+                        ((AdaptiveProblem) problem).setSizeHint(
+                            granularityController.getSizeFactor(),
+                            granularityController.getTargetDuration());
+                    }
                     suggestedParProbNumber = suggestedParProbNumber(sysStat);
-                    parProb = problem.getPartialProblem(suggestedParProbNumber);
+                    generationStart = System.currentTimeMillis();
+                    if (parallelGenerator != null) {
+                        parProb = parallelGenerator.nextPartialProblem(
+                            suggestedParProbNumber,
+                            parProbsOutLimit(sysStat) - parProbsOut);
+                    } else {
+                        parProb = problem.getPartialProblem(suggestedParProbNumber);
+                    }
                     problemStatistic.notifyRequestedPartialProblem();
+                    problemStatistic.notifyGenerationExhausted(parProb == null);
 
                     if (parProb == null) {
                         parPropWrapper = null;
                     } else {
+                        systemStatistic.notifyPartialProblemGeneration(
+                            System.currentTimeMillis() - generationStart);
                         problemStatistic.notifyCreatedPartialProblem();
                         parPropWrapper = new ParProbWrapper(parProb,
                                                             this,
@@ -501,6 +699,7 @@ class ProblemWrapper extends Thread {
                     // Teilproblem-Wrapper zum Buffer hinzufgen
                     parProbWrapBuffer.enqueue(parPropWrapper);
                     parProbsOut++;
+                    problemManager.parProbWrapperAdded(this);
 
                     // Wenn die Schlange der Teilprobleme bisher leer war,
                     // eventuell vorhandene null Objekte in der Schlange aller
@@ -509,7 +708,12 @@ class ProblemWrapper extends Thread {
                         problemManager.removeNullElements();
                     }
                 } else {
-                    askForSolution();
+                    // Wenn die Teillsungen in einem eigenen Thread
+                    // verarbeitet werden, darf nur nach der Gesamtlsung
+                    // gefragt werden, solange dieser nichts zu tun hat.
+                    if ((collectionStage == null) || (parProbsOut == 0)) {
+                        askForSolution();
+                    }
                     if ((!terminated) && (parProbsOut == 0)) {
                         problemManager.reportException(
                             this,
@@ -526,34 +730,58 @@ class ProblemWrapper extends Thread {
                     || (parPropWrapper == null)
                     || (parProbsOut >= parProbsOutLimit(sysStat)))) {
                 // Teillsung aus dem Buffer dem Problem holen; falls keine
-                // Teillsung enthalten ist, wartet der Aufruf
-                parProbWrapSolPair = (PartialSolutionParProbWrapper) parProbSolBuffer.dequeue();
-
-                // Sicherstellen, dass es sich nicht um den Wert null handelt,
-                // der von der Methode terminate hinzugefgt wurde.
-                if (parProbWrapSolPair != null) {
-                    parPropWrapper = parProbWrapSolPair.getParProbWrapper();
-                    problemStatistic.notifyProcessedPartialProblem();
-                    try {
-                        problem.collectPartialSolution(
-                            parProbWrapSolPair.getPartialSolution(),
-                            parPropWrapper.getPartialProblem());
-                    } catch (ThreadDeath e) {
-                        // Dieser Error darf nicht abgefangen werden.
-                        throw e;
-                    } catch (Throwable e) {
-                        LOGGER.info("Fehler bei der Verarbeitung einer Teillsung");
-                        problemManager.reportException(
-                            this,
-                            parPropWrapper,
-                            ExceptionCodes.PARTIALSOLUTION_COLLECT_EXCEPTION,
-                            exceptionMessage(e));
-                        terminate();
-                        break;
+                // Teillsung enthalten ist, wartet der Aufruf. Bei
+                // nebenlufiger Erzeugung werden alle vorhandenen
+                // Teillsungen geholt, damit die Erzeugungsthreads mglichst
+                // viele Teilprobleme im voraus erzeugen drfen.
+                do {
+                    parProbWrapSolPair = (PartialSolutionParProbWrapper) parProbSolBuffer.dequeue();
+
+                    // Sicherstellen, dass es sich nicht um den Wert null
+                    // handelt, der von der Methode terminate hinzugefgt
+                    // wurde.
+                    if (parProbWrapSolPair != null) {
+                        parPropWrapper = parProbWrapSolPair.getParProbWrapper();
+                        problemStatistic.notifyProcessedPartialProblem();
+                        try {
+                            if (!parProbWrapSolPair.isCollected()) {
+                                problem.collectPartialSolution(
+                                    parProbWrapSolPair.getPartialSolution(),
+                                    parPropWrapper.getPartialProblem());
+                            }
+                        } catch (ThreadDeath e) {
+                            // Dieser Error darf nicht abgefangen werden.
+                            throw e;
+                        } catch (Throwable e) {
+                            LOGGER.info("Fehler bei der Verarbeitung einer Teillsung");
+                            problemManager.reportException(
+                                this,
+                                parPropWrapper,
+                                ExceptionCodes.PARTIALSOLUTION_COLLECT_EXCEPTION,
+                                exceptionMessage(e));
+                            terminate();
+                            break;
+                        }
+                        parProbsOut--;
+
+                        // Bei einem StagedProblem wurde die Gesamtlsung
+                        // schon bei der Verarbeitung der Teillsung erfragt.
+                        if (collectionStage == null) {
+                            askForSolution();
+                        }
                     }
-                    parProbsOut--;
+                } while ((parallelGenerator != null) && (!terminated)
+                         && (!parProbSolBuffer.isEmpty()));
+            }
+        }
 
-                    askForSolution();
+        // Warten, bis der Thread zur Verarbeitung der Teillsungen beendet
+        // ist.
+        if (collectionStage != null) {
+            while (collectionStage.isAlive()) {
+                try {
+                    collectionStage.join();
+                } catch (InterruptedException e) {
                 }
             }
         }
@@ -578,6 +806,13 @@ class ProblemWrapper extends Thread {
                     problemStatistic.notifyAbortedPartialProblems(
                         parProbSolBuffer.size());
                     parProbSolBuffer.clear();
+
+                    if (uncollectedBuffer != null) {
+                        uncollectedBuffer.removeNullElements();
+                        problemStatistic.notifyAbortedPartialProblems(
+                            uncollectedBuffer.size());
+                        uncollectedBuffer.clear();
+                    }
                 }
             }
         }
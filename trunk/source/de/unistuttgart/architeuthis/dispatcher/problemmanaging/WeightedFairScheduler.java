@@ -0,0 +1,249 @@
+/*
+ * file:        WeightedFairScheduler.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.problemmanaging;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Verteilt die Teilprobleme der Probleme entsprechend ihrer Gewichte
+ * (Stride-Scheduling). Jedes Problem hat einen virtuellen Zeitstempel, der
+ * bei jedem ausgelieferten Teilproblem um einen Wert erhht wird, der
+ * umgekehrt proportional zum Gewicht des Problems ist. Ausgeliefert wird
+ * jeweils ein Teilproblem des Problems mit dem kleinsten Zeitstempel. Ein
+ * Problem mit dem Gewicht <code>n</code> erhlt dadurch <code>n</code> mal so
+ * viele Teilprobleme wie ein Problem mit dem Gewicht Eins, solange beide
+ * Teilprobleme verfgbar haben.<p>
+ *
+ * Die Probleme, die derzeit Teilprobleme verfgbar haben, werden nach ihrem
+ * Zeitstempel sortiert gespeichert. Die Auswahl eines Teilproblems erfordert
+ * daher nur einen Aufwand, der logarithmisch in der Anzahl der Probleme ist.
+ * Ein Problem, das zeitweise keine Teilprobleme verfgbar hatte, erhlt
+ * einen Zeitstempel, der nicht kleiner als die aktuelle virtuelle Zeit ist,
+ * und kann dadurch keinen Vorsprung gegenber den anderen Problemen
+ * ansammeln.
+ */
+class WeightedFairScheduler implements ProblemScheduler {
+
+    /**
+     * Der Wert, der bei einem Gewicht von Eins zum Zeitstempel eines Problems
+     * pro ausgeliefertem Teilproblem hinzugezhlt wird.
+     */
+    private static final long STRIDE = 1L << 20;
+
+    /**
+     * Ordnet jedem verwalteten <code>ProblemWrapper</code> seinen Eintrag
+     * (eine Instanz von <code>Entry</code>) zu.
+     */
+    private Map entries = new HashMap();
+
+    /**
+     * Die Eintrge der Probleme, die derzeit Teilprobleme verfgbar haben,
+     * sortiert nach ihrem Zeitstempel.
+     */
+    private SortedSet readyEntries = new TreeSet(new EntryComparator());
+
+    /**
+     * Die aktuelle virtuelle Zeit. Das ist der Zeitstempel des Problems, von
+     * dem zuletzt ein Teilproblem ausgeliefert wurde.
+     */
+    private long virtualTime = 0;
+
+    /**
+     * Die laufende Nummer fr den nchsten neuen Eintrag.
+     */
+    private long nextEntryNumber = 0;
+
+    /**
+     * Nimmt ein neues Problem in die Verwaltung auf. Der Zeitstempel des
+     * Problems ist die aktuelle virtuelle Zeit.
+     *
+     * @param probWrap  Der Wrapper des neuen Problems.
+     * @param weight    Das Gewicht des Problems, das grer als Null ist.
+     */
+    public synchronized void addProblem(ProblemWrapper probWrap, int weight) {
+        Entry entry;
+
+        if (!entries.containsKey(probWrap)) {
+            entry = new Entry(probWrap, weight, nextEntryNumber++);
+            entry.pass = virtualTime;
+            entries.put(probWrap, entry);
+
+            // Das Problem kann bereits vor der Aufnahme Teilprobleme erzeugt
+            // haben.
+            if (probWrap.newParProbWrapperAvailable()) {
+                entry.ready = true;
+                readyEntries.add(entry);
+            }
+        }
+    }
+
+    /**
+     * Entfernt ein Problem aus der Verwaltung.
+     *
+     * @param probWrap  Der Wrapper des zu entfernenden Problems.
+     */
+    public synchronized void removeProblem(ProblemWrapper probWrap) {
+        Entry entry = (Entry) entries.remove(probWrap);
+
+        if ((entry != null) && entry.ready) {
+            readyEntries.remove(entry);
+            entry.ready = false;
+        }
+    }
+
+    /**
+     * Nimmt das bergebene Problem in die Menge der Probleme mit verfgbaren
+     * Teilproblemen auf, falls es darin nicht schon enthalten ist.
+     *
+     * @param probWrap  Der Wrapper des Problems, das ein neues Teilproblem
+     *                  erzeugt hat.
+     */
+    public synchronized void parProbWrapperAdded(ProblemWrapper probWrap) {
+        Entry entry = (Entry) entries.get(probWrap);
+
+        if ((entry != null) && !entry.ready) {
+            entry.pass = Math.max(entry.pass, virtualTime);
+            entry.ready = true;
+            readyEntries.add(entry);
+        }
+    }
+
+    /**
+     * Liefert einen Teilproblem-Wrapper des Problems mit dem kleinsten
+     * Zeitstempel oder <code>null</code>, wenn kein Problem einen
+     * Teilproblem-Wrapper verfgbar hat.
+     *
+     * @return  Der nchste zu verteilende Teilproblem-Wrapper oder
+     *          <code>null</code>.
+     */
+    public synchronized ParProbWrapper nextParProbWrapper() {
+        ParProbWrapper parProbWrap = null;
+        Entry          entry;
+
+        while ((parProbWrap == null) && !readyEntries.isEmpty()) {
+            entry = (Entry) readyEntries.first();
+            readyEntries.remove(entry);
+
+            synchronized (entry.probWrap) {
+                parProbWrap = entry.probWrap.getNewParProbWrapper();
+            }
+
+            if (parProbWrap != null) {
+                virtualTime = entry.pass;
+                entry.pass += entry.stride;
+            }
+
+            // Die Prfung erfolgt bei gehaltener Sperre, so da eine
+            // gleichzeitige Meldung ber ein neues Teilproblem erst danach
+            // verarbeitet wird und nicht verloren geht.
+            if (entry.probWrap.newParProbWrapperAvailable()) {
+                readyEntries.add(entry);
+            } else {
+                entry.ready = false;
+            }
+        }
+        return parProbWrap;
+    }
+
+    /**
+     * Der Eintrag zu einem verwalteten Problem.
+     */
+    private static class Entry {
+
+        /**
+         * Der Wrapper des Problems.
+         */
+        private final ProblemWrapper probWrap;
+
+        /**
+         * Der Wert, um den der Zeitstempel pro ausgeliefertem Teilproblem
+         * erhht wird.
+         */
+        private final long stride;
+
+        /**
+         * Die laufende Nummer des Eintrags zur eindeutigen Sortierung bei
+         * gleichen Zeitstempeln.
+         */
+        private final long number;
+
+        /**
+         * Der virtuelle Zeitstempel des Problems.
+         */
+        private long pass;
+
+        /**
+         * Gibt an, ob der Eintrag in <code>readyEntries</code> enthalten ist.
+         */
+        private boolean ready = false;
+
+        /**
+         * Erzeugt einen neuen Eintrag.
+         *
+         * @param probWrap  Der Wrapper des Problems.
+         * @param weight    Das Gewicht des Problems.
+         * @param number    Die laufende Nummer des Eintrags.
+         */
+        Entry(ProblemWrapper probWrap, int weight, long number) {
+            this.probWrap = probWrap;
+            this.stride = Math.max(1, STRIDE / Math.max(1, weight));
+            this.number = number;
+        }
+    }
+
+    /**
+     * Ordnet die Eintrge aufsteigend nach ihrem Zeitstempel und bei gleichem
+     * Zeitstempel nach ihrer laufenden Nummer.
+     */
+    private static class EntryComparator implements Comparator {
+
+        /**
+         * Vergleicht zwei Eintrge.
+         *
+         * @param o1  Der erste Eintrag.
+         * @param o2  Der zweite Eintrag.
+         *
+         * @return  Ein negativer Wert, Null oder ein positiver Wert, wenn der
+         *          erste Eintrag kleiner, gleich oder grer als der zweite
+         *          ist.
+         */
+        public int compare(Object o1, Object o2) {
+            Entry e1 = (Entry) o1;
+            Entry e2 = (Entry) o2;
+
+            if (e1.pass != e2.pass) {
+                return (e1.pass < e2.pass ? -1 : 1);
+            } else if (e1.number != e2.number) {
+                return (e1.number < e2.number ? -1 : 1);
+            } else {
+                return 0;
+            }
+        }
+    }
+}
+
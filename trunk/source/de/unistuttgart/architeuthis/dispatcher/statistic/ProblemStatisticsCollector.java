@@ -34,6 +34,7 @@
 
 package de.unistuttgart.architeuthis.dispatcher.statistic;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -52,6 +53,18 @@ import de.unistuttgart.architeuthis.userinterfaces.exec.SystemStatistics;
  */
 public class ProblemStatisticsCollector {
 
+    /**
+     * Das Gewicht der Berechnungszeit eines neu berechneten Teilproblems im
+     * gegltteten Mittelwert der zuletzt berechneten Teilprobleme.
+     */
+    private static final double RECENT_WEIGHT = 0.25;
+
+    /**
+     * Die Anzahl der zuletzt gemessenen Berechnungszeiten, aus denen die
+     * Quantile der Berechnungszeit ermittelt werden.
+     */
+    private static final int DURATION_SAMPLES = 256;
+
     /**
      * Statistik-Werte
      */
@@ -75,6 +88,36 @@ public class ProblemStatisticsCollector {
      */
     private SystemStatisticsCollector systemStatistics;
 
+    /**
+     * Exponentiell gegltteter Mittelwert der Berechnungszeiten der zuletzt
+     * berechneten Teilprobleme in Millisekunden.
+     */
+    private double recentComputationDuration = 0;
+
+    /**
+     * Die zuletzt gemessenen Berechnungszeiten als Ringpuffer.
+     */
+    private long[] durationSamples = new long[DURATION_SAMPLES];
+
+    /**
+     * Das Quantil, fr das der Wert in <code>cachedQuantileDuration</code>
+     * ermittelt wurde, oder ein negativer Wert, wenn der Wert ungltig ist.
+     */
+    private int cachedPercentile = -1;
+
+    /**
+     * Die zuletzt ermittelte Berechnungszeit zum Quantil
+     * <code>cachedPercentile</code>.
+     */
+    private long cachedQuantileDuration = 0;
+
+    /**
+     * Gibt an, ob das Problem bei der letzten Anfrage kein neues Teilproblem
+     * geliefert hat. Die noch nicht berechneten Teilprobleme sind dann
+     * voraussichtlich die letzten des Problems.
+     */
+    private volatile boolean generationExhausted = false;
+
     /**
      * Standard-Konstruktor. Setzt die Startzeit und den
      * {@link SystemStatisticsCollector}. Wenn anstatt diesem der Wert 
@@ -156,6 +199,17 @@ public class ProblemStatisticsCollector {
             statisticsContainer.computingOperatives--;
             statisticsContainer.computedPartialProblems++;
             statisticsContainer.computationDuration += diffTime;
+            statisticsContainer.computationDurationSquares += diffTime * diffTime;
+            durationSamples[(int) ((statisticsContainer.computedPartialProblems - 1)
+                                   % DURATION_SAMPLES)] = diffTime;
+            cachedPercentile = -1;
+            if (statisticsContainer.computedPartialProblems == 1) {
+                recentComputationDuration = diffTime;
+            } else {
+                recentComputationDuration =
+                    ((1 - RECENT_WEIGHT) * recentComputationDuration
+                     + RECENT_WEIGHT * diffTime);
+            }
             if (systemStatistics != null) {
                 systemStatistics.notifyEndComputingPartialProblem(diffTime);
             }
@@ -186,6 +240,152 @@ public class ProblemStatisticsCollector {
         }
     }
 
+    /**
+     * Vermerkt die Dauer eines Aufrufs, mit dem eine Anzahl von Teilproblemen
+     * an einen Operative bergeben wurde.
+     *
+     * @param duration  Die Dauer des Aufrufs in Millisekunden.
+     * @param number    Die Anzahl der bergebenen Teilprobleme.
+     */
+    public synchronized void notifyDispatchDuration(long duration, int number) {
+        statisticsContainer.dispatchDuration += duration;
+        statisticsContainer.dispatchedPartialProblems += number;
+    }
+
+    /**
+     * Vermerkt die Vergabe eines Teilproblems, das schon in Berechnung ist,
+     * an einen weiteren Operative.
+     */
+    public synchronized void notifySpeculativeExecution() {
+        statisticsContainer.speculativeExecutions++;
+    }
+
+    /**
+     * Vermerkt zur Zuweisung eines Teilproblems, wieviele der Schlssel, die
+     * es aus dem <code>RemoteStore</code> liest, auf dem Operative schon von
+     * frheren Teilproblemen verwendet wurden und wieviele nicht.
+     *
+     * @param localKeys   Die Anzahl der schon verwendeten Schlssel.
+     * @param remoteKeys  Die Anzahl der noch nicht verwendeten Schlssel.
+     */
+    public synchronized void notifyLocality(int localKeys, int remoteKeys) {
+        statisticsContainer.localKeyAccesses += localKeys;
+        statisticsContainer.remoteKeyAccesses += remoteKeys;
+    }
+
+    /**
+     * Vermerkt den Abbruch von Berechnungen eines Teilproblems, nachdem eine
+     * andere Berechnung zuerst eine Teillsung geliefert hat.
+     *
+     * @param wastedDuration  Die gesamte Dauer der abgebrochenen
+     *                        Berechnungen in Millisekunden.
+     */
+    public synchronized void notifyWastedComputation(long wastedDuration) {
+        statisticsContainer.wastedComputationDuration += wastedDuration;
+    }
+
+    /**
+     * Vermerkt, da eine spekulative Berechnung die Teillsung eines
+     * Teilproblems geliefert hat.
+     *
+     * @param savedDuration  Die geschtzte Zeit in Millisekunden, um die die
+     *                       Teillsung frher vorlag.
+     */
+    public synchronized void notifySuccessfulSpeculation(long savedDuration) {
+        statisticsContainer.successfulSpeculations++;
+        statisticsContainer.savedComputationDuration += savedDuration;
+    }
+
+    /**
+     * Ermittelt, ob die Berechnung des bergebenen Teilproblems schon lnger
+     * dauert als das angegebene Quantil der zuletzt gemessenen
+     * Berechnungszeiten. Die Dauer wird ab dem bergebenen Beginn der
+     * Berechnung gemessen, so da die Zeit, die das Teilproblem im Vorrat
+     * eines Operatives gewartet hat, nicht mitzhlt. Solange noch kein
+     * Teilproblem fertig berechnet wurde, wenn das Teilproblem nicht in
+     * Berechnung ist oder wenn seine Berechnung noch nicht begonnen hat,
+     * wird <code>false</code> geliefert.
+     *
+     * @param partProbWrap      Das Teilproblem-Wrapper-Objekt.
+     * @param computationStart  Der Zeitpunkt, zu dem die Berechnung des
+     *                          Teilproblems begonnen hat, oder Null, wenn
+     *                          sie noch nicht begonnen hat.
+     * @param percentile        Das Quantil in Prozent.
+     *
+     * @return  <code>true</code>, wenn die bisherige Berechnungszeit grer
+     *          als das Quantil ist, sonst <code>false</code>.
+     */
+    public synchronized boolean isStraggler(ParProbWrapper partProbWrap,
+                                            long computationStart,
+                                            int percentile) {
+        long[] sortedSamples;
+        int samples;
+
+        if ((computationStart == 0)
+                || !startedPartProbCompTime.containsKey(partProbWrap)
+                || (statisticsContainer.computedPartialProblems == 0)) {
+            return false;
+        }
+
+        if (cachedPercentile != percentile) {
+            samples = (int) Math.min(DURATION_SAMPLES,
+                                     statisticsContainer.computedPartialProblems);
+            sortedSamples = new long[samples];
+            System.arraycopy(durationSamples, 0, sortedSamples, 0, samples);
+            Arrays.sort(sortedSamples);
+            cachedQuantileDuration =
+                sortedSamples[Math.max(0, Math.min(samples - 1,
+                                                   (samples * percentile + 99) / 100 - 1))];
+            cachedPercentile = percentile;
+        }
+
+        return (System.currentTimeMillis() - computationStart
+                > cachedQuantileDuration);
+    }
+
+    /**
+     * Ermittelt, ob eine weitere spekulative Berechnung erlaubt ist. Das ist
+     * der Fall, wenn die Anzahl der spekulativen Berechnungen danach
+     * hchstens dem aufgerundeten Produkt aus dem bergebenen Anteil und der
+     * Anzahl der erzeugten Teilprobleme entspricht.
+     *
+     * @param maxRatio  Der maximale Anteil der spekulativen Berechnungen an
+     *                  den erzeugten Teilproblemen. Bei einem Wert kleiner
+     *                  oder gleich Null ist die Anzahl nicht begrenzt.
+     *
+     * @return  <code>true</code>, wenn eine weitere spekulative Berechnung
+     *          erlaubt ist, sonst <code>false</code>.
+     */
+    public synchronized boolean allowsSpeculation(float maxRatio) {
+        if (maxRatio <= 0) {
+            return true;
+        }
+        return (statisticsContainer.speculativeExecutions
+                < Math.ceil(maxRatio * statisticsContainer.createdPartialProblems));
+    }
+
+    /**
+     * Vermerkt, ob das Problem bei der letzten Anfrage ein neues Teilproblem
+     * geliefert hat.
+     *
+     * @param exhausted  <code>true</code>, wenn das Problem kein neues
+     *                   Teilproblem geliefert hat, sonst <code>false</code>.
+     */
+    public void notifyGenerationExhausted(boolean exhausted) {
+        generationExhausted = exhausted;
+    }
+
+    /**
+     * Liefert, ob sich das Problem in seiner Schluphase befindet, d.h. ob
+     * es bei der letzten Anfrage kein neues Teilproblem geliefert hat.
+     *
+     * @return  <code>true</code>, wenn das Problem zuletzt kein neues
+     *          Teilproblem geliefert hat, sonst <code>false</code>.
+     */
+    public boolean isFinalPhase() {
+        return generationExhausted;
+    }
+
     /**
      * Erhht die Anzahl der Operatives, die ein schon in Berechnung
      * befindliches Teilproblem berechnen.
@@ -331,6 +531,53 @@ public class ProblemStatisticsCollector {
         }
     }
 
+    /**
+     * Liefert die Anzahl der Teilprobleme, die einem Operative zusammen
+     * bergeben werden sollten bzw. deren Teillsungen er zusammen
+     * zurckliefern sollte. Die Anzahl wird so bestimmt, da die gesamte
+     * durchschnittliche Berechnungszeit der Teilprobleme etwa der bergebenen
+     * Dauer entspricht. Solange noch kein Teilproblem fertig berechnet wurde,
+     * wird der Wert Eins geliefert.
+     *
+     * @param batchDuration  Die angestrebte Dauer in Millisekunden fr die
+     *                       Berechnung aller Teilprobleme eines Bndels.
+     * @param maxBatchSize   Die maximal zu liefernde Anzahl. Diese mu
+     *                       grer oder gleich Eins sein.
+     *
+     * @return  Die vorgeschlagene Anzahl von Teilproblemen eines Bndels.
+     *          Diese ist grer oder gleich Eins und kleiner oder gleich
+     *          <code>maxBatchSize</code>.
+     */
+    public synchronized int suggestedBatchSize(long batchDuration,
+                                               int maxBatchSize) {
+        long avgTime;
+
+        if (statisticsContainer.computedPartialProblems == 0) {
+            return 1;
+        }
+
+        avgTime = statisticsContainer.getAverageComputationDuration();
+        if (avgTime == 0) {
+            return maxBatchSize;
+        } else {
+            return (int) Math.max(1, Math.min(maxBatchSize,
+                                              batchDuration / avgTime));
+        }
+    }
+
+    /**
+     * Liefert einen gegltteten Mittelwert der Berechnungszeiten der zuletzt
+     * berechneten Teilprobleme. Im Unterschied zum Durchschnitt ber alle
+     * Teilprobleme folgt er einer nderung der Gre der Teilprobleme
+     * schnell. Solange noch kein Teilproblem fertig berechnet wurde, wird der
+     * Wert Null geliefert.
+     *
+     * @return  Die geglttete Berechnungszeit in Millisekunden.
+     */
+    public synchronized long recentComputationDuration() {
+        return Math.round(recentComputationDuration);
+    }
+
     /**
      * Liefert einen Schnappshu (eine Kopie) vom
      * {@link ProblemStatisticsContainer} zurck.
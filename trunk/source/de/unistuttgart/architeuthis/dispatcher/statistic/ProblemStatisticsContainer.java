@@ -114,6 +114,61 @@ public class ProblemStatisticsContainer
      */
     long computationDuration = 0;
 
+    /**
+     * Summe der Quadrate der Berechnungszeiten aller fertig berechneten
+     * Teilprobleme.
+     */
+    long computationDurationSquares = 0;
+
+    /**
+     * Gesamte Dauer der Aufrufe, mit denen Teilprobleme an die Operatives
+     * bergeben wurden.
+     */
+    long dispatchDuration = 0;
+
+    /**
+     * Anzahl der Teilprobleme, deren bergabe in <code>dispatchDuration</code>
+     * enthalten ist.
+     */
+    long dispatchedPartialProblems = 0;
+
+    /**
+     * Anzahl der spekulativen Berechnungen, d.h. der zustzlichen Vergaben
+     * von Teilproblemen, die schon in Berechnung waren.
+     */
+    long speculativeExecutions = 0;
+
+    /**
+     * Anzahl der Teilprobleme, deren Teillsung von einer spekulativen
+     * Berechnung geliefert wurde.
+     */
+    long successfulSpeculations = 0;
+
+    /**
+     * Gesamte Zeit der Berechnungen, die abgebrochen wurden, weil eine
+     * andere Berechnung des gleichen Teilproblems zuerst eine Teillsung
+     * geliefert hat.
+     */
+    long wastedComputationDuration = 0;
+
+    /**
+     * Geschtzte gesamte Zeit, um die Teillsungen durch spekulative
+     * Berechnungen frher vorlagen.
+     */
+    long savedComputationDuration = 0;
+
+    /**
+     * Anzahl der Schlssel der zugewiesenen Teilprobleme, die auf dem
+     * jeweiligen Operative schon verwendet worden waren.
+     */
+    long localKeyAccesses = 0;
+
+    /**
+     * Anzahl der Schlssel der zugewiesenen Teilprobleme, die auf dem
+     * jeweiligen Operative noch nicht verwendet worden waren.
+     */
+    long remoteKeyAccesses = 0;
+
     /**
      * Alter des Problems.
      */
@@ -253,6 +308,123 @@ public class ProblemStatisticsContainer
         return computationDuration;
     }
 
+    /**
+     * Liefert die Standardabweichung der Berechnungszeiten aller fertig
+     * berechneten Teilprobleme.
+     *
+     * @return  Standardabweichung in Millisekunden.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.ProblemStatistics#getComputationDurationDeviation()
+     */
+    public long getComputationDurationDeviation() {
+        double average;
+        double variance;
+
+        if (computedPartialProblems == 0) {
+            return 0;
+        }
+
+        average = ((double) computationDuration) / computedPartialProblems;
+        variance = (((double) computationDurationSquares) / computedPartialProblems
+                    - average * average);
+        if (variance <= 0) {
+            return 0;
+        } else {
+            return Math.round(Math.sqrt(variance));
+        }
+    }
+
+    /**
+     * Liefert die durchschnittliche Dauer des Aufrufs, mit dem ein
+     * Teilproblem an einen Operative bergeben wird. Bei der gemeinsamen
+     * bergabe mehrerer Teilprobleme wird die Dauer des Aufrufs auf diese
+     * aufgeteilt.
+     *
+     * @return  durchschnittliche Zeitdauer in Millisekunden.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.ProblemStatistics#getAverageDispatchDuration()
+     */
+    public long getAverageDispatchDuration() {
+        if (dispatchedPartialProblems == 0) {
+            return 0;
+        } else {
+            return dispatchDuration / dispatchedPartialProblems;
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der spekulativen Berechnungen, d.h. der zustzlichen
+     * Vergaben von Teilproblemen, die schon in Berechnung waren.
+     *
+     * @return  Anzahl der spekulativen Berechnungen.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.ProblemStatistics#getSpeculativeExecutions()
+     */
+    public long getSpeculativeExecutions() {
+        return speculativeExecutions;
+    }
+
+    /**
+     * Liefert die Anzahl der Teilprobleme, deren Teillsung von einer
+     * spekulativen Berechnung geliefert wurde.
+     *
+     * @return  Anzahl der erfolgreichen spekulativen Berechnungen.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.ProblemStatistics#getSuccessfulSpeculations()
+     */
+    public long getSuccessfulSpeculations() {
+        return successfulSpeculations;
+    }
+
+    /**
+     * Liefert die gesamte Zeit der Berechnungen, die abgebrochen wurden,
+     * weil eine andere Berechnung des gleichen Teilproblems zuerst eine
+     * Teillsung geliefert hat.
+     *
+     * @return  verschwendete Zeitdauer in Millisekunden.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.ProblemStatistics#getWastedComputationDuration()
+     */
+    public long getWastedComputationDuration() {
+        return wastedComputationDuration;
+    }
+
+    /**
+     * Liefert die geschtzte gesamte Zeit, um die Teillsungen durch
+     * spekulative Berechnungen frher vorlagen.
+     *
+     * @return  eingesparte Zeitdauer in Millisekunden.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.ProblemStatistics#getSavedComputationDuration()
+     */
+    public long getSavedComputationDuration() {
+        return savedComputationDuration;
+    }
+
+    /**
+     * Liefert die Anzahl der Schlssel der zugewiesenen Teilprobleme, die auf
+     * dem jeweiligen Operative schon verwendet worden waren.
+     *
+     * @return  Anzahl der lokal vorhandenen Schlssel.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.ProblemStatistics#getLocalKeyAccesses()
+     */
+    public long getLocalKeyAccesses() {
+        return localKeyAccesses;
+    }
+
+    /**
+     * Liefert die Anzahl der Schlssel der zugewiesenen Teilprobleme, die auf
+     * dem jeweiligen Operative noch nicht verwendet worden waren.
+     *
+     * @return  Anzahl der entfernt abzurufenden Schlssel.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.ProblemStatistics#getRemoteKeyAccesses()
+     */
+    public long getRemoteKeyAccesses() {
+        return remoteKeyAccesses;
+    }
+
     /**
      * Liefert die Zeitdauer seit dem Empfang des Problems.
      *
@@ -301,6 +473,7 @@ public class ProblemStatisticsContainer
         long timeProblemAgePartHh = 0;
         long timeProblemAgePartMin = 0;
         long timeProblemAgePartSek = 0;
+        long keyAccesses = 0;
 
         text = "Teilprobleme in Berechnung  : "
                + getComputingPartialProblems()
@@ -345,6 +518,33 @@ public class ProblemStatisticsContainer
         }
         text += "\n";
 
+        text += "Standardabweichung der Zeit   : "
+                + getComputationDurationDeviation() + "ms";
+        text += "\n";
+
+        text += "Durchschnittl. bergabezeit   : "
+                + getAverageDispatchDuration() + "ms";
+        text += "\n";
+
+        text += "Spekulative Berechnungen      : "
+                + getSpeculativeExecutions() + " ("
+                + getSuccessfulSpeculations() + " erfolgreich)";
+        text += "\n";
+
+        text += "Verschwendete/gesparte Zeit   : "
+                + getWastedComputationDuration() + "ms / "
+                + getSavedComputationDuration() + "ms";
+        text += "\n";
+
+        keyAccesses = getLocalKeyAccesses() + getRemoteKeyAccesses();
+        if (keyAccesses > 0) {
+            text += "Lokale/entfernte Schlssel    : "
+                    + getLocalKeyAccesses() + " / " + getRemoteKeyAccesses()
+                    + " (" + (getLocalKeyAccesses() * 100 / keyAccesses)
+                    + "% lokal)";
+            text += "\n";
+        }
+
         text += "Berechnungszeit fr alle TP   : ";
         timeTotalComputationSek = getTotalComputationDuration() / 1000;
         timeTotalComputationPartHh = timeTotalComputationSek / 3600;
@@ -34,6 +34,8 @@
 
 package de.unistuttgart.architeuthis.dispatcher.statistic;
 
+import de.unistuttgart.architeuthis.misc.util.BlockingBuffer;
+import de.unistuttgart.architeuthis.misc.util.ThreadPool;
 import de.unistuttgart.architeuthis.userinterfaces.exec.SystemStatistics;
 
 /**
@@ -62,6 +64,18 @@ public class SystemStatisticsCollector {
      */
     private long birthday;
 
+    /**
+     * Die Threads fr die Hintergrundarbeiten des Dispatchers oder
+     * <code>null</code>, solange sie nicht gesetzt wurden.
+     */
+    private ThreadPool backgroundPool = null;
+
+    /**
+     * Der Puffer der bereitgestellten Teilprobleme oder <code>null</code>,
+     * solange er nicht gesetzt wurde.
+     */
+    private BlockingBuffer stagingBuffer = null;
+
     /**
      * Standard-Konstruktor. Setzt die Startzeit.
      */
@@ -69,6 +83,45 @@ public class SystemStatisticsCollector {
         birthday = System.currentTimeMillis();
     }
 
+    /**
+     * Setzt die Threads fr die Hintergrundarbeiten des Dispatchers, deren
+     * Auslastung in die Statistik aufgenommen wird.
+     *
+     * @param pool  Die Threads fr die Hintergrundarbeiten.
+     */
+    public synchronized void setBackgroundPool(ThreadPool pool) {
+        backgroundPool = pool;
+    }
+
+    /**
+     * Setzt den Puffer, in dem die als nchstes zu verteilenden Teilprobleme
+     * bereitgestellt werden und dessen Fllstand in die Statistik aufgenommen
+     * wird.
+     *
+     * @param buffer  Der Puffer der bereitgestellten Teilprobleme.
+     */
+    public synchronized void setStagingBuffer(BlockingBuffer buffer) {
+        stagingBuffer = buffer;
+    }
+
+    /**
+     * Vermerkt eine Anfrage nach einem Teilproblem, die ohne Teilproblem
+     * beantwortet wurde, obwohl Probleme in Bearbeitung waren.
+     */
+    public synchronized void notifyStagingStarvation() {
+        statisticsContainer.stagingStarvations++;
+    }
+
+    /**
+     * Vermerkt die Zeitdauer, die ein Problem zur Erzeugung eines
+     * Teilproblems bentigt hat.
+     *
+     * @param duration  Zeitdauer der Erzeugung in Millisekunden
+     */
+    public synchronized void notifyPartialProblemGeneration(long duration) {
+        statisticsContainer.generationDuration += duration;
+    }
+
     /**
      * Vermerkt die Anmeldung eines Operatives am System.
      */
@@ -85,6 +138,19 @@ public class SystemStatisticsCollector {
         statisticsContainer.freeOperatives--;
     }
 
+    /**
+     * Vermerkt die Entfernung eines nicht mehr erreichbaren Operatives durch
+     * die Operative-berwachung.
+     *
+     * @param detectionLatency  Die Zeitdauer in Millisekunden vom ersten
+     *                          fehlgeschlagenen Erreichbarkeitstest bis zur
+     *                          Entfernung.
+     */
+    public synchronized void notifyUnreachableOperativeRemoved(long detectionLatency) {
+        statisticsContainer.unreachableOperatives++;
+        statisticsContainer.detectionLatency += detectionLatency;
+    }
+
     /**
      * Vermerkt die Entgegennahme eines Problems von einen Transmitter.
      */
@@ -203,6 +269,15 @@ public class SystemStatisticsCollector {
 
         statContainer = (SystemStatisticsContainer) statisticsContainer.clone();
         statContainer.dispatcherAge = System.currentTimeMillis() - birthday;
+        if (backgroundPool != null) {
+            statContainer.backgroundQueueSize = backgroundPool.getQueueSize();
+            statContainer.activeBackgroundTasks = backgroundPool.getActiveCount();
+            statContainer.rejectedBackgroundTasks = backgroundPool.getRejectedTasks();
+        }
+        if (stagingBuffer != null) {
+            statContainer.stagedPartialProblems = stagingBuffer.size();
+            statContainer.stagingDepth = stagingBuffer.getMaximumSize();
+        }
         return statContainer;
     }
 }
@@ -67,6 +67,58 @@ public class SystemStatisticsContainer implements SystemStatistics, Cloneable {
      */
     long freeOperatives = 0;
 
+    /**
+     * Anzahl der Operatives, die seit dem Start des Dispatcher als nicht
+     * erreichbar entfernt wurden.
+     */
+    long unreachableOperatives = 0;
+
+    /**
+     * Gesamte Zeit vom ersten fehlgeschlagenen Erreichbarkeitstest bis zur
+     * Entfernung fr alle als nicht erreichbar entfernten Operatives.
+     */
+    long detectionLatency = 0;
+
+    /**
+     * Anzahl der Auftrge, die auf ihre Ausfhrung durch die Threads fr die
+     * Hintergrundarbeiten warten.
+     */
+    long backgroundQueueSize = 0;
+
+    /**
+     * Anzahl der Auftrge, die gerade von den Threads fr die
+     * Hintergrundarbeiten ausgefhrt werden.
+     */
+    long activeBackgroundTasks = 0;
+
+    /**
+     * Anzahl der seit dem Start des Dispatcher abgewiesenen Auftrge fr die
+     * Hintergrundarbeiten.
+     */
+    long rejectedBackgroundTasks = 0;
+
+    /**
+     * Anzahl der Eintrge im Puffer der bereitgestellten Teilprobleme.
+     */
+    long stagedPartialProblems = 0;
+
+    /**
+     * Maximale Anzahl der Eintrge im Puffer der bereitgestellten
+     * Teilprobleme.
+     */
+    long stagingDepth = 0;
+
+    /**
+     * Anzahl der seit dem Start des Dispatcher ohne Teilproblem
+     * beantworteten Anfragen, whrend Probleme in Bearbeitung waren.
+     */
+    long stagingStarvations = 0;
+
+    /**
+     * Gesamte Zeit der Erzeugung aller erzeugten Teilprobleme.
+     */
+    long generationDuration = 0;
+
     /**
      * Anzahl der seit dem Start des Dispatcher empfangenen Probleme.
      */
@@ -159,6 +211,122 @@ public class SystemStatisticsContainer implements SystemStatistics, Cloneable {
         return freeOperatives;
     }
 
+    /**
+     * Liefert die Anzahl der Operatives, die seit dem Start des Dispatcher
+     * als nicht erreichbar entfernt wurden.
+     *
+     * @return  Anzahl der als nicht erreichbar entfernten Operatives.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.SystemStatistics#getUnreachableOperatives()
+     */
+    public long getUnreachableOperatives() {
+        return unreachableOperatives;
+    }
+
+    /**
+     * Liefert die durchschnittliche Zeitdauer vom ersten fehlgeschlagenen
+     * Erreichbarkeitstest eines Operatives bis zu seiner Entfernung.
+     *
+     * @return  durchschnittliche Zeitdauer in Millisekunden.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.SystemStatistics#getAverageDetectionLatency()
+     */
+    public long getAverageDetectionLatency() {
+        if (unreachableOperatives == 0) {
+            return 0;
+        } else {
+            return detectionLatency / unreachableOperatives;
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der Auftrge, die auf ihre Ausfhrung durch die
+     * Threads fr die Hintergrundarbeiten warten.
+     *
+     * @return  Anzahl der wartenden Auftrge.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.SystemStatistics#getBackgroundQueueSize()
+     */
+    public long getBackgroundQueueSize() {
+        return backgroundQueueSize;
+    }
+
+    /**
+     * Liefert die Anzahl der Auftrge, die gerade von den Threads fr die
+     * Hintergrundarbeiten ausgefhrt werden.
+     *
+     * @return  Anzahl der gerade ausgefhrten Auftrge.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.SystemStatistics#getActiveBackgroundTasks()
+     */
+    public long getActiveBackgroundTasks() {
+        return activeBackgroundTasks;
+    }
+
+    /**
+     * Liefert die Anzahl der seit dem Start des Dispatcher abgewiesenen
+     * Auftrge fr die Hintergrundarbeiten.
+     *
+     * @return  Anzahl der abgewiesenen Auftrge.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.SystemStatistics#getRejectedBackgroundTasks()
+     */
+    public long getRejectedBackgroundTasks() {
+        return rejectedBackgroundTasks;
+    }
+
+    /**
+     * Liefert die Anzahl der Eintrge im Puffer der bereitgestellten
+     * Teilprobleme.
+     *
+     * @return  Anzahl der bereitgestellten Eintrge.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.SystemStatistics#getStagedPartialProblems()
+     */
+    public long getStagedPartialProblems() {
+        return stagedPartialProblems;
+    }
+
+    /**
+     * Liefert die derzeitige maximale Anzahl der Eintrge im Puffer der
+     * bereitgestellten Teilprobleme.
+     *
+     * @return  maximale Anzahl der bereitgestellten Eintrge.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.SystemStatistics#getStagingDepth()
+     */
+    public long getStagingDepth() {
+        return stagingDepth;
+    }
+
+    /**
+     * Liefert die Anzahl der seit dem Start des Dispatcher ohne Teilproblem
+     * beantworteten Anfragen, whrend Probleme in Bearbeitung waren.
+     *
+     * @return  Anzahl der Anfragen ohne Teilproblem.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.SystemStatistics#getStagingStarvations()
+     */
+    public long getStagingStarvations() {
+        return stagingStarvations;
+    }
+
+    /**
+     * Liefert die durchschnittliche Zeitdauer, die ein Problem zur Erzeugung
+     * eines Teilproblems bentigt hat.
+     *
+     * @return  durchschnittliche Zeitdauer in Millisekunden.
+     *
+     * @see de.unistuttgart.architeuthis.systeminterfaces.SystemStatistics#getAverageGenerationDuration()
+     */
+    public long getAverageGenerationDuration() {
+        if (createdPartialProblems == 0) {
+            return 0;
+        } else {
+            return generationDuration / createdPartialProblems;
+        }
+    }
+
     /**
      * Liefert die Anzahl der seit dem Start des Dispatcher empfangenen
      * Probleme.
@@ -359,6 +527,26 @@ public class SystemStatisticsContainer implements SystemStatistics, Cloneable {
                + getRegisteredOperatives()
                + ", davon frei: "
                + getFreeOperatives()
+               + "\n"
+               + "Als nicht erreichbar entfernt: "
+               + getUnreachableOperatives()
+               + ", nach durchschnittlich "
+               + getAverageDetectionLatency()
+               + "ms"
+               + "\n"
+               + "Hintergrundauftrge wartend : "
+               + getBackgroundQueueSize()
+               + ", in Ausfhrung: "
+               + getActiveBackgroundTasks()
+               + ", abgewiesen: "
+               + getRejectedBackgroundTasks()
+               + "\n"
+               + "Bereitgestellte Teilprobleme: "
+               + getStagedPartialProblems()
+               + ", maximal: "
+               + getStagingDepth()
+               + ", Anfragen ohne TP: "
+               + getStagingStarvations()
                + "\n\n"
                + "Bisher erhaltene Probleme   : "
                + getReceivedProblems()
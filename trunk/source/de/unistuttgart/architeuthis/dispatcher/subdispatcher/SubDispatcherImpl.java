@@ -0,0 +1,1579 @@
+/*
+ * file:        SubDispatcherImpl.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.dispatcher.subdispatcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.net.InetAddress;
+import java.rmi.Naming;
+import java.rmi.RMISecurityManager;
+import java.rmi.RemoteException;
+import java.rmi.registry.LocateRegistry;
+import java.rmi.server.UnicastRemoteObject;
+
+import de.unistuttgart.commandline.Option;
+import de.unistuttgart.commandline.ParameterParser;
+import de.unistuttgart.commandline.ParameterParserException;
+
+import de.unistuttgart.architeuthis.misc.util.ThreadPool;
+import de.unistuttgart.architeuthis.systeminterfaces.ComputeManager;
+import de.unistuttgart.architeuthis.systeminterfaces.ExceptionCodes;
+import de.unistuttgart.architeuthis.systeminterfaces.Operative;
+import de.unistuttgart.architeuthis.systeminterfaces.OperativeCapabilities;
+import de.unistuttgart.architeuthis.userinterfaces.ProblemComputeException;
+import de.unistuttgart.architeuthis.userinterfaces.RemoteStoreException;
+import de.unistuttgart.architeuthis.userinterfaces.RemoteStoreGenException;
+import de.unistuttgart.architeuthis.userinterfaces.develop.PartialProblem;
+import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStoreGenerator;
+
+/**
+ * Ein Unter-Dispatcher, der die zweite Stufe einer zweistufigen Hierarchie
+ * von Dispatchern bildet. Gegenber dem bergeordneten Dispatcher tritt er
+ * als ein einzelner {@link Operative} mit vielen Slots auf. Gegenber den
+ * lokalen Operatives tritt er als {@link ComputeManager} auf, bei dem sich
+ * unvernderte Operatives anmelden knnen.<p>
+ *
+ * Die vom bergeordneten Dispatcher empfangenen Teilprobleme werden in
+ * der Reihenfolge ihres Eingangs an freie Slots der lokalen Operatives
+ * weitergegeben. Die Teillsungen der lokalen Operatives werden gesammelt
+ * und in Blcken an den bergeordneten Dispatcher bermittelt, so da
+ * dieser nur noch einen Bruchteil der RMI-Aufrufe und der Operatives
+ * verwalten mu.<p>
+ *
+ * Ist ein lokaler Operative nicht mehr erreichbar oder meldet er sich ab,
+ * werden seine Teilprobleme erneut an andere lokale Operatives vergeben.
+ * Fehler der lokalen Operatives werden fr den entsprechenden Slot an den
+ * bergeordneten Dispatcher weitergemeldet.<p>
+ *
+ * Aufrufe an lokale Operatives erfolgen nie, whrend ein Lock des
+ * Unter-Dispatchers gehalten wird. Das Abbrechen einer Berechnung durch den
+ * bergeordneten Dispatcher wartet nur, solange eine Teillsung oder ein
+ * Fehler desselben Slots an ihn bermittelt wird.
+ */
+public class SubDispatcherImpl extends UnicastRemoteObject
+    implements ComputeManager, Operative {
+
+    /**
+     * Logger fr diese Klasse
+     */
+    private static final Logger LOGGER
+        = Logger.getLogger(SubDispatcherImpl.class.getName());
+
+    /**
+     * Generierte SerialVersionUID. Diese muss gendert werden, sobald
+     * strukurelle nderungen an dieser Klasse durchgefhrt worden sind.
+     */
+    private static final long serialVersionUID = 4718834279174103367L;
+
+    /**
+     * Der Port, an dem der Unter-Dispatcher per default seine RMI-Registry
+     * fr die lokalen Operatives startet. Die Ports 1854 und 1855 werden
+     * schon vom Dispatcher und vom ClassFileServer verwendet.
+     */
+    private static final int DEFAULT_PORT = 1856;
+
+    /**
+     * Die Anzahl der Slots, mit denen sich der Unter-Dispatcher per default
+     * beim bergeordneten Dispatcher anmeldet.
+     */
+    private static final int DEFAULT_SLOTS = 16;
+
+    /**
+     * Die Anzahl der Teillsungen, die per default hchstens in einem Aufruf
+     * an den bergeordneten Dispatcher bermittelt werden.
+     */
+    private static final int DEFAULT_BATCH_SIZE = 16;
+
+    /**
+     * Die Anzahl der Millisekunden, die eine Teillsung per default hchstens
+     * gesammelt wird, bevor sie an den bergeordneten Dispatcher bermittelt
+     * wird.
+     */
+    private static final long DEFAULT_LINGER = 50; // Millisekunden
+
+    /**
+     * Ist die Anzahl der Versuche, Verbindung mit dem bergeordneten
+     * Dispatcher herzustellen, um Teillsungen zurckzugeben.
+     */
+    private static final long CONNECT_RETRIES = 3;
+
+    /**
+     * Gibt die Anzahl der Millisekunden an, die gewartet wird, falls aufgrund
+     * einer {@link RemoteException} nochmals versucht werden muss,
+     * Teillsungen zu bermitteln.
+     */
+    private static final long SEND_TIMEOUT = 3000; // Millisekunden
+
+    /**
+     * Die Anzahl der Millisekunden zwischen zwei berprfungen, ob die
+     * lokalen Operatives noch erreichbar sind.
+     */
+    private static final long MONITORING_INTERVAL = 10000; // Millisekunden
+
+    /**
+     * Die Anzahl der Threads, die hchstens gleichzeitig Aufrufe an lokale
+     * Operatives durchfhren.
+     */
+    private static final int DOWNSTREAM_THREADS = 8;
+
+    /**
+     * Ein vom bergeordneten Dispatcher empfangenes Teilproblem mit seiner
+     * aktuellen Zuordnung zu einem Slot eines lokalen Operative.
+     */
+    private static class Task {
+
+        /**
+         * Der Slot des Unter-Dispatchers beim bergeordneten Dispatcher.
+         */
+        private final int upstreamSlot;
+
+        /**
+         * Das zu berechnende Teilproblem.
+         */
+        private final PartialProblem parProb;
+
+        /**
+         * Der zentrale RemoteStore oder <code>null</code>.
+         */
+        private final RemoteStore centralStore;
+
+        /**
+         * Der Generator eines dezentralen RemoteStore oder <code>null</code>.
+         */
+        private final RemoteStoreGenerator generator;
+
+        /**
+         * Der lokale Operative, der das Teilproblem berechnet, oder
+         * <code>null</code>, wenn es noch auf einen freien Slot wartet.
+         */
+        private LocalOperative local = null;
+
+        /**
+         * Der Slot des lokalen Operative, der das Teilproblem berechnet.
+         */
+        private int localSlot = -1;
+
+        /**
+         * Gibt an, ob die Berechnung vom bergeordneten Dispatcher
+         * abgebrochen wurde.
+         */
+        private boolean stopped = false;
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @param upstreamSlot  Der Slot beim bergeordneten Dispatcher.
+         * @param parProb       Das zu berechnende Teilproblem.
+         * @param centralStore  Der zentrale RemoteStore oder
+         *                      <code>null</code>.
+         * @param generator     Der Generator eines dezentralen RemoteStore
+         *                      oder <code>null</code>.
+         */
+        Task(int upstreamSlot, PartialProblem parProb,
+             RemoteStore centralStore, RemoteStoreGenerator generator) {
+
+            this.upstreamSlot = upstreamSlot;
+            this.parProb = parProb;
+            this.centralStore = centralStore;
+            this.generator = generator;
+        }
+
+        /**
+         * Liefert, ob das Teilproblem ohne RemoteStore berechnet wird und
+         * daher zusammen mit anderen Teilproblemen bergeben werden kann.
+         *
+         * @return  <code>true</code>, wenn kein RemoteStore verwendet wird,
+         *          sonst <code>false</code>.
+         */
+        boolean isPlain() {
+            return ((centralStore == null) && (generator == null));
+        }
+    }
+
+    /**
+     * Die Verwaltungsinformationen eines lokalen Operative.
+     */
+    private static class LocalOperative {
+
+        /**
+         * Der lokale Operative.
+         */
+        private final Operative operative;
+
+        /**
+         * Die den Slots des Operative zugewiesenen Teilprobleme.
+         */
+        private final Task[] slotTasks;
+
+        /**
+         * Gibt fr jeden Slot an, ob seine Berechnung gerade abgebrochen
+         * wird.
+         */
+        private final boolean[] stopping;
+
+        /**
+         * Objekt, auf das beim Senden an den Operative synchronisiert wird,
+         * damit ihm nicht von mehreren Threads gleichzeitig Teilprobleme
+         * gesendet werden.
+         */
+        private final Object sendingLock = new Object();
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @param operative  Der lokale Operative.
+         * @param slots      Die Anzahl der Slots des Operative.
+         */
+        LocalOperative(Operative operative, int slots) {
+            this.operative = operative;
+            slotTasks = new Task[slots];
+            stopping = new boolean[slots];
+        }
+
+        /**
+         * Liefert die Nummer eines freien Slots.
+         *
+         * @return  Die Nummer eines freien Slots oder -1, wenn kein Slot
+         *          frei ist.
+         */
+        int freeSlot() {
+            for (int i = 0; i < slotTasks.length; i++) {
+                if ((slotTasks[i] == null) && !stopping[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Eine gesammelte, noch nicht bermittelte Teillsung.
+     */
+    private static class PendingSolution {
+
+        /**
+         * Der Slot beim bergeordneten Dispatcher.
+         */
+        private final int upstreamSlot;
+
+        /**
+         * Die Teillsung.
+         */
+        private final PartialSolution parSol;
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @param upstreamSlot  Der Slot beim bergeordneten Dispatcher.
+         * @param parSol        Die Teillsung.
+         */
+        PendingSolution(int upstreamSlot, PartialSolution parSol) {
+            this.upstreamSlot = upstreamSlot;
+            this.parSol = parSol;
+        }
+    }
+
+    /**
+     * Der bergeordnete Dispatcher.
+     */
+    private volatile ComputeManager parent = null;
+
+    /**
+     * Die den Slots beim bergeordneten Dispatcher zugewiesenen
+     * Teilprobleme.
+     */
+    private final Task[] upstreamTasks;
+
+    /**
+     * Die Teilprobleme, die auf einen freien Slot eines lokalen Operative
+     * warten, in der Reihenfolge ihres Eingangs.
+     */
+    private final LinkedList waitingTasks = new LinkedList();
+
+    /**
+     * Die angemeldeten lokalen Operatives. Schlssel ist der Operative,
+     * Wert die zugehrige Instanz von <code>LocalOperative</code>.
+     */
+    private final HashMap localOperatives = new HashMap();
+
+    /**
+     * Die Teillsungen, die noch nicht an den bergeordneten Dispatcher
+     * bermittelt wurden.
+     */
+    private final LinkedList pendingSolutions = new LinkedList();
+
+    /**
+     * Die Anzahl der Teillsungen und Fehlermeldungen je Slot beim
+     * bergeordneten Dispatcher, die gerade an diesen bermittelt werden.
+     * Wird ber <code>pendingSolutions</code> synchronisiert.
+     */
+    private final int[] transmittingSolutions;
+
+    /**
+     * Objekt, auf das beim bermitteln der Teillsungen synchronisiert wird,
+     * damit diese in der Reihenfolge ihres Eingangs bermittelt werden.
+     */
+    private final Object transmitLock = new Object();
+
+    /**
+     * Die Anzahl der Teillsungen, die hchstens in einem Aufruf an den
+     * bergeordneten Dispatcher bermittelt werden.
+     */
+    private final int batchSize;
+
+    /**
+     * Die Anzahl der Millisekunden, die eine Teillsung hchstens gesammelt
+     * wird.
+     */
+    private final long linger;
+
+    /**
+     * Die vom bergeordneten Dispatcher vorgegebene Anzahl von Teillsungen,
+     * die ein lokaler Operative gesammelt zurckgeben soll.
+     */
+    private volatile int localBatchSize = 1;
+
+    /**
+     * Timer, der gesammelte Teillsungen sptestens nach <code>linger</code>
+     * Millisekunden bermittelt.
+     */
+    private final Timer flushTimer = new Timer(true);
+
+    /**
+     * Gibt an, ob eine bermittlung durch den Timer bereits geplant ist.
+     */
+    private boolean flushScheduled = false;
+
+    /**
+     * Die Threads, die die Aufrufe an die lokalen Operatives durchfhren.
+     */
+    private final ThreadPool downstreamPool;
+
+    /**
+     * Der Name, unter dem der Unter-Dispatcher in seiner RMI-Registry
+     * angemeldet ist.
+     */
+    private String binding = null;
+
+    /**
+     * Gibt an, ob der Unter-Dispatcher beendet wurde.
+     */
+    private volatile boolean terminated = false;
+
+    /**
+     * Erzeugt einen neuen Unter-Dispatcher.
+     *
+     * @param slots      Die Anzahl der Slots beim bergeordneten Dispatcher.
+     * @param batchSize  Die Anzahl der Teillsungen, die hchstens in einem
+     *                   Aufruf bermittelt werden.
+     * @param linger     Die Anzahl der Millisekunden, die eine Teillsung
+     *                   hchstens gesammelt wird.
+     *
+     * @throws RemoteException  Bei RMI-Verbindungsproblemen.
+     */
+    private SubDispatcherImpl(int slots, int batchSize, long linger)
+        throws RemoteException {
+
+        super();
+
+        if (System.getSecurityManager() == null) {
+            System.setSecurityManager(new RMISecurityManager());
+        }
+
+        upstreamTasks = new Task[slots];
+        transmittingSolutions = new int[slots];
+        this.batchSize = batchSize;
+        this.linger = linger;
+        downstreamPool = new ThreadPool(DOWNSTREAM_THREADS, "Downstream");
+    }
+
+    /**
+     * Startet die RMI-Registry fr die lokalen Operatives, meldet den
+     * Unter-Dispatcher dort an und startet die berwachung der lokalen
+     * Operatives.
+     *
+     * @param port  Der Port der RMI-Registry.
+     *
+     * @throws Exception  Wenn die Registry nicht gestartet oder der
+     *                    Unter-Dispatcher nicht angemeldet werden konnte.
+     */
+    private void startLocal(int port) throws Exception {
+
+        LocateRegistry.createRegistry(port);
+        binding = "//" + InetAddress.getLocalHost().getHostName()
+                  + ":" + port + "/" + COMPUTEMANAGER_ID_STRING;
+        Naming.bind(binding, this);
+
+        Thread monitoring = new Thread("LocalMonitoring") {
+            public void run() {
+                while (!terminated) {
+                    try {
+                        Thread.sleep(MONITORING_INTERVAL);
+                    } catch (InterruptedException e) {
+                        // Unterbrechung sollte hier nicht stren
+                    }
+                    checkLocalOperatives();
+                }
+            }
+        };
+        monitoring.setDaemon(true);
+        monitoring.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+            public void run() {
+                shutdown();
+            }
+        });
+
+        LOGGER.config("Unter-Dispatcher angemeldet als " + binding);
+    }
+
+    /**
+     * Meldet den Unter-Dispatcher beim bergeordneten Dispatcher an.
+     *
+     * @param computeManager  Der bergeordnete Dispatcher.
+     *
+     * @throws RemoteException  Bei RMI-Verbindungsproblemen.
+     */
+    private void registerUpstream(ComputeManager computeManager)
+        throws RemoteException {
+
+        parent = computeManager;
+        parent.registerOperative(this, upstreamTasks.length);
+        LOGGER.info("Beim bergeordneten Dispatcher mit "
+                    + upstreamTasks.length + " Slots angemeldet");
+    }
+
+    /**
+     * Prft, ob ein Slot beim bergeordneten Dispatcher existiert und frei
+     * ist. Die aufrufende Methode mu auf <code>this</code> synchronisiert
+     * sein.
+     *
+     * @param slot  Die Nummer des Slots.
+     *
+     * @throws ProblemComputeException   Wenn dem Slot bereits ein
+     *                                   Teilproblem zugewiesen ist.
+     * @throws IllegalArgumentException  Wenn der Slot nicht existiert.
+     */
+    private void checkUpstreamSlot(int slot) throws ProblemComputeException {
+
+        if ((slot < 0) || (slot >= upstreamTasks.length)) {
+            throw new IllegalArgumentException("Slot " + slot
+                                               + " existiert nicht");
+        }
+        if (upstreamTasks[slot] != null) {
+            LOGGER.log(Level.WARNING, "Slot " + slot + " bereits beschftigt");
+            throw new ProblemComputeException("Slot " + slot
+                                              + " bereits beschftigt");
+        }
+    }
+
+    /**
+     * Liefert die Verwaltungsinformationen zu einem Slot eines lokalen
+     * Operative, wenn ihm ein nicht abgebrochenes Teilproblem zugewiesen
+     * ist. Die aufrufende Methode mu auf <code>this</code> synchronisiert
+     * sein.
+     *
+     * @param operative  Der lokale Operative.
+     * @param slot       Die Nummer des Slots.
+     *
+     * @return  Den lokalen Operative oder <code>null</code>.
+     */
+    private LocalOperative findBusyLocal(Operative operative, int slot) {
+        LocalOperative local;
+
+        local = (LocalOperative) localOperatives.get(operative);
+        if ((local == null) || (slot < 0) || (slot >= local.slotTasks.length)
+                || local.stopping[slot] || (local.slotTasks[slot] == null)) {
+            return null;
+        }
+        return local;
+    }
+
+    /**
+     * Gibt die Zuordnung eines Teilproblems zu einem Slot eines lokalen
+     * Operative und zum Slot beim bergeordneten Dispatcher frei. Die
+     * aufrufende Methode mu auf <code>this</code> synchronisiert sein.
+     *
+     * @param local  Der lokale Operative.
+     * @param slot   Die Nummer des Slots des lokalen Operative.
+     *
+     * @return  Das bisher zugewiesene Teilproblem.
+     */
+    private Task releaseTask(LocalOperative local, int slot) {
+        Task task = local.slotTasks[slot];
+
+        local.slotTasks[slot] = null;
+        task.local = null;
+        if (upstreamTasks[task.upstreamSlot] == task) {
+            upstreamTasks[task.upstreamSlot] = null;
+        }
+        return task;
+    }
+
+    /**
+     * Liefert, ob einem Slot eines lokalen Operative ein Teilproblem
+     * zugewiesen ist. Die aufrufende Methode mu auf <code>this</code>
+     * synchronisiert sein.
+     *
+     * @return  <code>true</code>, wenn ein lokaler Operative rechnet, sonst
+     *          <code>false</code>.
+     */
+    private boolean isAnyLocalComputing() {
+        for (int i = 0; i < upstreamTasks.length; i++) {
+            if ((upstreamTasks[i] != null)
+                    && (upstreamTasks[i].local != null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Weist die wartenden Teilprobleme freien Slots der lokalen Operatives
+     * zu und sendet sie diesen im Hintergrund.
+     */
+    private void dispatch() {
+        HashMap  assignments = new HashMap();
+        Iterator localIter;
+        Iterator assignIter;
+        LocalOperative local;
+        Task     task;
+        int      slot;
+
+        synchronized (this) {
+            localIter = localOperatives.values().iterator();
+            while (!waitingTasks.isEmpty() && localIter.hasNext()) {
+                local = (LocalOperative) localIter.next();
+                slot = local.freeSlot();
+                while (!waitingTasks.isEmpty() && (slot >= 0)) {
+                    task = (Task) waitingTasks.removeFirst();
+                    task.local = local;
+                    task.localSlot = slot;
+                    local.slotTasks[slot] = task;
+                    ArrayList tasks = (ArrayList) assignments.get(local);
+                    if (tasks == null) {
+                        tasks = new ArrayList();
+                        assignments.put(local, tasks);
+                    }
+                    tasks.add(task);
+                    slot = local.freeSlot();
+                }
+            }
+        }
+
+        assignIter = assignments.keySet().iterator();
+        while (assignIter.hasNext()) {
+            final LocalOperative target = (LocalOperative) assignIter.next();
+            final ArrayList tasks = (ArrayList) assignments.get(target);
+            downstreamPool.execute(new Runnable() {
+                public void run() {
+                    sendTasks(target, tasks);
+                }
+            });
+        }
+    }
+
+    /**
+     * Sendet einem lokalen Operative die ihm zugewiesenen Teilprobleme.
+     * Teilprobleme ohne RemoteStore werden gemeinsam in einem Aufruf
+     * gesendet. Inzwischen abgebrochene Teilprobleme werden nicht gesendet.
+     *
+     * @param local  Der lokale Operative.
+     * @param tasks  Die zugewiesenen Teilprobleme.
+     */
+    private void sendTasks(LocalOperative local, ArrayList tasks) {
+        ArrayList plainTasks = new ArrayList();
+        ArrayList storeTasks = new ArrayList();
+        Task      task;
+
+        synchronized (local.sendingLock) {
+            synchronized (this) {
+                for (int i = 0; i < tasks.size(); i++) {
+                    task = (Task) tasks.get(i);
+                    if (!task.stopped && (task.local == local)) {
+                        if (task.isPlain()) {
+                            plainTasks.add(task);
+                        } else {
+                            storeTasks.add(task);
+                        }
+                    }
+                }
+            }
+
+            try {
+                if (plainTasks.size() == 1) {
+                    storeTasks.add(plainTasks.remove(0));
+                } else if (plainTasks.size() > 1) {
+                    int[] slots = new int[plainTasks.size()];
+                    PartialProblem[] parProbs = new PartialProblem[slots.length];
+                    for (int i = 0; i < slots.length; i++) {
+                        task = (Task) plainTasks.get(i);
+                        slots[i] = task.localSlot;
+                        parProbs[i] = task.parProb;
+                    }
+                    local.operative.fetchPartialProblems(slots, parProbs,
+                                                         localBatchSize);
+                }
+            } catch (ProblemComputeException e) {
+                requeueTasks(local, plainTasks);
+            } catch (RemoteException e) {
+                LOGGER.log(Level.WARNING, "Lokaler Operative nicht erreichbar: "
+                                          + e.getMessage());
+                removeLocal(local.operative);
+                return;
+            }
+
+            for (int i = 0; i < storeTasks.size(); i++) {
+                task = (Task) storeTasks.get(i);
+                try {
+                    local.operative.fetchPartialProblem(task.localSlot,
+                                                        task.parProb,
+                                                        task.centralStore,
+                                                        task.generator);
+                } catch (RemoteStoreGenException e) {
+                    failTask(local, task, ExceptionCodes.REMOTE_STORE_GEN_EXCEPTION,
+                             e.toString());
+                } catch (RemoteStoreException e) {
+                    failTask(local, task, ExceptionCodes.REMOTE_STORE_EXCEPTION,
+                             e.toString());
+                } catch (ProblemComputeException e) {
+                    requeueTask(local, task);
+                } catch (RemoteException e) {
+                    LOGGER.log(Level.WARNING, "Lokaler Operative nicht"
+                                              + " erreichbar: " + e.getMessage());
+                    removeLocal(local.operative);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stellt ein Teilproblem, das ein lokaler Operative nicht annehmen
+     * konnte, an den Anfang der wartenden Teilprobleme zurck.
+     *
+     * @param local  Der lokale Operative.
+     * @param task   Das Teilproblem.
+     */
+    private void requeueTask(LocalOperative local, Task task) {
+        ArrayList tasks = new ArrayList();
+
+        tasks.add(task);
+        requeueTasks(local, tasks);
+    }
+
+    /**
+     * Stellt Teilprobleme, die ein lokaler Operative nicht annehmen konnte,
+     * an den Anfang der wartenden Teilprobleme zurck.
+     *
+     * @param local  Der lokale Operative.
+     * @param tasks  Die Teilprobleme.
+     */
+    private void requeueTasks(LocalOperative local, ArrayList tasks) {
+        Task task;
+
+        LOGGER.log(Level.WARNING, "Lokaler Operative hat "
+                                  + tasks.size() + " Teilprobleme abgelehnt");
+        synchronized (this) {
+            for (int i = tasks.size() - 1; i >= 0; i--) {
+                task = (Task) tasks.get(i);
+                if (local.slotTasks[task.localSlot] == task) {
+                    local.slotTasks[task.localSlot] = null;
+                    task.local = null;
+                    if (!task.stopped) {
+                        waitingTasks.addFirst(task);
+                    }
+                }
+            }
+        }
+        dispatch();
+    }
+
+    /**
+     * Meldet dem bergeordneten Dispatcher einen Fehler zu einem
+     * Teilproblem, das einem lokalen Operative nicht bergeben werden
+     * konnte.
+     *
+     * @param local             Der lokale Operative.
+     * @param task              Das Teilproblem.
+     * @param exceptionCode     Wert, der die Ausnahme charakterisiert.
+     * @param exceptionMessage  Beschreibung der Ausnahme.
+     */
+    private void failTask(LocalOperative local, Task task, int exceptionCode,
+                          String exceptionMessage) {
+
+        synchronized (this) {
+            if (local.slotTasks[task.localSlot] != task) {
+                return;
+            }
+            releaseTask(local, task.localSlot);
+            beginTransmission(task.upstreamSlot);
+        }
+        try {
+            sendException(task.upstreamSlot, exceptionCode, exceptionMessage);
+        } finally {
+            endTransmission(task.upstreamSlot);
+        }
+        dispatch();
+    }
+
+    /**
+     * Entfernt einen lokalen Operative aus der Verwaltung und vergibt seine
+     * Teilprobleme erneut. Diese werden vor die brigen wartenden
+     * Teilprobleme gestellt.
+     *
+     * @param operative  Der zu entfernende lokale Operative.
+     */
+    private void removeLocal(Operative operative) {
+        LocalOperative local;
+        Task task;
+
+        synchronized (this) {
+            local = (LocalOperative) localOperatives.remove(operative);
+            if (local == null) {
+                return;
+            }
+            for (int i = local.slotTasks.length - 1; i >= 0; i--) {
+                task = local.slotTasks[i];
+                if (task != null) {
+                    local.slotTasks[i] = null;
+                    task.local = null;
+                    if (!task.stopped) {
+                        waitingTasks.addFirst(task);
+                    }
+                }
+            }
+            LOGGER.info("Lokaler Operative entfernt, noch "
+                        + localOperatives.size() + " lokale Operatives");
+        }
+        dispatch();
+    }
+
+    /**
+     * Prft, ob die lokalen Operatives noch erreichbar sind, und entfernt
+     * die nicht erreichbaren.
+     */
+    private void checkLocalOperatives() {
+        Object[] operatives;
+
+        synchronized (this) {
+            operatives = localOperatives.keySet().toArray();
+        }
+        for (int i = 0; i < operatives.length; i++) {
+            try {
+                ((Operative) operatives[i]).isReachable();
+            } catch (RemoteException e) {
+                LOGGER.log(Level.WARNING, "Lokaler Operative nicht erreichbar");
+                removeLocal((Operative) operatives[i]);
+            }
+        }
+    }
+
+    /**
+     * Vermerkt, da zu einem Slot beim bergeordneten Dispatcher eine
+     * Teillsung oder ein Fehler bermittelt wird. Ein Abbruch des Slots
+     * wartet bis zum Ende der bermittlung.
+     *
+     * @param upstreamSlot  Der Slot beim bergeordneten Dispatcher.
+     */
+    private void beginTransmission(int upstreamSlot) {
+        synchronized (pendingSolutions) {
+            transmittingSolutions[upstreamSlot]++;
+        }
+    }
+
+    /**
+     * Vermerkt das Ende einer mit <code>beginTransmission</code>
+     * angekndigten bermittlung.
+     *
+     * @param upstreamSlot  Der Slot beim bergeordneten Dispatcher.
+     */
+    private void endTransmission(int upstreamSlot) {
+        synchronized (pendingSolutions) {
+            transmittingSolutions[upstreamSlot]--;
+            pendingSolutions.notifyAll();
+        }
+    }
+
+    /**
+     * Nimmt eine Teillsung zur bermittlung an den bergeordneten
+     * Dispatcher an. Die aufrufende Methode mu auf <code>this</code>
+     * synchronisiert sein und die Zuordnung des Teilproblems im selben
+     * Abschnitt freigegeben haben, damit ein Abbruch des Slots die
+     * Teillsung immer findet.
+     *
+     * @param upstreamSlot  Der Slot beim bergeordneten Dispatcher.
+     * @param parSol        Die Teillsung.
+     */
+    private void addPendingSolution(int upstreamSlot, PartialSolution parSol) {
+        synchronized (pendingSolutions) {
+            pendingSolutions.add(new PendingSolution(upstreamSlot, parSol));
+        }
+    }
+
+    /**
+     * bermittelt die gesammelten Teillsungen sofort, wenn
+     * <code>batchSize</code> viele vorliegen oder kein lokaler Operative mehr
+     * rechnet, und sonst sptestens nach <code>linger</code> Millisekunden.
+     *
+     * @param localBusy  Gibt an, ob noch ein lokaler Operative rechnet.
+     */
+    private void schedulePendingSolutions(boolean localBusy) {
+        boolean transmitNow = false;
+
+        synchronized (pendingSolutions) {
+            if (pendingSolutions.isEmpty()) {
+                return;
+            }
+            if ((pendingSolutions.size() >= batchSize) || !localBusy) {
+                transmitNow = true;
+            } else if (!flushScheduled) {
+                try {
+                    flushTimer.schedule(new TimerTask() {
+                        public void run() {
+                            synchronized (pendingSolutions) {
+                                flushScheduled = false;
+                            }
+                            transmitPendingSolutions();
+                        }
+                    }, linger);
+                    flushScheduled = true;
+                } catch (IllegalStateException e) {
+                    // Der Timer wurde bereits beendet.
+                    transmitNow = true;
+                }
+            }
+        }
+
+        if (transmitNow) {
+            transmitPendingSolutions();
+        }
+    }
+
+    /**
+     * bermittelt die gesammelten Teillsungen in Blcken von hchstens
+     * <code>batchSize</code> Teillsungen an den bergeordneten Dispatcher.
+     * Wenn das auch nach mehreren Versuchen nicht mglich ist, wird fr jeden
+     * betroffenen Slot ein Fehler gemeldet.<p>
+     *
+     * Whrend der bermittlung wird <code>pendingSolutions</code> nicht
+     * gesperrt, damit der bergeordnete Dispatcher gleichzeitig Berechnungen
+     * anderer Slots abbrechen kann. Die bermittlung wird aber in
+     * <code>transmittingSolutions</code> vermerkt.
+     */
+    private void transmitPendingSolutions() {
+        PartialSolution[] parSols;
+        PendingSolution   pending;
+        int[]             slots;
+
+        synchronized (transmitLock) {
+            while (true) {
+                synchronized (pendingSolutions) {
+                    if (pendingSolutions.isEmpty()) {
+                        return;
+                    }
+                    parSols = new PartialSolution[Math.min(batchSize,
+                                                           pendingSolutions.size())];
+                    slots = new int[parSols.length];
+                    for (int i = 0; i < parSols.length; i++) {
+                        pending = (PendingSolution) pendingSolutions.removeFirst();
+                        parSols[i] = pending.parSol;
+                        slots[i] = pending.upstreamSlot;
+                        transmittingSolutions[slots[i]]++;
+                    }
+                }
+
+                try {
+                    transmitSolutions(parSols, slots);
+                } finally {
+                    synchronized (pendingSolutions) {
+                        for (int i = 0; i < slots.length; i++) {
+                            transmittingSolutions[slots[i]]--;
+                        }
+                        pendingSolutions.notifyAll();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * bermittelt einen Block von Teillsungen an den bergeordneten
+     * Dispatcher. Wenn das auch nach mehreren Versuchen nicht mglich ist,
+     * wird fr jeden betroffenen Slot ein Fehler gemeldet.
+     *
+     * @param parSols  Die Teillsungen.
+     * @param slots    Die zugehrigen Slots beim bergeordneten Dispatcher.
+     */
+    private void transmitSolutions(PartialSolution[] parSols, int[] slots) {
+        String  exceptionMessage = null;
+        long    versuch;
+        boolean transmitted;
+
+        // Mehrmals versuchen, die Teillsungen zu senden
+        transmitted = false;
+        versuch = 1;
+        while ((versuch <= CONNECT_RETRIES) && !transmitted
+               && (parent != null)) {
+            try {
+                if (parSols.length == 1) {
+                    parent.collectPartialSolution(parSols[0], this, slots[0]);
+                } else {
+                    parent.collectPartialSolutions(parSols, this, slots);
+                }
+                transmitted = true;
+            } catch (RemoteException e) {
+                exceptionMessage = e.toString();
+                LOGGER.log(Level.WARNING, "Teilergebnisse konnten nicht"
+                                          + " zurckgegeben werden");
+                try {
+                    Thread.sleep(SEND_TIMEOUT);
+                } catch (InterruptedException e1) {
+                    LOGGER.log(Level.WARNING, "Warten auf neue"
+                               + " bertragung wurde abgebrochen");
+                }
+            }
+            versuch++;
+        }
+
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, parSols.length + " Teilergebnisse"
+                                   + " zurckgegeben: " + transmitted);
+        }
+
+        if (!transmitted) {
+            for (int i = 0; i < slots.length; i++) {
+                sendException(slots[i],
+                              ExceptionCodes.PARTIALSOLUTION_SEND_EXCEPTION,
+                              exceptionMessage);
+            }
+        }
+    }
+
+    /**
+     * Entfernt die gesammelten, noch nicht bermittelten Teillsungen eines
+     * Slots beim bergeordneten Dispatcher und wartet, bis die bermittlung
+     * bereits entnommener Teillsungen und Fehlermeldungen des Slots beendet
+     * ist.
+     *
+     * @param upstreamSlot  Der Slot beim bergeordneten Dispatcher.
+     */
+    private void removePendingSolutions(int upstreamSlot) {
+        Iterator pendingIter;
+
+        synchronized (pendingSolutions) {
+            pendingIter = pendingSolutions.iterator();
+            while (pendingIter.hasNext()) {
+                if (((PendingSolution) pendingIter.next()).upstreamSlot
+                        == upstreamSlot) {
+                    pendingIter.remove();
+                }
+            }
+            while (transmittingSolutions[upstreamSlot] > 0) {
+                try {
+                    pendingSolutions.wait();
+                } catch (InterruptedException e) {
+                    // Unterbrechung sollte hier nicht stren
+                }
+            }
+        }
+    }
+
+    /**
+     * Meldet dem bergeordneten Dispatcher einen Fehler zu einem Slot. Wenn
+     * dieser nicht erreichbar ist, wird der Unter-Dispatcher beendet.
+     *
+     * @param upstreamSlot      Der Slot beim bergeordneten Dispatcher.
+     * @param exceptionCode     Wert, der die Ausnahme charakterisiert.
+     * @param exceptionMessage  Beschreibung der Ausnahme.
+     */
+    private void sendException(int upstreamSlot, int exceptionCode,
+                               String exceptionMessage) {
+        ComputeManager computeManager = parent;
+
+        if (computeManager == null) {
+            return;
+        }
+        try {
+            computeManager.reportException(this, upstreamSlot, exceptionCode,
+                                           exceptionMessage);
+        } catch (RemoteException e) {
+            LOGGER.log(Level.SEVERE, "bergeordneter Dispatcher nicht"
+                                     + " erreichbar zum Melden eines Fehlers");
+            parent = null;
+            shutdown();
+        }
+    }
+
+    // Methoden gegenber dem bergeordneten Dispatcher
+
+    /**
+     * Dient dem bergeordneten Dispatcher zum Test, ob der Unter-Dispatcher
+     * noch erreichbar ist.
+     *
+     * @return  <code>true</code>.
+     *
+     * @throws RemoteException  Bei RMI-Verbindungsproblemen.
+     */
+    public boolean isReachable() throws RemoteException {
+        return true;
+    }
+
+    /**
+     * Nimmt ein Teilproblem fr einen Slot beim bergeordneten Dispatcher an
+     * und gibt es an den nchsten freien Slot eines lokalen Operative
+     * weiter. Der RemoteStore und sein Generator werden unverndert an den
+     * lokalen Operative weitergegeben.
+     *
+     * @param slot          Der Slot beim bergeordneten Dispatcher.
+     * @param parProb       Das zu berechnende Teilproblem.
+     * @param centralStore  Der zentrale RemoteStore.
+     * @param generator     Der Generator eines lokalen RemoteStore.
+     *
+     * @throws RemoteException          Bei RMI-Verbindungsproblemen.
+     * @throws ProblemComputeException  Wenn dem Slot bereits ein
+     *                                  Teilproblem zugewiesen ist.
+     */
+    public void fetchPartialProblem(int slot,
+                                    PartialProblem parProb,
+                                    RemoteStore centralStore,
+                                    RemoteStoreGenerator generator)
+        throws RemoteException, ProblemComputeException {
+
+        synchronized (this) {
+            checkUpstreamSlot(slot);
+            upstreamTasks[slot] = new Task(slot, parProb, centralStore,
+                                           generator);
+            waitingTasks.addLast(upstreamTasks[slot]);
+        }
+        dispatch();
+    }
+
+    /**
+     * Nimmt mehrere Teilprobleme ohne RemoteStore an und gibt sie an freie
+     * Slots der lokalen Operatives weiter.
+     *
+     * @param slots              Die Slots beim bergeordneten Dispatcher.
+     * @param parProbs           Die zu berechnenden Teilprobleme.
+     * @param solutionBatchSize  Die Anzahl der Teillsungen, die ein lokaler
+     *                           Operative hchstens gesammelt zurckgeben
+     *                           soll.
+     *
+     * @throws RemoteException          Bei RMI-Verbindungsproblemen.
+     * @throws ProblemComputeException  Wenn einem der Slots bereits ein
+     *                                  Teilproblem zugewiesen ist.
+     */
+    public void fetchPartialProblems(int[] slots,
+                                     PartialProblem[] parProbs,
+                                     int solutionBatchSize)
+        throws RemoteException, ProblemComputeException {
+
+        if (slots.length != parProbs.length) {
+            throw new IllegalArgumentException("Anzahl der Slots und der"
+                                               + " Teilprobleme verschieden");
+        }
+
+        synchronized (this) {
+            for (int i = 0; i < slots.length; i++) {
+                checkUpstreamSlot(slots[i]);
+            }
+            localBatchSize = Math.max(1, solutionBatchSize);
+            for (int i = 0; i < slots.length; i++) {
+                upstreamTasks[slots[i]] = new Task(slots[i], parProbs[i],
+                                                   null, null);
+                waitingTasks.addLast(upstreamTasks[slots[i]]);
+            }
+        }
+        dispatch();
+    }
+
+    /**
+     * Bricht die Berechnung eines Slots beim bergeordneten Dispatcher ab.
+     * Eine noch nicht bermittelte Teillsung des Slots wird verworfen, und
+     * auf das Ende einer laufenden bermittlung zu dem Slot wird gewartet,
+     * damit keine Teillsung nach dem Abbruch beim bergeordneten Dispatcher
+     * eintrifft und dort dem nchsten Teilproblem des Slots zugeordnet wird.
+     * Der Abbruch beim lokalen Operative erfolgt im Hintergrund, dessen Slot
+     * wird erst danach wieder vergeben.
+     *
+     * @param slot  Der Slot beim bergeordneten Dispatcher.
+     *
+     * @throws RemoteException  Bei RMI-Verbindungsproblemen.
+     */
+    public void stopComputation(int slot) throws RemoteException {
+        LocalOperative stoppedLocal = null;
+        int stoppedSlot = -1;
+        Task task;
+
+        synchronized (this) {
+            if ((slot < 0) || (slot >= upstreamTasks.length)) {
+                throw new IllegalArgumentException("Slot " + slot
+                                                   + " existiert nicht");
+            }
+            task = upstreamTasks[slot];
+            if (task != null) {
+                upstreamTasks[slot] = null;
+                task.stopped = true;
+                stoppedLocal = task.local;
+                stoppedSlot = task.localSlot;
+                if (stoppedLocal == null) {
+                    waitingTasks.remove(task);
+                } else {
+                    stoppedLocal.slotTasks[stoppedSlot] = null;
+                    stoppedLocal.stopping[stoppedSlot] = true;
+                    task.local = null;
+                }
+            }
+        }
+
+        // Erst nach der Freigabe des Teilproblems, da eine Teillsung im
+        // selben Abschnitt wie die Freigabe gesammelt wird.
+        removePendingSolutions(slot);
+        if (stoppedLocal == null) {
+            return;
+        }
+
+        final LocalOperative local = stoppedLocal;
+        final int localSlot = stoppedSlot;
+
+        downstreamPool.execute(new Runnable() {
+            public void run() {
+                try {
+                    synchronized (local.sendingLock) {
+                        local.operative.stopComputation(localSlot);
+                    }
+                } catch (RemoteException e) {
+                    LOGGER.log(Level.WARNING, "Abbruch auf lokalem Operative"
+                                              + " fehlgeschlagen");
+                    removeLocal(local.operative);
+                    return;
+                }
+                synchronized (SubDispatcherImpl.this) {
+                    local.stopping[localSlot] = false;
+                }
+                dispatch();
+            }
+        });
+    }
+
+    /**
+     * Beendet den Unter-Dispatcher und alle lokalen Operatives. Wird vom
+     * bergeordneten Dispatcher aufgerufen, wenn dieser beendet wird.
+     *
+     * @throws RemoteException  Bei RMI-Verbindungsproblemen.
+     */
+    public void doExit() throws RemoteException {
+        parent = null;
+        terminate();
+
+        // Den Proze erst nach der Rckkehr des Aufrufs beenden, da die
+        // RMI-Registry ihn sonst am Leben hlt.
+        Thread exit = new Thread("Exit") {
+            public void run() {
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException e) {
+                    // Unterbrechung sollte hier nicht stren
+                }
+                System.exit(0);
+            }
+        };
+        exit.start();
+    }
+
+    // Methoden gegenber den lokalen Operatives
+
+    /**
+     * Meldet einen lokalen Operative an.
+     *
+     * @param operative  Der lokale Operative.
+     * @param slots      Die Anzahl seiner Slots.
+     *
+     * @throws RemoteException  Bei RMI-Verbindungsproblemen.
+     */
+    public void registerOperative(Operative operative, int slots)
+        throws RemoteException {
+
+        registerOperative(operative, slots, null);
+    }
+
+    /**
+     * Meldet einen lokalen Operative an. Die Leistungsdaten werden nur
+     * protokolliert, da die Slots der lokalen Operatives in der Reihenfolge
+     * ihrer Anmeldung vergeben werden.
+     *
+     * @param operative     Der lokale Operative.
+     * @param slots         Die Anzahl seiner Slots.
+     * @param capabilities  Die Leistungsdaten des Operative oder
+     *                      <code>null</code>.
+     *
+     * @throws RemoteException  Bei RMI-Verbindungsproblemen.
+     */
+    public void registerOperative(Operative operative, int slots,
+                                  OperativeCapabilities capabilities)
+        throws RemoteException {
+
+        synchronized (this) {
+            if (!localOperatives.containsKey(operative)) {
+                localOperatives.put(operative,
+                                    new LocalOperative(operative,
+                                                       Math.max(1, slots)));
+            }
+            LOGGER.info("Lokaler Operative mit " + slots + " Slots angemeldet"
+                        + ((capabilities != null) ? (", " + capabilities) : "")
+                        + ", insgesamt " + localOperatives.size());
+        }
+        dispatch();
+    }
+
+    /**
+     * Meldet einen lokalen Operative ab. Seine Teilprobleme werden erneut
+     * vergeben.
+     *
+     * @param operative  Der lokale Operative.
+     *
+     * @throws RemoteException  Bei RMI-Verbindungsproblemen.
+     */
+    public void unregisterOperative(Operative operative)
+        throws RemoteException {
+
+        removeLocal(operative);
+    }
+
+    /**
+     * Nimmt die Teillsung eines lokalen Operative an. Teillsungen von
+     * Slots, deren Berechnung abgebrochen wurde, werden verworfen.
+     *
+     * @param parSol     Die Teillsung.
+     * @param operative  Der lokale Operative.
+     * @param slot       Der Slot des lokalen Operative.
+     *
+     * @throws RemoteException  Bei RMI-Verbindungsproblemen.
+     */
+    public void collectPartialSolution(PartialSolution parSol,
+                                       Operative operative, int slot)
+        throws RemoteException {
+
+        collectPartialSolutions(new PartialSolution[] {parSol}, operative,
+                                new int[] {slot});
+    }
+
+    /**
+     * Nimmt mehrere Teillsungen eines lokalen Operative an. Teillsungen
+     * von Slots, deren Berechnung abgebrochen wurde, werden verworfen.
+     *
+     * @param parSols    Die Teillsungen.
+     * @param operative  Der lokale Operative.
+     * @param slots      Die Slots des lokalen Operative.
+     *
+     * @throws RemoteException  Bei RMI-Verbindungsproblemen.
+     */
+    public void collectPartialSolutions(PartialSolution[] parSols,
+                                        Operative operative, int[] slots)
+        throws RemoteException {
+
+        boolean        localBusy;
+        LocalOperative local;
+        Task           task;
+
+        synchronized (this) {
+            for (int i = 0; i < slots.length; i++) {
+                local = findBusyLocal(operative, slots[i]);
+                if (local == null) {
+                    LOGGER.log(Level.FINE, "Teillsung eines abgebrochenen"
+                                           + " Slots verworfen");
+                } else {
+                    task = releaseTask(local, slots[i]);
+                    addPendingSolution(task.upstreamSlot, parSols[i]);
+                }
+            }
+            localBusy = isAnyLocalComputing();
+        }
+
+        dispatch();
+        schedulePendingSolutions(localBusy);
+    }
+
+    /**
+     * Nimmt die Meldung eines lokalen Operative an, da auf einem Slot eine
+     * Berechnung aus seinem Vorrat begonnen hat. Die Meldung wird nicht
+     * weitergegeben, da der SubDispatcher beim bergeordneten Dispatcher
+     * ohne Vorrat angemeldet ist.
+     *
+     * @param operative  Der lokale Operative.
+     * @param slot       Der Slot des lokalen Operative.
+     *
+     * @throws RemoteException  Bei RMI-Verbindungsproblemen.
+     */
+    public void notifyComputationStart(Operative operative, int slot)
+        throws RemoteException {
+    }
+
+    /**
+     * Nimmt die Fehlermeldung eines lokalen Operative an und meldet sie fr
+     * den entsprechenden Slot an den bergeordneten Dispatcher weiter.
+     *
+     * @param operative         Der lokale Operative.
+     * @param slot              Der Slot des lokalen Operative.
+     * @param exceptionCode     Wert, der die Ausnahme charakterisiert.
+     * @param exceptionMessage  Beschreibung der Ausnahme.
+     *
+     * @throws RemoteException  Bei RMI-Verbindungsproblemen.
+     */
+    public void reportException(Operative operative, int slot,
+                                int exceptionCode, String exceptionMessage)
+        throws RemoteException {
+
+        LocalOperative local;
+        int upstreamSlot;
+
+        synchronized (this) {
+            local = findBusyLocal(operative, slot);
+            if (local == null) {
+                return;
+            }
+            upstreamSlot = releaseTask(local, slot).upstreamSlot;
+            beginTransmission(upstreamSlot);
+        }
+        try {
+            sendException(upstreamSlot, exceptionCode, exceptionMessage);
+        } finally {
+            endTransmission(upstreamSlot);
+        }
+        dispatch();
+    }
+
+    /**
+     * Beendet den Unter-Dispatcher: die lokalen Operatives werden beendet,
+     * und der Unter-Dispatcher wird aus seiner RMI-Registry ausgetragen.
+     */
+    private void terminate() {
+        Object[] operatives;
+
+        synchronized (this) {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            operatives = localOperatives.keySet().toArray();
+            localOperatives.clear();
+        }
+        LOGGER.info("Unter-Dispatcher wird beendet");
+
+        flushTimer.cancel();
+        for (int i = 0; i < operatives.length; i++) {
+            try {
+                ((Operative) operatives[i]).doExit();
+            } catch (RemoteException e) {
+                LOGGER.log(Level.FINE, "Lokaler Operative nicht beendet");
+            }
+        }
+        try {
+            if (binding != null) {
+                Naming.unbind(binding);
+            }
+            unexportObject(this, true);
+        } catch (Exception e) {
+            LOGGER.warning("Austragen aus der RMI-Registry fehlgeschlagen.");
+        }
+        downstreamPool.terminate();
+
+        LOGGER.info("Unter-Dispatcher beendet");
+    }
+
+    /**
+     * Meldet den Unter-Dispatcher beim bergeordneten Dispatcher ab und
+     * beendet ihn.
+     */
+    private void shutdown() {
+        ComputeManager computeManager = parent;
+
+        parent = null;
+        if (computeManager != null) {
+            try {
+                computeManager.unregisterOperative(this);
+            } catch (RemoteException e) {
+                LOGGER.log(Level.WARNING, "Fehler beim Abmelden vom Dispatcher.");
+            }
+        }
+        terminate();
+    }
+
+    /**
+     * Startet den Unter-Dispatcher. Als Kommandozeilenargument muss die
+     * Adresse der RMI-Registry des bergeordneten Dispatchers angegeben
+     * werden. Mittels <code>-port</code> wird der Port der RMI-Registry
+     * angegeben, bei der sich die lokalen Operatives anmelden, mittels
+     * <code>-slots</code> die Anzahl der Slots beim bergeordneten
+     * Dispatcher, mittels <code>-batch</code> die Anzahl der Teillsungen,
+     * die hchstens gemeinsam bermittelt werden, und mittels
+     * <code>-linger</code> die Anzahl der Millisekunden, die eine Teillsung
+     * hchstens gesammelt wird. Der Debug-Modus wird mittels
+     * <code>--debug</code> oder <code>-d</code> angeschaltet.
+     *
+     * @param args  Die Kommandozeilenargumente.
+     */
+    public static void main(String[] args) {
+        ParameterParser parser = new ParameterParser();
+        StringBuffer    parentBinding = new StringBuffer();
+        int             port = DEFAULT_PORT;
+        int             slots = DEFAULT_SLOTS;
+        int             batchSize = DEFAULT_BATCH_SIZE;
+        long            linger = DEFAULT_LINGER;
+
+        Option debug1 = new Option("d");
+        debug1.setPrefix("-");
+        debug1.setOptional(true);
+        debug1.setParameterNumberCheck(Option.ZERO_PARAMETERS_CHECK);
+
+        Option debug2 = new Option("debug");
+        debug2.setPrefix("--");
+        debug2.setOptional(true);
+        debug2.setParameterNumberCheck(Option.ZERO_PARAMETERS_CHECK);
+
+        Option portOption = new Option("port");
+        portOption.setPrefix("-");
+        portOption.setOptional(true);
+        portOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        portOption.setParamDescription("Port fr lokale Operatives");
+
+        Option slotsOption = new Option("slots");
+        slotsOption.setPrefix("-");
+        slotsOption.setOptional(true);
+        slotsOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        slotsOption.setParamDescription("Slots beim Dispatcher");
+
+        Option batchOption = new Option("batch");
+        batchOption.setPrefix("-");
+        batchOption.setOptional(true);
+        batchOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        batchOption.setParamDescription("Teillsungen je bermittlung");
+
+        Option lingerOption = new Option("linger");
+        lingerOption.setPrefix("-");
+        lingerOption.setOptional(true);
+        lingerOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        lingerOption.setParamDescription("Millisekunden");
+
+        parser.addOption(debug1);
+        parser.addOption(debug2);
+        parser.addOption(portOption);
+        parser.addOption(slotsOption);
+        parser.addOption(batchOption);
+        parser.addOption(lingerOption);
+        parser.setFreeParameterPosition(ParameterParser.START);
+        parser.setFreeParameterDescription("registry:port");
+        parser.setFreeParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+
+        try {
+            parser.parseAll(args);
+
+            if (parser.isEnabled(debug1) || parser.isEnabled(debug2)) {
+                Logger logger = Logger.getLogger("de.unistuttgart.architeuthis.dispatcher.subdispatcher");
+                logger.setLevel(Level.FINEST);
+
+                ConsoleHandler consoleHandler = null;
+                Handler[] handlers = Logger.getLogger("").getHandlers();
+                for (int i = 0; i < handlers.length; i++) {
+                    if (handlers[i] instanceof ConsoleHandler) {
+                        consoleHandler = (ConsoleHandler) handlers[i];
+                    }
+                }
+                if (consoleHandler == null) {
+                    consoleHandler = new ConsoleHandler();
+                    Logger.getLogger("").addHandler(consoleHandler);
+                }
+                consoleHandler.setLevel(Level.FINEST);
+            }
+
+            if (parser.isEnabled(portOption)) {
+                port = parser.getParameterAsInt(portOption);
+            }
+            if (parser.isEnabled(slotsOption)) {
+                slots = parser.getParameterAsInt(slotsOption);
+            }
+            if (parser.isEnabled(batchOption)) {
+                batchSize = parser.getParameterAsInt(batchOption);
+            }
+            if (parser.isEnabled(lingerOption)) {
+                linger = parser.getParameterAsLong(lingerOption);
+            }
+            if ((slots < 1) || (batchSize < 1) || (linger < 0)) {
+                System.err.println("Die Anzahl der Slots und der Teillsungen"
+                                   + " je bermittlung mu grer oder gleich"
+                                   + " Eins sein, die Wartezeit darf nicht"
+                                   + " negativ sein.");
+                System.exit(1);
+            }
+
+            parentBinding.append(parser.getFreeParameter());
+            if (parentBinding.indexOf(":") == -1) {
+                parentBinding.append(":");
+                parentBinding.append(ComputeManager.PORT_NO);
+            }
+            parentBinding.insert(0, "//");
+            parentBinding.append("/");
+            parentBinding.append(ComputeManager.COMPUTEMANAGER_ID_STRING);
+
+            if (LOGGER.isLoggable(Level.CONFIG)) {
+                LOGGER.log(Level.CONFIG, "Parameter fr Unter-Dispatcher: "
+                           + "port: " + port
+                           + ", slots: " + slots
+                           + ", batch: " + batchSize
+                           + ", linger: " + linger
+                           + ", Dispatcher: " + parentBinding);
+            }
+
+            SubDispatcherImpl subDispatcher =
+                new SubDispatcherImpl(slots, batchSize, linger);
+            ComputeManager computeManager =
+                (ComputeManager) Naming.lookup(parentBinding.toString());
+
+            subDispatcher.startLocal(port);
+            subDispatcher.registerUpstream(computeManager);
+
+        } catch (ParameterParserException ex) {
+            System.err.println(parser);
+            ex.printStackTrace();
+        } catch (java.rmi.StubNotFoundException e) {
+            LOGGER.severe("Fehler! Die Stubs wurden vermutlich nicht generiert!");
+            System.exit(1);
+        } catch (Exception e) {
+            LOGGER.severe("Fehler! Unter-Dispatcher konnte nicht gestartet"
+                          + " werden: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -107,6 +107,11 @@ public class ProblemTransmitterImpl extends UnicastRemoteObject
      */
     private volatile boolean processing = false;
 
+    /**
+     * Das Gewicht, mit dem die folgenden Probleme bermittelt werden.
+     */
+    private volatile int problemWeight = ProblemManager.DEFAULT_PROBLEM_WEIGHT;
+
     /**
      * Standard-Konstruktor, der wegen der Ableitung von
      * <code>UnicastRemoteObject</code> berschrieben werden muss.
@@ -176,6 +181,27 @@ public class ProblemTransmitterImpl extends UnicastRemoteObject
         problemManager = (ProblemManager) java.rmi.Naming.lookup(binding);
     }
 
+    /**
+     * Legt das Gewicht fest, mit dem die anschlieend bermittelten Probleme
+     * auf dem Compute-System berechnet werden. Wenn der Dispatcher den
+     * gewichteten Scheduler verwendet, erhlt ein Problem einen Anteil an den
+     * Operatives, der seinem Gewicht im Verhltnis zu den Gewichten der
+     * anderen Probleme entspricht.
+     *
+     * @param weight  Das Gewicht der folgenden Probleme, das grer als Null
+     *                sein mu.
+     *
+     * @throws IllegalArgumentException  Wenn das Gewicht nicht grer als
+     *                                   Null ist.
+     */
+    public void setProblemWeight(int weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Das Gewicht mu grer als"
+                                               + " Null sein.");
+        }
+        problemWeight = weight;
+    }
+
     /**
      * Bricht die Berechnung des aktuellen Problems auf dem ComputeServer ab.
      * Wenn aktuell kein Problem berechnet wird, geschieht nichts.
@@ -251,10 +277,10 @@ public class ProblemTransmitterImpl extends UnicastRemoteObject
             LOGGER.log(Level.FINE, "Versuche, Problem zu ProblemManager zu schicken");
             if  (problemParameters == null) {
                 problemManager.loadProblem(this, packageUrl,
-                        classname, new Object[0], null);
+                        classname, new Object[0], null, problemWeight);
             } else {
                 problemManager.loadProblem(this, packageUrl,
-                        classname, problemParameters, null);
+                        classname, problemParameters, null, problemWeight);
             }
 
             LOGGER.log(Level.FINE, "Warte auf Lsung....");
@@ -329,7 +355,8 @@ public class ProblemTransmitterImpl extends UnicastRemoteObject
 
         try {
             LOGGER.log(Level.FINE, "Versuche, Problem zu ProblemManager zu schicken");
-            problemManager.receiveProblem(this, problem, generator);
+            problemManager.receiveProblem(this, problem, generator,
+                                          problemWeight);
 
             LOGGER.log(Level.FINE, "Warte auf Lsung....");
             while ((solution == null) && (errorMessage == null)) {
@@ -78,6 +78,32 @@ public class BlockingBuffer implements Queue {
         maxSize = maximumSize;
     }
 
+    /**
+     * Setzt die maximale Anzahl der Elemente des Puffers neu. Wenn die
+     * bergebene Gre Null oder negativ ist, kann der Puffer anschlieend
+     * unbegrenzt viele Elemente aufnehmen. Enthlt der Puffer mehr Elemente
+     * als die neue maximale Anzahl, bleiben diese erhalten.
+     *
+     * @param maximumSize  Die neue maximale Anzahl der Elemente im Puffer.
+     */
+    public synchronized void setMaximumSize(int maximumSize) {
+        maxSize = maximumSize;
+
+        // Alle Threads benachrichtigen, die ein Element zum Puffer
+        // hinzufgen wollen
+        notifyAll();
+    }
+
+    /**
+     * Liefert die maximale Anzahl der Elemente des Puffers.
+     *
+     * @return  Die maximale Anzahl der Elemente oder einen Wert kleiner oder
+     *          gleich Null, wenn die Anzahl nicht begrenzt ist.
+     */
+    public synchronized int getMaximumSize() {
+        return maxSize;
+    }
+
     /**
      * Testet ob der Puffer leer ist.
      *
@@ -169,6 +195,53 @@ public class BlockingBuffer implements Queue {
         return queue.dequeue();
     }
 
+    /**
+     * Entnimmt dem Puffer unter den vorderen Objekten dasjenige mit der
+     * hchsten Bewertung. Es werden hchstens <code>window</code> Objekte
+     * betrachtet und nur solche, die vor dem ersten Wert <code>null</code>
+     * stehen. Bei gleicher Bewertung wird das weiter vorne stehende Objekt
+     * entnommen. Ist das vorderste Element der Wert <code>null</code>, wird
+     * dieser entnommen. Wenn der Puffer leer ist, wird der aufrufende Thread
+     * wie bei <code>dequeue</code> in den Wartezustand versetzt.
+     *
+     * @param rating  Die Bewertung der Objekte.
+     * @param window  Die maximale Anzahl der zu betrachtenden Objekte.
+     *
+     * @return  entnommenes Objekt
+     */
+    public synchronized Object dequeueBest(ElementRating rating, int window) {
+        Object element;
+        double bestRate = 0;
+        double rate;
+        int bestIndex = 0;
+        int index = 0;
+
+        while (isEmpty()) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+            }
+        }
+
+        while ((index < window) && (index < queue.size())) {
+            element = queue.elementAt(index);
+            if (element == null) {
+                break;
+            }
+            rate = rating.rate(element);
+            if ((index == 0) || (rate > bestRate)) {
+                bestRate = rate;
+                bestIndex = index;
+            }
+            index++;
+        }
+
+        // Alle Threads benachrichtigen, die ein Element zum Puffer
+        // hinzufgen wollen
+        notifyAll();
+        return queue.removeElementAt(bestIndex);
+    }
+
     /**
      * Entfernt ein Vorkommen des bergebenen Objekts aus dem Puffer.
      *
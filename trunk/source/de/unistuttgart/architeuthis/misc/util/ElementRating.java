@@ -0,0 +1,41 @@
+/*
+ * file:        ElementRating.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.misc.util;
+
+/**
+ * Bewertet die Elemente eines {@link BlockingBuffer}, um unter den vorderen
+ * Elementen das am besten geeignete zu entnehmen.
+ */
+public interface ElementRating {
+
+    /**
+     * Liefert die Bewertung des bergebenen Elements. Ein grerer Wert
+     * steht fr ein besser geeignetes Element.
+     *
+     * @param element  Das zu bewertende Element, nicht <code>null</code>.
+     *
+     * @return  Die Bewertung des Elements.
+     */
+    public double rate(Object element);
+}
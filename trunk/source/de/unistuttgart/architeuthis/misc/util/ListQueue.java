@@ -72,6 +72,34 @@ public class ListQueue implements Queue {
         }
     }
 
+    /**
+     * Liefert das Objekt an der bergebenen Position der Schlange, ohne es
+     * zu entfernen. Das vorderste Objekt hat die Position Null.
+     *
+     * @param index  Die Position des Objekts.
+     * @return  das Objekt an der Position.
+     *
+     * @throws IndexOutOfBoundsException  Falls die Schlange an der Position
+     *                                    kein Objekt enthlt.
+     */
+    public Object elementAt(int index) {
+        return queue.get(index);
+    }
+
+    /**
+     * Entfernt das Objekt an der bergebenen Position aus der Schlange. Das
+     * vorderste Objekt hat die Position Null.
+     *
+     * @param index  Die Position des zu entfernenden Objekts.
+     * @return  das entfernte Objekt.
+     *
+     * @throws IndexOutOfBoundsException  Falls die Schlange an der Position
+     *                                    kein Objekt enthlt.
+     */
+    public Object removeElementAt(int index) {
+        return queue.remove(index);
+    }
+
     /**
      * Gibt die Anzahl der Elemente in der Schlange zurck.
      *
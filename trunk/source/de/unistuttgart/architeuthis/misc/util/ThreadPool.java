@@ -0,0 +1,265 @@
+/*
+ * file:        ThreadPool.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ * Realease 1.0 dieser Software wurde am Institut fr Intelligente Systeme der
+ * Universitt Stuttgart (http://www.informatik.uni-stuttgart.de/ifi/is/) unter
+ * Leitung von Dietmar Lippold (dietmar.lippold@informatik.uni-stuttgart.de)
+ * entwickelt.
+ */
+
+
+package de.unistuttgart.architeuthis.misc.util;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fhrt bergebene Auftrge (<code>Runnable</code>-Objekte) in einer
+ * begrenzten Anzahl von Threads aus. Zu Beginn gibt es einen Thread, weitere
+ * werden bei Bedarf bis zur maximalen Anzahl hinzugenommen. Die Auftrge
+ * werden in einem {@link BlockingBuffer} in der Reihenfolge ihrer bergabe
+ * gespeichert. Bei einem einzigen Thread werden sie daher auch in dieser
+ * Reihenfolge ausgefhrt.<P>
+ *
+ * Die Anzahl der wartenden Auftrge kann begrenzt werden. Ein Auftrag, der
+ * bei voller Warteschlange bergeben wird, wird abgewiesen. Der Aufrufer
+ * mu ihn dann selbst zurckstellen und spter erneut bergeben. Ein
+ * abgewiesener Auftrag wird nie im aufrufenden Thread ausgefhrt, da dieser
+ * z.B. der Thread fr die Verteilung sein kann. Die Anzahl der wartenden
+ * Auftrge, der gerade ausgefhrten Auftrge und der abgewiesenen Auftrge
+ * kann abgefragt werden.
+ */
+public class ThreadPool {
+
+    /**
+     * Logger fr diese Klasse.
+     */
+    private static final Logger LOGGER
+        = Logger.getLogger(ThreadPool.class.getName());
+
+    /**
+     * Die noch auszufhrenden Auftrge.
+     */
+    private BlockingBuffer tasks = new BlockingBuffer();
+
+    /**
+     * Der Name des Pools, aus dem die Namen der Threads gebildet werden.
+     */
+    private String poolName;
+
+    /**
+     * Die maximale Anzahl der Threads.
+     */
+    private int maxThreads;
+
+    /**
+     * Die Anzahl der gestarteten Threads.
+     */
+    private int threadNumber = 0;
+
+    /**
+     * Die maximale Anzahl der wartenden Auftrge. Ein Wert von Null
+     * bedeutet keine Begrenzung.
+     */
+    private int maxQueueSize;
+
+    /**
+     * Die Anzahl der Auftrge, die gerade von einem Thread des Pools
+     * ausgefhrt werden.
+     */
+    private int activeCount = 0;
+
+    /**
+     * Die Anzahl der bisher abgewiesenen Auftrge.
+     */
+    private long rejectedTasks = 0;
+
+    /**
+     * Gibt an, ob die Threads beendet werden sollen.
+     */
+    private volatile boolean terminating = false;
+
+    /**
+     * Fhrt Auftrge aus, bis der Pool beendet wird.
+     */
+    private class Worker extends Thread {
+
+        /**
+         * Erzeugt einen Thread mit dem bergebenen Namen als Daemon.
+         *
+         * @param name  Der Name des Threads.
+         */
+        Worker(String name) {
+            super(name);
+            setDaemon(true);
+        }
+
+        /**
+         * Entnimmt fortlaufend Auftrge und fhrt sie aus. Eine bei der
+         * Ausfhrung auftretende <code>RuntimeException</code> wird
+         * protokolliert und beendet den Thread nicht.
+         */
+        public void run() {
+            Runnable task;
+
+            while (!terminating) {
+                task = (Runnable) tasks.dequeue();
+                if (task != null) {
+                    changeActiveCount(1);
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        LOGGER.log(Level.WARNING,
+                                   "Ausfhrung eines Auftrags fehlgeschlagen",
+                                   e);
+                    } finally {
+                        changeActiveCount(-1);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Erzeugt einen Pool ohne Begrenzung der Anzahl der wartenden Auftrge
+     * und startet dessen ersten Thread.
+     *
+     * @param maxThreads  Die maximale Anzahl der Threads, mindestens Eins.
+     * @param name        Der Name des Pools, aus dem die Namen der Threads
+     *                    gebildet werden.
+     */
+    public ThreadPool(int maxThreads, String name) {
+        this(maxThreads, 0, name);
+    }
+
+    /**
+     * Erzeugt einen Pool und startet dessen ersten Thread. Wenn die
+     * bergebene maximale Anzahl der wartenden Auftrge Null oder negativ
+     * ist, ist deren Anzahl nicht begrenzt.
+     *
+     * @param maxThreads    Die maximale Anzahl der Threads, mindestens Eins.
+     * @param maxQueueSize  Die maximale Anzahl der wartenden Auftrge.
+     * @param name          Der Name des Pools, aus dem die Namen der Threads
+     *                      gebildet werden.
+     */
+    public ThreadPool(int maxThreads, int maxQueueSize, String name) {
+        this.maxThreads = Math.max(1, maxThreads);
+        this.maxQueueSize = Math.max(0, maxQueueSize);
+        poolName = name;
+        ensureThreads(1);
+    }
+
+    /**
+     * ndert die Anzahl der gerade ausgefhrten Auftrge.
+     *
+     * @param change  Der Wert, um den die Anzahl gendert wird.
+     */
+    private synchronized void changeActiveCount(int change) {
+        activeCount += change;
+    }
+
+    /**
+     * Startet so viele weitere Threads, da der Pool die bergebene Anzahl
+     * von Threads, hchstens aber die maximale Anzahl, enthlt.
+     *
+     * @param number  Die gewnschte Anzahl von Threads.
+     */
+    public synchronized void ensureThreads(int number) {
+        while (!terminating && (threadNumber < Math.min(number, maxThreads))) {
+            threadNumber++;
+            new Worker(poolName + "-" + threadNumber).start();
+        }
+    }
+
+    /**
+     * bergibt einen Auftrag zur Ausfhrung. Die Methode wartet nicht auf
+     * dessen Ausfhrung. Wenn die Warteschlange voll ist, wird der Auftrag
+     * abgewiesen. Nach dem Aufruf von <code>terminate</code> werden keine
+     * Auftrge mehr angenommen.
+     *
+     * @param task  Der auszufhrende Auftrag.
+     *
+     * @return  <code>true</code>, wenn der Auftrag ausgefhrt wird, sonst
+     *          <code>false</code>.
+     */
+    public synchronized boolean execute(Runnable task) {
+        if (!terminating
+                && ((maxQueueSize == 0) || (tasks.size() < maxQueueSize))) {
+            tasks.enqueue(task);
+            return true;
+        }
+        rejectedTasks++;
+        return false;
+    }
+
+    /**
+     * Liefert die Anzahl der Auftrge, die auf ihre Ausfhrung warten.
+     *
+     * @return  Die Anzahl der wartenden Auftrge.
+     */
+    public int getQueueSize() {
+        return tasks.size();
+    }
+
+    /**
+     * Liefert die Anzahl der Auftrge, die gerade von einem Thread des Pools
+     * ausgefhrt werden.
+     *
+     * @return  Die Anzahl der gerade ausgefhrten Auftrge.
+     */
+    public synchronized int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * Liefert die Anzahl der bisher abgewiesenen Auftrge, d.h. der
+     * Auftrge, die bei voller Warteschlange oder nach dem Beenden des
+     * Pools bergeben wurden.
+     *
+     * @return  Die Anzahl der abgewiesenen Auftrge.
+     */
+    public synchronized long getRejectedTasks() {
+        return rejectedTasks;
+    }
+
+    /**
+     * Liefert die Anzahl der gestarteten Threads.
+     *
+     * @return  Die Anzahl der Threads.
+     */
+    public synchronized int getThreadNumber() {
+        return threadNumber;
+    }
+
+    /**
+     * Beendet die Threads, nachdem sie ihre laufenden Auftrge ausgefhrt
+     * haben. Noch nicht begonnene Auftrge werden verworfen.
+     */
+    public synchronized void terminate() {
+        terminating = true;
+        tasks.clear();
+        for (int i = 0; i < threadNumber; i++) {
+            tasks.enqueue(null);
+        }
+    }
+}
+
@@ -0,0 +1,112 @@
+/*
+ * filename:    ComputeLimiter.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ * Realease 1.0 dieser Software wurde am Institut fr Intelligente Systeme der
+ * Universitt Stuttgart (http://www.informatik.uni-stuttgart.de/ifi/is/) unter
+ * Leitung von Dietmar Lippold (dietmar.lippold@informatik.uni-stuttgart.de)
+ * entwickelt.
+ */
+
+
+package de.unistuttgart.architeuthis.operative;
+
+import java.util.LinkedList;
+
+/**
+ * Begrenzt die Anzahl der Slots eines Operatives, die gleichzeitig ein
+ * Teilproblem berechnen. Ein Slot, der ein Teilproblem erhalten hat, aber
+ * noch nicht rechnen darf, wartet in der Reihenfolge seiner Anmeldung, bis
+ * ein anderer Slot seine Berechnung beendet hat. Auf diese Weise hlt der
+ * Operative einen Vorrat an bereits zugewiesenen Teilproblemen.
+ */
+class ComputeLimiter {
+
+    /**
+     * Die Anzahl der Berechnungen, die aktuell noch begonnen werden knnen.
+     */
+    private int freeComputations;
+
+    /**
+     * Die Objekte der wartenden Slots in der Reihenfolge ihrer Anmeldung.
+     */
+    private LinkedList waitingSlots = new LinkedList();
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param maxComputations  Die maximale Anzahl gleichzeitiger
+     *                         Berechnungen. Diese mu grer oder gleich
+     *                         Eins sein.
+     */
+    ComputeLimiter(int maxComputations) {
+        freeComputations = maxComputations;
+    }
+
+    /**
+     * Wartet, bis eine Berechnung begonnen werden darf. Die Slots erhalten
+     * die Erlaubnis in der Reihenfolge ihrer Aufrufe dieser Methode. Wird
+     * die Berechnung whrend des Wartens abgebrochen, wird der aufrufende
+     * Thread aus der Reihe der wartenden Slots entfernt. Der Abbruch wird
+     * geprft, wenn der Thread unterbrochen wird.
+     *
+     * @param cancellation  Das Objekt, das den Abbruch der Berechnung
+     *                      anzeigt.
+     *
+     * @return  <code>true</code>, wenn die Erlaubnis erteilt wurde,
+     *          <code>false</code>, wenn die Berechnung vorher abgebrochen
+     *          wurde.
+     */
+    synchronized boolean beginComputation(OperativeCancellation cancellation) {
+        Object waitingSlot = new Object();
+
+        waitingSlots.add(waitingSlot);
+        while ((freeComputations == 0)
+               || (waitingSlots.getFirst() != waitingSlot)) {
+            if (cancellation.isCancelled()) {
+                // Die Berechnung wurde abgebrochen, bevor sie beginnen
+                // durfte.
+                waitingSlots.remove(waitingSlot);
+                notifyAll();
+                return false;
+            }
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                // Es wird weiter gewartet, falls kein Abbruch vorliegt.
+            }
+        }
+        waitingSlots.removeFirst();
+        freeComputations--;
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Gibt eine mit <CODE>beginComputation</CODE> erhaltene Erlaubnis zur
+     * Berechnung wieder frei.
+     */
+    synchronized void endComputation() {
+        freeComputations++;
+        notifyAll();
+    }
+}
+
@@ -0,0 +1,74 @@
+/*
+ * file:        OperativeCancellation.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.operative;
+
+import de.unistuttgart.architeuthis.userinterfaces.develop.CancellationToken;
+
+/**
+ * Vermerkt den Abbruch der Berechnung eines Teilproblems auf einem Slot.
+ * Fr jedes Teilproblem wird eine neue Instanz erzeugt, so da ein Abbruch
+ * nicht das nchste Teilproblem des Slots betrifft.
+ */
+class OperativeCancellation implements CancellationToken {
+
+    /**
+     * Gibt an, ob die Berechnung abgebrochen werden soll.
+     */
+    private volatile boolean cancelled = false;
+
+    /**
+     * Der Zeitpunkt, zu dem der Abbruch angefordert wurde.
+     */
+    private volatile long cancelTime = 0;
+
+    /**
+     * Vermerkt, da die Berechnung abgebrochen werden soll.
+     */
+    void cancel() {
+        if (!cancelled) {
+            cancelTime = System.currentTimeMillis();
+            cancelled = true;
+        }
+    }
+
+    /**
+     * Ermittelt, ob die Berechnung abgebrochen werden soll.
+     *
+     * @return  <code>true</code>, wenn die Berechnung abgebrochen werden
+     *          soll, sonst <code>false</code>.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Liefert die Zeit seit der Anforderung des Abbruchs.
+     *
+     * @return  Die Zeit in Millisekunden seit dem Aufruf von
+     *          <code>cancel</code>.
+     */
+    long getCancelDuration() {
+        return (System.currentTimeMillis() - cancelTime);
+    }
+}
@@ -40,6 +40,7 @@ import java.util.logging.Logger;
 
 import de.unistuttgart.architeuthis.systeminterfaces.ExceptionCodes;
 import de.unistuttgart.architeuthis.userinterfaces.ProblemComputeException;
+import de.unistuttgart.architeuthis.userinterfaces.develop.CancellablePartialProblem;
 import de.unistuttgart.architeuthis.userinterfaces.develop.CommunicationPartialProblem;
 import de.unistuttgart.architeuthis.userinterfaces.develop.NonCommPartialProblem;
 import de.unistuttgart.architeuthis.userinterfaces.develop.PartialProblem;
@@ -47,7 +48,14 @@ import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
 import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
 
 /**
- * Implementierung den Thread zur Berechnung eines Teilproblems.
+ * Implementierung den Thread zur Berechnung eines Teilproblems. Der Thread
+ * berechnet nacheinander die Teilprobleme eines Slots. Eine Berechnung wird
+ * kooperativ abgebrochen, d.h. sie wird ber ein {@link OperativeCancellation}
+ * als abgebrochen markiert und der Thread wird unterbrochen. Endet die
+ * Berechnung daraufhin innerhalb der vorgegebenen Zeit, wird der Thread fr
+ * das nchste Teilproblem weiter verwendet. Anderenfalls wird er
+ * aufgegeben, d.h. er rechnet mit niedriger Prioritt zu Ende, verwirft das
+ * Ergebnis und endet dann.
  *
  * @author Jrgen Heit, Ralf Kible, Dietmar Lippold, Michael Wohlfart
  */
@@ -65,6 +73,12 @@ public class OperativeComputing extends Thread {
      */
     private OperativeImpl operativeImpl;
 
+    /**
+     * Die Nummer des Slots vom <code>OperativeImpl</code>, fr den dieser
+     * Thread die Berechnung durchfhrt.
+     */
+    private int slot;
+
     /**
      * Das aktuell berechnete Teilproblem, oder <code>null</code>, falls
      * keines berechnet wird.
@@ -78,11 +92,29 @@ public class OperativeComputing extends Thread {
      */
     private RemoteStore store;
 
+    /**
+     * Das Objekt, das den Abbruch der Berechnung des aktuellen Teilproblems
+     * anzeigt.
+     */
+    private OperativeCancellation cancellation = null;
+
     /**
      * Gibt an, ob dem Thread mitgeteilt wurde, sich zu beenden.
      */
     private volatile boolean terminating = false;
 
+    /**
+     * Gibt an, ob der Thread aufgegeben wurde, weil seine Berechnung nach
+     * dem Abbruch nicht rechtzeitig geendet hat.
+     */
+    private volatile boolean abandoned = false;
+
+    /**
+     * Gibt an, ob der Thread eine Erlaubnis zur Berechnung vom
+     * <code>ComputeLimiter</code> des <code>OperativeImpl</code> hlt.
+     */
+    private boolean computationPermitted = false;
+
     /**
      * Dieser Konstruktor sollte nicht benutzt werden, muss aber wegen
      * der Ableitung von <code>UnicastRemoteObject</code> berschrieben
@@ -91,9 +123,12 @@ public class OperativeComputing extends Thread {
      * @param operativeImpl  Die OperativeImpl Implementierung, die diesen
      *                       OperativeComputing verwendet um Berechnungen
      *                       durchzufhren.
+     * @param slot           Die Nummer des Slots, fr den die Berechnungen
+     *                       durchgefhrt werden.
      */
-    OperativeComputing(OperativeImpl operativeImpl) {
+    OperativeComputing(OperativeImpl operativeImpl, int slot) {
         this.operativeImpl = operativeImpl;
+        this.slot = slot;
         start();
     }
 
@@ -126,9 +161,10 @@ public class OperativeComputing extends Thread {
         LOGGER.log(Level.FINE,
                    "OperativeComputing hat Aufgabe vom ComputeManager empfangen.");
 
-        if (partialProblem == null) {
+        if ((partialProblem == null) && (!abandoned)) {
             partialProblem = parProb;
             this.store = store;
+            cancellation = new OperativeCancellation();
             notifyAll();
         } else {
             LOGGER.log(Level.WARNING, "OperativeComputing bereits beschftigt");
@@ -155,18 +191,142 @@ public class OperativeComputing extends Thread {
         notifyAll();
     }
 
+    /**
+     * Bricht die Berechnung des aktuellen Teilproblems ab. Die Berechnung
+     * wird als abgebrochen markiert und der Thread unterbrochen. Ist die
+     * Berechnung schon beendet, wird trotzdem das zuletzt verwendete
+     * Abbruch-Objekt markiert, damit eine noch nicht zurckgegebene
+     * Teillsung verworfen und nicht dem nchsten Teilproblem des Slots
+     * zugeordnet wird. Dann wird
+     * hchstens die bergebene Zeit auf das Ende der Berechnung gewartet.
+     * Endet sie nicht rechtzeitig, wird der Thread aufgegeben und seine
+     * Erlaubnis zur Berechnung freigegeben. Er darf dann nicht weiter
+     * verwendet werden.
+     *
+     * @param maxWait  Die maximale Zeit in Millisekunden, die auf das Ende
+     *                 der Berechnung gewartet wird.
+     *
+     * @return  <code>true</code>, wenn der Thread weiter verwendet werden
+     *          kann, <code>false</code>, wenn er aufgegeben wurde.
+     */
+    synchronized boolean abort(long maxWait) {
+        OperativeCancellation abortedCancellation = cancellation;
+        long endTime;
+        long remaining;
+
+        // Auch nach dem Ende der Berechnung markieren, da die Teillsung
+        // erst nach finishComputation() zurckgegeben wird.
+        if (abortedCancellation != null) {
+            abortedCancellation.cancel();
+        }
+
+        if (partialProblem == null) {
+            return true;
+        }
+
+        interrupt();
+
+        endTime = System.currentTimeMillis() + maxWait;
+        remaining = maxWait;
+        while ((partialProblem != null) && (remaining > 0)) {
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                // Es wird weiter gewartet.
+            }
+            remaining = endTime - System.currentTimeMillis();
+        }
+
+        if (partialProblem == null) {
+            operativeImpl.notifyAbort(slot,
+                                      abortedCancellation.getCancelDuration(),
+                                      true);
+            return true;
+        }
+
+        // Der Thread wird aufgegeben.
+        abandoned = true;
+        terminating = true;
+        setPriority(Thread.MIN_PRIORITY);
+        endComputation();
+        LOGGER.log(Level.FINE, "Berechnung auf Slot " + slot
+                               + " endet nicht, Thread wird aufgegeben");
+        return false;
+    }
+
+    /**
+     * Gibt die Erlaubnis zur Berechnung frei, falls der Thread eine hlt.
+     */
+    private synchronized void endComputation() {
+        if (computationPermitted) {
+            computationPermitted = false;
+            operativeImpl.getComputeLimiter().endComputation();
+        }
+    }
+
+    /**
+     * Vermerkt das Ende der Berechnung des aktuellen Teilproblems und setzt
+     * den Unterbrechungsstatus des Threads zurck.
+     *
+     * @param parProbCancellation  Das Objekt, das den Abbruch der
+     *                             beendeten Berechnung anzeigt.
+     *
+     * @return  <code>true</code>, wenn die Berechnung abgebrochen wurde,
+     *          sonst <code>false</code>.
+     */
+    private synchronized boolean finishComputation(
+            OperativeCancellation parProbCancellation) {
+
+        partialProblem = null;
+        store = null;
+        Thread.interrupted();
+        notifyAll();
+        return parProbCancellation.isCancelled();
+    }
+
+    /**
+     * Liefert eine Meldung zu einer bei der Berechnung aufgetretenen
+     * Ausnahme und gibt dazu eine log-Meldung aus.
+     *
+     * @param e  Die aufgetretene Ausnahme.
+     *
+     * @return  Die Meldung fr den Dispatcher.
+     */
+    private String failureMessage(Throwable e) {
+        if (LOGGER.isLoggable(Level.WARNING)) {
+            if (e instanceof ProblemComputeException) {
+                LOGGER.log(Level.WARNING,
+                           "ProblemComputeException ist aufgetreten: " + e);
+            } else if (e instanceof RuntimeException) {
+                LOGGER.log(Level.WARNING,
+                           "RuntimeException ist aufgetrete: " + e);
+            } else {
+                LOGGER.log(Level.WARNING, "Error ist aufgetreten: " + e);
+            }
+        }
+        return operativeImpl.exceptionMessage(e);
+    }
+
     /**
      * Wartet auf ein Teilproblem und ruft, wenn dieses vorhanden ist, dessen
-     * compute()-Methode auf. Anschlieend wird <code>partialProblem</code>
+     * compute()-Methode auf. Vor der Berechnung wird gewartet, bis der
+     * Operative die Berechnung erlaubt. Bis dahin gehrt das Teilproblem zum
+     * Vorrat des Operative. Anschlieend wird <code>partialProblem</code>
      * der Wert <code>null</code> zugewiesen und die Lsung an die Instanz
      * von <code>OperativeImpl</code> bergeben. Tritt bei der Berechnung ein
      * Fehler auf, wird <code>partialProblem</code> ebenfalls der Wert
      * <code>null</code> zugewiesen und der Fehler an die Instanz von
-     * <code>OperativeImpl</code> weitergemeldet. Anschieend wartet die
-     * Methode wieder auf das nchste Teilproblem.
+     * <code>OperativeImpl</code> weitergemeldet. Wurde die Berechnung
+     * abgebrochen, wird weder die Lsung noch ein Fehler weitergegeben.
+     * Anschieend wartet die Methode wieder auf das nchste Teilproblem.
      */
     public void run() {
-        PartialSolution ps = null;
+        PartialProblem parProb;
+        RemoteStore parProbStore;
+        OperativeCancellation parProbCancellation;
+        PartialSolution ps;
+        String failure;
+        boolean cancelled;
 
         while (!terminating) {
             synchronized (this) {
@@ -179,74 +339,85 @@ public class OperativeComputing extends Thread {
                         LOGGER.log(Level.FINEST,
                                 "OperativeComputing Thread hat Teilproblem erhalten");
                     } catch (InterruptedException e) {
-                        // Hier ist wirklich eine Exception passiert. Beim
-                        // normalen notify() oder notifyAll() wird keine
-                        // Exception ausgelst, sondern lediglich das wait()
-                        // verlasst.
-                        LOGGER.log(Level.WARNING,
-                                   "Exception beim Warten auf Teilproblem");
+                        // Eine Unterbrechung ist beim Abbruch eines gerade
+                        // erhaltenen Teilproblems mglich.
+                        LOGGER.log(Level.FINEST,
+                                   "Warten auf Teilproblem unterbrochen");
                     }
                 }
+                parProb = partialProblem;
+                parProbStore = store;
+                parProbCancellation = cancellation;
+            }
+
+            if (parProb == null) {
+                LOGGER.log(Level.FINE,
+                           "Teilproblem ist null, keine Berechnung");
+                continue;
             }
 
             ps = null;
+            failure = null;
             try {
-                LOGGER.log(Level.FINE, "Starte Berechnung");
-                if (partialProblem instanceof NonCommPartialProblem) {
-                    ps = ((NonCommPartialProblem)partialProblem).compute();
-                } else if (partialProblem instanceof CommunicationPartialProblem) {
-                    ps = ((CommunicationPartialProblem)partialProblem).compute(store);
-                } else if (partialProblem == null) {
-                    LOGGER.log(Level.FINE,
-                               "Teilproblem ist null, keine Berechnung");
-                } else {
-                    // Fehler ber den OperativeImpl an den Dispatcher weitergeben:
-                    LOGGER.log(Level.SEVERE, "PartialProblem implementiert kein passendes Interface");
-                    operativeImpl.reportException(
-                        ExceptionCodes.PARTIALPROBLEM_ERROR,
-                        "PartialProblem implementiert kein passendes Interface");
-
-                    // Zum Teilproblem kann keine Teillsung berechnet werden
-                    partialProblem = null;
-                }
+                // Warten, bis der Operative die Berechnung erlaubt
+                if (operativeImpl.getComputeLimiter()
+                                 .beginComputation(parProbCancellation)) {
+                    synchronized (this) {
+                        computationPermitted = true;
+                    }
 
-                if (partialProblem != null) {
-                    LOGGER.log(Level.FINE, "Berechnung beendet");
-                    partialProblem = null;
-                    // Lsung zurckgeben
-                    operativeImpl.returnPartialSolution(ps);
-                }
-            } catch (ProblemComputeException e) {
-                partialProblem = null;
-                if (LOGGER.isLoggable(Level.WARNING)) {
-                    LOGGER.log(Level.WARNING,
-                               "ProblemComputeException ist aufgetreten: " + e);
-                }
-                operativeImpl.reportException(
-                    ExceptionCodes.PARTIALPROBLEM_ERROR,
-                    operativeImpl.exceptionMessage(e));
-            } catch (RuntimeException e) {
-                partialProblem = null;
-                if (LOGGER.isLoggable(Level.WARNING)) {
-                    LOGGER.log(Level.WARNING,
-                               "RuntimeException ist aufgetrete: " + e);
+                    if (parProbCancellation.isCancelled()) {
+                        LOGGER.log(Level.FINE,
+                                   "Berechnung vor dem Start abgebrochen");
+                    } else {
+                        if (parProb instanceof CancellablePartialProblem) {
+                            ((CancellablePartialProblem) parProb)
+                                .setCancellationToken(parProbCancellation);
+                        }
+
+                        LOGGER.log(Level.FINE, "Starte Berechnung");
+                        operativeImpl.notifyComputationStart(slot);
+                        if (parProb instanceof NonCommPartialProblem) {
+                            ps = ((NonCommPartialProblem) parProb).compute();
+                        } else if (parProb instanceof CommunicationPartialProblem) {
+                            ps = ((CommunicationPartialProblem) parProb)
+                                     .compute(parProbStore);
+                        } else {
+                            LOGGER.log(Level.SEVERE, "PartialProblem implementiert kein passendes Interface");
+                            failure = "PartialProblem implementiert kein passendes Interface";
+                        }
+                    }
                 }
-                operativeImpl.reportException(
-                    ExceptionCodes.PARTIALPROBLEM_ERROR,
-                    operativeImpl.exceptionMessage(e));
             } catch (ThreadDeath e) {
                 // Dieser Error darf nicht abgefangen werden.
                 throw e;
             } catch (Throwable e) {
-                partialProblem = null;
-                if (LOGGER.isLoggable(Level.WARNING)) {
-                    LOGGER.log(Level.WARNING, "Error ist aufgetreten: " + e);
+                failure = failureMessage(e);
+            } finally {
+                // Die Erlaubnis schon vor der Rckgabe der Lsung freigeben,
+                // damit ein wartender Slot sofort rechnen kann
+                endComputation();
+            }
+
+            cancelled = finishComputation(parProbCancellation);
+            if (cancelled) {
+                LOGGER.log(Level.FINE, "Abgebrochene Berechnung beendet,"
+                                       + " Ergebnis wird verworfen");
+                if (abandoned) {
+                    operativeImpl.notifyAbort(
+                        slot, parProbCancellation.getCancelDuration(), false);
                 }
-                operativeImpl.reportException(
-                    ExceptionCodes.PARTIALPROBLEM_ERROR,
-                    operativeImpl.exceptionMessage(e));
+            } else if (failure != null) {
+                // Fehler ber den OperativeImpl an den Dispatcher weitergeben
+                operativeImpl.reportException(slot,
+                                              ExceptionCodes.PARTIALPROBLEM_ERROR,
+                                              failure, parProbCancellation);
+            } else {
+                LOGGER.log(Level.FINE, "Berechnung beendet");
+                // Lsung zurckgeben
+                operativeImpl.returnPartialSolution(slot, ps,
+                                                    parProbCancellation);
             }
         }
     }
 }
-
@@ -35,6 +35,13 @@
 
 package de.unistuttgart.architeuthis.operative;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Timer;
+import java.util.TimerTask;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
@@ -53,6 +60,7 @@ import de.unistuttgart.architeuthis.misc.CacheFlushingRMIClSpi;
 import de.unistuttgart.architeuthis.systeminterfaces.ComputeManager;
 import de.unistuttgart.architeuthis.systeminterfaces.ExceptionCodes;
 import de.unistuttgart.architeuthis.systeminterfaces.Operative;
+import de.unistuttgart.architeuthis.systeminterfaces.OperativeCapabilities;
 import de.unistuttgart.architeuthis.userinterfaces.ProblemComputeException;
 import de.unistuttgart.architeuthis.userinterfaces.RemoteStoreException;
 import de.unistuttgart.architeuthis.userinterfaces.RemoteStoreGenException;
@@ -66,7 +74,28 @@ import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStoreGenerator;
  * mit dem Dispatcher vor. Die Klasse erzeugt Instanzen von
  * <code>OperativeComputing</code> fr die Durchfhrung der Berechnung, wobei
  * ein erzeugtes Thread-Objekt wiederverwendet wird, wenn der Thread nicht
- * abgebrochen werden mute.
+ * abgebrochen werden mute.<P>
+ *
+ * Der Operative verfgt ber mehrere Slots, von denen jeder ein eigenes
+ * Thread-Objekt besitzt und unabhngig von den anderen Slots ein Teilproblem
+ * berechnen kann. Per default entspricht die Anzahl der Slots der Anzahl der
+ * Prozessoren des Rechners.<P>
+ *
+ * Zustzlich kann der Operative einen Vorrat an Teilproblemen halten. Dazu
+ * meldet er sich mit weiteren Slots beim ComputeManager an, von denen aber
+ * immer nur so viele gleichzeitig rechnen, wie es Prozessoren bzw.
+ * angegebene Slots gibt. Die brigen Slots warten mit ihrem bereits
+ * zugewiesenen Teilproblem, bis eine andere Berechnung beendet ist. So kann
+ * nach der Rckgabe einer Teillsung sofort weitergerechnet werden, whrend
+ * der ComputeManager den Vorrat im Hintergrund wieder auffllt. Ein Abbruch
+ * mit <code>stopComputation</code> entfernt ein wartendes Teilproblem aus
+ * dem Vorrat.<P>
+ *
+ * Teilprobleme ohne RemoteStore knnen mehreren Slots mit einem Aufruf
+ * zugewiesen werden. Die zugehrigen Teillsungen werden dann gesammelt und
+ * ebenfalls mit einem Aufruf an den ComputeManager zurckgegeben, sobald die
+ * vom ComputeManager angegebene Anzahl erreicht ist, kein Slot mehr rechnet
+ * oder seit der ersten gesammelten Teillsung eine kurze Zeit verstrichen ist.
  *
  * @author Jrgen Heit, Ralf Kible, Dietmar Lippold, Michael Wohlfart
  */
@@ -98,10 +127,60 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
     private static final long SEND_TIMEOUT = 3000; // Millisekunden;
 
     /**
-     * Dieser <code>Thread</code> berechnet die Lsung des Teilproblems im
-     * Hintergrund.
+     * Gibt die Anzahl der Millisekunden an, die eine Teillsung hchstens
+     * gesammelt wird, bevor sie an den ComputeManager bermittelt wird.
+     */
+    private static final long SOLUTION_DELAY = 200; // Millisekunden;
+
+    /**
+     * Die Anzahl der Teilprobleme, die der Operative per default zustzlich
+     * zu den gerade berechneten als Vorrat hlt.
+     */
+    private static final int DEFAULT_PREFETCH = 1;
+
+    /**
+     * Die maximale Anzahl der Millisekunden, die beim Abbruch einer
+     * Berechnung auf deren Ende gewartet wird. Endet sie nicht rechtzeitig,
+     * wird fr den Slot ein neuer Thread erzeugt.
+     */
+    private static final long ABORT_WAIT = 500; // Millisekunden;
+
+    /**
+     * Der Abstand in Millisekunden, in dem geprft wird, ob die zentralen
+     * RemoteStores der bereitgehaltenen dezentralen RemoteStores noch
+     * erreichbar sind.
+     */
+    private static final long STORE_CHECK_INTERVAL = 5000; // Millisekunden;
+
+    /**
+     * Fr jeden Slot ein <code>Thread</code>, der die Lsung des
+     * Teilproblems des Slots im Hintergrund berechnet.
+     */
+    private OperativeComputing[] backgroundComputations = null;
+
+    /**
+     * Fr jeden Slot ein Objekt, auf das bei der Rckgabe einer Teillsung
+     * oder eines Fehlers und beim Abbruch einer Berechnung des Slots
+     * synchronisiert wird.
      */
-    private OperativeComputing backgroundComputation = null;
+    private Object[] slotLocks;
+
+    /**
+     * Die Anzahl der Slots, d.h. der Teilprobleme, die der Operative
+     * gleichzeitig zur Berechnung annehmen kann. Diese umfat auch die Slots
+     * fr den Vorrat an Teilproblemen.
+     */
+    private int slotNumber;
+
+    /**
+     * Die Anzahl der Slots fr den Vorrat an Teilproblemen.
+     */
+    private int prefetchNumber;
+
+    /**
+     * Begrenzt die Anzahl der Slots, die gleichzeitig rechnen.
+     */
+    private ComputeLimiter computeLimiter;
 
     /**
      * Der <code>ComputeManager</code>, mit dem der Operative gerade verbunden
@@ -110,16 +189,87 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
     private ComputeManager computeManager = null;
 
     /**
-     * Der dezentrale Speichers oder <CODE>null</CODE>, falls keiner verwendet
-     * wird.
+     * Fr jeden Slot der dezentrale Speichers oder <CODE>null</CODE>, falls
+     * keiner verwendet wird.
      */
-    private RemoteStore distRemoteStore = null;
+    private RemoteStore[] distRemoteStores;
 
     /**
-     * Der zentrale Speicher oder <CODE>null</CODE>, falls keiner verwendet
-     * wird.
+     * Fr jeden Slot der zentrale Speicher oder <CODE>null</CODE>, falls
+     * keiner verwendet wird.
+     */
+    private RemoteStore[] centralRemoteStores;
+
+    /**
+     * Die dezentralen RemoteStores, die nach der Berechnung eines
+     * Teilproblems fr weitere Teilprobleme desselben Problems bereitgehalten
+     * werden.
+     */
+    private RemoteStoreCache storeCache;
+
+    /**
+     * Die Teillsungen (als Instanzen von <CODE>PendingSolution</CODE>), die
+     * berechnet, aber noch nicht an den ComputeManager bermittelt wurden.
+     * Auf dieses Objekt wird auch beim Zugriff auf
+     * <CODE>transmittingSolutions</CODE> synchronisiert.
+     */
+    private LinkedList pendingSolutions = new LinkedList();
+
+    /**
+     * Fr jeden Slot die Anzahl der Teillsungen, die gerade an den
+     * ComputeManager bermittelt werden.
+     */
+    private int[] transmittingSolutions;
+
+    /**
+     * Fr jeden Slot die Anzahl der Teillsungen, die gesammelt und mit
+     * einem Aufruf an den ComputeManager bermittelt werden, wenn der Slot
+     * eine Teillsung liefert. Der Wert wird mit dem Teilproblem des Slots
+     * festgelegt. Auf <CODE>pendingSolutions</CODE> wird beim Zugriff
+     * synchronisiert.
+     */
+    private int[] solutionBatchSizes;
+
+    /**
+     * Der Timer, der gesammelte Teillsungen nach einer kurzen Zeit
+     * bermittelt.
+     */
+    private Timer flushTimer = new Timer(true);
+
+    /**
+     * Gibt an, ob die bermittlung der gesammelten Teillsungen durch den
+     * Timer bereits eingeplant ist.
+     */
+    private boolean flushScheduled = false;
+
+    /**
+     * Objekt, auf das bei der Erfassung der Dauer der Abbrche
+     * synchronisiert wird.
      */
-    private RemoteStore centralRemoteStore = null;
+    private Object abortLock = new Object();
+
+    /**
+     * Die Anzahl der abgebrochenen Berechnungen, deren Ende erfat wurde.
+     */
+    private long abortNumber = 0;
+
+    /**
+     * Die Anzahl der abgebrochenen Berechnungen, die nicht innerhalb von
+     * <CODE>ABORT_WAIT</CODE> Millisekunden geendet haben.
+     */
+    private long abandonedNumber = 0;
+
+    /**
+     * Die gesamte Dauer vom Abbruch bis zum Ende der Berechnungen in
+     * Millisekunden.
+     */
+    private long abortDurationSum = 0;
+
+    /**
+     * Die maximale Dauer vom Abbruch bis zum Ende einer Berechnung in
+     * Millisekunden.
+     */
+    private long abortDurationMax = 0;
 
     /**
      * Dieser Konstruktor sollte nicht benutzt werden, muss aber wegen
@@ -141,6 +291,11 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
      * aufgerufen werden muss.
      *
      * @param computeManager  Der ComputeManagers in der RMI-Registry.
+     * @param slots           Die Anzahl der gleichzeitig rechnenden Slots.
+     *                        Diese mu grer oder gleich Eins sein.
+     * @param prefetch        Die Anzahl der zustzlichen Slots fr den Vorrat
+     *                        an Teilproblemen. Diese mu grer oder gleich
+     *                        Null sein.
      *
      * @throws MalformedURLException  Die Angabe vom <code>compManager</code>
      *                                war kein zulssiger Name.
@@ -148,20 +303,112 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
      * @throws NotBoundException      Der Dispatcher war auf der Registry nicht
      *                                eingetragen.
      */
-    private OperativeImpl(ComputeManager computeManager)
+    private OperativeImpl(ComputeManager computeManager, int slots,
+                          int prefetch)
         throws MalformedURLException,
                RemoteException,
                NotBoundException {
 
         this.computeManager = computeManager;
 
+        slotNumber = slots + prefetch;
+        prefetchNumber = prefetch;
+        computeLimiter = new ComputeLimiter(slots);
+        slotLocks = new Object[slotNumber];
+        for (int i = 0; i < slotNumber; i++) {
+            slotLocks[i] = new Object();
+        }
+        distRemoteStores = new RemoteStore[slotNumber];
+        centralRemoteStores = new RemoteStore[slotNumber];
+        storeCache = new RemoteStoreCache(slotNumber);
+        transmittingSolutions = new int[slotNumber];
+        solutionBatchSizes = new int[slotNumber];
+        Arrays.fill(solutionBatchSizes, 1);
+
         if (System.getSecurityManager() == null) {
             System.setSecurityManager(new RMISecurityManager());
         }
     }
 
     /**
-     * Startet den Berechnungs-Thread, der im Hintergrund luft. Zur
+     * Liefert die Anzahl der Slots dieses Operatives einschlielich der Slots
+     * fr den Vorrat an Teilproblemen.
+     *
+     * @return  Die Anzahl der Teilprobleme, die gleichzeitig angenommen
+     *          werden knnen.
+     */
+    int getSlotNumber() {
+        return slotNumber;
+    }
+
+    /**
+     * Liefert das Objekt, das die Anzahl der gleichzeitig rechnenden Slots
+     * begrenzt.
+     *
+     * @return  Den <code>ComputeLimiter</code> dieses Operatives.
+     */
+    ComputeLimiter getComputeLimiter() {
+        return computeLimiter;
+    }
+
+    /**
+     * Prft, ob die bergebene Nummer einen Slot dieses Operatives bezeichnet.
+     *
+     * @param slot  Die zu prfende Nummer eines Slots.
+     *
+     * @throws IllegalArgumentException  Die Nummer bezeichnet keinen Slot.
+     */
+    private void checkSlot(int slot) {
+        if ((slot < 0) || (slot >= slotNumber)) {
+            throw new IllegalArgumentException("Slot " + slot
+                                               + " existiert nicht");
+        }
+    }
+
+    /**
+     * Prft, ob der bergebene Slot unttig ist. Beim Aufruf mu die Sperre
+     * auf <code>slotLocks[slot]</code> gehalten werden, damit der Slot bis
+     * zur Zuweisung eines Teilproblems unttig bleibt.
+     *
+     * @param slot  Die Nummer des zu prfenden Slots.
+     *
+     * @throws ProblemComputeException  Auf dem Slot wird bereits ein
+     *                                  Teilproblem berechnet oder der
+     *                                  Operative wird beendet.
+     */
+    private void checkIdle(int slot) throws ProblemComputeException {
+        if ((backgroundComputations == null)
+                || (backgroundComputations[slot] == null)
+                || backgroundComputations[slot].isComputing()) {
+            LOGGER.log(Level.WARNING, "Slot " + slot + " bereits beschftigt");
+            throw new ProblemComputeException("Slot " + slot
+                                              + " bereits beschftigt");
+        }
+    }
+
+    /**
+     * Ermittelt, ob auf einem der Slots gerade ein Teilproblem berechnet
+     * wird.
+     *
+     * @return  <code>true</code>, falls ein Slot ein Teilproblem berechnet,
+     *          sonst <code>false</code>.
+     */
+    private boolean isAnySlotComputing() {
+        OperativeComputing[] computations = backgroundComputations;
+
+        if (computations == null) {
+            return false;
+        }
+        for (int i = 0; i < computations.length; i++) {
+            if ((computations[i] != null) && computations[i].isComputing()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Startet die Berechnungs-Threads, die im Hintergrund laufen. Zur
      * Berechnung eines tatschlichen PartialProblmes muss noch die
      * fetchPartialProblemMethode aufgerufen werden.<P>
      *
@@ -178,29 +425,53 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
             }
         });
 
-        backgroundComputation = new OperativeComputing(this);
-        LOGGER.log(Level.INFO, "Operative gestartet");
+        backgroundComputations = new OperativeComputing[slotNumber];
+        for (int i = 0; i < slotNumber; i++) {
+            backgroundComputations[i] = new OperativeComputing(this, i);
+        }
+        flushTimer.schedule(new TimerTask() {
+            public void run() {
+                storeCache.checkCentralStores();
+            }
+        }, STORE_CHECK_INTERVAL, STORE_CHECK_INTERVAL);
+        LOGGER.log(Level.INFO, "Operative mit " + slotNumber
+                               + " Slots (davon " + (slotNumber - prefetchNumber)
+                               + " gleichzeitig rechnend) gestartet");
     }
 
     /**
-     * Meldet, wenn sowohl ein zentraler wie ein dezentraler RemoteStore
-     * vorhanden ist, zuerst den zentralen beim dezentralen und dann den
-     * dezentralen beim zentralen ab.
+     * Meldet, wenn fr den bergebenen Slot sowohl ein zentraler wie ein
+     * dezentraler RemoteStore vorhanden ist, zuerst den zentralen beim
+     * dezentralen und dann den dezentralen beim zentralen ab. Der dezentrale
+     * RemoteStore wird anschlieend beendet oder, wenn <CODE>keepStore</CODE>
+     * <CODE>true</CODE> ist, fr weitere Teilprobleme mit demselben zentralen
+     * RemoteStore bereitgehalten.
+     *
+     * @param slot       Die Nummer des Slots, dessen RemoteStore abgemeldet
+     *                   werden soll.
+     * @param keepStore  Gibt an, ob der dezentrale RemoteStore bereitgehalten
+     *                   werden soll, statt ihn zu beenden.
      *
      * @throws RemoteException       Bei einem RMI Problem.
      * @throws RemoteStoreException  Bei einem Problem mit der Abmeldung oder
      *                               Beendigung des zentralen oder dezentralen
      *                               RemoteStore.
      */
-    private void unregisterRemoteStore()
+    private void unregisterRemoteStore(int slot, boolean keepStore)
         throws RemoteStoreException, RemoteException {
 
+        RemoteStore centralRemoteStore = centralRemoteStores[slot];
+        RemoteStore distRemoteStore = distRemoteStores[slot];
+
         try {
             if ((centralRemoteStore != null) && (distRemoteStore != null)
                     && (distRemoteStore != centralRemoteStore)) {
                 distRemoteStore.unregisterRemoteStore(centralRemoteStore);
                 centralRemoteStore.unregisterRemoteStore(distRemoteStore);
-                distRemoteStore.terminate();
+                if (!keepStore
+                        || !storeCache.put(centralRemoteStore, distRemoteStore)) {
+                    distRemoteStore.terminate();
+                }
             } else if ((centralRemoteStore == null) && (distRemoteStore != null)) {
                 distRemoteStore.terminate();
             }
@@ -214,33 +485,112 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
                        "Fehler bei der Abmeldung oder Beendigung eines RemoteStore");
             throw new RemoteStoreException(e.getMessage(), e.getCause());
         } finally {
-            centralRemoteStore = null;
-            distRemoteStore = null;
+            centralRemoteStores[slot] = null;
+            distRemoteStores[slot] = null;
+        }
+    }
+
+    /**
+     * Vermerkt die Dauer vom Abbruch einer Berechnung bis zu ihrem Ende.
+     *
+     * @param slot         Die Nummer des Slots der Berechnung.
+     * @param duration     Die Dauer in Millisekunden.
+     * @param cooperative  Gibt an, ob die Berechnung innerhalb von
+     *                     <CODE>ABORT_WAIT</CODE> Millisekunden geendet hat.
+     */
+    void notifyAbort(int slot, long duration, boolean cooperative) {
+        synchronized (abortLock) {
+            abortNumber++;
+            if (!cooperative) {
+                abandonedNumber++;
+            }
+            abortDurationSum += duration;
+            abortDurationMax = Math.max(abortDurationMax, duration);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Berechnung auf Slot " + slot + " endete "
+                                   + duration + " ms nach dem Abbruch");
+        }
+    }
+
+    /**
+     * Meldet dem ComputeManager, da auf dem bergebenen Slot die Berechnung
+     * eines Teilproblems beginnt. Das ist nur bei einem Vorrat an
+     * Teilproblemen ntig, da der ComputeManager sonst den Zeitpunkt der
+     * bergabe als Beginn der Berechnung verwendet. Die Meldung erfolgt
+     * ber den Timer, damit sie den Beginn der Berechnung nicht verzgert.
+     *
+     * @param slot  Die Nummer des Slots der Berechnung.
+     */
+    void notifyComputationStart(final int slot) {
+        if (prefetchNumber == 0) {
+            return;
+        }
+        try {
+            flushTimer.schedule(new TimerTask() {
+                public void run() {
+                    ComputeManager manager = computeManager;
+
+                    if (manager != null) {
+                        try {
+                            manager.notifyComputationStart(OperativeImpl.this,
+                                                           slot);
+                        } catch (RemoteException e) {
+                            LOGGER.log(Level.FINE, "Beginn der Berechnung"
+                                                   + " konnte nicht gemeldet"
+                                                   + " werden");
+                        }
+                    }
+                }
+            }, 0);
+        } catch (IllegalStateException e) {
+            // Der Timer wurde bereits beendet.
         }
     }
 
     /**
-     * Bricht die Berechnung des aktuellen Teilproblems ab, entfernt die
-     * Hintergrundberechnung und meldet den zugehrigen RemoteStore ab. Wenn
-     * bei der Abmeldung oder Beendigung des RemoteStore eine Ausnahme
-     * auftritt, wird dazu nur eine log-Meldung ausgegeben.
+     * Liefert eine Zusammenfassung der erfaten Dauer der Abbrche.
+     *
+     * @return  Eine Beschreibung der Abbrche.
+     */
+    private String abortSummary() {
+        synchronized (abortLock) {
+            return ("Abgebrochene Berechnungen: " + abortNumber
+                    + " (davon " + abandonedNumber + " nicht rechtzeitig"
+                    + " beendet), Dauer bis zum Ende durchschnittlich "
+                    + (abortNumber > 0 ? abortDurationSum / abortNumber : 0)
+                    + " ms, maximal " + abortDurationMax + " ms");
+        }
+    }
+
+    /**
+     * Bricht die Berechnung des aktuellen Teilproblems eines Slots ab und
+     * meldet den zugehrigen RemoteStore ab. Die Hintergrundberechnung wird
+     * entfernt, wenn die Berechnung nicht innerhalb von
+     * <CODE>ABORT_WAIT</CODE> Millisekunden endet. Wenn bei der Abmeldung
+     * oder Beendigung des RemoteStore eine Ausnahme auftritt, wird dazu nur
+     * eine log-Meldung ausgegeben.
+     *
+     * @param slot  Die Nummer des Slots, dessen Berechnung abgebrochen werden
+     *              soll.
      *
      * @throws RemoteException  Bei einem RMI Problem.
      */
-    private void abortPartialProblem() throws RemoteException {
+    private void abortPartialProblem(int slot) throws RemoteException {
+        OperativeComputing backgroundComputation;
 
-        // OperativeComputing-Thread beenden
-        LOGGER.log(Level.FINE, "Berechnung wird gestoppt");
+        // Berechnung des OperativeComputing-Threads abbrechen
+        LOGGER.log(Level.FINE, "Berechnung auf Slot " + slot + " wird gestoppt");
 
-        backgroundComputation.terminate();
-        if (backgroundComputation.isComputing()) {
-            backgroundComputation.stop();
+        backgroundComputation = backgroundComputations[slot];
+        if ((backgroundComputation != null)
+                && !backgroundComputation.abort(ABORT_WAIT)) {
+            backgroundComputations[slot] = null;
         }
-        backgroundComputation = null;
 
         // RemoteStore abmelden
         try {
-            unregisterRemoteStore();
+            unregisterRemoteStore(slot, false);
         } catch (RemoteStoreException e) {
             LOGGER.log(Level.WARNING,
                        "RemoteStoreException beim Beenden aufgetreten."
@@ -250,7 +600,8 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
 
     /**
      * Diese Methode beendet den Operative lokal, das heit die
-     * Hintergrundberechnung wird gestoppt und er wird vom lokalen RMI-Server
+     * Hintergrundberechnungen aller Slots werden gestoppt und er wird vom
+     * lokalen RMI-Server
      * abgemeldet. Es wird keine Verbindung zum ComputeManager mehr
      * hergestellt. Der Operative mu dort also auf andere Weise aus der
      * Verwaltung entfernt werden.<P>
@@ -264,8 +615,18 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
 
         LOGGER.log(Level.INFO, "Operative wird beendet");
 
-        if (backgroundComputation != null) {
-            abortPartialProblem();
+        if (backgroundComputations != null) {
+            for (int i = 0; i < slotNumber; i++) {
+                abortPartialProblem(i);
+                if (backgroundComputations[i] != null) {
+                    backgroundComputations[i].terminate();
+                }
+            }
+            backgroundComputations = null;
+            storeCache.clear();
+            LOGGER.log(Level.INFO, abortSummary());
+            LOGGER.log(Level.INFO, storeCache.summary());
+            flushTimer.cancel();
 
             // Vom RMI-Server abmelden
             unexportObject(this, true);
@@ -322,23 +683,27 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
     }
 
     /**
-     * Wird vom <code>ComputeManager</code> aufgerufen, um dem Operative ein
-     * neues Teilproblem zur Berechnung zuzuweisen. Wenn <CODE>generator</CODE>
-     * nicht <CODE>null</CODE> ist, wird versucht, einen dezentralen
-     * RemoteStore zu erzeugen, um diesen dem Teilproblem zu bergeben. Wenn
-     * kein dezentraler RemoteStore erzeugt werden kann oder <CODE>generator</CODE>
+     * Wird vom <code>ComputeManager</code> aufgerufen, um einem Slot des
+     * Operative ein neues Teilproblem zur Berechnung zuzuweisen. Wenn
+     * <CODE>generator</CODE> nicht <CODE>null</CODE> ist, wird ein fr den
+     * zentralen RemoteStore bereitgehaltener dezentraler RemoteStore
+     * verwendet oder es wird versucht, einen dezentralen RemoteStore zu
+     * erzeugen, um diesen dem Teilproblem zu bergeben. Wenn kein dezentraler
+     * RemoteStore erzeugt werden kann oder <CODE>generator</CODE>
      * <CODE>null</CODE> ist, wird den Teilproblem der Wert <CODE>null</CODE>
      * bergeben. Wenn sowohl ein zentraler wie ein dezentraler RemoteStore
      * vorhanden ist, wird zuerst der zentrale beim dezentralen und dann der
      * dezentrale beim zentralen registiert.
      *
+     * @param slot          Die Nummer des Slots, der das Teilproblem
+     *                      berechnen soll.
      * @param parProb       Neues Teilproblem fr den Operative.
      * @param centralStore  Der zentrale RemoteStore.
      * @param generator     Der Generator eines lokalen RemoteStore.
      *
      * @throws RemoteException           Bei RMI-Verbindungsproblemen.
-     * @throws ProblemComputeException   Wenn bereits ein Teilproblem berechnet
-     *                                   wird.
+     * @throws ProblemComputeException   Wenn auf dem Slot bereits ein
+     *                                   Teilproblem berechnet wird.
      * @throws RemoteStoreGenException   Der lokale <CODE>RemoteStore</CODE>
      *                                   konnte nicht erzeugt werden.
      * @throws RemoteStoreException      Die gegenseitige Anmeldung von lokalem
@@ -347,9 +712,11 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
      * @throws IllegalArgumentException  Der Wert von <CODE>generator</CODE>
      *                                   ist <CODE>null</CODE>, der Wert von
      *                                   <CODE>centralStore</CODE> ist aber
-     *                                   ungleich <CODE>null</CODE>.
+     *                                   ungleich <CODE>null</CODE> oder der
+     *                                   Slot existiert nicht.
      */
-    public void fetchPartialProblem(PartialProblem parProb,
+    public void fetchPartialProblem(int slot,
+                                    PartialProblem parProb,
                                     RemoteStore centralStore,
                                     RemoteStoreGenerator generator)
         throws RemoteException,
@@ -357,57 +724,203 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
                RemoteStoreGenException, // Unterklasse von ProblemComputeException
                RemoteStoreException { // Unterklasse von ProblemComputeException
 
+        RemoteStore centralRemoteStore;
+        RemoteStore distRemoteStore = null;
+
+        checkSlot(slot);
+
         if ((generator == null) && (centralStore != null)) {
             throw new IllegalArgumentException("generator ist gleich null,"
                                                + " centralStore aber ungleich null");
         }
 
-        if (LOGGER.isLoggable(Level.FINE)) {
-            LOGGER.log(Level.FINE,
-                       "OperativeImpl hat Aufgabe vom ComputeManager empfangen. "
-                       + "centralStore: " + centralStore
-                       + ", generator: " + generator);
-        }
+        // Die Prfung und die Zuweisung erfolgen unter der Sperre des
+        // Slots, damit er nicht gleichzeitig einem anderen Aufruf zugewiesen
+        // oder gestoppt wird. Vor jeder nderung prfen, ob der Slot unttig
+        // ist, damit die RemoteStores einer laufenden Berechnung nicht
+        // ersetzt werden.
+        synchronized (slotLocks[slot]) {
+            checkIdle(slot);
 
-        // Zentralen RemoteStore merken, um den distRemoteStore dort spter
-        // abzumelden
-        centralRemoteStore = centralStore;
+            synchronized (pendingSolutions) {
+                solutionBatchSizes[slot] = 1;
+            }
 
-        if (generator != null) {
-            // Falls der Generator vorhanden ist, einen dezentralen RemoteStore
-            // erzeugen.
-            try {
-                distRemoteStore = generator.generateDistRemoteStore();
-            } catch (ThreadDeath e) {
-                // Dieser Error darf nicht abgefangen werden.
-                throw e;
-            } catch (Throwable e) {
-                LOGGER.log(Level.SEVERE, "Fehler bei der Erzeugung vom RemoteStore");
-                throw new RemoteStoreGenException(e.getMessage(), e.getCause());
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE,
+                           "OperativeImpl hat Aufgabe fr Slot " + slot
+                           + " vom ComputeManager empfangen. "
+                           + "centralStore: " + centralStore
+                           + ", generator: " + generator);
             }
 
-            // Registriert die RemoteStores gegenseitig. Falls der Generator
-            // keinen dezentralen RemoteStore geliefert hat, wird der zentrale
-            // RemoteStore verwendet.
-            if ((distRemoteStore != null) && (centralRemoteStore != null)) {
+            // Zentralen RemoteStore merken, um den distRemoteStore dort
+            // spter abzumelden
+            centralRemoteStore = centralStore;
+            centralRemoteStores[slot] = centralRemoteStore;
+
+            if (generator != null) {
+                // Falls der Generator vorhanden ist, einen bereitgehaltenen
+                // dezentralen RemoteStore verwenden oder einen neuen
+                // erzeugen.
+                if (centralRemoteStore != null) {
+                    distRemoteStore = storeCache.take(centralRemoteStore);
+                }
                 try {
-                    distRemoteStore.registerRemoteStore(centralRemoteStore);
-                    centralRemoteStore.registerRemoteStore(distRemoteStore);
+                    if (distRemoteStore == null) {
+                        distRemoteStore = generator.generateDistRemoteStore();
+                    }
                 } catch (ThreadDeath e) {
                     // Dieser Error darf nicht abgefangen werden.
                     throw e;
                 } catch (Throwable e) {
                     LOGGER.log(Level.SEVERE,
-                               "Fehler bei der Anmeldung oder Abmeldung"
-                               + " eines RemoteStore");
-                    throw new RemoteStoreException(e.getMessage(), e.getCause());
+                               "Fehler bei der Erzeugung vom RemoteStore");
+                    throw new RemoteStoreGenException(e.getMessage(),
+                                                      e.getCause());
+                }
+                distRemoteStores[slot] = distRemoteStore;
+
+                // Registriert die RemoteStores gegenseitig. Falls der
+                // Generator keinen dezentralen RemoteStore geliefert hat,
+                // wird der zentrale RemoteStore verwendet.
+                if ((distRemoteStore != null) && (centralRemoteStore != null)) {
+                    try {
+                        distRemoteStore.registerRemoteStore(centralRemoteStore);
+                        centralRemoteStore.registerRemoteStore(distRemoteStore);
+                    } catch (ThreadDeath e) {
+                        // Dieser Error darf nicht abgefangen werden.
+                        throw e;
+                    } catch (Throwable e) {
+                        LOGGER.log(Level.SEVERE,
+                                   "Fehler bei der Anmeldung oder Abmeldung"
+                                   + " eines RemoteStore");
+                        throw new RemoteStoreException(e.getMessage(),
+                                                       e.getCause());
+                    }
+                } else if (distRemoteStore == null) {
+                    distRemoteStore = centralRemoteStore;
+                    distRemoteStores[slot] = distRemoteStore;
+                }
+            }
+
+            try {
+                backgroundComputations[slot].fetchPartialProblem(
+                    parProb, distRemoteStore);
+            } catch (ProblemComputeException e) {
+                // Die eben angemeldeten RemoteStores wieder abmelden.
+                try {
+                    unregisterRemoteStore(slot, false);
+                } catch (RemoteStoreException e2) {
+                    LOGGER.log(Level.WARNING,
+                               "RemoteStoreException beim Abmelden aufgetreten."
+                               + " Wird nicht mehr gemeldet.");
                 }
-            } else if (distRemoteStore == null) {
-                distRemoteStore = centralRemoteStore;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Wird vom <code>ComputeManager</code> aufgerufen, um mehreren unttigen
+     * Slots mit einem Aufruf jeweils ein Teilproblem ohne RemoteStore
+     * zuzuweisen. Die zugehrigen Teillsungen werden gesammelt und, sobald
+     * <CODE>solutionBatchSize</CODE> viele vorliegen, mit einem Aufruf an den
+     * ComputeManager bermittelt. Die Anzahl gilt nur fr die bergebenen
+     * Slots. Die Sperren der Slots werden in aufsteigender Reihenfolge ihrer
+     * Nummern belegt, so da sich gleichzeitige Aufrufe nicht gegenseitig
+     * blockieren.
+     *
+     * @param slots              Die Nummern der Slots, die die Teilprobleme
+     *                           berechnen sollen.
+     * @param parProbs           Die zu berechnenden Teilprobleme.
+     * @param solutionBatchSize  Die Anzahl der Teillsungen, die hchstens
+     *                           gesammelt zurckgegeben werden sollen.
+     *
+     * @throws RemoteException           Bei RMI-Verbindungsproblemen.
+     * @throws ProblemComputeException   Wenn auf einem der Slots bereits ein
+     *                                   Teilproblem berechnet wird.
+     * @throws IllegalArgumentException  Einer der Slots existiert nicht oder
+     *                                   die Anzahl der Slots und der
+     *                                   Teilprobleme ist verschieden.
+     */
+    public void fetchPartialProblems(int[] slots,
+                                     PartialProblem[] parProbs,
+                                     int solutionBatchSize)
+        throws RemoteException, ProblemComputeException {
+
+        int[] lockOrder;
+
+        if (slots.length != parProbs.length) {
+            throw new IllegalArgumentException("Anzahl der Slots und der"
+                                               + " Teilprobleme verschieden");
+        }
+        for (int i = 0; i < slots.length; i++) {
+            checkSlot(slots[i]);
+        }
+
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE,
+                       "OperativeImpl hat " + slots.length + " Aufgaben vom"
+                       + " ComputeManager empfangen. solutionBatchSize: "
+                       + solutionBatchSize);
+        }
+
+        lockOrder = (int[]) slots.clone();
+        Arrays.sort(lockOrder);
+        fetchLockedPartialProblems(lockOrder, 0, slots, parProbs,
+                                   solutionBatchSize);
+    }
+
+    /**
+     * Belegt rekursiv die Sperren der Slots in der bergebenen Reihenfolge
+     * und weist den Slots anschlieend die Teilprobleme zu, falls alle Slots
+     * unttig sind.
+     *
+     * @param lockOrder          Die Nummern der Slots in der Reihenfolge, in
+     *                           der ihre Sperren belegt werden.
+     * @param lockIndex          Der Index in <code>lockOrder</code> des
+     *                           Slots, dessen Sperre als nchstes belegt
+     *                           wird.
+     * @param slots              Die Nummern der Slots, die die Teilprobleme
+     *                           berechnen sollen.
+     * @param parProbs           Die zu berechnenden Teilprobleme.
+     * @param solutionBatchSize  Die Anzahl der Teillsungen, die hchstens
+     *                           gesammelt zurckgegeben werden sollen.
+     *
+     * @throws ProblemComputeException  Wenn auf einem der Slots bereits ein
+     *                                  Teilproblem berechnet wird.
+     */
+    private void fetchLockedPartialProblems(int[] lockOrder, int lockIndex,
+                                            int[] slots,
+                                            PartialProblem[] parProbs,
+                                            int solutionBatchSize)
+        throws ProblemComputeException {
+
+        if (lockIndex < lockOrder.length) {
+            synchronized (slotLocks[lockOrder[lockIndex]]) {
+                fetchLockedPartialProblems(lockOrder, lockIndex + 1, slots,
+                                           parProbs, solutionBatchSize);
             }
+            return;
+        }
+
+        // Erst alle Slots prfen, damit keinem Slot ein Teilproblem
+        // zugewiesen wird, wenn ein anderer beschftigt ist.
+        for (int i = 0; i < slots.length; i++) {
+            checkIdle(slots[i]);
         }
 
-        backgroundComputation.fetchPartialProblem(parProb, distRemoteStore);
+        synchronized (pendingSolutions) {
+            for (int i = 0; i < slots.length; i++) {
+                solutionBatchSizes[slots[i]] = Math.max(1, solutionBatchSize);
+            }
+        }
+        for (int i = 0; i < slots.length; i++) {
+            centralRemoteStores[slots[i]] = null;
+            distRemoteStores[slots[i]] = null;
+            backgroundComputations[slots[i]].fetchPartialProblem(parProbs[i], null);
+        }
     }
 
     /**
@@ -439,20 +952,76 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
     }
 
     /**
-     * bermittelt dem Dispatcher eine Fehlermeldung und meldet den
-     * distRemoteStore ab. Wenn dies nicht mglich ist, wird der Operative
-     * beendet.
+     * bermittelt dem Dispatcher eine Fehlermeldung zu einem Slot und meldet
+     * dessen distRemoteStore ab. Wenn dies nicht mglich ist, wird der
+     * Operative beendet.
+     *
+     * @param slot              Die Nummer des Slots, auf dem der Fehler
+     *                          auftrat.
+     * @param exceptionCode     Wert, der die Ausnahme charakterisisert.
+     * @param exceptionMessage  Fehlermeldung, die die Ausnahme nher
+     *                          beschreibt.
+     */
+    void reportException(int slot, int exceptionCode,
+                         String exceptionMessage) {
+
+        synchronized (slotLocks[slot]) {
+            sendException(slot, exceptionCode, exceptionMessage);
+
+            // RemoteStore abmelden wenn mglich
+            try {
+                unregisterRemoteStore(slot, false);
+            } catch (RemoteStoreException e) {
+                LOGGER.log(Level.WARNING, "RemoteStoreException wird nicht mehr gemeldet");
+            } catch (RemoteException e) {
+                LOGGER.log(Level.WARNING, "RemoteException wird nicht mehr gemeldet");
+            }
+        }
+    }
+
+    /**
+     * bermittelt dem Dispatcher eine Fehlermeldung zur Berechnung eines
+     * Teilproblems auf einem Slot und meldet dessen distRemoteStore ab, falls
+     * die Berechnung nicht inzwischen abgebrochen wurde.
+     *
+     * @param slot              Die Nummer des Slots, auf dem der Fehler
+     *                          auftrat.
+     * @param exceptionCode     Wert, der die Ausnahme charakterisisert.
+     * @param exceptionMessage  Fehlermeldung, die die Ausnahme nher
+     *                          beschreibt.
+     * @param cancellation      Das Objekt, das den Abbruch der Berechnung
+     *                          anzeigt.
+     */
+    void reportException(int slot, int exceptionCode, String exceptionMessage,
+                         OperativeCancellation cancellation) {
+
+        synchronized (slotLocks[slot]) {
+            if (!cancellation.isCancelled()) {
+                reportException(slot, exceptionCode, exceptionMessage);
+            }
+        }
+    }
+
+    /**
+     * bermittelt dem Dispatcher eine Fehlermeldung zu einem Slot. Wenn dies
+     * nicht mglich ist, wird der Operative beendet.
      *
+     * @param slot              Die Nummer des Slots, auf dem der Fehler
+     *                          auftrat.
      * @param exceptionCode     Wert, der die Ausnahme charakterisisert.
      * @param exceptionMessage  Fehlermeldung, die die Ausnahme nher
      *                          beschreibt.
      */
-    synchronized void reportException(int exceptionCode,
-                                      String exceptionMessage) {
+    private void sendException(int slot, int exceptionCode,
+                               String exceptionMessage) {
 
+        if (computeManager == null) {
+            return;
+        }
         try {
             computeManager.reportException(
                 this,
+                slot,
                 exceptionCode,
                 exceptionMessage);
         } catch (RemoteException e) {
@@ -462,65 +1031,162 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
             computeManager = null;
             shutdown();
         }
+    }
 
-        // RemoteStore abmelden wenn mglich
-        try {
-            unregisterRemoteStore();
-        } catch (RemoteStoreException e) {
-            LOGGER.log(Level.WARNING, "RemoteStoreException wird nicht mehr gemeldet");
-        } catch (RemoteException e) {
-            LOGGER.log(Level.WARNING, "RemoteException wird nicht mehr gemeldet");
+    /**
+     * Gibt eine berechnete Teillsung dem ComputeManager zurck. Damit wird
+     * dem ComputeManager implizit mittgeteilt, dass der Slot nun ein neues
+     * Teilproblem bernehmen kann. Die Teillsung wird zuerst gesammelt und
+     * erst bermittelt, wenn so viele Teillsungen vorliegen, wie mit dem
+     * Teilproblem des Slots festgelegt wurde, wenn kein Slot mehr rechnet
+     * oder wenn <CODE>SOLUTION_DELAY</CODE> Millisekunden verstrichen sind.
+     * Bei der bermittlung wird keine Sperre gehalten.
+     *
+     * @param slot          Die Nummer des Slots, auf dem die Teillsung
+     *                      berechnet wurde.
+     * @param parSol        Teillsung, die dem ComputeManager bermittelt
+     *                      werden soll.
+     * @param cancellation  Das Objekt, das den Abbruch der Berechnung
+     *                      anzeigt. Wurde die Berechnung inzwischen
+     *                      abgebrochen, wird die Teillsung verworfen.
+     */
+    void returnPartialSolution(int slot, PartialSolution parSol,
+                               OperativeCancellation cancellation) {
+        List transmission = null;
+
+        synchronized (slotLocks[slot]) {
+            if (cancellation.isCancelled()) {
+                return;
+            }
+
+            // Den oder die ClassLoader lschen
+            CacheFlushingRMIClSpi.flushClassLoaders();
+
+            // RemoteStore abmelden
+            try {
+                unregisterRemoteStore(slot, true);
+                LOGGER.log(Level.FINE, "RemoteStore abgemeldet");
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING,
+                           "Abmeldung von RemoteStore fehlgeschlagen: " + e);
+                reportException(slot, ExceptionCodes.REMOTE_STORE_EXCEPTION,
+                                exceptionMessage(e));
+                return;
+            }
+
+            synchronized (pendingSolutions) {
+                pendingSolutions.add(new PendingSolution(slot, parSol));
+                if ((pendingSolutions.size() >= solutionBatchSizes[slot])
+                        || !isAnySlotComputing()) {
+                    transmission = takePendingSolutions();
+                } else if (!flushScheduled) {
+                    try {
+                        flushTimer.schedule(new TimerTask() {
+                            public void run() {
+                                List delayed;
+
+                                synchronized (pendingSolutions) {
+                                    flushScheduled = false;
+                                    delayed = takePendingSolutions();
+                                }
+                                transmitSolutions(delayed);
+                            }
+                        }, SOLUTION_DELAY);
+                        flushScheduled = true;
+                    } catch (IllegalStateException e) {
+                        // Der Timer wurde bereits beendet.
+                        transmission = takePendingSolutions();
+                    }
+                }
+            }
+        }
+
+        if (transmission != null) {
+            transmitSolutions(transmission);
         }
     }
 
     /**
-     * Gibt eine berechnete Teillsung dem ComputeManager zurck. Damit wird
-     * dem ComputeManager implizit mittgeteilt, dass der Operative nun ein
-     * neues Teilproblem bernehmen kann.
+     * Entnimmt alle gesammelten Teillsungen zur bermittlung und vermerkt
+     * sie als in bermittlung befindlich. Die aufrufende Methode mu auf
+     * <CODE>pendingSolutions</CODE> synchronisiert sein.
      *
-     * @param parSol  Teillsung, die dem ComputeManager bermittelt werden
-     *                soll.
+     * @return  Die entnommenen Instanzen von <CODE>PendingSolution</CODE>.
      */
-    synchronized void returnPartialSolution(PartialSolution parSol) {
-        String  exceptionMessage = null;
-        long    versuch;
-        int     exceptionCode = -1;
-        boolean transmitted = false;
+    private List takePendingSolutions() {
+        List transmission = new ArrayList(pendingSolutions);
+        Iterator pendingIter = transmission.iterator();
 
-        // Den oder die ClassLoader lschen
-        CacheFlushingRMIClSpi.flushClassLoaders();
+        while (pendingIter.hasNext()) {
+            transmittingSolutions[((PendingSolution) pendingIter.next()).getSlot()]++;
+        }
+        pendingSolutions.clear();
+        return transmission;
+    }
 
-        // RemoteStore abmelden
-        try {
-            unregisterRemoteStore();
-            LOGGER.log(Level.FINE, "RemoteStore abgemeldet");
-            versuch = 1;
-        } catch (Exception e) {
-            exceptionCode = ExceptionCodes.REMOTE_STORE_EXCEPTION;
-            exceptionMessage = exceptionMessage(e);
-            LOGGER.log(Level.WARNING,
-                       "Abmeldung von RemoteStore fehlgeschlagen: " + e);
-            versuch = CONNECT_RETRIES + 1;
+    /**
+     * bermittelt die bergebenen, vorher mit
+     * <CODE>takePendingSolutions</CODE> entnommenen Teillsungen an den
+     * ComputeManager. Wenn das auch nach mehreren Versuchen nicht mglich
+     * ist, wird fr jeden betroffenen Slot ein Fehler gemeldet. Beim Aufruf
+     * darf keine Sperre gehalten werden, da der ComputeManager whrend der
+     * bermittlung die Berechnung auf einem Slot stoppen kann.
+     *
+     * @param transmission  Die zu bermittelnden Instanzen von
+     *                      <CODE>PendingSolution</CODE>.
+     */
+    private void transmitSolutions(List transmission) {
+        PartialSolution[] parSols;
+        PendingSolution   pending;
+        Iterator          pendingIter;
+        String            exceptionMessage = null;
+        int[]             slots;
+        long              versuch;
+        int               exceptionCode = -1;
+        int               index;
+        boolean           transmitted = false;
+
+        if (transmission.isEmpty()) {
+            return;
         }
 
-        // Mehrmals versuchen, die Teillsung zu senden
-        while ((versuch <= CONNECT_RETRIES) && (!transmitted)) {
+        parSols = new PartialSolution[transmission.size()];
+        slots = new int[transmission.size()];
+        index = 0;
+        pendingIter = transmission.iterator();
+        while (pendingIter.hasNext()) {
+            pending = (PendingSolution) pendingIter.next();
+            parSols[index] = pending.getPartialSolution();
+            slots[index] = pending.getSlot();
+            index++;
+        }
+
+        // Mehrmals versuchen, die Teillsungen zu senden
+        versuch = 1;
+        while ((versuch <= CONNECT_RETRIES) && (!transmitted)
+               && (computeManager != null)) {
             if (LOGGER.isLoggable(Level.FINE)) {
                 LOGGER.log(Level.FINE,
-                           "Versuche, RemoteStore abzumelden und Teilergebnis"
+                           "Versuche, " + parSols.length + " Teilergebnisse"
                            + " zurckzugeben, Versuch: "
                            + "(" + versuch + "/" + CONNECT_RETRIES + ")");
             }
             try {
-                computeManager.collectPartialSolution(parSol, this);
-                LOGGER.log(Level.FINE, "Teilergebnis zurckgegeben");
+                if (parSols.length == 1) {
+                    computeManager.collectPartialSolution(parSols[0], this,
+                                                          slots[0]);
+                } else {
+                    computeManager.collectPartialSolutions(parSols, this,
+                                                           slots);
+                }
+                LOGGER.log(Level.FINE, "Teilergebnisse zurckgegeben");
                 transmitted = true;
             } catch (RemoteException e) {
                 exceptionCode = ExceptionCodes.PARTIALSOLUTION_SEND_EXCEPTION;
                 exceptionMessage = exceptionMessage(e);
                 try {
                     LOGGER.log(Level.WARNING,
-                               "Teilergebnis konnte nicht zurckgegeben werden");
+                               "Teilergebnisse konnten nicht zurckgegeben werden");
                     Thread.sleep(SEND_TIMEOUT);
                 } catch (InterruptedException e1) {
                     LOGGER.log(Level.WARNING,
@@ -531,22 +1197,73 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
         }
 
         if (!transmitted) {
-            reportException(exceptionCode, exceptionMessage);
+            for (int i = 0; i < slots.length; i++) {
+                sendException(slots[i], exceptionCode, exceptionMessage);
+            }
+        }
+
+        synchronized (pendingSolutions) {
+            for (int i = 0; i < slots.length; i++) {
+                transmittingSolutions[slots[i]]--;
+            }
+            pendingSolutions.notifyAll();
+        }
+    }
+
+    /**
+     * Entfernt die gesammelten, noch nicht bermittelten Teillsungen eines
+     * Slots und wartet, bis die bermittlung bereits entnommener Teillsungen
+     * des Slots beendet ist. Der ComputeManager erhlt eine solche
+     * Teillsung damit, bevor er dem Slot ein neues Teilproblem zuweist.
+     *
+     * @param slot  Die Nummer des Slots, dessen Teillsungen entfernt werden
+     *              sollen.
+     */
+    private void removePendingSolutions(int slot) {
+        Iterator pendingIter;
+
+        synchronized (pendingSolutions) {
+            pendingIter = pendingSolutions.iterator();
+            while (pendingIter.hasNext()) {
+                if (((PendingSolution) pendingIter.next()).getSlot() == slot) {
+                    pendingIter.remove();
+                }
+            }
+            while (transmittingSolutions[slot] > 0) {
+                try {
+                    pendingSolutions.wait();
+                } catch (InterruptedException e) {
+                    // Unterbrechung sollte hier nicht stren
+                }
+            }
         }
     }
 
     /**
-     * Bricht die momentan ausgefhrte Hintergrundberechnung ab und schafft
-     * die Voraussetzung fr den Start einer neuen Hintergrundberechnung.
+     * Bricht die momentan auf einem Slot ausgefhrte Hintergrundberechnung
+     * ab und schafft die Voraussetzung fr den Start einer neuen
+     * Hintergrundberechnung auf dem Slot. Der Thread des Slots wird dafr
+     * weiter verwendet, wenn die Berechnung innerhalb kurzer Zeit endet.
+     * Eine bereits berechnete, aber noch nicht bermittelte Teillsung des
+     * Slots wird verworfen.
+     *
+     * @param slot  Die Nummer des Slots, dessen Berechnung abgebrochen werden
+     *              soll.
      *
      * @throws RemoteException  Bei RMI-Verbindungsproblemen oder bei einem
      *                          Problem mit der Abmeldung oder Beendigung
      *                          eines Remote-Store.
      */
-    public synchronized void stopComputation() throws RemoteException {
-
-        abortPartialProblem();
-        backgroundComputation = new OperativeComputing(this);
+    public void stopComputation(int slot) throws RemoteException {
+
+        checkSlot(slot);
+        synchronized (slotLocks[slot]) {
+            removePendingSolutions(slot);
+            abortPartialProblem(slot);
+            if (backgroundComputations[slot] == null) {
+                backgroundComputations[slot] = new OperativeComputing(this, slot);
+            }
+        }
     }
 
     /**
@@ -554,7 +1271,12 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
      * und das Verzeichnis der RMI-Registry angegeben werden, an der der
      * <code>ComputeManager</code> angemeldet ist. Als weiteres
      * Kommandozeilenargument kann der Debug-Modus mittels
-     * <code>--debug</code> oder <code>-d</code> angeschaltet werden.
+     * <code>--debug</code> oder <code>-d</code> angeschaltet werden. Mittels
+     * <code>-slots</code> kann die Anzahl der gleichzeitig zu berechnenden
+     * Teilprobleme angegeben werden. Per default ist das die Anzahl der
+     * Prozessoren des Rechners. Mittels <code>-prefetch</code> kann die
+     * Anzahl der Teilprobleme angegeben werden, die der Operative zustzlich
+     * als Vorrat hlt. Per default ist das <code>DEFAULT_PREFETCH</code>.
      *
      * @param args  Die obligatorischen Kommandozeilenargumente.
      */
@@ -562,6 +1284,8 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
         ParameterParser parser = new ParameterParser();
         StringBuffer    binding = new StringBuffer();
         boolean         debugging = false;
+        int             slots = Runtime.getRuntime().availableProcessors();
+        int             prefetch = DEFAULT_PREFETCH;
 
         Option debug1 = new Option("d");
         debug1.setPrefix("-");
@@ -573,12 +1297,26 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
         debug2.setOptional(true);
         debug2.setParameterNumberCheck(Option.ZERO_PARAMETERS_CHECK);
 
+        Option slotsOption = new Option("slots");
+        slotsOption.setPrefix("-");
+        slotsOption.setOptional(true);
+        slotsOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        slotsOption.setParamDescription("number");
+
+        Option prefetchOption = new Option("prefetch");
+        prefetchOption.setPrefix("-");
+        prefetchOption.setOptional(true);
+        prefetchOption.setParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
+        prefetchOption.setParamDescription("number");
+
         parser.setFreeParameterPosition(ParameterParser.START);
         parser.setFreeParameterDescription("registry:port");
         parser.setFreeParameterNumberCheck(Option.ONE_PARAMETER_CHECK);
 
         parser.addOption(debug1);
         parser.addOption(debug2);
+        parser.addOption(slotsOption);
+        parser.addOption(prefetchOption);
 
         try {
             parser.parseAll(args);
@@ -612,6 +1350,26 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
                 consoleHandler.setLevel(Level.FINEST);
             }
 
+            // ist die Anzahl der Slots angegeben?
+            if (parser.isEnabled(slotsOption)) {
+                slots = parser.getParameterAsInt(slotsOption);
+                if (slots < 1) {
+                    System.err.println("Die Anzahl der Slots mu grer"
+                                       + " oder gleich Eins sein.");
+                    System.exit(1);
+                }
+            }
+
+            // ist die Gre des Vorrats angegeben?
+            if (parser.isEnabled(prefetchOption)) {
+                prefetch = parser.getParameterAsInt(prefetchOption);
+                if (prefetch < 0) {
+                    System.err.println("Die Gre des Vorrats darf nicht"
+                                       + " negativ sein.");
+                    System.exit(1);
+                }
+            }
+
             binding.append(parser.getFreeParameter());
 
             // ist ein Port angegeben ?
@@ -629,6 +1387,8 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
             if (LOGGER.isLoggable(Level.CONFIG)) {
                 LOGGER.log(Level.CONFIG, "Parameter fr Operative: "
                         + "debugging: " + debugging
+                        + ", slots: " + slots
+                        + ", prefetch: " + prefetch
                         + ", ComputeManager: " + binding);
             }
 
@@ -636,7 +1396,8 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
                 (ComputeManager) java.rmi.Naming.lookup(binding.toString());
 
             // Aufruf des privaten Konstruktors mit ComputeManager.
-            OperativeImpl operative = new OperativeImpl(computeManager);
+            OperativeImpl operative = new OperativeImpl(computeManager,
+                                                        slots, prefetch);
 
             // erst wenn das funktioniert hat, computing starten
             operative.startComputation();
@@ -644,7 +1405,10 @@ public class OperativeImpl extends UnicastRemoteObject implements Operative {
             // Wenn das funktioniert hat, dann anmelden
             LOGGER.log(Level.CONFIG, "Melde Operative an!");
 
-            computeManager.registerOperative(operative);
+            computeManager.registerOperative(operative,
+                                             operative.getSlotNumber(),
+                                             OperativeCapabilities.determine(
+                                                 (prefetch > 0) ? slots : 0));
 
             LOGGER.log(Level.CONFIG, "Operative gestartet!");
 
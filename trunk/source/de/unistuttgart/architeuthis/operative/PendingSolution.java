@@ -0,0 +1,80 @@
+/*
+ * filename:    PendingSolution.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ * Realease 1.0 dieser Software wurde am Institut fr Intelligente Systeme der
+ * Universitt Stuttgart (http://www.informatik.uni-stuttgart.de/ifi/is/) unter
+ * Leitung von Dietmar Lippold (dietmar.lippold@informatik.uni-stuttgart.de)
+ * entwickelt.
+ */
+
+
+package de.unistuttgart.architeuthis.operative;
+
+import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
+
+/**
+ * Speichert eine berechnete Teillsung zusammen mit der Nummer des Slots, auf
+ * dem sie berechnet wurde, bis sie an den ComputeManager bermittelt wird.
+ */
+class PendingSolution {
+
+    /**
+     * Die Nummer des Slots, auf dem die Teillsung berechnet wurde.
+     */
+    private int slot;
+
+    /**
+     * Die berechnete Teillsung.
+     */
+    private PartialSolution partialSolution;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param slot    Die Nummer des Slots, auf dem die Teillsung berechnet
+     *                wurde.
+     * @param parSol  Die berechnete Teillsung.
+     */
+    PendingSolution(int slot, PartialSolution parSol) {
+        this.slot = slot;
+        this.partialSolution = parSol;
+    }
+
+    /**
+     * Liefert die Nummer des Slots, auf dem die Teillsung berechnet wurde.
+     *
+     * @return  Die Nummer des Slots.
+     */
+    int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Liefert die berechnete Teillsung.
+     *
+     * @return  Die Teillsung.
+     */
+    PartialSolution getPartialSolution() {
+        return partialSolution;
+    }
+}
+
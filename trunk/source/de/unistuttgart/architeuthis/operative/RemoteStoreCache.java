@@ -0,0 +1,309 @@
+/*
+ * filename:    RemoteStoreCache.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ * Realease 1.0 dieser Software wurde am Institut fr Intelligente Systeme der
+ * Universitt Stuttgart (http://www.informatik.uni-stuttgart.de/ifi/is/) unter
+ * Leitung von Dietmar Lippold (dietmar.lippold@informatik.uni-stuttgart.de)
+ * entwickelt.
+ */
+
+
+
+package de.unistuttgart.architeuthis.operative;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.rmi.RemoteException;
+
+import de.unistuttgart.architeuthis.remotestore.ShardedStore;
+import de.unistuttgart.architeuthis.remotestore.VersionedStore;
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
+
+/**
+ * Hlt dezentrale RemoteStores, die nach der Berechnung eines Teilproblems
+ * beim zentralen RemoteStore abgemeldet, aber nicht beendet wurden, fr die
+ * folgenden Teilprobleme desselben Problems bereit. Ein solcher RemoteStore
+ * bleibt als RMI-Objekt exportiert und erhlt bei der erneuten Anmeldung
+ * beim zentralen RemoteStore nur die inzwischen erfolgten nderungen.<P>
+ *
+ * Da der Operative nicht ber das Ende eines Problems informiert wird, wird
+ * in regelmigen Abstnden geprft, ob die zentralen RemoteStores noch
+ * erreichbar sind. Die dezentralen RemoteStores zu einem nicht mehr
+ * erreichbaren zentralen RemoteStore werden beendet. Auerdem wird die
+ * Anzahl der bereitgehaltenen RemoteStores begrenzt.
+ */
+class RemoteStoreCache {
+
+    /**
+     * Logger fr diese Klasse
+     */
+    private static final Logger LOGGER
+        = Logger.getLogger(RemoteStoreCache.class.getName());
+
+    /**
+     * Die bereitgehaltenen RemoteStores als Instanzen von
+     * <CODE>CachedStore</CODE>, der zuletzt abgelegte am Ende.
+     */
+    private LinkedList cachedStores = new LinkedList();
+
+    /**
+     * Die maximale Anzahl der bereitgehaltenen RemoteStores.
+     */
+    private int capacity;
+
+    /**
+     * Die Anzahl der wiederverwendeten RemoteStores.
+     */
+    private long reuseNumber = 0;
+
+    /**
+     * Die Anzahl der Anfragen, zu denen kein RemoteStore bereitgehalten
+     * wurde.
+     */
+    private long missNumber = 0;
+
+    /**
+     * Speichert einen dezentralen RemoteStore zusammen mit dem zentralen
+     * RemoteStore, bei dem er angemeldet war.
+     */
+    private static class CachedStore {
+
+        /**
+         * Der zentrale RemoteStore.
+         */
+        private RemoteStore centralStore;
+
+        /**
+         * Der dezentrale RemoteStore.
+         */
+        private RemoteStore distStore;
+
+        /**
+         * Gibt an, ob gerade die Erreichbarkeit des zentralen RemoteStore
+         * geprft wird. Solange darf der Eintrag nicht verwendet werden.
+         */
+        private boolean probing = false;
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @param centralStore  Der zentrale RemoteStore.
+         * @param distStore     Der dezentrale RemoteStore.
+         */
+        CachedStore(RemoteStore centralStore, RemoteStore distStore) {
+            this.centralStore = centralStore;
+            this.distStore = distStore;
+        }
+    }
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param capacity  Die maximale Anzahl der bereitgehaltenen
+     *                  RemoteStores.
+     */
+    RemoteStoreCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Beendet den bergebenen dezentralen RemoteStore. Wenn dabei eine
+     * Ausnahme auftritt, wird dazu nur eine log-Meldung ausgegeben.
+     *
+     * @param distStore  Der zu beendende RemoteStore.
+     */
+    private static void terminateStore(RemoteStore distStore) {
+        try {
+            distStore.terminate();
+        } catch (RemoteException e) {
+            LOGGER.log(Level.WARNING,
+                       "Bereitgehaltener RemoteStore nicht beendet: " + e);
+        }
+    }
+
+    /**
+     * Beendet die dezentralen RemoteStores der bergebenen Eintrge.
+     *
+     * @param entries  Eine Liste von Instanzen von <CODE>CachedStore</CODE>.
+     */
+    private static void terminateStores(List entries) {
+        Iterator iter = entries.iterator();
+
+        while (iter.hasNext()) {
+            terminateStore(((CachedStore) iter.next()).distStore);
+        }
+    }
+
+    /**
+     * Liefert einen bereitgehaltenen dezentralen RemoteStore, der zuletzt
+     * beim bergebenen zentralen RemoteStore angemeldet war, und entfernt ihn
+     * aus dem Bestand. Ein RemoteStore, zu dem gerade die Erreichbarkeit des
+     * zentralen RemoteStore geprft wird, wird nicht geliefert.
+     *
+     * @param centralStore  Der zentrale RemoteStore.
+     *
+     * @return  Der dezentrale RemoteStore oder <CODE>null</CODE>, wenn keiner
+     *          bereitgehalten wird.
+     */
+    synchronized RemoteStore take(RemoteStore centralStore) {
+        CachedStore entry;
+        ListIterator iter = cachedStores.listIterator(cachedStores.size());
+        RemoteStore distStore = null;
+
+        // Den zuletzt abgelegten RemoteStore bevorzugen, da er die wenigsten
+        // nderungen bentigt.
+        while ((distStore == null) && iter.hasPrevious()) {
+            entry = (CachedStore) iter.previous();
+            if (!entry.probing && entry.centralStore.equals(centralStore)) {
+                iter.remove();
+                distStore = entry.distStore;
+            }
+        }
+
+        if (distStore != null) {
+            reuseNumber++;
+        } else {
+            missNumber++;
+        }
+        return distStore;
+    }
+
+    /**
+     * Nimmt einen dezentralen RemoteStore, der beim bergebenen zentralen
+     * RemoteStore abgemeldet wurde, in den Bestand auf. Ein RemoteStore wird
+     * nur aufgenommen, wenn er das Interface <CODE>VersionedStore</CODE>
+     * implementiert, da nur dann sichergestellt ist, da er bei der erneuten
+     * Anmeldung keinen veralteten Inhalt behlt. Gleiches gilt fr einen
+     * <CODE>ShardedStore</CODE>, dessen Teile einzeln angemeldet werden. Wird die maximale Anzahl
+     * berschritten, wird der am lngsten bereitgehaltene RemoteStore
+     * beendet.
+     *
+     * @param centralStore  Der zentrale RemoteStore.
+     * @param distStore     Der dezentrale RemoteStore.
+     *
+     * @return  <CODE>true</CODE>, wenn der RemoteStore aufgenommen wurde,
+     *          sonst <CODE>false</CODE>. In diesem Fall ist er vom Aufrufer
+     *          zu beenden.
+     */
+    boolean put(RemoteStore centralStore, RemoteStore distStore) {
+        List evicted = new ArrayList();
+
+        if (!((distStore instanceof VersionedStore)
+                || (distStore instanceof ShardedStore))
+                || (capacity <= 0)) {
+            return false;
+        }
+
+        synchronized (this) {
+            cachedStores.addLast(new CachedStore(centralStore, distStore));
+            while (cachedStores.size() > capacity) {
+                evicted.add(cachedStores.removeFirst());
+            }
+        }
+        terminateStores(evicted);
+        return true;
+    }
+
+    /**
+     * Prft fr alle bereitgehaltenen RemoteStores, ob der zugehrige
+     * zentrale RemoteStore noch erreichbar ist, und beendet die
+     * RemoteStores, bei denen das nicht der Fall ist. Zur Prfung wird der
+     * dezentrale RemoteStore beim zentralen abgemeldet, was ohne Wirkung
+     * ist, da er dort nicht angemeldet ist. Damit das auch whrend der
+     * Prfung gilt, wird der Eintrag solange von <CODE>take</CODE>
+     * bergangen.
+     */
+    void checkCentralStores() {
+        List entries;
+        List evicted = new ArrayList();
+        Iterator iter;
+        CachedStore entry;
+        boolean unreachable;
+
+        synchronized (this) {
+            entries = new ArrayList(cachedStores);
+        }
+
+        iter = entries.iterator();
+        while (iter.hasNext()) {
+            entry = (CachedStore) iter.next();
+            synchronized (this) {
+                // Der Eintrag kann inzwischen wieder verwendet werden.
+                if (!cachedStores.contains(entry)) {
+                    continue;
+                }
+                entry.probing = true;
+            }
+            unreachable = false;
+            try {
+                entry.centralStore.unregisterRemoteStore(entry.distStore);
+            } catch (RemoteException e) {
+                unreachable = true;
+            } finally {
+                synchronized (this) {
+                    entry.probing = false;
+                    if (unreachable && cachedStores.remove(entry)) {
+                        evicted.add(entry);
+                    }
+                }
+            }
+        }
+
+        if (!evicted.isEmpty()) {
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, evicted.size() + " bereitgehaltene"
+                                       + " RemoteStores werden beendet, da"
+                                       + " der zentrale RemoteStore nicht"
+                                       + " mehr erreichbar ist");
+            }
+            terminateStores(evicted);
+        }
+    }
+
+    /**
+     * Beendet alle bereitgehaltenen RemoteStores.
+     */
+    void clear() {
+        List entries;
+
+        synchronized (this) {
+            entries = new ArrayList(cachedStores);
+            cachedStores.clear();
+        }
+        terminateStores(entries);
+    }
+
+    /**
+     * Liefert eine Zusammenfassung der Wiederverwendung der RemoteStores.
+     *
+     * @return  Eine Beschreibung der Wiederverwendung.
+     */
+    synchronized String summary() {
+        return ("Dezentrale RemoteStores: " + reuseNumber
+                + " wiederverwendet, " + missNumber + " neu erzeugt");
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * filename:    RemoteStoreCacheBenchmark.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ *
+ * Realease 1.0 dieser Software wurde am Institut fr Intelligente Systeme der
+ * Universitt Stuttgart (http://www.informatik.uni-stuttgart.de/ifi/is/) unter
+ * Leitung von Dietmar Lippold (dietmar.lippold@informatik.uni-stuttgart.de)
+ * entwickelt.
+ */
+
+
+
+package de.unistuttgart.architeuthis.operative;
+
+import java.util.HashMap;
+import java.rmi.server.RemoteObject;
+
+import de.unistuttgart.architeuthis.remotestore.hashmap.RemoteHashMapGenerator;
+import de.unistuttgart.architeuthis.remotestore.hashmap.impl.RelayHashMapImpl;
+import de.unistuttgart.architeuthis.remotestore.hashmap.interf.RelayHashMap;
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStoreGenerator;
+
+/**
+ * Vergleicht den Aufwand fr die Bereitstellung eines dezentralen
+ * RemoteStore je Teilproblem, wenn dieser wie bei
+ * <CODE>HashStoreProblemImpl</CODE> fr jedes Teilproblem neu erzeugt,
+ * angemeldet, abgemeldet und beendet wird, mit dem Aufwand, wenn er von
+ * einem <CODE>RemoteStoreCache</CODE> bereitgehalten wird. Zwischen zwei
+ * Teilproblemen erhlt der zentrale RemoteStore jeweils einige nderungen,
+ * wie sie andere Operatives vornehmen wrden. Die Aufrufe erfolgen ber RMI
+ * innerhalb einer JVM. Ausgegeben wird die durchschnittliche Zeit je
+ * Teilproblem.<P>
+ *
+ * Aufruf: <code>java de.unistuttgart.architeuthis.operative.RemoteStoreCacheBenchmark
+ * [Teilprobleme] [Eintrge] [nderungen]</code>
+ */
+public class RemoteStoreCacheBenchmark {
+
+    /**
+     * Die voreingestellte Anzahl der Teilprobleme je Messung.
+     */
+    private static final int DEFAULT_TASKS = 200;
+
+    /**
+     * Die voreingestellte Anzahl der Eintrge des zentralen RemoteStore.
+     */
+    private static final int DEFAULT_ENTRIES = 10000;
+
+    /**
+     * Die voreingestellte Anzahl der nderungen zwischen zwei
+     * Teilproblemen.
+     */
+    private static final int DEFAULT_UPDATES = 10;
+
+    /**
+     * Fhrt eine Messung durch und liefert die bentigte Zeit.
+     *
+     * @param relayStore  Der zentrale RemoteStore.
+     * @param generator   Der Generator der dezentralen RemoteStores.
+     * @param cache       Der <CODE>RemoteStoreCache</CODE> oder
+     *                    <CODE>null</CODE>, wenn die dezentralen
+     *                    RemoteStores jeweils neu erzeugt werden sollen.
+     * @param tasks       Die Anzahl der Teilprobleme.
+     * @param updates     Die Anzahl der nderungen zwischen zwei
+     *                    Teilproblemen.
+     *
+     * @return  Die bentigte Zeit in Millisekunden.
+     *
+     * @throws Exception  Wenn die Messung nicht durchgefhrt werden kann.
+     */
+    private static long measure(RelayHashMapImpl relayStore,
+                                RemoteStoreGenerator generator,
+                                RemoteStoreCache cache,
+                                int tasks, int updates)
+        throws Exception {
+
+        RelayHashMap relayStub = (RelayHashMap) RemoteObject.toStub(relayStore);
+        RemoteStore distStore;
+        HashMap changes = new HashMap();
+        long startTime;
+        long time = 0;
+
+        for (int t = 0; t < tasks; t++) {
+            changes.clear();
+            for (int u = 0; u < updates; u++) {
+                changes.put(new Integer(t * updates + u), new Long(t));
+            }
+            relayStore.putAll(changes, null);
+
+            startTime = System.currentTimeMillis();
+            distStore = null;
+            if (cache != null) {
+                distStore = cache.take(relayStub);
+            }
+            if (distStore == null) {
+                distStore = generator.generateDistRemoteStore();
+            }
+            distStore.registerRemoteStore(relayStub);
+            relayStub.registerRemoteStore(distStore);
+
+            distStore.unregisterRemoteStore(relayStub);
+            relayStub.unregisterRemoteStore(distStore);
+            if ((cache == null) || !cache.put(relayStub, distStore)) {
+                distStore.terminate();
+            }
+            time += System.currentTimeMillis() - startTime;
+        }
+        if (cache != null) {
+            cache.clear();
+        }
+        return time;
+    }
+
+    /**
+     * Fhrt die Messungen durch und gibt die Ergebnisse aus.
+     *
+     * @param args  Optional die Anzahl der Teilprobleme, die Anzahl der
+     *              Eintrge des zentralen RemoteStore und die Anzahl der
+     *              nderungen zwischen zwei Teilproblemen.
+     *
+     * @throws Exception  Wenn die Messungen nicht durchgefhrt werden
+     *                    knnen.
+     */
+    public static void main(String[] args) throws Exception {
+        int tasks = DEFAULT_TASKS;
+        int entries = DEFAULT_ENTRIES;
+        int updates = DEFAULT_UPDATES;
+        RemoteStoreGenerator generator = new RemoteHashMapGenerator(false);
+        RelayHashMapImpl relayStore;
+        HashMap content = new HashMap();
+        long freshTime;
+        long cachedTime;
+
+        if (args.length > 0) {
+            tasks = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            entries = Integer.parseInt(args[1]);
+        }
+        if (args.length > 2) {
+            updates = Integer.parseInt(args[2]);
+        }
+
+        relayStore = (RelayHashMapImpl) generator.generateCentralRemoteStore();
+        for (int i = 0; i < entries; i++) {
+            content.put(new Integer(-1 - i), new Long(i));
+        }
+        relayStore.putAll(content, null);
+
+        // Aufwrmen.
+        measure(relayStore, generator, null, tasks / 10, updates);
+        measure(relayStore, generator, new RemoteStoreCache(1), tasks / 10,
+                updates);
+
+        System.out.println(tasks + " Teilprobleme, " + entries
+                           + " Eintrge, " + updates
+                           + " nderungen je Teilproblem:");
+        freshTime = measure(relayStore, generator, null, tasks, updates);
+        System.out.println("Neu erzeugt     : "
+                           + (freshTime / (double) tasks) + " ms je Teilproblem");
+        cachedTime = measure(relayStore, generator, new RemoteStoreCache(1),
+                             tasks, updates);
+        System.out.println("Bereitgehalten  : "
+                           + (cachedTime / (double) tasks) + " ms je Teilproblem");
+        System.out.println("Delta-Abgleiche : " + relayStore.getDeltaSyncs()
+                           + ", vollstndige Abgleiche : "
+                           + relayStore.getFullSyncs());
+
+        relayStore.terminate();
+    }
+}
@@ -31,9 +31,14 @@
 package de.unistuttgart.architeuthis.remotestore;
 
 import java.rmi.RemoteException;
+import java.rmi.server.UID;
 import java.rmi.server.UnicastRemoteObject;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -46,6 +51,28 @@ import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
  *
  * Beide Register- und Unregister-Methoden werden in einem Operative
  * verwendet, um dezentrale Speicher am zentralen Speicher an- und abzumelden.
+ * <P>
+ *
+ * nderungen werden an die registrierten RemoteStores nicht direkt
+ * weitergegeben, sondern ber je einen <CODE>Transmitter</CODE> pro
+ * RemoteStore asynchron und in Stapeln bertragen. Dadurch kehrt ein Aufruf
+ * zurck, sobald die nderung beim RelayStore gespeichert ist, und ein
+ * langsamer Operative verzgert nicht die anderen. Die Warteschlange jedes
+ * <CODE>Transmitter</CODE> hat eine begrenzte Kapazitt. Ist sie voll,
+ * wartet der Aufruf, bis wieder Platz ist. Dieses Warten erfolgt ebenso wie
+ * das Warten eines synchron kommunizierenden RemoteStore auf die
+ * bertragung erst nach Freigabe der Sperre auf den RelayStore, so da ein
+ * langsamer Operative weder andere nderungen noch An- und Abmeldungen
+ * blockiert.<P>
+ *
+ * Jede nderung erhht die Version des RelayStore und wird in einem
+ * Protokoll gespeichert, dessen Umfang durch die Gesamtzahl der Elemente
+ * der nderungen begrenzt ist. Bei der Abmeldung eines
+ * RemoteStore, der <CODE>VersionedStore</CODE> implementiert, wird ihm die
+ * Version mitgeteilt, deren Inhalt er enthlt. Wird er erneut angemeldet,
+ * erhlt er nur die seitdem erfolgten nderungen aus dem Protokoll. Nur
+ * wenn diese dort nicht mehr vollstndig enthalten sind, wird ihm der
+ * gesamte Inhalt bertragen.
  *
  * @author Michael Wohlfart
  */
@@ -58,20 +85,210 @@ public abstract class AbstractRelayStore extends UnicastRemoteObject
     private static final Logger LOGGER = Logger.getLogger(AbstractRelayStore.class.getName());
 
     /**
-     * Alle registrieren RemoteStores werden in einem <CODE>HashSet</CODE>
-     * gespeichert. Konkrete Implementierungen knnen ber
-     * <CODE>getRemoteStoreIterator</CODE> einen <CODE>Iterator</CODE> erhalten
-     * und auf die einzelnen Elemente diesen <CODE>HashSet</CODE> zugreifen.
+     * Die voreingestellte maximale Anzahl von nderungen, die fr einen
+     * registrierten RemoteStore auf die bertragung warten knnen.
      */
-    private HashSet registeredStores = new HashSet();
+    public static final int DEFAULT_QUEUE_CAPACITY = 10000;
 
     /**
-     * Konstruktor.
+     * Die maximale Anzahl der Elemente der nderungen, die im Protokoll fr
+     * die bertragung an erneut angemeldete RemoteStores gespeichert werden.
+     * Eine nderung mit einer <CODE>Map</CODE> oder einer
+     * <CODE>Collection</CODE> zhlt mit deren Gre.
+     */
+    public static final int DELTA_LOG_SIZE = 10000;
+
+    /**
+     * Die eindeutige Kennung dieses RelayStore, mit der ein RemoteStore
+     * feststellen kann, von welchem RelayStore sein Inhalt stammt.
+     */
+    private UID relayId = new UID();
+
+    /**
+     * Die aktuelle Version, d.h. die Anzahl der bisherigen nderungen.
+     */
+    private long version = 0;
+
+    /**
+     * Das Protokoll der letzten nderungen. Das letzte Element ist die
+     * nderung, die zur aktuellen Version gefhrt hat.
+     */
+    private LinkedList deltaLog = new LinkedList();
+
+    /**
+     * Die Summe der Elemente aller nderungen im Protokoll.
+     */
+    private long deltaLogElements = 0;
+
+    /**
+     * Die Anzahl der Anmeldungen, bei denen nur die nderungen bertragen
+     * wurden.
+     */
+    private long deltaSyncs = 0;
+
+    /**
+     * Die Anzahl der Anmeldungen, bei denen der gesamte Inhalt bertragen
+     * wurde.
+     */
+    private long fullSyncs = 0;
+
+    /**
+     * Alle registrieren RemoteStores werden als Schlssel einer
+     * <CODE>HashMap</CODE> gespeichert, deren Werte die zugehrigen
+     * <CODE>Transmitter</CODE> sind. Konkrete Implementierungen knnen ber
+     * <CODE>getRemoteStoreIterator</CODE> einen <CODE>Iterator</CODE> ber
+     * die RemoteStores erhalten.
+     */
+    private HashMap registeredStores = new HashMap();
+
+    /**
+     * Die maximale Anzahl von nderungen, die zusammen an einen
+     * RemoteStore bertragen werden.
+     */
+    private int maxBatchSize;
+
+    /**
+     * Die maximale Anzahl von nderungen, die fr einen RemoteStore auf die
+     * bertragung warten knnen.
+     */
+    private int queueCapacity;
+
+    /**
+     * Die grte Verzgerung einer bertragung an einen inzwischen
+     * abgemeldeten RemoteStore.
+     */
+    private long maxLagOfRemoved = 0;
+
+    /**
+     * Die bergabe einer nderung an die <CODE>Transmitter</CODE> der
+     * registrierten RemoteStores. Nach Freigabe der Sperre auf den
+     * RelayStore wird mit <CODE>awaitTransmission</CODE> auf freien Platz in
+     * den Warteschlangen bzw. auf die bertragung der nderung gewartet.
+     */
+    protected static final class Transmission {
+
+        /**
+         * Die <CODE>Transmitter</CODE>, denen die nderung bergeben wurde.
+         */
+        private Transmitter[] transmitters;
+
+        /**
+         * Zu jedem <CODE>Transmitter</CODE> die Anzahl der Objekte, die bis
+         * einschlielich der nderung bergeben wurden.
+         */
+        private long[] targets;
+
+        /**
+         * Gibt an, ob auf die bertragung der nderung gewartet wird.
+         */
+        private boolean synchronous;
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @param transmitters  Die <CODE>Transmitter</CODE>, denen die
+         *                      nderung bergeben wurde.
+         * @param targets       Die Anzahl der bergebenen Objekte je
+         *                      <CODE>Transmitter</CODE>.
+         * @param synchronous   Gibt an, ob auf die bertragung der nderung
+         *                      gewartet wird.
+         */
+        Transmission(Transmitter[] transmitters, long[] targets,
+                     boolean synchronous) {
+            this.transmitters = transmitters;
+            this.targets = targets;
+            this.synchronous = synchronous;
+        }
+    }
+
+    /**
+     * Konstruktor, der die voreingestellten Werte fr die Stapelgre und
+     * die Kapazitt der Warteschlangen verwendet.
      *
      * @throws RemoteException  Bei einem RMI-Problem.
      */
     protected AbstractRelayStore() throws RemoteException {
+        this(Transmitter.DEFAULT_MAX_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Konstruktor.
+     *
+     * @param maxBatchSize   Die maximale Anzahl von nderungen, die zusammen
+     *                       an einen RemoteStore bertragen werden.
+     * @param queueCapacity  Die maximale Anzahl von nderungen, die fr
+     *                       einen RemoteStore auf die bertragung warten
+     *                       knnen.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    protected AbstractRelayStore(int maxBatchSize, int queueCapacity)
+        throws RemoteException {
+
         super();
+        this.maxBatchSize = maxBatchSize;
+        this.queueCapacity = Math.max(queueCapacity, 1);
+    }
+
+    /**
+     * Liefert die Prozedur, mit der nderungen an den bergebenen
+     * RemoteStore bertragen werden.
+     *
+     * @param remoteStore  Ein registrierter RemoteStore.
+     *
+     * @return  Die Prozedur zur bertragung an den RemoteStore.
+     */
+    protected abstract TransmitProcedure peerProcedure(RemoteStore remoteStore);
+
+    /**
+     * bertrgt den gesamten Inhalt dieses RelayStore an den bergebenen
+     * RemoteStore.
+     *
+     * @param remoteStore  Ein neu angemeldeter RemoteStore.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    protected abstract void transmitSnapshot(RemoteStore remoteStore)
+        throws RemoteException;
+
+    /**
+     * Gleicht den Inhalt des bergebenen RemoteStore mit dem Inhalt dieses
+     * RelayStore ab. Enthlt der RemoteStore eine Version, deren
+     * nachfolgende nderungen alle im Protokoll enthalten sind, werden nur
+     * diese bertragen, sonst der gesamte Inhalt.
+     *
+     * @param remoteStore  Ein neu angemeldeter RemoteStore.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    private void synchronizeStore(RemoteStore remoteStore)
+        throws RemoteException {
+
+        long heldVersion = -1;
+        long oldestVersion = version - deltaLog.size();
+        List deltas;
+
+        if (remoteStore instanceof VersionedStore) {
+            heldVersion = ((VersionedStore) remoteStore).getSyncVersion(relayId);
+        }
+
+        if ((heldVersion >= oldestVersion) && (heldVersion <= version)) {
+            deltas = new ArrayList(deltaLog.subList((int) (heldVersion - oldestVersion),
+                                                    deltaLog.size()));
+            if (deltas.size() == 1) {
+                peerProcedure(remoteStore).transmit((TransmitObject) deltas.get(0));
+            } else if (deltas.size() > 1) {
+                peerProcedure(remoteStore).transmitBatch(deltas);
+            }
+            deltaSyncs++;
+        } else {
+            if (remoteStore instanceof VersionedStore) {
+                // Einen mglicherweise veralteten Inhalt entfernen.
+                ((VersionedStore) remoteStore).clearLocal();
+            }
+            transmitSnapshot(remoteStore);
+            fullSyncs++;
+        }
     }
 
     /**
@@ -91,7 +308,13 @@ public abstract class AbstractRelayStore extends UnicastRemoteObject
                         + this);
         }
 
-        registeredStores.add(remoteStore);
+        if (!registeredStores.containsKey(remoteStore)) {
+            synchronizeStore(remoteStore);
+            registeredStores.put(remoteStore,
+                                 new Transmitter(peerProcedure(remoteStore),
+                                                 maxBatchSize, 0,
+                                                 queueCapacity));
+        }
     }
 
     /**
@@ -101,7 +324,7 @@ public abstract class AbstractRelayStore extends UnicastRemoteObject
      *
      * @throws RemoteException  Bei einem Probleme mit einem RMI Zugriff.
      */
-    public synchronized void unregisterRemoteStore(RemoteStore remoteStore)
+    public void unregisterRemoteStore(RemoteStore remoteStore)
         throws RemoteException {
 
         if (LOGGER.isLoggable(Level.FINE)) {
@@ -111,7 +334,171 @@ public abstract class AbstractRelayStore extends UnicastRemoteObject
                         + this);
         }
 
-        registeredStores.remove(remoteStore);
+        Transmitter transmitter;
+        long removedVersion;
+
+        synchronized (this) {
+            transmitter = (Transmitter) registeredStores.remove(remoteStore);
+            removedVersion = version;
+        }
+
+        if (transmitter != null) {
+            // Die ausstehenden nderungen bertragen, damit der RemoteStore
+            // bei einer erneuten Anmeldung nur die folgenden nderungen
+            // bentigt. Das erfolgt ohne Sperre, damit ein langsamer
+            // RemoteStore nicht die anderen blockiert.
+            transmitter.flush();
+            if ((transmitter.getPendingCount() == 0)
+                    && (remoteStore instanceof VersionedStore)) {
+                ((VersionedStore) remoteStore).setSyncVersion(relayId,
+                                                              removedVersion);
+            }
+            transmitter.terminate();
+            synchronized (this) {
+                maxLagOfRemoved = Math.max(maxLagOfRemoved,
+                                           transmitter.getMaxLag());
+            }
+        }
+    }
+
+    /**
+     * Gibt die bergebene nderung an alle registrierten RemoteStores bis
+     * auf den bergebenen weiter, ohne dabei zu warten. Die aufrufende
+     * Methode mu auf <CODE>this</CODE> synchronisiert sein und nach
+     * Freigabe der Sperre <CODE>awaitTransmission</CODE> mit dem
+     * gelieferten Objekt aufrufen.
+     *
+     * @param object       Die weiterzugebende nderung.
+     * @param remoteStore  Der RemoteStore, von dem die nderung kommt und an
+     *                     den sie nicht weitergegeben werden soll, oder
+     *                     <CODE>null</CODE>, wenn die nderung von einem
+     *                     synchron kommunizierenden RemoteStore kommt.
+     *
+     * @return  Die bergabe der nderung an die <CODE>Transmitter</CODE>.
+     */
+    protected Transmission transmitToPeers(TransmitObject object,
+                                           RemoteStore remoteStore) {
+
+        ArrayList transmitters = new ArrayList(registeredStores.size());
+        long[] targets = new long[registeredStores.size()];
+
+        // Die nderung im Protokoll speichern. bersteigt sie allein die
+        // Gre des Protokolls, bleibt dieses leer und ein danach erneut
+        // angemeldeter RemoteStore erhlt den gesamten Inhalt.
+        version++;
+        deltaLog.addLast(object);
+        deltaLogElements += object.elementCount();
+        while ((deltaLogElements > DELTA_LOG_SIZE) && !deltaLog.isEmpty()) {
+            TransmitObject oldest = (TransmitObject) deltaLog.removeFirst();
+            deltaLogElements -= oldest.elementCount();
+        }
+        if (deltaLog.isEmpty()) {
+            deltaLogElements = 0;
+        }
+
+        Iterator iterator = registeredStores.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry entry = (Map.Entry) iterator.next();
+            if (!entry.getKey().equals(remoteStore)) {
+                Transmitter transmitter = (Transmitter) entry.getValue();
+                targets[transmitters.size()] = transmitter.append(object);
+                transmitters.add(transmitter);
+            }
+        }
+
+        Transmitter[] peers = new Transmitter[transmitters.size()];
+        transmitters.toArray(peers);
+        return new Transmission(peers, targets, (remoteStore == null));
+    }
+
+    /**
+     * Wartet, bis in den Warteschlangen der <CODE>Transmitter</CODE>, denen
+     * die nderung bergeben wurde, wieder Platz ist. Kam die nderung von
+     * einem synchron kommunizierenden RemoteStore, wird gewartet, bis sie
+     * an alle RemoteStores bertragen ist. Beim Aufruf darf keine Sperre auf
+     * <CODE>this</CODE> gehalten werden.
+     *
+     * @param transmission  Die von <CODE>transmitToPeers</CODE> gelieferte
+     *                      bergabe der nderung.
+     */
+    protected void awaitTransmission(Transmission transmission) {
+
+        for (int i = 0; i < transmission.transmitters.length; i++) {
+            if (transmission.synchronous) {
+                transmission.transmitters[i].flush(transmission.targets[i]);
+            } else {
+                transmission.transmitters[i].awaitCapacity();
+            }
+        }
+    }
+
+    /**
+     * Liefert die aktuelle Verzgerung der Weitergabe von nderungen, d.h.
+     * das grte Alter einer nderung, die gerade an einen registrierten
+     * RemoteStore bertragen wird.
+     *
+     * @return  Die aktuelle Verzgerung in Millisekunden.
+     */
+    public synchronized long getReplicationLag() {
+        long lag = 0;
+
+        Iterator iterator = registeredStores.values().iterator();
+        while (iterator.hasNext()) {
+            lag = Math.max(lag, ((Transmitter) iterator.next()).getCurrentLag());
+        }
+        return lag;
+    }
+
+    /**
+     * Liefert die grte bisherige Verzgerung der Weitergabe einer
+     * nderung an einen RemoteStore.
+     *
+     * @return  Die grte Verzgerung in Millisekunden.
+     */
+    public synchronized long getMaxReplicationLag() {
+        long lag = maxLagOfRemoved;
+
+        Iterator iterator = registeredStores.values().iterator();
+        while (iterator.hasNext()) {
+            lag = Math.max(lag, ((Transmitter) iterator.next()).getMaxLag());
+        }
+        return lag;
+    }
+
+    /**
+     * Liefert die Anzahl der Anmeldungen, bei denen nur die nderungen seit
+     * einer frheren Anmeldung bertragen wurden.
+     *
+     * @return  Die Anzahl der Anmeldungen mit bertragung der nderungen.
+     */
+    public synchronized long getDeltaSyncs() {
+        return deltaSyncs;
+    }
+
+    /**
+     * Liefert die Anzahl der Anmeldungen, bei denen der gesamte Inhalt
+     * bertragen wurde.
+     *
+     * @return  Die Anzahl der Anmeldungen mit bertragung des Inhalts.
+     */
+    public synchronized long getFullSyncs() {
+        return fullSyncs;
+    }
+
+    /**
+     * Liefert die Anzahl der nderungen, die noch an die registrierten
+     * RemoteStores zu bertragen sind, summiert ber alle RemoteStores.
+     *
+     * @return  Die Anzahl der ausstehenden nderungen.
+     */
+    public synchronized long getPendingReplications() {
+        long pending = 0;
+
+        Iterator iterator = registeredStores.values().iterator();
+        while (iterator.hasNext()) {
+            pending += ((Transmitter) iterator.next()).getPendingCount();
+        }
+        return pending;
     }
 
     /**
@@ -121,6 +508,31 @@ public abstract class AbstractRelayStore extends UnicastRemoteObject
      * @throws RemoteException  Bei einem RMI Problem.
      */
     public void terminate() throws RemoteException {
+        ArrayList transmitters;
+
+        synchronized (this) {
+            transmitters = new ArrayList(registeredStores.values());
+            registeredStores.clear();
+        }
+
+        // Die Transmitter ohne Sperre beenden, da dabei noch ein gerade
+        // bertragener Stapel abgewartet wird.
+        Iterator iterator = transmitters.iterator();
+        while (iterator.hasNext()) {
+            Transmitter transmitter = (Transmitter) iterator.next();
+            transmitter.discard();
+            synchronized (this) {
+                maxLagOfRemoved = Math.max(maxLagOfRemoved,
+                                           transmitter.getMaxLag());
+            }
+        }
+
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Grte Verzgerung der Weitergabe: "
+                        + getMaxReplicationLag() + " ms, Anmeldungen mit"
+                        + " nderungen / gesamtem Inhalt: "
+                        + getDeltaSyncs() + " / " + getFullSyncs());
+        }
 
         boolean success = unexportObject(this, true);
         if (LOGGER.isLoggable(Level.FINE)) {
@@ -142,7 +554,7 @@ public abstract class AbstractRelayStore extends UnicastRemoteObject
             LOGGER.finest("getRemoteStoreIterator size: "
                           + registeredStores.size());
         }
-        return registeredStores.iterator();
+        return registeredStores.keySet().iterator();
     }
 }
 
@@ -0,0 +1,316 @@
+/*
+ * file:        AbstractRelayStoreTest.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.remotestore;
+
+import java.io.Serializable;
+import java.rmi.RemoteException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
+
+/**
+ * Tests fr das Protokoll der nderungen des {@link AbstractRelayStore},
+ * dessen Gre durch die Anzahl der Elemente der nderungen begrenzt ist.
+ * Ein erneut angemeldeter RemoteStore erhlt nur die nderungen seit
+ * seiner Abmeldung, wenn diese noch im Protokoll enthalten sind, sonst den
+ * gesamten Inhalt.
+ */
+public class AbstractRelayStoreTest extends TestCase {
+
+    /**
+     * Ein RelayStore, der die bertragenen nderungen und die Anzahl der
+     * bertragungen des gesamten Inhalts vermerkt.
+     */
+    private static class RecordingRelayStore extends AbstractRelayStore {
+
+        /**
+         * Die an RemoteStores bertragenen nderungen.
+         */
+        private List transmitted = new ArrayList();
+
+        /**
+         * Die Anzahl der bertragungen des gesamten Inhalts.
+         */
+        private int snapshots = 0;
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @throws RemoteException  Bei einem RMI-Problem.
+         */
+        RecordingRelayStore() throws RemoteException {
+            super();
+        }
+
+        /**
+         * Liefert eine Prozedur, die die bertragenen nderungen vermerkt.
+         *
+         * @param remoteStore  Ein registrierter RemoteStore.
+         *
+         * @return  Die Prozedur zur bertragung an den RemoteStore.
+         */
+        protected TransmitProcedure peerProcedure(RemoteStore remoteStore) {
+            return new TransmitProcedure() {
+                public void transmit(TransmitObject object) {
+                    synchronized (transmitted) {
+                        transmitted.add(object);
+                    }
+                }
+
+                public void transmitBatch(List objects) {
+                    synchronized (transmitted) {
+                        transmitted.addAll(objects);
+                    }
+                }
+            };
+        }
+
+        /**
+         * Vermerkt die bertragung des gesamten Inhalts.
+         *
+         * @param remoteStore  Ein neu angemeldeter RemoteStore.
+         */
+        protected synchronized void transmitSnapshot(RemoteStore remoteStore) {
+            snapshots++;
+        }
+
+        /**
+         * Fhrt eine nderung mit der bergebenen Anzahl von Elementen
+         * durch.
+         *
+         * @param elements  Die Anzahl der Elemente der nderung.
+         *
+         * @return  Die durchgefhrte nderung.
+         */
+        TransmitObject change(int elements) {
+            ArrayList collection = new ArrayList(elements);
+            TransmitObject object;
+            Transmission transmission;
+
+            for (int i = 0; i < elements; i++) {
+                collection.add(new Integer(i));
+            }
+            object = new TransmitObject(collection);
+            synchronized (this) {
+                transmission = transmitToPeers(object, null);
+            }
+            awaitTransmission(transmission);
+            return object;
+        }
+
+        /**
+         * Liefert die bisher bertragenen nderungen und lscht sie.
+         *
+         * @return  Die bertragenen nderungen.
+         */
+        List takeTransmitted() {
+            List result;
+
+            synchronized (transmitted) {
+                result = new ArrayList(transmitted);
+                transmitted.clear();
+            }
+            return result;
+        }
+
+        /**
+         * Liefert die Anzahl der bertragungen des gesamten Inhalts.
+         *
+         * @return  Die Anzahl der bertragungen des gesamten Inhalts.
+         */
+        synchronized int getSnapshots() {
+            return snapshots;
+        }
+    }
+
+    /**
+     * Ein lokaler RemoteStore, der die Version seines Inhalts vermerkt.
+     */
+    private static class Peer implements VersionedStore {
+
+        /**
+         * Ordnet den Kennungen der RelayStores die Version zu.
+         */
+        private HashMap versions = new HashMap();
+
+        /**
+         * Gibt an, ob der Inhalt gelscht wurde.
+         */
+        private boolean cleared = false;
+
+        public long getSyncVersion(Serializable relayId) {
+            Long version = (Long) versions.get(relayId);
+
+            return (version == null ? -1 : version.longValue());
+        }
+
+        public void setSyncVersion(Serializable relayId, long version) {
+            versions.put(relayId, new Long(version));
+        }
+
+        public void clearLocal() {
+            cleared = true;
+        }
+
+        public void registerRemoteStore(RemoteStore remoteStore) {
+        }
+
+        public void unregisterRemoteStore(RemoteStore remoteStore) {
+        }
+
+        public void terminate() {
+        }
+    }
+
+    /**
+     * Der zu testende RelayStore.
+     */
+    private RecordingRelayStore relayStore;
+
+    /**
+     * Erzeugt den RelayStore.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    protected void setUp() throws RemoteException {
+        relayStore = new RecordingRelayStore();
+    }
+
+    /**
+     * Beendet den RelayStore.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    protected void tearDown() throws RemoteException {
+        relayStore.terminate();
+    }
+
+    /**
+     * Meldet den bergebenen RemoteStore beim RelayStore an und wieder ab.
+     * Danach gibt <code>cleared</code> an, ob bei dieser Anmeldung der
+     * Inhalt des RemoteStore gelscht wurde.
+     *
+     * @param peer  Der an- und abzumeldende RemoteStore.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    private void reconnect(Peer peer) throws RemoteException {
+        peer.cleared = false;
+        relayStore.registerRemoteStore(peer);
+        relayStore.unregisterRemoteStore(peer);
+    }
+
+    /**
+     * Testet, da ein erneut angemeldeter RemoteStore nur die nderungen
+     * seit seiner Abmeldung in ihrer Reihenfolge erhlt.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    public void testDeltaSync() throws RemoteException {
+        Peer peer = new Peer();
+        List changes = new ArrayList();
+
+        reconnect(peer);
+        assertEquals(1, relayStore.getFullSyncs());
+        assertEquals(1, relayStore.getSnapshots());
+        assertTrue(peer.cleared);
+
+        for (int i = 0; i < 3; i++) {
+            changes.add(relayStore.change(1));
+        }
+        reconnect(peer);
+        assertEquals(changes, relayStore.takeTransmitted());
+        assertEquals(1, relayStore.getDeltaSyncs());
+
+        // ohne weitere nderungen wird nichts bertragen
+        reconnect(peer);
+        assertTrue(relayStore.takeTransmitted().isEmpty());
+        assertEquals(2, relayStore.getDeltaSyncs());
+        assertEquals(1, relayStore.getFullSyncs());
+        assertFalse(peer.cleared);
+    }
+
+    /**
+     * Testet, da das Protokoll nach der Anzahl der Elemente der nderungen
+     * und nicht nach der Anzahl der nderungen begrenzt ist.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    public void testLogBoundedByElements() throws RemoteException {
+        Peer oldPeer = new Peer();
+        Peer recentPeer = new Peer();
+        TransmitObject secondChange;
+        int half = AbstractRelayStore.DELTA_LOG_SIZE / 2;
+
+        reconnect(oldPeer);
+        relayStore.change(half);
+        reconnect(recentPeer);
+        secondChange = relayStore.change(half + 1);
+        relayStore.takeTransmitted();
+
+        // die erste nderung ist aus dem Protokoll entfernt
+        reconnect(oldPeer);
+        assertTrue(relayStore.takeTransmitted().isEmpty());
+        assertTrue(oldPeer.cleared);
+        assertEquals(3, relayStore.getFullSyncs());
+
+        // die zweite nderung ist noch im Protokoll
+        reconnect(recentPeer);
+        assertEquals(Collections.singletonList(secondChange),
+                     relayStore.takeTransmitted());
+        assertEquals(1, relayStore.getDeltaSyncs());
+        assertFalse(recentPeer.cleared);
+    }
+
+    /**
+     * Testet, da eine nderung, die allein die Gre des Protokolls
+     * bersteigt, nicht gespeichert wird.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    public void testOversizedChange() throws RemoteException {
+        Peer oldPeer = new Peer();
+        Peer currentPeer = new Peer();
+
+        reconnect(oldPeer);
+        relayStore.change(AbstractRelayStore.DELTA_LOG_SIZE + 1);
+        reconnect(currentPeer);
+
+        reconnect(oldPeer);
+        assertTrue(relayStore.takeTransmitted().isEmpty());
+        assertTrue(oldPeer.cleared);
+
+        // ein RemoteStore mit der aktuellen Version bentigt nichts
+        reconnect(currentPeer);
+        assertTrue(relayStore.takeTransmitted().isEmpty());
+        assertFalse(currentPeer.cleared);
+        assertEquals(1, relayStore.getDeltaSyncs());
+        assertEquals(3, relayStore.getFullSyncs());
+    }
+}
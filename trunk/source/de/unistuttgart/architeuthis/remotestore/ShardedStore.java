@@ -0,0 +1,47 @@
+/*
+ * file:        ShardedStore.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.remotestore;
+
+import java.rmi.RemoteException;
+
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
+
+/**
+ * Dieses Interface gibt die Methode vor, mit der ein in mehrere Teile
+ * aufgeteilter RemoteStore seine Teile liefert. Bei der Anmeldung eines
+ * solchen RemoteStore bei einem anderen werden die Teile mit gleichem Index
+ * jeweils paarweise angemeldet, so da die nderungen der einzelnen Teile
+ * unabhngig voneinander bertragen werden.
+ */
+public interface ShardedStore extends RemoteStore {
+
+    /**
+     * Liefert die Teile dieses RemoteStore.
+     *
+     * @return  Die Teile in der Reihenfolge ihres Index.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public RemoteStore[] getShards() throws RemoteException;
+}
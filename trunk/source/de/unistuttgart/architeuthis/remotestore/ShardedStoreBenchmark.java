@@ -0,0 +1,257 @@
+/*
+ * file:        ShardedStoreBenchmark.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.remotestore;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.Random;
+import java.util.StringTokenizer;
+import java.rmi.registry.LocateRegistry;
+import java.rmi.registry.Registry;
+
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStoreGenerator;
+import de.unistuttgart.architeuthis.remotestore.hashmap.RemoteHashMapGenerator;
+import de.unistuttgart.architeuthis.remotestore.hashmap.ShardedHashMapGenerator;
+import de.unistuttgart.architeuthis.remotestore.hashmap.UserRemoteHashMap;
+
+/**
+ * Vergleicht den Durchsatz der Schreibzugriffe beim zentralen RemoteStore
+ * einer <CODE>RemoteHashMap</CODE> ohne Aufteilung und bei Aufteilung in
+ * verschiedene Anzahlen von Teilen. Fr jede Messung wird der zentrale
+ * RemoteStore in einer RMI-Registry eingetragen und es werden mehrere JVMs
+ * auf dem gleichen Rechner gestartet, die jeweils wie ein Operative einen
+ * verteilten RemoteStore erzeugen, gegenseitig mit dem zentralen anmelden
+ * und gleichzeitig Objekt-Paare speichern. Ausgegeben wird jeweils die Zeit
+ * vom ersten Schreibzugriff bis alle Objekt-Paare beim zentralen
+ * RemoteStore angekommen sind.<P>
+ *
+ * Aufruf: <code>java de.unistuttgart.architeuthis.remotestore.ShardedStoreBenchmark
+ * [JVMs] [Anzahl] [Schlssel]</code>
+ */
+public class ShardedStoreBenchmark {
+
+    /**
+     * Die voreingestellte Anzahl der JVMs, die gleichzeitig schreiben.
+     */
+    private static final int DEFAULT_JVMS = 8;
+
+    /**
+     * Die voreingestellte Anzahl der Aufrufe von <CODE>put</CODE> je JVM.
+     */
+    private static final int DEFAULT_PUTS = 20000;
+
+    /**
+     * Die voreingestellte Anzahl verschiedener key-Objekte.
+     */
+    private static final int DEFAULT_KEYS = 100000;
+
+    /**
+     * Die verglichenen Anzahlen von Teilen. Der Wert Null steht fr einen
+     * nicht aufgeteilten RemoteStore.
+     */
+    private static final int[] SHARD_NUMBERS = {0, 1, 2, 4, 8};
+
+    /**
+     * Der Name, unter dem der zentrale RemoteStore in der RMI-Registry
+     * eingetragen wird.
+     */
+    private static final String STORE_NAME = "ShardedStoreBenchmark";
+
+    /**
+     * Die Zeit in Millisekunden je JVM, nach der die JVMs gemeinsam mit den
+     * Schreibzugriffen beginnen.
+     */
+    private static final long START_DELAY = 500;
+
+    /**
+     * Liefert den Generator fr die angegebene Anzahl von Teilen.
+     *
+     * @param shardNumber  Die Anzahl der Teile oder Null.
+     *
+     * @return  Der Generator.
+     */
+    private static RemoteStoreGenerator generator(int shardNumber) {
+        if (shardNumber == 0) {
+            return new RemoteHashMapGenerator(false);
+        } else {
+            return new ShardedHashMapGenerator(shardNumber);
+        }
+    }
+
+    /**
+     * Fhrt die Schreibzugriffe einer JVM durch und gibt den Zeitpunkt des
+     * Beginns und des Endes aus.
+     *
+     * @param args  Die Anzahl der Teile, die Anzahl der Aufrufe von
+     *              <CODE>put</CODE>, die Anzahl verschiedener key-Objekte
+     *              und der Zeitpunkt des Beginns.
+     *
+     * @throws Exception  Wenn die Schreibzugriffe nicht durchgefhrt werden
+     *                    knnen.
+     */
+    private static void client(String[] args) throws Exception {
+        int shardNumber = Integer.parseInt(args[1]);
+        int puts = Integer.parseInt(args[2]);
+        int keys = Integer.parseInt(args[3]);
+        long startTime = Long.parseLong(args[4]);
+        Registry registry = LocateRegistry.getRegistry(Registry.REGISTRY_PORT);
+        RemoteStore centralStore = (RemoteStore) registry.lookup(STORE_NAME);
+        UserRemoteHashMap distStore;
+        Random random = new Random();
+        long endTime;
+
+        distStore = (UserRemoteHashMap) generator(shardNumber).generateDistRemoteStore();
+        distStore.registerRemoteStore(centralStore);
+        centralStore.registerRemoteStore(distStore);
+
+        while (System.currentTimeMillis() < startTime) {
+            Thread.sleep(10);
+        }
+        startTime = System.currentTimeMillis();
+        for (int i = 0; i < puts; i++) {
+            distStore.put(new Integer(random.nextInt(keys)), new Long(i));
+        }
+        // Das Abmelden wartet, bis alle Objekte bertragen sind.
+        distStore.unregisterRemoteStore(centralStore);
+        endTime = System.currentTimeMillis();
+
+        centralStore.unregisterRemoteStore(distStore);
+        distStore.terminate();
+        System.out.println(startTime + " " + endTime);
+    }
+
+    /**
+     * Fhrt eine Messung durch und liefert die bentigte Zeit.
+     *
+     * @param registry     Die RMI-Registry.
+     * @param shardNumber  Die Anzahl der Teile oder Null.
+     * @param jvms         Die Anzahl der JVMs.
+     * @param puts         Die Anzahl der Aufrufe von <CODE>put</CODE> je JVM.
+     * @param keys         Die Anzahl verschiedener key-Objekte.
+     *
+     * @return  Die bentigte Zeit in Millisekunden.
+     *
+     * @throws Exception  Wenn die Messung nicht durchgefhrt werden kann.
+     */
+    private static long measure(Registry registry, int shardNumber, int jvms,
+                                int puts, int keys)
+        throws Exception {
+
+        RemoteStore centralStore = generator(shardNumber).generateCentralRemoteStore();
+        long startTime = System.currentTimeMillis() + START_DELAY * jvms;
+        Process[] processes = new Process[jvms];
+        String[] command;
+        BufferedReader reader;
+        StringTokenizer tokenizer;
+        String line;
+        long firstStart = Long.MAX_VALUE;
+        long lastEnd = 0;
+
+        registry.rebind(STORE_NAME, centralStore);
+
+        command = new String[] {
+            System.getProperty("java.home") + "/bin/java",
+            "-cp", System.getProperty("java.class.path"),
+            ShardedStoreBenchmark.class.getName(), "client",
+            String.valueOf(shardNumber), String.valueOf(puts),
+            String.valueOf(keys), String.valueOf(startTime)};
+        for (int i = 0; i < jvms; i++) {
+            processes[i] = Runtime.getRuntime().exec(command);
+        }
+
+        for (int i = 0; i < jvms; i++) {
+            reader = new BufferedReader(new InputStreamReader(processes[i].getInputStream()));
+            line = reader.readLine();
+            processes[i].waitFor();
+            if (line == null) {
+                throw new IllegalStateException("JVM " + i + " lieferte kein"
+                                                + " Ergebnis, Exit-Code "
+                                                + processes[i].exitValue());
+            }
+            tokenizer = new StringTokenizer(line);
+            firstStart = Math.min(firstStart, Long.parseLong(tokenizer.nextToken()));
+            lastEnd = Math.max(lastEnd, Long.parseLong(tokenizer.nextToken()));
+        }
+
+        registry.unbind(STORE_NAME);
+        centralStore.terminate();
+        return (lastEnd - firstStart);
+    }
+
+    /**
+     * Fhrt die Messungen durch und gibt die Ergebnisse aus. Wird als erstes
+     * Argument <CODE>client</CODE> bergeben, werden stattdessen die
+     * Schreibzugriffe einer JVM durchgefhrt.
+     *
+     * @param args  Optional die Anzahl der JVMs, die Anzahl der Aufrufe von
+     *              <CODE>put</CODE> je JVM und die Anzahl verschiedener
+     *              key-Objekte.
+     *
+     * @throws Exception  Wenn die Messungen nicht durchgefhrt werden
+     *                    knnen.
+     */
+    public static void main(String[] args) throws Exception {
+        int jvms = DEFAULT_JVMS;
+        int puts = DEFAULT_PUTS;
+        int keys = DEFAULT_KEYS;
+        Registry registry;
+        long time;
+
+        if ((args.length > 0) && args[0].equals("client")) {
+            client(args);
+            System.exit(0);
+        }
+
+        if (args.length > 0) {
+            jvms = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            puts = Integer.parseInt(args[1]);
+        }
+        if (args.length > 2) {
+            keys = Integer.parseInt(args[2]);
+        }
+
+        registry = LocateRegistry.createRegistry(Registry.REGISTRY_PORT);
+
+        System.out.println(jvms + " JVMs mit je " + puts
+                           + " Aufrufen von put, " + keys
+                           + " verschiedene Schlssel, "
+                           + Runtime.getRuntime().availableProcessors()
+                           + " Prozessoren:");
+        for (int i = 0; i < SHARD_NUMBERS.length; i++) {
+            time = measure(registry, SHARD_NUMBERS[i], jvms, puts, keys);
+            if (SHARD_NUMBERS[i] == 0) {
+                System.out.print("Ohne Aufteilung\t: ");
+            } else {
+                System.out.print(SHARD_NUMBERS[i] + " Teile\t\t: ");
+            }
+            System.out.println(time + " ms, "
+                               + (jvms * (long) puts * 1000L / Math.max(time, 1))
+                               + " Aufrufe/s");
+        }
+        System.exit(0);
+    }
+}
@@ -30,6 +30,9 @@
 
 package de.unistuttgart.architeuthis.remotestore;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Verwaltet ein Objekt, das zu einem RemoteStore bertragen werden soll.
  *
@@ -59,5 +62,22 @@ public class TransmitObject {
     public Object storedObject() {
         return storedObject;
     }
+
+    /**
+     * Liefert die Anzahl der Elemente des verwalteten Objekts. Fr eine
+     * <CODE>Map</CODE> oder eine <CODE>Collection</CODE> ist das deren
+     * Gre, mindestens aber Eins, fr alle anderen Objekte Eins.
+     *
+     * @return  Die Anzahl der Elemente des verwalteten Objekts.
+     */
+    public int elementCount() {
+        if (storedObject instanceof Map) {
+            return Math.max(((Map) storedObject).size(), 1);
+        } else if (storedObject instanceof Collection) {
+            return Math.max(((Collection) storedObject).size(), 1);
+        } else {
+            return 1;
+        }
+    }
 }
 
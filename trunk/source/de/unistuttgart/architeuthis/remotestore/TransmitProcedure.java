@@ -30,11 +30,12 @@
 
 package de.unistuttgart.architeuthis.remotestore;
 
+import java.util.List;
 import java.rmi.RemoteException;
 
 /**
- * Definiert eine Methode zur bertragung eines Objekt zu einem zentralen
- * RelayStore.
+ * Definiert Methoden zur bertragung eines Objekts oder eines Stapels von
+ * Objekten zu einem zentralen RelayStore.
  *
  * @author Dietmar Lippold
  */
@@ -51,5 +52,18 @@ public interface TransmitProcedure {
      * @see de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore
      */
     public void transmit(TransmitObject object) throws RemoteException;
+
+    /**
+     * bertragt die in den bergebenen Objekten enthaltenen Objekte mit
+     * mglichst wenigen Aufrufen an einen RemoteStore, der im Konstruktor
+     * angegeben wurde. Die Wirkung mu dieselbe sein wie bei einer
+     * bertragung der Objekte einzeln in der Reihenfolge der Liste.
+     *
+     * @param objects  Die Liste der Objekte, die die zu bertragenden
+     *                 Objekte enthalten.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public void transmitBatch(List objects) throws RemoteException;
 }
 
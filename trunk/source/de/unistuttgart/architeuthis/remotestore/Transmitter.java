@@ -30,6 +30,7 @@
 
 package de.unistuttgart.architeuthis.remotestore;
 
+import java.util.ArrayList;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.rmi.RemoteException;
@@ -38,7 +39,16 @@ import de.unistuttgart.architeuthis.misc.util.BlockingBuffer;
 
 /**
  * Realisiert einen <CODE>Thread</CODE>, der bergebene Objekte mittels einer
- * vorher bergebenen Prozedur bertrgt.
+ * vorher bergebenen Prozedur bertrgt. Sind beim bertragen eines Objekts
+ * bereits weitere Objekte in der Warteschlange, werden diese zusammen mit
+ * ihm als ein Stapel bertragen, so da fr mehrere Objekte nur ein Aufruf
+ * beim Empfnger ntig ist. Die maximale Anzahl der Objekte eines Stapels,
+ * die Zeit, die nach dem Eintreffen des ersten Objekts auf weitere Objekte
+ * gewartet wird, und die Kapazitt der Warteschlange knnen im Konstruktor
+ * angegeben werden.<P>
+ *
+ * Nach einem Fehler bei der bertragung beendet sich der Thread und
+ * weitere bergebene Objekte werden verworfen.
  *
  * @author Dietmar Lippold
  */
@@ -49,6 +59,47 @@ public class Transmitter extends Thread {
      */
     private static final Logger LOGGER = Logger.getLogger(Transmitter.class.getName());
 
+    /**
+     * Die voreingestellte maximale Anzahl von Objekten, die zusammen in
+     * einem Stapel bertragen werden.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Die voreingestellte Zeit in Millisekunden, die nach dem Eintreffen
+     * eines Objekts auf weitere Objekte fr denselben Stapel gewartet wird.
+     */
+    public static final long DEFAULT_LINGER_TIME = 0;
+
+    /**
+     * Ein zu bertragendes Objekt zusammen mit dem Zeitpunkt, zu dem es in
+     * die Warteschlange aufgenommen wurde.
+     */
+    private static class QueuedObject {
+
+        /**
+         * Das zu bertragende Objekt.
+         */
+        private TransmitObject object;
+
+        /**
+         * Der Zeitpunkt der Aufnahme in die Warteschlange.
+         */
+        private long enqueueTime;
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @param object       Das zu bertragende Objekt.
+         * @param enqueueTime  Der Zeitpunkt der Aufnahme in die
+         *                     Warteschlange.
+         */
+        QueuedObject(TransmitObject object, long enqueueTime) {
+            this.object = object;
+            this.enqueueTime = enqueueTime;
+        }
+    }
+
     /**
      * Gibt an, ob der Thread dabei ist, sich zu beenden.
      */
@@ -60,9 +111,18 @@ public class Transmitter extends Thread {
     private volatile boolean terminated = false;
 
     /**
-     * Puffer mit unbegrenzter Kapazitt fr die zu bertragenden Daten.
+     * Puffer fr die zu bertragenden Daten. Seine Kapazitt ist
+     * unbegrenzt, die Kapazitt der Warteschlange wird ber die Anzahl der
+     * ausstehenden Objekte eingehalten.
+     */
+    private BlockingBuffer objectBuffer;
+
+    /**
+     * Die maximale Anzahl der ausstehenden Objekte, bei deren berschreitung
+     * <CODE>enqueue</CODE> und <CODE>awaitCapacity</CODE> warten, oder Null
+     * fr eine unbegrenzte Kapazitt.
      */
-    private BlockingBuffer objectBuffer = new BlockingBuffer(0);
+    private int capacity;
 
     /**
      * Eine Instanz mit der Prozedur zur bertragung eines Objekts an den
@@ -71,25 +131,201 @@ public class Transmitter extends Thread {
     private TransmitProcedure transmitProc;
 
     /**
-     * Erzeugt eine Instanz und startet den Thread.
+     * Die maximale Anzahl von Objekten, die zusammen bertragen werden.
+     */
+    private int maxBatchSize;
+
+    /**
+     * Die Zeit in Millisekunden, die nach dem Eintreffen eines Objekts auf
+     * weitere Objekte gewartet wird.
+     */
+    private long lingerTime;
+
+    /**
+     * Die Anzahl der bisher zur bertragung bergebenen Objekte.
+     */
+    private long enqueuedCount = 0;
+
+    /**
+     * Die Anzahl der bisher bertragenen Objekte.
+     */
+    private long transmittedCount = 0;
+
+    /**
+     * Der Zeitpunkt, zu dem das lteste Objekt des gerade bertragenen
+     * Stapels in die Warteschlange aufgenommen wurde, oder Null, wenn gerade
+     * kein Stapel bertragen wird.
+     */
+    private volatile long inTransmissionSince = 0;
+
+    /**
+     * Die grte bisher aufgetretene Verzgerung eines Objekts zwischen der
+     * Aufnahme in die Warteschlange und dem Ende seiner bertragung.
+     */
+    private volatile long maxLag = 0;
+
+    /**
+     * Erzeugt eine Instanz mit den voreingestellten Werten fr die Gre
+     * der Stapel und die Wartezeit und startet den Thread.
      *
      * @param transmitProc  Die Prozedur, der die Objekte zum RelayStore
      *                      bertrgt.
      */
     public Transmitter(TransmitProcedure transmitProc) {
+        this(transmitProc, DEFAULT_MAX_BATCH_SIZE, DEFAULT_LINGER_TIME);
+    }
+
+    /**
+     * Erzeugt eine Instanz mit einer Warteschlange unbegrenzter Kapazitt
+     * und startet den Thread.
+     *
+     * @param transmitProc  Die Prozedur, der die Objekte zum RelayStore
+     *                      bertrgt.
+     * @param maxBatchSize  Die maximale Anzahl von Objekten, die zusammen
+     *                      bertragen werden. Bei einem Wert kleiner als
+     *                      zwei wird jedes Objekt einzeln bertragen.
+     * @param lingerTime    Die Zeit in Millisekunden, die nach dem
+     *                      Eintreffen eines Objekts auf weitere Objekte
+     *                      gewartet wird. Bei einem Wert von Null werden nur
+     *                      die bereits vorhandenen Objekte zusammengefat.
+     */
+    public Transmitter(TransmitProcedure transmitProc, int maxBatchSize,
+                       long lingerTime) {
+        this(transmitProc, maxBatchSize, lingerTime, 0);
+    }
+
+    /**
+     * Erzeugt eine Instanz und startet den Thread.
+     *
+     * @param transmitProc  Die Prozedur, der die Objekte zum Empfnger
+     *                      bertrgt.
+     * @param maxBatchSize  Die maximale Anzahl von Objekten, die zusammen
+     *                      bertragen werden. Bei einem Wert kleiner als
+     *                      zwei wird jedes Objekt einzeln bertragen.
+     * @param lingerTime    Die Zeit in Millisekunden, die nach dem
+     *                      Eintreffen eines Objekts auf weitere Objekte
+     *                      gewartet wird. Bei einem Wert von Null werden nur
+     *                      die bereits vorhandenen Objekte zusammengefat.
+     * @param capacity      Die maximale Anzahl der Objekte in der
+     *                      Warteschlange. Bei einem Wert von Null ist die
+     *                      Kapazitt unbegrenzt.
+     */
+    public Transmitter(TransmitProcedure transmitProc, int maxBatchSize,
+                       long lingerTime, int capacity) {
+
         this.transmitProc = transmitProc;
+        this.maxBatchSize = Math.max(maxBatchSize, 1);
+        this.lingerTime = Math.max(lingerTime, 0);
+        this.capacity = Math.max(capacity, 0);
+        this.objectBuffer = new BlockingBuffer();
+        setDaemon(true);
         start();
     }
 
     /**
      * Speichert das bergebene Objekt in der Warteschlange zur bertragung
-     * durch die TransmitProcedure.
+     * durch die TransmitProcedure. Ist die Warteschlange voll, wird
+     * gewartet, bis wieder Platz vorhanden ist. Hat sich der Thread bereits
+     * beendet, wird das Objekt verworfen.
      *
      * @param object  Das zu speichernde und anschlieend zu bertragende
      *                Objekt.
      */
     public void enqueue(TransmitObject object) {
-        objectBuffer.enqueue(object);
+
+        synchronized (this) {
+            awaitCapacity(capacity - 1);
+            if (terminated) {
+                return;
+            }
+            enqueuedCount++;
+        }
+        objectBuffer.enqueue(new QueuedObject(object,
+                                              System.currentTimeMillis()));
+    }
+
+    /**
+     * Speichert das bergebene Objekt in der Warteschlange zur bertragung
+     * durch die TransmitProcedure, ohne auf freien Platz zu warten. Hat sich
+     * der Thread bereits beendet, wird das Objekt verworfen. Der Aufrufer
+     * sollte anschlieend <CODE>awaitCapacity</CODE> aufrufen, damit die
+     * Kapazitt der Warteschlange nur vorbergehend berschritten wird.
+     *
+     * @param object  Das zu speichernde und anschlieend zu bertragende
+     *                Objekt.
+     *
+     * @return  Die Anzahl der bisher bergebenen Objekte einschlielich des
+     *          bergebenen, die an <CODE>flush</CODE> bergeben werden kann.
+     */
+    public long append(TransmitObject object) {
+        long count;
+
+        synchronized (this) {
+            if (terminated) {
+                return enqueuedCount;
+            }
+            enqueuedCount++;
+            count = enqueuedCount;
+        }
+        objectBuffer.enqueue(new QueuedObject(object,
+                                              System.currentTimeMillis()));
+        return count;
+    }
+
+    /**
+     * Wartet, bis die Anzahl der ausstehenden Objekte die Kapazitt der
+     * Warteschlange nicht mehr bersteigt oder der Thread sich beendet hat.
+     */
+    public synchronized void awaitCapacity() {
+        awaitCapacity(capacity);
+    }
+
+    /**
+     * Wartet, bis hchstens die bergebene Anzahl von Objekten aussteht oder
+     * der Thread sich beendet hat. Bei einer unbegrenzten Kapazitt wird
+     * nicht gewartet. Die aufrufende Methode mu auf <CODE>this</CODE>
+     * synchronisiert sein.
+     *
+     * @param maxPending  Die hchste Anzahl ausstehender Objekte.
+     */
+    private void awaitCapacity(int maxPending) {
+
+        while ((capacity > 0) && !terminated
+               && (enqueuedCount - transmittedCount > maxPending)) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                LOGGER.info("Warten auf freien Platz abgebrochen");
+                return;
+            }
+        }
+    }
+
+    /**
+     * Wartet, bis alle bisher bergebenen Objekte bertragen sind oder der
+     * Thread sich beendet hat.
+     */
+    public synchronized void flush() {
+        flush(enqueuedCount);
+    }
+
+    /**
+     * Wartet, bis die bergebene Anzahl von Objekten bertragen ist oder der
+     * Thread sich beendet hat.
+     *
+     * @param target  Die Anzahl der Objekte, deren bertragung abgewartet
+     *                wird, z.B. der Rckgabewert von <CODE>append</CODE>.
+     */
+    public synchronized void flush(long target) {
+
+        while (!terminated && (transmittedCount < target)) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                LOGGER.info("Warten auf Ende der bertragung abgebrochen");
+                return;
+            }
+        }
     }
 
     /**
@@ -104,29 +340,141 @@ public class Transmitter extends Thread {
 
         // Prfen, ob noch zu bertragende Objekte vorhanden sind.
         synchronized (this) {
-            if (!terminated) {
-                // Warten, bis alle Objekte aus objectBuffer bertragen sind.
+            // Warten, bis alle Objekte aus objectBuffer bertragen sind.
+            while (!terminated) {
                 try {
                     wait();
                 } catch (InterruptedException e) {
                     LOGGER.info("Warten auf Ende der bertragung abgebrochen");
+                    return;
                 }
             }
         }
     }
 
+    /**
+     * Verwirft alle noch nicht bertragenen Objekte und beendet den Thread.
+     * Ein gerade bertragener Stapel wird noch vollstndig bertragen.
+     */
+    public void discard() {
+        objectBuffer.clear();
+        terminate();
+    }
+
+    /**
+     * Liefert die Anzahl der Objekte, die zur bertragung bergeben, aber
+     * noch nicht bertragen wurden.
+     *
+     * @return  Die Anzahl der ausstehenden Objekte.
+     */
+    public synchronized long getPendingCount() {
+        return (enqueuedCount - transmittedCount);
+    }
+
+    /**
+     * Liefert die Anzahl der bisher bertragenen Objekte.
+     *
+     * @return  Die Anzahl der bertragenen Objekte.
+     */
+    public synchronized long getTransmittedCount() {
+        return transmittedCount;
+    }
+
+    /**
+     * Liefert die aktuelle Verzgerung der bertragung, d.h. die Zeit seit
+     * der Aufnahme des ltesten Objekts des gerade bertragenen Stapels in
+     * die Warteschlange.
+     *
+     * @return  Die aktuelle Verzgerung in Millisekunden oder Null, wenn
+     *          gerade nichts bertragen wird.
+     */
+    public long getCurrentLag() {
+        long since = inTransmissionSince;
+
+        if (since == 0) {
+            return 0;
+        } else {
+            return (System.currentTimeMillis() - since);
+        }
+    }
+
+    /**
+     * Liefert die grte bisher aufgetretene Verzgerung zwischen der
+     * Aufnahme eines Objekts in die Warteschlange und dem Ende seiner
+     * bertragung.
+     *
+     * @return  Die grte Verzgerung in Millisekunden.
+     */
+    public long getMaxLag() {
+        return maxLag;
+    }
+
+    /**
+     * Wartet nach dem Eintreffen des ersten Objekts eines Stapels die
+     * vorgegebene Zeit, sofern der Stapel noch nicht voll ist und der Thread
+     * sich nicht beenden soll.
+     */
+    private void linger() {
+
+        if ((lingerTime > 0) && !terminating
+            && (objectBuffer.size() < maxBatchSize - 1)) {
+
+            try {
+                Thread.sleep(lingerTime);
+            } catch (InterruptedException e) {
+                // Die Objekte werden ohne weiteres Warten bertragen.
+            }
+        }
+    }
+
     /**
      * Startet den Thread und bertrgt fortlaufend Objekte, immer wenn
-     * welche verfgbar sind.
+     * welche verfgbar sind. Dabei werden alle Objekte, die beim Beginn
+     * einer bertragung bereits in der Warteschlange sind, bis zur maximalen
+     * Stapelgre zusammen bertragen. Da nur dieser Thread Objekte aus
+     * dem Puffer entnimmt, blockiert die Entnahme nach einer positiven
+     * Prfung auf vorhandene Objekte nicht.
      */
     public void run() {
-        TransmitObject transmitObject;
+        QueuedObject queuedObject;
+        ArrayList batch = new ArrayList();
+        long lag;
 
         try {
             while (!terminating || !objectBuffer.isEmpty()) {
-                transmitObject = (TransmitObject) objectBuffer.dequeue();
-                if (transmitObject != null) {
-                    transmitProc.transmit(transmitObject);
+                queuedObject = (QueuedObject) objectBuffer.dequeue();
+                if (queuedObject == null) {
+                    continue;
+                }
+                inTransmissionSince = queuedObject.enqueueTime;
+
+                batch.clear();
+                batch.add(queuedObject.object);
+                if (maxBatchSize > 1) {
+                    linger();
+                    while ((batch.size() < maxBatchSize)
+                           && !objectBuffer.isEmpty()) {
+                        queuedObject = (QueuedObject) objectBuffer.dequeue();
+                        if (queuedObject != null) {
+                            batch.add(queuedObject.object);
+                        }
+                    }
+                }
+
+                if (batch.size() == 1) {
+                    transmitProc.transmit((TransmitObject) batch.get(0));
+                } else {
+                    transmitProc.transmitBatch(batch);
+                }
+
+                lag = getCurrentLag();
+                if (lag > maxLag) {
+                    maxLag = lag;
+                }
+                inTransmissionSince = 0;
+                synchronized (this) {
+                    transmittedCount += batch.size();
+                    notifyAll();
                 }
             }
         } catch (RemoteException e) {
@@ -138,11 +486,13 @@ public class Transmitter extends Thread {
         }
 
         synchronized (this) {
-            // Den mglicherweise wartenden Thread aus dem Aufruf von
-            // terminate aufwecken.
+            // Die mglicherweise wartenden Threads aus dem Aufruf von
+            // terminate, flush, enqueue oder awaitCapacity aufwecken.
             terminated = true;
             notifyAll();
         }
+
+        // Die nicht mehr bertragbaren Objekte verwerfen.
+        objectBuffer.clear();
     }
 }
-
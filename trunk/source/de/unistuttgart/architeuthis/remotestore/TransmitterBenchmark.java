@@ -0,0 +1,248 @@
+/*
+ * file:        TransmitterBenchmark.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.remotestore;
+
+import java.util.Map;
+import java.rmi.RemoteException;
+import java.rmi.server.RemoteObject;
+
+import de.unistuttgart.architeuthis.remotestore.hashmap.impl.RemoteHashMapImpl;
+import de.unistuttgart.architeuthis.remotestore.hashmap.impl.RelayHashMapImpl;
+import de.unistuttgart.architeuthis.remotestore.hashmap.interf.LocalHashMap;
+import de.unistuttgart.architeuthis.remotestore.hashmap.interf.RelayHashMap;
+
+/**
+ * Vergleicht den Durchsatz der asynchronen bertragung von Objekt-Paaren
+ * einer verteilten <CODE>RemoteHashMap</CODE> an die zentrale
+ * <CODE>RelayHashMap</CODE> bei einzelner bertragung und bei bertragung
+ * in Stapeln verschiedener Gre. Die Aufrufe erfolgen ber RMI innerhalb
+ * einer JVM, wobei eine zweite verteilte <CODE>RemoteHashMap</CODE> die
+ * weitergeleiteten Objekt-Paare empfngt. Ausgegeben wird jeweils die Zeit,
+ * bis alle Objekt-Paare beim zentralen RemoteStore angekommen sind.
+ * Abschlieend wird die Messung mit einer zustzlichen, langsamen
+ * <CODE>RemoteHashMap</CODE> wiederholt, die die Schreibzugriffe nicht
+ * verzgern darf, und die grte Verzgerung der Weitergabe ausgegeben.<P>
+ *
+ * Aufruf: <code>java de.unistuttgart.architeuthis.remotestore.TransmitterBenchmark
+ * [Anzahl] [Schlssel]</code>
+ */
+public class TransmitterBenchmark {
+
+    /**
+     * Die voreingestellte Anzahl der Aufrufe von <CODE>put</CODE> je
+     * Messung.
+     */
+    private static final int DEFAULT_PUTS = 20000;
+
+    /**
+     * Die voreingestellte Anzahl verschiedener key-Objekte.
+     */
+    private static final int DEFAULT_KEYS = 5000;
+
+    /**
+     * Die verglichenen maximalen Stapelgren. Die Gre Eins entspricht
+     * der einzelnen bertragung.
+     */
+    private static final int[] BATCH_SIZES = {1, 10, 100,
+                                              Transmitter.DEFAULT_MAX_BATCH_SIZE};
+
+    /**
+     * Die Dauer in Millisekunden, um die die langsame
+     * <CODE>RemoteHashMap</CODE> jede Speicherung verzgert.
+     */
+    private static final long SLOW_DELAY = 20;
+
+    /**
+     * Eine <CODE>RemoteHashMap</CODE>, die die Speicherung weitergegebener
+     * Objekt-Paare verzgert und damit einen langsamen Operative nachbildet.
+     */
+    private static class SlowHashMap extends RemoteHashMapImpl {
+
+        /**
+         * Generierte <code>serialVersionUID</code>.
+         */
+        private static final long serialVersionUID = 5147932518470983263L;
+
+        /**
+         * Erzeugt eine neue Instanz.
+         *
+         * @throws RemoteException  Bei einem RMI-Problem.
+         */
+        SlowHashMap() throws RemoteException {
+            super(true);
+        }
+
+        /**
+         * Verzgert um die vorgegebene Dauer.
+         */
+        private static void delay() {
+            try {
+                Thread.sleep(SLOW_DELAY);
+            } catch (InterruptedException e) {
+            }
+        }
+
+        /**
+         * Speichert das Objekt-Paar verzgert.
+         *
+         * @param key    Das key-Objekt.
+         * @param value  Das value-Objekt.
+         *
+         * @throws RemoteException  Bei einem RMI-Probleme.
+         */
+        public void putLocal(Object key, Object value)
+            throws RemoteException {
+
+            delay();
+            super.putLocal(key, value);
+        }
+
+        /**
+         * Speichert die Eintrge der bergebenen Map verzgert.
+         *
+         * @param map  Die Map, deren Eintrge gespeichert werden.
+         *
+         * @throws RemoteException  Bei einem RMI-Probleme.
+         */
+        public void putAllLocal(Map map) throws RemoteException {
+            delay();
+            super.putAllLocal(map);
+        }
+    }
+
+    /**
+     * Wartet, bis der zentrale RemoteStore alle Objekt-Paare weitergegeben
+     * hat.
+     *
+     * @param relayStore  Der zentrale RemoteStore.
+     */
+    private static void awaitReplication(RelayHashMapImpl relayStore) {
+        while (relayStore.getPendingReplications() > 0) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+            }
+        }
+    }
+
+    /**
+     * Fhrt eine Messung durch und liefert die bentigte Zeit.
+     *
+     * @param relayStub     Der Stub der zentralen <CODE>RelayHashMap</CODE>.
+     * @param maxBatchSize  Die maximale Stapelgre.
+     * @param puts          Die Anzahl der Aufrufe von <CODE>put</CODE>.
+     * @param keys          Die Anzahl verschiedener key-Objekte.
+     *
+     * @return  Die bentigte Zeit in Millisekunden.
+     *
+     * @throws Exception  Wenn die Messung nicht durchgefhrt werden kann.
+     */
+    private static long measure(RelayHashMap relayStub, int maxBatchSize,
+                                int puts, int keys)
+        throws Exception {
+
+        RemoteHashMapImpl distStore = new RemoteHashMapImpl(maxBatchSize, 0);
+        LocalHashMap distStub = (LocalHashMap) RemoteObject.toStub(distStore);
+        long startTime;
+        long endTime;
+
+        relayStub.registerRemoteStore(distStub);
+        distStore.registerRemoteStore(relayStub);
+
+        startTime = System.currentTimeMillis();
+        for (int i = 0; i < puts; i++) {
+            distStore.put(new Integer(i % keys), new Long(i));
+        }
+        // Das Abmelden wartet, bis alle Objekte bertragen sind.
+        distStore.unregisterRemoteStore(relayStub);
+        endTime = System.currentTimeMillis();
+
+        relayStub.unregisterRemoteStore(distStub);
+        distStore.terminate();
+        return (endTime - startTime);
+    }
+
+    /**
+     * Fhrt die Messungen durch und gibt die Ergebnisse aus.
+     *
+     * @param args  Optional die Anzahl der Aufrufe von <CODE>put</CODE> je
+     *              Messung und die Anzahl verschiedener key-Objekte.
+     *
+     * @throws Exception  Wenn die Messungen nicht durchgefhrt werden
+     *                    knnen.
+     */
+    public static void main(String[] args) throws Exception {
+        int puts = DEFAULT_PUTS;
+        int keys = DEFAULT_KEYS;
+        RelayHashMapImpl relayStore = new RelayHashMapImpl();
+        RelayHashMap relayStub = (RelayHashMap) RemoteObject.toStub(relayStore);
+        RemoteHashMapImpl receiver = new RemoteHashMapImpl(true);
+        LocalHashMap receiverStub = (LocalHashMap) RemoteObject.toStub(receiver);
+        SlowHashMap slowPeer = new SlowHashMap();
+        LocalHashMap slowStub = (LocalHashMap) RemoteObject.toStub(slowPeer);
+        long time;
+
+        if (args.length > 0) {
+            puts = Integer.parseInt(args[0]);
+        }
+        if (args.length > 1) {
+            keys = Integer.parseInt(args[1]);
+        }
+
+        relayStub.registerRemoteStore(receiverStub);
+
+        // Aufwrmen.
+        measure(relayStub, BATCH_SIZES[0], puts / 10, keys);
+        measure(relayStub, BATCH_SIZES[BATCH_SIZES.length - 1], puts / 10,
+                keys);
+
+        System.out.println(puts + " Aufrufe von put mit " + keys
+                           + " verschiedenen Schlsseln:");
+        for (int i = 0; i < BATCH_SIZES.length; i++) {
+            time = measure(relayStub, BATCH_SIZES[i], puts, keys);
+            System.out.println("Stapelgre " + BATCH_SIZES[i] + "\t: "
+                               + time + " ms, "
+                               + (puts * 1000L / Math.max(time, 1))
+                               + " Aufrufe/s");
+        }
+        awaitReplication(relayStore);
+        System.out.println("Empfangene Objekt-Paare : " + receiver.size());
+
+        relayStub.registerRemoteStore(slowStub);
+        time = measure(relayStub, BATCH_SIZES[0], puts, keys);
+        System.out.println("Mit langsamem Empfnger, Stapelgre "
+                           + BATCH_SIZES[0] + " : " + time + " ms, "
+                           + (puts * 1000L / Math.max(time, 1))
+                           + " Aufrufe/s");
+        awaitReplication(relayStore);
+        System.out.println("Grte Verzgerung der Weitergabe : "
+                           + relayStore.getMaxReplicationLag() + " ms");
+
+        relayStub.unregisterRemoteStore(slowStub);
+        slowPeer.terminate();
+        relayStub.unregisterRemoteStore(receiverStub);
+        receiver.terminate();
+        relayStore.terminate();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * file:        VersionedStore.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.remotestore;
+
+import java.io.Serializable;
+import java.rmi.RemoteException;
+
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
+
+/**
+ * Dieses Interface gibt die Methoden vor, mit denen ein RelayStore den
+ * Stand eines verteilten RemoteStore abfragen und festlegen kann. Ein
+ * verteilter RemoteStore, der nach einer Abmeldung erneut beim selben
+ * RelayStore angemeldet wird, erhlt dadurch nur die nderungen, die seit
+ * seiner Abmeldung erfolgt sind, statt des gesamten Inhalts.
+ */
+public interface VersionedStore extends RemoteStore {
+
+    /**
+     * Liefert die Version des angegebenen RelayStore, deren Inhalt dieser
+     * RemoteStore lokal enthlt.
+     *
+     * @param relayId  Die Kennung des RelayStore.
+     *
+     * @return  Die Version oder -1, wenn der lokale Inhalt nicht von dem
+     *          angegebenen RelayStore stammt.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public long getSyncVersion(Serializable relayId) throws RemoteException;
+
+    /**
+     * Legt fest, da dieser RemoteStore lokal den Inhalt der angegebenen
+     * Version des angegebenen RelayStore enthlt.
+     *
+     * @param relayId  Die Kennung des RelayStore.
+     * @param version  Die Version des RelayStore.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public void setSyncVersion(Serializable relayId, long version)
+        throws RemoteException;
+
+    /**
+     * Entfernt den gesamten lokalen Inhalt dieses RemoteStore, ohne die
+     * nderung an andere RemoteStores weiterzugeben.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public void clearLocal() throws RemoteException;
+}
@@ -36,6 +36,8 @@ import java.rmi.RemoteException;
 
 import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
 import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStoreGenerator;
+import de.unistuttgart.architeuthis.remotestore.Transmitter;
+import de.unistuttgart.architeuthis.remotestore.AbstractRelayStore;
 import de.unistuttgart.architeuthis.remotestore.hashmap.impl.RemoteHashMapImpl;
 import de.unistuttgart.architeuthis.remotestore.hashmap.impl.RelayHashMapImpl;
 
@@ -75,6 +77,24 @@ public class RemoteHashMapGenerator implements RemoteStoreGenerator {
      */
     private boolean synchronComm;
 
+    /**
+     * Die maximale Anzahl von Objekten, die bei asynchroner Kommunikation
+     * zusammen an den RelayStore bertragen werden.
+     */
+    private int maxBatchSize = Transmitter.DEFAULT_MAX_BATCH_SIZE;
+
+    /**
+     * Die Zeit in Millisekunden, die bei asynchroner Kommunikation auf
+     * weitere zu bertragende Objekte gewartet wird.
+     */
+    private long lingerTime = Transmitter.DEFAULT_LINGER_TIME;
+
+    /**
+     * Die maximale Anzahl von nderungen, die beim zentralen RemoteStore
+     * fr einen verteilten RemoteStore auf die bertragung warten knnen.
+     */
+    private int queueCapacity = AbstractRelayStore.DEFAULT_QUEUE_CAPACITY;
+
     /**
      * Konstruktor, bei dem nur ein zentraler und kein verteilter
      * RemoteStore von der erzeugten Instanz erzeugt wird.
@@ -98,6 +118,46 @@ public class RemoteHashMapGenerator implements RemoteStoreGenerator {
         this.synchronComm = synchronComm;
     }
 
+    /**
+     * Konstruktor, bei dem sowohl ein zentraler wie verteilte RemoteStores
+     * von der erzeugten Instanz erzeugt wird, wobei die Aufrufe der
+     * verteilten beim zentralen RemoteStore asynchron erfolgen. Als Parameter
+     * ist anzugeben, wie viele Objekte hchstens zusammen bertragen werden
+     * und wie lange auf weitere Objekte gewartet wird.
+     *
+     * @param maxBatchSize  Die maximale Anzahl von Objekten, die zusammen an
+     *                      den zentralen RemoteStore bertragen werden.
+     * @param lingerTime    Die Zeit in Millisekunden, die nach dem
+     *                      Eintreffen eines Objekts auf weitere Objekte
+     *                      gewartet wird.
+     */
+    public RemoteHashMapGenerator(int maxBatchSize, long lingerTime) {
+        this.isCentralOnly = false;
+        this.synchronComm = false;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerTime = lingerTime;
+    }
+
+    /**
+     * Konstruktor wie <CODE>RemoteHashMapGenerator(int, long)</CODE>, bei
+     * dem zustzlich angegeben wird, wie viele nderungen beim zentralen
+     * RemoteStore fr jeden verteilten RemoteStore hchstens auf die
+     * bertragung warten knnen.
+     *
+     * @param maxBatchSize   Die maximale Anzahl von Objekten, die zusammen
+     *                       bertragen werden.
+     * @param lingerTime     Die Zeit in Millisekunden, die nach dem
+     *                       Eintreffen eines Objekts auf weitere Objekte
+     *                       gewartet wird.
+     * @param queueCapacity  Die maximale Anzahl wartender nderungen je
+     *                       verteiltem RemoteStore.
+     */
+    public RemoteHashMapGenerator(int maxBatchSize, long lingerTime,
+                                  int queueCapacity) {
+        this(maxBatchSize, lingerTime);
+        this.queueCapacity = queueCapacity;
+    }
+
     /**
      * Liefert den zentralen RemoteStore.
      *
@@ -112,7 +172,7 @@ public class RemoteHashMapGenerator implements RemoteStoreGenerator {
             if (isCentralOnly) {
                 return (new RemoteHashMapImpl());
             } else {
-                return (new RelayHashMapImpl());
+                return (new RelayHashMapImpl(maxBatchSize, queueCapacity));
             }
         } catch (RemoteException ex) {
             ex.printStackTrace();
@@ -141,7 +201,11 @@ public class RemoteHashMapGenerator implements RemoteStoreGenerator {
                         LOGGER.fine("Erzeuge dezentralen asynchronen RemoteStore.");
                     }
                 }
-                return (new RemoteHashMapImpl(synchronComm));
+                if (synchronComm) {
+                    return (new RemoteHashMapImpl(true));
+                } else {
+                    return (new RemoteHashMapImpl(maxBatchSize, lingerTime));
+                }
             } catch (RemoteException ex) {
                 ex.printStackTrace();
                 return null;
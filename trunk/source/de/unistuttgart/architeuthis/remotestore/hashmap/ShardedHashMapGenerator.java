@@ -0,0 +1,156 @@
+/*
+ * file:        ShardedHashMapGenerator.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.remotestore.hashmap;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.rmi.RemoteException;
+
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStoreGenerator;
+import de.unistuttgart.architeuthis.remotestore.Transmitter;
+import de.unistuttgart.architeuthis.remotestore.AbstractRelayStore;
+import de.unistuttgart.architeuthis.remotestore.hashmap.impl.ShardedRelayHashMapImpl;
+import de.unistuttgart.architeuthis.remotestore.hashmap.impl.ShardedRemoteHashMapImpl;
+
+/**
+ * Klasse, die RemoteStores mit der Funktionalitt einer <CODE>HashMap</CODE>
+ * erzeugt, bei denen der zentrale RemoteStore aus mehreren unabhngigen
+ * Teilen besteht. Die Objekt-Paare werden anhand der Hash-Codes ihrer
+ * key-Objekte auf die Teile aufgeteilt, so da die Schreibzugriffe der
+ * verteilten RemoteStores vom zentralen RemoteStore parallel verarbeitet
+ * werden knnen. Die verteilten RemoteStores rufen die Methoden des
+ * zentralen immer asynchron auf.
+ */
+public class ShardedHashMapGenerator implements RemoteStoreGenerator {
+
+    /**
+     * Generierte <code>serialVersionUID</code>.
+     */
+    private static final long serialVersionUID = 3386720915246652231L;
+
+    /**
+     * Standard Logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ShardedHashMapGenerator.class.getName());
+
+    /**
+     * Die Anzahl der Teile des zentralen RemoteStore.
+     */
+    private int shardNumber;
+
+    /**
+     * Die maximale Anzahl von Objekten, die zusammen bertragen werden.
+     */
+    private int maxBatchSize = Transmitter.DEFAULT_MAX_BATCH_SIZE;
+
+    /**
+     * Die Zeit in Millisekunden, die auf weitere zu bertragende Objekte
+     * gewartet wird.
+     */
+    private long lingerTime = Transmitter.DEFAULT_LINGER_TIME;
+
+    /**
+     * Die maximale Anzahl von nderungen, die in einem Teil des zentralen
+     * RemoteStore fr einen verteilten RemoteStore auf die bertragung
+     * warten knnen.
+     */
+    private int queueCapacity = AbstractRelayStore.DEFAULT_QUEUE_CAPACITY;
+
+    /**
+     * Konstruktor, bei dem die Anzahl der Teile des zentralen RemoteStore
+     * anzugeben ist.
+     *
+     * @param shardNumber  Die Anzahl der Teile. Diese mu grer oder gleich
+     *                     Eins sein.
+     */
+    public ShardedHashMapGenerator(int shardNumber) {
+        if (shardNumber < 1) {
+            throw new IllegalArgumentException("Anzahl der Teile kleiner Eins");
+        }
+        this.shardNumber = shardNumber;
+    }
+
+    /**
+     * Konstruktor wie <CODE>ShardedHashMapGenerator(int)</CODE>, bei dem
+     * zustzlich die Parameter der bertragung angegeben werden.
+     *
+     * @param shardNumber    Die Anzahl der Teile. Diese mu grer oder
+     *                       gleich Eins sein.
+     * @param maxBatchSize   Die maximale Anzahl von Objekten, die zusammen
+     *                       bertragen werden.
+     * @param lingerTime     Die Zeit in Millisekunden, die nach dem
+     *                       Eintreffen eines Objekts auf weitere Objekte
+     *                       gewartet wird.
+     * @param queueCapacity  Die maximale Anzahl wartender nderungen je
+     *                       Teil und verteiltem RemoteStore.
+     */
+    public ShardedHashMapGenerator(int shardNumber, int maxBatchSize,
+                                   long lingerTime, int queueCapacity) {
+        this(shardNumber);
+        this.maxBatchSize = maxBatchSize;
+        this.lingerTime = lingerTime;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Liefert den zentralen RemoteStore.
+     *
+     * @return  Den zentralen RemoteStore.
+     */
+    public RemoteStore generateCentralRemoteStore() {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Erzeuge zentralen RemoteStore mit " + shardNumber
+                        + " Teilen.");
+        }
+
+        try {
+            return (new ShardedRelayHashMapImpl(shardNumber, maxBatchSize,
+                                                queueCapacity));
+        } catch (RemoteException ex) {
+            ex.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Liefert den dezentralen RemoteStore.
+     *
+     * @return  Den dezentralen RemoteStore.
+     */
+    public RemoteStore generateDistRemoteStore() {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("Erzeuge dezentralen RemoteStore mit " + shardNumber
+                        + " Teilen.");
+        }
+
+        try {
+            return (new ShardedRemoteHashMapImpl(shardNumber, maxBatchSize,
+                                                 lingerTime));
+        } catch (RemoteException ex) {
+            ex.printStackTrace();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * file:        HashMapPeerProc.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.remotestore.hashmap.impl;
+
+import java.util.Map;
+import java.util.List;
+import java.util.HashMap;
+import java.rmi.RemoteException;
+
+import de.unistuttgart.architeuthis.remotestore.TransmitObject;
+import de.unistuttgart.architeuthis.remotestore.TransmitProcedure;
+import de.unistuttgart.architeuthis.remotestore.hashmap.interf.LocalHashMap;
+
+/**
+ * Implementiert die bertragung von Objekt-Paaren von der zentralen
+ * <CODE>RelayHashMap</CODE> an eine verteilte <CODE>RemoteHashMap</CODE>,
+ * bei der die Objekt-Paare nur lokal gespeichert werden.
+ */
+public class HashMapPeerProc implements TransmitProcedure {
+
+    /**
+     * Der verteilte RemoteStore, an den die Daten bertragen werden sollen.
+     */
+    private LocalHashMap peerStore;
+
+    /**
+     * Erzeugt eine Instanz.
+     *
+     * @param peerStore  Der verteilte RemoteStore, an den die Objekte
+     *                   bertragen werden.
+     */
+    public HashMapPeerProc(LocalHashMap peerStore) {
+        this.peerStore = peerStore;
+    }
+
+    /**
+     * bertragt das im bergebenen Objekt enthaltene Objekt zum verteilten
+     * RemoteStore, der im Konstruktor angegeben wurde.
+     *
+     * @param transObject  Das Objekt, das das zu bertragende Objekt enthlt.
+     *
+     * @throws RemoteException           Bei einem RMI Problem.
+     * @throws IllegalArgumentException  Wenn das bergebene Objekt keinen
+     *                                   zulssigen Typs besitzt.
+     */
+    public void transmit(TransmitObject transObject) throws RemoteException {
+
+        if (transObject instanceof PutObject) {
+
+            MapEntry mapEntry = (MapEntry) transObject.storedObject();
+            peerStore.putLocal(mapEntry.getKey(), mapEntry.getValue());
+
+        } else if (transObject instanceof PutAllObject) {
+
+            peerStore.putAllLocal((Map) transObject.storedObject());
+
+        } else {
+
+            throw new IllegalArgumentException("Besitzt keinen zulssiger Typ: "
+                                               + transObject);
+
+        }
+    }
+
+    /**
+     * bertragt die in den bergebenen Objekten enthaltenen Objekt-Paare
+     * zusammengefat mit einem einzigen Aufruf von <CODE>putAllLocal</CODE>
+     * zum verteilten RemoteStore.
+     *
+     * @param transObjects  Die Liste der Objekte, die die zu bertragenden
+     *                      Objekte enthalten.
+     *
+     * @throws RemoteException           Bei einem RMI Problem.
+     * @throws IllegalArgumentException  Wenn ein bergebenes Objekt keinen
+     *                                   zulssigen Typs besitzt.
+     */
+    public void transmitBatch(List transObjects) throws RemoteException {
+        HashMap batchMap = HashMapTransProc.coalesce(transObjects);
+
+        if (!batchMap.isEmpty()) {
+            peerStore.putAllLocal(batchMap);
+        }
+    }
+}
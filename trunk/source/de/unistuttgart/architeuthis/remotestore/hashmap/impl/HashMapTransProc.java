@@ -31,6 +31,9 @@
 package de.unistuttgart.architeuthis.remotestore.hashmap.impl;
 
 import java.util.Map;
+import java.util.List;
+import java.util.Iterator;
+import java.util.HashMap;
 import java.rmi.RemoteException;
 
 import de.unistuttgart.architeuthis.remotestore.TransmitObject;
@@ -98,5 +101,67 @@ public class HashMapTransProc implements TransmitProcedure {
 
         }
     }
+
+    /**
+     * Fat die in den bergebenen Objekten enthaltenen Objekt-Paare zu einer
+     * Map zusammen. Bei mehrfach enthaltenen key-Objekten gilt wie bei
+     * einzelner bertragung das zuletzt bergebene value-Objekt.
+     *
+     * @param transObjects  Die Liste der Objekte, die die zu bertragenden
+     *                      Objekte enthalten.
+     *
+     * @return  Die Map mit allen zu bertragenden Objekt-Paaren.
+     *
+     * @throws IllegalArgumentException  Wenn ein bergebenes Objekt keinen
+     *                                   zulssigen Typs besitzt.
+     */
+    static HashMap coalesce(List transObjects) {
+        HashMap batchMap = new HashMap();
+        Iterator iter = transObjects.iterator();
+
+        while (iter.hasNext()) {
+            TransmitObject transObject = (TransmitObject) iter.next();
+
+            if (transObject instanceof PutObject) {
+
+                MapEntry mapEntry = (MapEntry) transObject.storedObject();
+                batchMap.put(mapEntry.getKey(), mapEntry.getValue());
+
+            } else if (transObject instanceof PutAllObject) {
+
+                batchMap.putAll((Map) transObject.storedObject());
+
+            } else {
+
+                throw new IllegalArgumentException("Besitzt keinen zulssiger Typ: "
+                                                   + transObject);
+
+            }
+        }
+
+        return batchMap;
+    }
+
+    /**
+     * bertragt die in den bergebenen Objekten enthaltenen Objekt-Paare mit
+     * einem einzigen Aufruf von <CODE>putAll</CODE> zum zentralen
+     * <CODE>RelayHashMap</CODE>. Mehrfach enthaltene key-Objekte werden
+     * dabei zusammengefat, wobei wie bei einzelner bertragung das zuletzt
+     * bergebene value-Objekt gilt.
+     *
+     * @param transObjects  Die Liste der Objekte, die die zu bertragenden
+     *                      Objekte enthalten.
+     *
+     * @throws RemoteException           Bei einem RMI Problem.
+     * @throws IllegalArgumentException  Wenn ein bergebenes Objekt keinen
+     *                                   zulssigen Typs besitzt.
+     */
+    public void transmitBatch(List transObjects) throws RemoteException {
+        HashMap batchMap = coalesce(transObjects);
+
+        if (!batchMap.isEmpty()) {
+            relayStore.putAll(batchMap, localStore);
+        }
+    }
 }
 
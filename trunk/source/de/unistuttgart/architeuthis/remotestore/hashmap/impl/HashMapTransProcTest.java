@@ -0,0 +1,92 @@
+/*
+ * file:        HashMapTransProcTest.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.remotestore.hashmap.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import de.unistuttgart.architeuthis.remotestore.TransmitObject;
+
+/**
+ * Tests fr die Zusammenfassung von Objekt-Paaren durch
+ * {@link HashMapTransProc#coalesce(List)}.
+ */
+public class HashMapTransProcTest extends TestCase {
+
+    /**
+     * Testet, da fr jedes key-Objekt das zuletzt bergebene value-Objekt
+     * gilt, auch wenn es mit <code>putAll</code> bergeben wurde.
+     */
+    public void testLastPutWins() {
+        HashMap firstMap = new HashMap();
+        HashMap secondMap = new HashMap();
+        HashMap expected = new HashMap();
+        TransmitObject[] transObjects;
+
+        firstMap.put("b", "b1");
+        firstMap.put("c", "c1");
+        secondMap.put("a", "a3");
+
+        transObjects = new TransmitObject[] {
+            new PutObject(new MapEntry("a", "a1")),
+            new PutObject(new MapEntry("a", "a2")),
+            new PutAllObject(firstMap),
+            new PutObject(new MapEntry("b", "b2")),
+            new PutAllObject(secondMap),
+            new PutObject(new MapEntry("d", "d1"))};
+
+        expected.put("a", "a3");
+        expected.put("b", "b2");
+        expected.put("c", "c1");
+        expected.put("d", "d1");
+        assertEquals(expected,
+                     HashMapTransProc.coalesce(Arrays.asList(transObjects)));
+    }
+
+    /**
+     * Testet eine leere Liste von Objekt-Paaren.
+     */
+    public void testEmpty() {
+        assertTrue(HashMapTransProc.coalesce(new ArrayList()).isEmpty());
+    }
+
+    /**
+     * Testet, da ein unzulssiges Objekt abgelehnt wird.
+     */
+    public void testIllegalType() {
+        List transObjects = new ArrayList();
+
+        transObjects.add(new TransmitObject("a"));
+        try {
+            HashMapTransProc.coalesce(transObjects);
+            fail("IllegalArgumentException erwartet");
+        } catch (IllegalArgumentException e) {
+            // erwartet
+        }
+    }
+}
@@ -33,12 +33,12 @@ package de.unistuttgart.architeuthis.remotestore.hashmap.impl;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.rmi.RemoteException;
 
 import de.unistuttgart.architeuthis.remotestore.AbstractRelayStore;
+import de.unistuttgart.architeuthis.remotestore.TransmitProcedure;
 import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
 import de.unistuttgart.architeuthis.remotestore.hashmap.interf.LocalHashMap;
 import de.unistuttgart.architeuthis.remotestore.hashmap.interf.RelayHashMap;
@@ -77,24 +77,47 @@ public class RelayHashMapImpl extends AbstractRelayStore implements RelayHashMap
     }
 
     /**
-     * Anmeldung einer <CODE>RemoteHashMap</CODE>. Dabei wird diesem der
-     * der aktuelle Inhalt dieses Objekts hinzugefgt.
+     * Konstruktor, der die Weitergabe an die registrierten RemoteHashMaps
+     * festlegt.
      *
-     * @param remoteStore  Eine neue <CODE>RemoteHashMap</CODE>
+     * @param maxBatchSize   Die maximale Anzahl von nderungen, die zusammen
+     *                       an eine RemoteHashMap bertragen werden.
+     * @param queueCapacity  Die maximale Anzahl von nderungen, die fr
+     *                       eine RemoteHashMap auf die bertragung warten
+     *                       knnen.
      *
-     * @throws RemoteException  Bei einem Probleme mit einem RMI Zugriff.
+     * @throws RemoteException  Bei einem RMI-Problem.
      */
-    public synchronized void registerRemoteStore(RemoteStore remoteStore)
+    public RelayHashMapImpl(int maxBatchSize, int queueCapacity)
         throws RemoteException {
 
-        LocalHashMap remoteHashMap = (LocalHashMap) remoteStore;
+        super(maxBatchSize, queueCapacity);
+    }
 
-        // Die aktuellen Elemente dem zu registrierenden RemoteStore
-        // hinzufgen.
-        remoteHashMap.putAllLocal(hashMap);
+    /**
+     * Liefert die Prozedur, mit der Objekt-Paare an die bergebene
+     * <CODE>RemoteHashMap</CODE> bertragen werden.
+     *
+     * @param remoteStore  Eine registrierte <CODE>RemoteHashMap</CODE>.
+     *
+     * @return  Die Prozedur zur bertragung an die RemoteHashMap.
+     */
+    protected TransmitProcedure peerProcedure(RemoteStore remoteStore) {
+        return new HashMapPeerProc((LocalHashMap) remoteStore);
+    }
 
-        // Den zu registrierenden RemoteStore speichern.
-        super.registerRemoteStore(remoteStore);
+    /**
+     * bertrgt den aktuellen Inhalt dieses Objekts an eine neu angemeldete
+     * <CODE>RemoteHashMap</CODE>.
+     *
+     * @param remoteStore  Eine neue <CODE>RemoteHashMap</CODE>
+     *
+     * @throws RemoteException  Bei einem Probleme mit einem RMI Zugriff.
+     */
+    protected void transmitSnapshot(RemoteStore remoteStore)
+        throws RemoteException {
+
+        ((LocalHashMap) remoteStore).putAllLocal(hashMap);
     }
 
     /**
@@ -114,25 +137,26 @@ public class RelayHashMapImpl extends AbstractRelayStore implements RelayHashMap
      *
      * @throws RemoteException  Bei einem RMI-Problem.
      */
-    public synchronized void put(Serializable key, Serializable value,
-                                 LocalHashMap remoteStore)
+    public void put(Serializable key, Serializable value,
+                    LocalHashMap remoteStore)
         throws RemoteException {
 
+        Transmission transmission;
+
         if (LOGGER.isLoggable(Level.FINEST)) {
             LOGGER.finest("called put, key: " + key + " for " + value);
         }
 
-        // Erstmal den Delegatee updaten.
-        hashMap.put(key, value);
+        synchronized (this) {
+            // Erstmal den Delegatee updaten.
+            hashMap.put(key, value);
 
-        // Das Objekt-Paar an alle RemoteHashMaps bertragen.
-        Iterator iterator = getRemoteStoreIterator();
-        while (iterator.hasNext()) {
-            LocalHashMap peer = (LocalHashMap) iterator.next();
-            if (!peer.equals(remoteStore)) {
-                peer.putLocal(key, value);
-            }
+            // Das Objekt-Paar an alle RemoteHashMaps bertragen.
+            transmission = transmitToPeers(new PutObject(new MapEntry(key,
+                                                                      value)),
+                                           remoteStore);
         }
+        awaitTransmission(transmission);
     }
 
     /**
@@ -148,24 +172,23 @@ public class RelayHashMapImpl extends AbstractRelayStore implements RelayHashMap
      *
      * @throws RemoteException  Bei einem RMI Problem.
      */
-    public synchronized void putAll(Map map, LocalHashMap remoteStore)
+    public void putAll(Map map, LocalHashMap remoteStore)
         throws RemoteException {
 
+        Transmission transmission;
+
         if (LOGGER.isLoggable(Level.FINEST)) {
             LOGGER.finest("called putAll, number of entries = " + map.size());
         }
 
-        // Erstmal den Delegatee updaten.
-        hashMap.putAll(map);
+        synchronized (this) {
+            // Erstmal den Delegatee updaten.
+            hashMap.putAll(map);
 
-        // Die Map an alle RemoteHashMaps bertragen.
-        Iterator iterator = getRemoteStoreIterator();
-        while (iterator.hasNext()) {
-            LocalHashMap peer = (LocalHashMap) iterator.next();
-            if (!peer.equals(remoteStore)) {
-                peer.putAllLocal(map);
-            }
+            // Die Map an alle RemoteHashMaps bertragen.
+            transmission = transmitToPeers(new PutAllObject(map), remoteStore);
         }
+        awaitTransmission(transmission);
     }
 }
 
@@ -93,6 +93,30 @@ public class RemoteHashMapImpl extends UnicastRemoteObject
      */
     private boolean synchronComm;
 
+    /**
+     * Die maximale Anzahl von Objekten, die bei asynchroner Kommunikation
+     * zusammen an den RelayStore bertragen werden.
+     */
+    private int maxBatchSize = Transmitter.DEFAULT_MAX_BATCH_SIZE;
+
+    /**
+     * Die Zeit in Millisekunden, die bei asynchroner Kommunikation nach dem
+     * Eintreffen eines Objekts auf weitere Objekte gewartet wird, bevor
+     * diese an den RelayStore bertragen werden.
+     */
+    private long lingerTime = Transmitter.DEFAULT_LINGER_TIME;
+
+    /**
+     * Die Kennung des RelayStore, von dem der lokale Inhalt stammt, oder
+     * <CODE>null</CODE>, wenn diese nicht bekannt ist.
+     */
+    private Serializable syncRelayId = null;
+
+    /**
+     * Die Version des RelayStore, deren Inhalt lokal enthalten ist.
+     */
+    private long syncVersion = -1;
+
     /**
      * Konstruktor, der festlegt, da bei Verwendung eines RelayStore dessen
      * Methoden asynchron aufgerufen werden sollen.
@@ -117,6 +141,27 @@ public class RemoteHashMapImpl extends UnicastRemoteObject
         this.synchronComm = synchronComm;
     }
 
+    /**
+     * Konstruktor, der festlegt, da bei Verwendung eines RelayStore dessen
+     * Methoden asynchron aufgerufen werden sollen, wobei mehrere Objekte
+     * zusammen bertragen werden.
+     *
+     * @param maxBatchSize  Die maximale Anzahl von Objekten, die zusammen an
+     *                      den RelayStore bertragen werden.
+     * @param lingerTime    Die Zeit in Millisekunden, die nach dem
+     *                      Eintreffen eines Objekts auf weitere Objekte
+     *                      gewartet wird.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    public RemoteHashMapImpl(int maxBatchSize, long lingerTime)
+        throws RemoteException {
+
+        this.synchronComm = false;
+        this.maxBatchSize = maxBatchSize;
+        this.lingerTime = lingerTime;
+    }
+
     /**
      * Anmelden einer <CODE>RelayHashMap</CODE>.
      *
@@ -135,7 +180,8 @@ public class RemoteHashMapImpl extends UnicastRemoteObject
                 relayHashMap = (RelayHashMap) remoteStore;
                 if (!synchronComm) {
                     transmitProc = new HashMapTransProc(this, relayHashMap);
-                    transmitter = new Transmitter(transmitProc);
+                    transmitter = new Transmitter(transmitProc, maxBatchSize,
+                                                  lingerTime);
                 }
             }
         }
@@ -218,6 +264,60 @@ public class RemoteHashMapImpl extends UnicastRemoteObject
         hashMap.putAll(map);
     }
 
+    /**
+     * Liefert die Version des angegebenen RelayStore, deren Inhalt lokal
+     * enthalten ist.
+     *
+     * @param relayId  Die Kennung des RelayStore.
+     *
+     * @return  Die Version oder -1, wenn der lokale Inhalt nicht von dem
+     *          angegebenen RelayStore stammt.
+     *
+     * @throws RemoteException  Bei einem RMI-Probleme.
+     */
+    public synchronized long getSyncVersion(Serializable relayId)
+        throws RemoteException {
+
+        if ((syncRelayId != null) && syncRelayId.equals(relayId)) {
+            return syncVersion;
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Legt fest, da lokal der Inhalt der angegebenen Version des
+     * angegebenen RelayStore enthalten ist.
+     *
+     * @param relayId  Die Kennung des RelayStore.
+     * @param version  Die Version des RelayStore.
+     *
+     * @throws RemoteException  Bei einem RMI-Probleme.
+     */
+    public synchronized void setSyncVersion(Serializable relayId, long version)
+        throws RemoteException {
+
+        syncRelayId = relayId;
+        syncVersion = version;
+    }
+
+    /**
+     * Entfernt den gesamten lokalen Inhalt, ohne die nderung an den
+     * RelayStore weiterzugeben.
+     *
+     * @throws RemoteException  Bei einem RMI-Probleme.
+     */
+    public synchronized void clearLocal() throws RemoteException {
+
+        if (LOGGER.isLoggable(Level.FINEST)) {
+            LOGGER.finest("called clearLocal");
+        }
+
+        hashMap.clear();
+        syncRelayId = null;
+        syncVersion = -1;
+    }
+
     /**
      * Ermittelt, ob Daten, die ber eine Methode vom Interface
      * <code>UserRemoteHashSet</code> bergeben wurden, lokal gespeichert
@@ -0,0 +1,201 @@
+/*
+ * file:        ShardedRelayHashMapImpl.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.remotestore.hashmap.impl;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.rmi.RemoteException;
+import java.rmi.server.UnicastRemoteObject;
+
+import de.unistuttgart.architeuthis.remotestore.ShardedStore;
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
+
+/**
+ * Zentraler RemoteStore, der aus mehreren unabhngigen Instanzen von
+ * <CODE>RelayHashMapImpl</CODE> besteht. Jede Instanz verwaltet die
+ * Objekt-Paare, deren key-Objekte ihr von
+ * <CODE>ShardedRemoteHashMapImpl</CODE> zugeordnet werden, so da die
+ * Schreibzugriffe der verteilten RemoteStores auf mehrere Monitore verteilt
+ * werden.
+ */
+public class ShardedRelayHashMapImpl extends UnicastRemoteObject
+    implements ShardedStore {
+
+    /**
+     * Generierte <code>serialVersionUID</code>.
+     */
+    private static final long serialVersionUID = 6271034588113427609L;
+
+    /**
+     * Standard Logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ShardedRelayHashMapImpl.class.getName());
+
+    /**
+     * Die Teile dieses RemoteStore.
+     */
+    private RelayHashMapImpl[] shards;
+
+    /**
+     * Erzeugt eine neue Instanz.
+     *
+     * @param shardNumber    Die Anzahl der Teile. Diese mu grer oder
+     *                       gleich Eins sein.
+     * @param maxBatchSize   Die maximale Anzahl von nderungen, die ein Teil
+     *                       zusammen an eine RemoteHashMap bertrgt.
+     * @param queueCapacity  Die maximale Anzahl von nderungen, die in
+     *                       einem Teil fr eine RemoteHashMap auf die
+     *                       bertragung warten knnen.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    public ShardedRelayHashMapImpl(int shardNumber, int maxBatchSize,
+                                   int queueCapacity)
+        throws RemoteException {
+
+        if (shardNumber < 1) {
+            throw new IllegalArgumentException("Anzahl der Teile kleiner Eins");
+        }
+
+        shards = new RelayHashMapImpl[shardNumber];
+        for (int i = 0; i < shardNumber; i++) {
+            shards[i] = new RelayHashMapImpl(maxBatchSize, queueCapacity);
+        }
+    }
+
+    /**
+     * Liefert die Teile dieses RemoteStore.
+     *
+     * @return  Die Teile in der Reihenfolge ihres Index.
+     */
+    public RemoteStore[] getShards() {
+        RemoteStore[] result = new RemoteStore[shards.length];
+
+        System.arraycopy(shards, 0, result, 0, shards.length);
+        return result;
+    }
+
+    /**
+     * Liefert die Teile des bergebenen RemoteStore und prft, ob deren
+     * Anzahl mit der Anzahl der eigenen Teile bereinstimmt.
+     *
+     * @param remoteStore  Ein <CODE>ShardedRemoteHashMapImpl</CODE>.
+     *
+     * @return  Die Teile des bergebenen RemoteStore.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    private RemoteStore[] peerShards(RemoteStore remoteStore)
+        throws RemoteException {
+
+        RemoteStore[] peerShards = ((ShardedStore) remoteStore).getShards();
+
+        if (peerShards.length != shards.length) {
+            throw new IllegalArgumentException("RemoteStore hat "
+                                               + peerShards.length
+                                               + " statt " + shards.length
+                                               + " Teile");
+        }
+        return peerShards;
+    }
+
+    /**
+     * Meldet die Teile des bergebenen RemoteStore bei den Teilen mit
+     * gleichem Index an.
+     *
+     * @param remoteStore  Ein <CODE>ShardedRemoteHashMapImpl</CODE>.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public void registerRemoteStore(RemoteStore remoteStore)
+        throws RemoteException {
+
+        RemoteStore[] peerShards = peerShards(remoteStore);
+
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("registering RemoteStore: " + remoteStore
+                        + " in " + shards.length + " shards");
+        }
+
+        for (int i = 0; i < shards.length; i++) {
+            shards[i].registerRemoteStore(peerShards[i]);
+        }
+    }
+
+    /**
+     * Meldet die Teile des bergebenen RemoteStore bei den Teilen mit
+     * gleichem Index ab.
+     *
+     * @param remoteStore  Ein <CODE>ShardedRemoteHashMapImpl</CODE>.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public void unregisterRemoteStore(RemoteStore remoteStore)
+        throws RemoteException {
+
+        RemoteStore[] peerShards = peerShards(remoteStore);
+
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("unregistering RemoteStore: " + remoteStore
+                        + " in " + shards.length + " shards");
+        }
+
+        for (int i = 0; i < shards.length; i++) {
+            shards[i].unregisterRemoteStore(peerShards[i]);
+        }
+    }
+
+    /**
+     * Liefert die Anzahl der nderungen, die in allen Teilen noch auf die
+     * bertragung an die angemeldeten RemoteHashMaps warten.
+     *
+     * @return  Die Anzahl der wartenden nderungen.
+     */
+    public long getPendingReplications() {
+        long pending = 0;
+
+        for (int i = 0; i < shards.length; i++) {
+            pending += shards[i].getPendingReplications();
+        }
+        return pending;
+    }
+
+    /**
+     * Beendet alle Teile und diesen RemoteStore und meldet sie insbesondere
+     * als RMI-Dienst ab.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public void terminate() throws RemoteException {
+
+        for (int i = 0; i < shards.length; i++) {
+            shards[i].terminate();
+        }
+
+        boolean success = unexportObject(this, true);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("unexportObject Erfolg : " + success);
+        }
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * file:        ShardedRemoteHashMapImpl.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.remotestore.hashmap.impl;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.rmi.RemoteException;
+import java.rmi.server.UnicastRemoteObject;
+
+import de.unistuttgart.architeuthis.remotestore.ShardedStore;
+import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
+import de.unistuttgart.architeuthis.remotestore.hashmap.UserRemoteHashMap;
+
+/**
+ * Verteilter RemoteStore zu einem <CODE>ShardedRelayHashMapImpl</CODE>. Er
+ * besteht aus ebenso vielen Instanzen von <CODE>RemoteHashMapImpl</CODE>,
+ * von denen jede beim Teil des zentralen RemoteStore mit gleichem Index
+ * angemeldet wird. Jedes Objekt-Paar wird anhand des Hash-Codes seines
+ * key-Objekts einem Teil zugeordnet und nur von diesem gespeichert und
+ * bertragen. Die Schreibzugriffe auf verschiedene Teile werden dadurch
+ * unabhngig voneinander bertragen und vom zentralen RemoteStore
+ * unabhngig voneinander verarbeitet.<P>
+ *
+ * Die key-Objekte mssen daher in allen JVMs denselben Hash-Code liefern,
+ * wie es z.B. bei <CODE>String</CODE> und <CODE>Integer</CODE> der Fall
+ * ist.
+ */
+public class ShardedRemoteHashMapImpl extends UnicastRemoteObject
+    implements UserRemoteHashMap, ShardedStore {
+
+    /**
+     * Generierte <code>serialVersionUID</code>.
+     */
+    private static final long serialVersionUID = -2390417765120843186L;
+
+    /**
+     * Standard Logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ShardedRemoteHashMapImpl.class.getName());
+
+    /**
+     * Die Teile dieses RemoteStore.
+     */
+    private RemoteHashMapImpl[] parts;
+
+    /**
+     * Dient zur Synchronisation des Zugriffs auf <CODE>relayStore</CODE>
+     * und <CODE>relayShards</CODE>.
+     */
+    private Object relayStoreSyncObj = new Object();
+
+    /**
+     * Der zentrale RemoteStore, bei dem dieses Objekt angemeldet ist.
+     */
+    private RemoteStore relayStore = null;
+
+    /**
+     * Die Teile des zentralen RemoteStore, bei denen die Teile dieses
+     * Objekts angemeldet sind.
+     */
+    private RemoteStore[] relayShards = null;
+
+    /**
+     * Erzeugt eine neue Instanz, deren Teile die nderungen asynchron an
+     * die Teile des zentralen RemoteStore bertragen.
+     *
+     * @param shardNumber   Die Anzahl der Teile. Diese mu grer oder
+     *                      gleich Eins sein.
+     * @param maxBatchSize  Die maximale Anzahl von Objekten, die ein Teil
+     *                      zusammen bertrgt.
+     * @param lingerTime    Die Zeit in Millisekunden, die nach dem
+     *                      Eintreffen eines Objekts auf weitere Objekte
+     *                      gewartet wird.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    public ShardedRemoteHashMapImpl(int shardNumber, int maxBatchSize,
+                                    long lingerTime)
+        throws RemoteException {
+
+        if (shardNumber < 1) {
+            throw new IllegalArgumentException("Anzahl der Teile kleiner Eins");
+        }
+
+        parts = new RemoteHashMapImpl[shardNumber];
+        for (int i = 0; i < shardNumber; i++) {
+            parts[i] = new RemoteHashMapImpl(maxBatchSize, lingerTime);
+        }
+    }
+
+    /**
+     * Liefert den Index des Teils, dem das bergebene key-Objekt zugeordnet
+     * ist.
+     *
+     * @param key  Das key-Objekt.
+     *
+     * @return  Der Index des Teils.
+     */
+    private int shardIndex(Object key) {
+        if (key == null) {
+            return 0;
+        }
+        return ((key.hashCode() & Integer.MAX_VALUE) % parts.length);
+    }
+
+    /**
+     * Liefert die Teile dieses RemoteStore.
+     *
+     * @return  Die Teile in der Reihenfolge ihres Index.
+     */
+    public RemoteStore[] getShards() {
+        RemoteStore[] result = new RemoteStore[parts.length];
+
+        System.arraycopy(parts, 0, result, 0, parts.length);
+        return result;
+    }
+
+    /**
+     * Anmelden eines <CODE>ShardedRelayHashMapImpl</CODE>. Dabei wird jeder
+     * Teil dieses Objekts beim Teil mit gleichem Index angemeldet.
+     *
+     * @param remoteStore  Das anzumendende Speicherobjekt. Wenn der Wert
+     *                     <CODE>null</CODE> ist, passiert nichts.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public void registerRemoteStore(RemoteStore remoteStore)
+        throws RemoteException {
+
+        RemoteStore[] shards;
+
+        if (remoteStore == null) {
+            return;
+        }
+
+        shards = ((ShardedStore) remoteStore).getShards();
+        if (shards.length != parts.length) {
+            throw new IllegalArgumentException("RemoteStore hat "
+                                               + shards.length
+                                               + " statt " + parts.length
+                                               + " Teile");
+        }
+
+        synchronized (relayStoreSyncObj) {
+            for (int i = 0; i < parts.length; i++) {
+                parts[i].registerRemoteStore(shards[i]);
+            }
+            relayStore = remoteStore;
+            relayShards = shards;
+        }
+    }
+
+    /**
+     * Abmelden eines <CODE>ShardedRelayHashMapImpl</CODE>. Dabei werden alle
+     * noch ausstehenden nderungen bertragen.
+     *
+     * @param remoteStore  Das abzumendende Speicherobjekt. Wenn der Wert
+     *                     <CODE>null</CODE> ist oder ein anderer RemoteStore
+     *                     als der registrierte, passiert nichts.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public void unregisterRemoteStore(RemoteStore remoteStore)
+        throws RemoteException {
+
+        synchronized (relayStoreSyncObj) {
+            if ((remoteStore != null) && remoteStore.equals(relayStore)) {
+                for (int i = 0; i < parts.length; i++) {
+                    parts[i].unregisterRemoteStore(relayShards[i]);
+                }
+                relayStore = null;
+                relayShards = null;
+            }
+        }
+    }
+
+    /**
+     * Beendet alle Teile und diesen RemoteStore und meldet sie insbesondere
+     * als RMI-Dienst ab.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public void terminate() throws RemoteException {
+
+        for (int i = 0; i < parts.length; i++) {
+            parts[i].terminate();
+        }
+
+        boolean success = unexportObject(this, true);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine("unexportObject Erfolg : " + success);
+        }
+    }
+
+    /**
+     * Speichert zu einen key-Objekt ein value-Objekt im zugehrigen Teil,
+     * der das Objekt-Paar an den zentralen RemoteStore weitergibt.
+     *
+     * @param key    Das key-Objekt, unter dem das value-Objekt gespeichert
+     *               wird.
+     * @param value  Das value-Objekt, das zum key-Objekt gespeichert wird.
+     *
+     * @throws RemoteException  Bei einem RMI-Probleme.
+     */
+    public void put(Serializable key, Serializable value) throws RemoteException {
+        parts[shardIndex(key)].put(key, value);
+    }
+
+    /**
+     * Speichert die Eintrge der bergebenen Map, die serialisierbar sein
+     * mssen. Die Eintrge werden nach den zugehrigen Teilen aufgeteilt
+     * und jeweils mit einem Aufruf an diese bergeben.
+     *
+     * @param map  Die Map, deren Eintrge gespeichert werden.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public void putAll(Map map) throws RemoteException {
+        HashMap[] partMaps = new HashMap[parts.length];
+        Iterator iter = map.entrySet().iterator();
+        Map.Entry entry;
+        int index;
+
+        while (iter.hasNext()) {
+            entry = (Map.Entry) iter.next();
+            index = shardIndex(entry.getKey());
+            if (partMaps[index] == null) {
+                partMaps[index] = new HashMap();
+            }
+            partMaps[index].put(entry.getKey(), entry.getValue());
+        }
+
+        for (int i = 0; i < parts.length; i++) {
+            if (partMaps[i] != null) {
+                parts[i].putAll(partMaps[i]);
+            }
+        }
+    }
+
+    /**
+     * Liefert zu einem key-Objekt das lokal gespeicherte value-Objekt.
+     *
+     * @param key  Ein key-Objekt.
+     *
+     * @return  Das zugehrige value-Objekt oder <CODE>null</CODE>, wenn das
+     *          key-Objekt nicht enthalten ist.
+     *
+     * @throws RemoteException  Bei einem RMI-Problem.
+     */
+    public Serializable get(Serializable key) throws RemoteException {
+        return parts[shardIndex(key)].get(key);
+    }
+
+    /**
+     * Liefert die Anzahl der in allen Teilen lokal enthaltenen
+     * Objekt-Paare.
+     *
+     * @return  Die Anzahl der enthaltenen Objekt-Paare.
+     *
+     * @throws RemoteException  Bei einem RMI Problem.
+     */
+    public int size() throws RemoteException {
+        int size = 0;
+
+        for (int i = 0; i < parts.length; i++) {
+            size += parts[i].size();
+        }
+        return size;
+    }
+
+    /**
+     * Liefert eine <CODE>HashMap</CODE> mit den Objekt-Paaren aller Teile.
+     *
+     * @return  Eine <CODE>HashMap</CODE> mit allen Objekt-Paaren.
+     *
+     * @throws RemoteException  Wenn bei der RMI Kommunikation ein
+     *                          Fehler auftritt.
+     */
+    public HashMap getHashMap() throws RemoteException {
+        HashMap hashMap = new HashMap();
+
+        for (int i = 0; i < parts.length; i++) {
+            hashMap.putAll(parts[i].getHashMap());
+        }
+        return hashMap;
+    }
+}
@@ -33,7 +33,7 @@ package de.unistuttgart.architeuthis.remotestore.hashmap.interf;
 import java.util.Map;
 import java.rmi.RemoteException;
 
-import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
+import de.unistuttgart.architeuthis.remotestore.VersionedStore;
 
 /**
  * Dieses Interface gibt die Methoden vor, die fr einen RemoteStore zu
@@ -43,7 +43,7 @@ import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
  *
  * @author Dietmar Lippold
  */
-public interface LocalHashMap extends RemoteStore {
+public interface LocalHashMap extends VersionedStore {
 
     /**
      * Speichert zu einen key-Objekt ein value-Objekt nur lokal, ohne das
@@ -0,0 +1,118 @@
+/*
+ * file:        HashSetPeerProc.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.remotestore.hashset.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.HashSet;
+import java.rmi.RemoteException;
+
+import de.unistuttgart.architeuthis.remotestore.TransmitObject;
+import de.unistuttgart.architeuthis.remotestore.TransmitProcedure;
+import de.unistuttgart.architeuthis.remotestore.hashset.interf.LocalHashSet;
+
+/**
+ * Implementiert die bertragung von nderungen vom zentralen
+ * <CODE>RelayHashSet</CODE> an ein verteiltes <CODE>RemoteHashSet</CODE>,
+ * bei dem die nderungen nur lokal ausgefhrt werden.
+ */
+public class HashSetPeerProc implements TransmitProcedure {
+
+    /**
+     * Der verteilte RemoteStore, an den die Daten bertragen werden sollen.
+     */
+    private LocalHashSet peerStore;
+
+    /**
+     * Erzeugt eine Instanz.
+     *
+     * @param peerStore  Der verteilte RemoteStore, an den die nderungen
+     *                   bertragen werden.
+     */
+    public HashSetPeerProc(LocalHashSet peerStore) {
+        this.peerStore = peerStore;
+    }
+
+    /**
+     * bertragt die im bergebenen Objekt enthaltene nderung zum verteilten
+     * RemoteStore, der im Konstruktor angegeben wurde.
+     *
+     * @param transObject  Das Objekt, das das zu bertragende Objekt enthlt.
+     *
+     * @throws RemoteException           Bei einem RMI Problem.
+     * @throws IllegalArgumentException  Wenn das bergebene Objekt keinen
+     *                                   zulssigen Typs besitzt.
+     */
+    public void transmit(TransmitObject transObject) throws RemoteException {
+
+        if (transObject instanceof AddObject) {
+
+            peerStore.addLocal(transObject.storedObject());
+
+        } else if (transObject instanceof AddAllObject) {
+
+            peerStore.addAllLocal((Collection) transObject.storedObject());
+
+        } else if (transObject instanceof RemoveObject) {
+
+            peerStore.removeLocal(transObject.storedObject());
+
+        } else if (transObject instanceof RemoveAllObject) {
+
+            peerStore.removeAllLocal((Collection) transObject.storedObject());
+
+        } else {
+
+            throw new IllegalArgumentException("Besitzt keinen zulssiger Typ: "
+                                               + transObject);
+
+        }
+    }
+
+    /**
+     * bertragt die in den bergebenen Objekten enthaltenen nderungen
+     * zusammengefat mit hchstens einem Aufruf von
+     * <CODE>removeAllLocal</CODE> und einem Aufruf von
+     * <CODE>addAllLocal</CODE> zum verteilten RemoteStore.
+     *
+     * @param transObjects  Die Liste der Objekte, die die zu bertragenden
+     *                      Objekte enthalten.
+     *
+     * @throws RemoteException           Bei einem RMI Problem.
+     * @throws IllegalArgumentException  Wenn ein bergebenes Objekt keinen
+     *                                   zulssigen Typs besitzt.
+     */
+    public void transmitBatch(List transObjects) throws RemoteException {
+        HashSet toAdd = new HashSet();
+        HashSet toRemove = new HashSet();
+
+        HashSetTransProc.coalesce(transObjects, toAdd, toRemove);
+        if (!toRemove.isEmpty()) {
+            peerStore.removeAllLocal(toRemove);
+        }
+        if (!toAdd.isEmpty()) {
+            peerStore.addAllLocal(toAdd);
+        }
+    }
+}
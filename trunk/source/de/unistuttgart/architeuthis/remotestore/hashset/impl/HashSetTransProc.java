@@ -31,6 +31,9 @@
 package de.unistuttgart.architeuthis.remotestore.hashset.impl;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Iterator;
+import java.util.HashSet;
 import java.io.Serializable;
 import java.rmi.RemoteException;
 
@@ -108,5 +111,116 @@ public class HashSetTransProc implements TransmitProcedure {
 
         }
     }
+
+    /**
+     * Vermerkt das Hinzufgen eines Objekts fr die Stapelbertragung. Ein
+     * zuvor vermerktes Entfernen des Objekts wird damit aufgehoben.
+     *
+     * @param object    Das hinzuzufgende Objekt.
+     * @param toAdd     Die Menge der hinzuzufgenden Objekte.
+     * @param toRemove  Die Menge der zu entfernenden Objekte.
+     */
+    private static void noteAdd(Object object, HashSet toAdd,
+                                HashSet toRemove) {
+        toRemove.remove(object);
+        toAdd.add(object);
+    }
+
+    /**
+     * Vermerkt das Entfernen eines Objekts fr die Stapelbertragung. Ein
+     * zuvor vermerktes Hinzufgen des Objekts wird damit aufgehoben.
+     *
+     * @param object    Das zu entfernende Objekt.
+     * @param toAdd     Die Menge der hinzuzufgenden Objekte.
+     * @param toRemove  Die Menge der zu entfernenden Objekte.
+     */
+    private static void noteRemove(Object object, HashSet toAdd,
+                                   HashSet toRemove) {
+        toAdd.remove(object);
+        toRemove.add(object);
+    }
+
+    /**
+     * Ermittelt aus den in den bergebenen Objekten enthaltenen nderungen
+     * die Mengen der hinzuzufgenden und der zu entfernenden Objekte. Fr
+     * jedes Objekt gilt dabei nur die letzte nderung, so da beide Mengen
+     * disjunkt sind und ihre Anwendung in beliebiger Reihenfolge dieselbe
+     * Wirkung hat wie die einzelnen nderungen in der Reihenfolge der Liste.
+     *
+     * @param transObjects  Die Liste der Objekte, die die zu bertragenden
+     *                      Objekte enthalten.
+     * @param toAdd         Die Menge, in die die hinzuzufgenden Objekte
+     *                      aufgenommen werden.
+     * @param toRemove      Die Menge, in die die zu entfernenden Objekte
+     *                      aufgenommen werden.
+     *
+     * @throws IllegalArgumentException  Wenn ein bergebenes Objekt keinen
+     *                                   zulssigen Typs besitzt.
+     */
+    static void coalesce(List transObjects, HashSet toAdd, HashSet toRemove) {
+        Iterator iter = transObjects.iterator();
+        Iterator elemIter;
+
+        while (iter.hasNext()) {
+            TransmitObject transObject = (TransmitObject) iter.next();
+
+            if (transObject instanceof AddObject) {
+
+                noteAdd(transObject.storedObject(), toAdd, toRemove);
+
+            } else if (transObject instanceof AddAllObject) {
+
+                elemIter = ((Collection) transObject.storedObject()).iterator();
+                while (elemIter.hasNext()) {
+                    noteAdd(elemIter.next(), toAdd, toRemove);
+                }
+
+            } else if (transObject instanceof RemoveObject) {
+
+                noteRemove(transObject.storedObject(), toAdd, toRemove);
+
+            } else if (transObject instanceof RemoveAllObject) {
+
+                elemIter = ((Collection) transObject.storedObject()).iterator();
+                while (elemIter.hasNext()) {
+                    noteRemove(elemIter.next(), toAdd, toRemove);
+                }
+
+            } else {
+
+                throw new IllegalArgumentException("Besitzt keinen zulssiger Typ: "
+                                                   + transObject);
+
+            }
+        }
+    }
+
+    /**
+     * bertragt die in den bergebenen Objekten enthaltenen nderungen mit
+     * hchstens einem Aufruf von <CODE>removeAll</CODE> und einem Aufruf von
+     * <CODE>addAll</CODE> zum zentralen <CODE>RelayHashSet</CODE>. Fr jedes
+     * Objekt wird dabei nur die letzte nderung bertragen, so da die
+     * Wirkung dieselbe ist wie bei einzelner bertragung in der Reihenfolge
+     * der Liste.
+     *
+     * @param transObjects  Die Liste der Objekte, die die zu bertragenden
+     *                      Objekte enthalten.
+     *
+     * @throws RemoteException           Bei einem RMI Problem.
+     * @throws IllegalArgumentException  Wenn ein bergebenes Objekt keinen
+     *                                   zulssigen Typs besitzt.
+     */
+    public void transmitBatch(List transObjects) throws RemoteException {
+        HashSet toAdd = new HashSet();
+        HashSet toRemove = new HashSet();
+
+        coalesce(transObjects, toAdd, toRemove);
+        if (!toRemove.isEmpty()) {
+            relayStore.removeAll(toRemove, localStore);
+        }
+        if (!toAdd.isEmpty()) {
+            relayStore.addAll(toAdd, localStore);
+        }
+    }
 }
 
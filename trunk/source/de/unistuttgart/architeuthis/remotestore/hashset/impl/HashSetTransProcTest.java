@@ -0,0 +1,131 @@
+/*
+ * file:        HashSetTransProcTest.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.remotestore.hashset.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import de.unistuttgart.architeuthis.remotestore.TransmitObject;
+
+/**
+ * Tests fr die Zusammenfassung von nderungen durch
+ * {@link HashSetTransProc#coalesce(List, HashSet, HashSet)}.
+ */
+public class HashSetTransProcTest extends TestCase {
+
+    /**
+     * Die hinzuzufgenden Objekte nach der Zusammenfassung.
+     */
+    private HashSet toAdd;
+
+    /**
+     * Die zu entfernenden Objekte nach der Zusammenfassung.
+     */
+    private HashSet toRemove;
+
+    /**
+     * Fat die bergebenen nderungen zusammen.
+     *
+     * @param transObjects  Die zusammenzufassenden nderungen.
+     */
+    private void coalesce(TransmitObject[] transObjects) {
+        toAdd = new HashSet();
+        toRemove = new HashSet();
+        HashSetTransProc.coalesce(Arrays.asList(transObjects), toAdd,
+                                  toRemove);
+    }
+
+    /**
+     * Erzeugt eine Menge mit den bergebenen Objekten.
+     *
+     * @param objects  Die Objekte der Menge.
+     *
+     * @return  Die erzeugte Menge.
+     */
+    private static HashSet set(Object[] objects) {
+        return new HashSet(Arrays.asList(objects));
+    }
+
+    /**
+     * Testet, da fr jedes Objekt die letzte nderung gilt.
+     */
+    public void testLastChangeWins() {
+        coalesce(new TransmitObject[] {
+            new AddObject("a"),
+            new RemoveObject("a"),
+            new RemoveObject("b"),
+            new AddObject("b"),
+            new AddObject("c"),
+            new AddObject("c"),
+            new RemoveObject("d")});
+
+        assertEquals(set(new Object[] {"b", "c"}), toAdd);
+        assertEquals(set(new Object[] {"a", "d"}), toRemove);
+    }
+
+    /**
+     * Testet, da die Elemente von <code>addAll</code> und
+     * <code>removeAll</code> einzeln zusammengefat werden.
+     */
+    public void testCollections() {
+        coalesce(new TransmitObject[] {
+            new AddAllObject(Arrays.asList(new Object[] {"a", "b", "c"})),
+            new RemoveObject("b"),
+            new RemoveAllObject(Arrays.asList(new Object[] {"c", "d"})),
+            new AddObject("d")});
+
+        assertEquals(set(new Object[] {"a", "d"}), toAdd);
+        assertEquals(set(new Object[] {"b", "c"}), toRemove);
+    }
+
+    /**
+     * Testet eine leere Liste von nderungen.
+     */
+    public void testEmpty() {
+        coalesce(new TransmitObject[0]);
+
+        assertTrue(toAdd.isEmpty());
+        assertTrue(toRemove.isEmpty());
+    }
+
+    /**
+     * Testet, da ein unzulssiges Objekt abgelehnt wird.
+     */
+    public void testIllegalType() {
+        List transObjects = new ArrayList();
+
+        transObjects.add(new TransmitObject("a"));
+        try {
+            HashSetTransProc.coalesce(transObjects, new HashSet(),
+                                      new HashSet());
+            fail("IllegalArgumentException erwartet");
+        } catch (IllegalArgumentException e) {
+            // erwartet
+        }
+    }
+}
@@ -33,12 +33,12 @@ package de.unistuttgart.architeuthis.remotestore.hashset.impl;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.rmi.RemoteException;
 
 import de.unistuttgart.architeuthis.remotestore.AbstractRelayStore;
+import de.unistuttgart.architeuthis.remotestore.TransmitProcedure;
 import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
 import de.unistuttgart.architeuthis.remotestore.hashset.interf.LocalHashSet;
 import de.unistuttgart.architeuthis.remotestore.hashset.interf.RelayHashSet;
@@ -77,24 +77,47 @@ public class RelayHashSetImpl extends AbstractRelayStore implements RelayHashSet
     }
 
     /**
-     * Anmeldung eines <CODE>RemoteHashSet</CODE>. Dabei wird diesem der
-     * aktuelle Inhalt dieses Objekts hinzugefgt.
+     * Konstruktor, der die Weitergabe an die registrierten RemoteHashSets
+     * festlegt.
      *
-     * @param remoteStore  Ein neues <CODE>RemoteHashSet</CODE>
+     * @param maxBatchSize   Die maximale Anzahl von nderungen, die zusammen
+     *                       an ein RemoteHashSet bertragen werden.
+     * @param queueCapacity  Die maximale Anzahl von nderungen, die fr
+     *                       ein RemoteHashSet auf die bertragung warten
+     *                       knnen.
      *
-     * @throws RemoteException  Bei einem Probleme mit einem RMI Zugriff.
+     * @throws RemoteException  Bei einem RMI-Problem.
      */
-    public synchronized void registerRemoteStore(RemoteStore remoteStore)
+    public RelayHashSetImpl(int maxBatchSize, int queueCapacity)
         throws RemoteException {
 
-        LocalHashSet remoteHashSet = (LocalHashSet) remoteStore;
+        super(maxBatchSize, queueCapacity);
+    }
 
-        // Die aktuellen Elemente dem zu registrierenden RemoteStore
-        // hinzufgen.
-        remoteHashSet.addAllLocal(hashSet);
+    /**
+     * Liefert die Prozedur, mit der nderungen an das bergebene
+     * <CODE>RemoteHashSet</CODE> bertragen werden.
+     *
+     * @param remoteStore  Ein registriertes <CODE>RemoteHashSet</CODE>.
+     *
+     * @return  Die Prozedur zur bertragung an das RemoteHashSet.
+     */
+    protected TransmitProcedure peerProcedure(RemoteStore remoteStore) {
+        return new HashSetPeerProc((LocalHashSet) remoteStore);
+    }
 
-        // Den zu registrierenden RemoteStore speichern.
-        super.registerRemoteStore(remoteStore);
+    /**
+     * bertrgt den aktuellen Inhalt dieses Objekts an ein neu angemeldetes
+     * <CODE>RemoteHashSet</CODE>.
+     *
+     * @param remoteStore  Ein neues <CODE>RemoteHashSet</CODE>
+     *
+     * @throws RemoteException  Bei einem Probleme mit einem RMI Zugriff.
+     */
+    protected void transmitSnapshot(RemoteStore remoteStore)
+        throws RemoteException {
+
+        ((LocalHashSet) remoteStore).addAllLocal(hashSet);
     }
 
     /**
@@ -110,24 +133,23 @@ public class RelayHashSetImpl extends AbstractRelayStore implements RelayHashSet
      *
      * @throws RemoteException  Bei einem RMI-Problem.
      */
-    public synchronized void add(Serializable object, LocalHashSet remoteStore)
+    public void add(Serializable object, LocalHashSet remoteStore)
         throws RemoteException {
 
+        Transmission transmission;
+
         if (LOGGER.isLoggable(Level.FINEST)) {
             LOGGER.finest("called add for : " + object);
         }
 
-        // Erstmal den Delegatee updaten.
-        hashSet.add(object);
+        synchronized (this) {
+            // Erstmal den Delegatee updaten.
+            hashSet.add(object);
 
-        // Das Objekt an alle RemoteHashSets bertragen.
-        Iterator iterator = getRemoteStoreIterator();
-        while (iterator.hasNext()) {
-            LocalHashSet peer = (LocalHashSet) iterator.next();
-            if (!peer.equals(remoteStore)) {
-                peer.addLocal(object);
-            }
+            // Das Objekt an alle RemoteHashSets bertragen.
+            transmission = transmitToPeers(new AddObject(object), remoteStore);
         }
+        awaitTransmission(transmission);
     }
 
     /**
@@ -145,26 +167,26 @@ public class RelayHashSetImpl extends AbstractRelayStore implements RelayHashSet
      *
      * @throws RemoteException  Bei einem RMI-Problem.
      */
-    public synchronized void addAll(Collection collection,
-                                    LocalHashSet remoteStore)
+    public void addAll(Collection collection,
+                       LocalHashSet remoteStore)
         throws RemoteException {
 
+        Transmission transmission;
+
         if (LOGGER.isLoggable(Level.FINEST)) {
             LOGGER.finest("called addAll, number of elements = "
                           + collection.size());
         }
 
-        // Erstmal den Delegatee updaten.
-        hashSet.addAll(collection);
+        synchronized (this) {
+            // Erstmal den Delegatee updaten.
+            hashSet.addAll(collection);
 
-        // Das Objekt an alle RemoteHashSets bertragen.
-        Iterator iterator = getRemoteStoreIterator();
-        while (iterator.hasNext()) {
-            LocalHashSet peer = (LocalHashSet) iterator.next();
-            if (!peer.equals(remoteStore)) {
-                peer.addAllLocal(collection);
-            }
+            // Das Objekt an alle RemoteHashSets bertragen.
+            transmission = transmitToPeers(new AddAllObject(collection),
+                                           remoteStore);
         }
+        awaitTransmission(transmission);
     }
 
     /**
@@ -180,24 +202,24 @@ public class RelayHashSetImpl extends AbstractRelayStore implements RelayHashSet
      *
      * @throws RemoteException  Bei einem RMI-Problem.
      */
-    public synchronized void remove(Serializable object, LocalHashSet remoteStore)
+    public void remove(Serializable object, LocalHashSet remoteStore)
         throws RemoteException {
 
+        Transmission transmission;
+
         if (LOGGER.isLoggable(Level.FINEST)) {
             LOGGER.finest("called remove for : " + object);
         }
 
-        // Erstmal den Delegatee updaten.
-        hashSet.remove(object);
+        synchronized (this) {
+            // Erstmal den Delegatee updaten.
+            hashSet.remove(object);
 
-        // Das Objekt an alle RemoteHashSets bertragen.
-        Iterator iterator = getRemoteStoreIterator();
-        while (iterator.hasNext()) {
-            LocalHashSet peer = (LocalHashSet) iterator.next();
-            if (!peer.equals(remoteStore)) {
-                peer.removeLocal(object);
-            }
+            // Das Objekt an alle RemoteHashSets bertragen.
+            transmission = transmitToPeers(new RemoveObject(object),
+                                           remoteStore);
         }
+        awaitTransmission(transmission);
     }
 
     /**
@@ -215,26 +237,26 @@ public class RelayHashSetImpl extends AbstractRelayStore implements RelayHashSet
      *
      * @throws RemoteException  Bei einem RMI-Problem.
      */
-    public synchronized void removeAll(Collection collection,
-                                       LocalHashSet remoteStore)
+    public void removeAll(Collection collection,
+                          LocalHashSet remoteStore)
         throws RemoteException {
 
+        Transmission transmission;
+
         if (LOGGER.isLoggable(Level.FINEST)) {
             LOGGER.finest("called removeAll, number of elements = "
                           + collection.size());
         }
 
-        // Erstmal den Delegatee updaten.
-        hashSet.removeAll(collection);
+        synchronized (this) {
+            // Erstmal den Delegatee updaten.
+            hashSet.removeAll(collection);
 
-        // Das Objekt an alle RemoteHashSets bertragen.
-        Iterator iterator = getRemoteStoreIterator();
-        while (iterator.hasNext()) {
-            LocalHashSet peer = (LocalHashSet) iterator.next();
-            if (!peer.equals(remoteStore)) {
-                peer.removeAllLocal(collection);
-            }
+            // Das Objekt an alle RemoteHashSets bertragen.
+            transmission = transmitToPeers(new RemoveAllObject(collection),
+                                           remoteStore);
         }
+        awaitTransmission(transmission);
     }
 }
 
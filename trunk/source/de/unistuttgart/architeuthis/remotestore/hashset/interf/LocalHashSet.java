@@ -33,7 +33,7 @@ package de.unistuttgart.architeuthis.remotestore.hashset.interf;
 import java.util.Collection;
 import java.rmi.RemoteException;
 
-import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
+import de.unistuttgart.architeuthis.remotestore.VersionedStore;
 
 /**
  * Dieses Interface gibt die Methoden vor, die fr einen RemoteStore zu
@@ -42,7 +42,7 @@ import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
  *
  * @author Dietmar Lippold
  */
-public interface LocalHashSet extends RemoteStore {
+public interface LocalHashSet extends VersionedStore {
 
     /**
      * Speichert das bergebene Objekt nur im lokalen HashSet, ohne es an das
@@ -56,14 +56,38 @@ public interface ComputeManager extends Remote {
     public static final String COMPUTEMANAGER_ID_STRING = "ComputeManager";
 
     /**
-     * Registrierung eines Operative am ComputeManager.
+     * Registrierung eines Operative am ComputeManager. Der Operative kann
+     * bis zu <CODE>slots</CODE> Teilprobleme gleichzeitig berechnen.
      *
-     * @param  operative Referenz auf Operative.
+     * @param  operative  Referenz auf Operative.
+     * @param  slots      Die Anzahl der Slots, d.h. der Teilprobleme, die der
+     *                    Operative gleichzeitig berechnen kann. Ein Wert
+     *                    kleiner als Eins wird als Eins interpretiert.
      *
      * @throws RemoteException  bei RMI-Verbindungsproblemen.
      */
-    public abstract void registerOperative(Operative operative)
+    public abstract void registerOperative(Operative operative, int slots)
         throws RemoteException;
+
+    /**
+     * Registrierung eines Operative am ComputeManager unter Angabe seiner
+     * Leistungsmerkmale. Diese dienen dem ComputeManager als erste Schtzung
+     * der Geschwindigkeit des Operatives.
+     *
+     * @param  operative     Referenz auf Operative.
+     * @param  slots         Die Anzahl der Slots, d.h. der Teilprobleme, die
+     *                       der Operative gleichzeitig berechnen kann. Ein
+     *                       Wert kleiner als Eins wird als Eins
+     *                       interpretiert.
+     * @param  capabilities  Die Leistungsmerkmale des Operatives oder
+     *                       <CODE>null</CODE>, wenn sie nicht bekannt sind.
+     *
+     * @throws RemoteException  bei RMI-Verbindungsproblemen.
+     */
+    public abstract void registerOperative(Operative operative, int slots,
+                                           OperativeCapabilities capabilities)
+        throws RemoteException;
+
     /**
      * Meldet einen Operative vom ComputeManager ab.
      *
@@ -81,11 +105,49 @@ public interface ComputeManager extends Remote {
      * @param  parSol     Teillsungsobjekt.
      * @param  operative  Referenz auf den Operative, der die Berechnung
      *                    durchgefhrt hat.
+     * @param  slot       Die Nummer des Slots, auf dem die Berechnung
+     *                    durchgefhrt wurde.
      *
      * @throws RemoteException  bei RMI-Verbindungsproblemen.
      */
     public abstract void collectPartialSolution(PartialSolution parSol,
-                                                Operative operative)
+                                                Operative operative,
+                                                int slot)
+        throws RemoteException;
+
+    /**
+     * Diese Remote-Methode wird von einem Operative aufgerufen um dem
+     * ComputeManager mit einem Aufruf mehrere berechnete Teillsungen zu
+     * bermitteln.
+     *
+     * @param  parSols    Die Teillsungen.
+     * @param  operative  Referenz auf den Operative, der die Berechnungen
+     *                    durchgefhrt hat.
+     * @param  slots      Die Nummern der Slots, auf denen die Berechnungen
+     *                    durchgefhrt wurden. Die Teillsung mit einem
+     *                    bestimmten Index wurde auf dem Slot mit dem gleichen
+     *                    Index berechnet.
+     *
+     * @throws RemoteException  bei RMI-Verbindungsproblemen.
+     */
+    public abstract void collectPartialSolutions(PartialSolution[] parSols,
+                                                 Operative operative,
+                                                 int[] slots)
+        throws RemoteException;
+
+    /**
+     * Diese Remote-Methode wird von einem Operative, der einen Vorrat an
+     * Teilproblemen hlt, aufgerufen, wenn auf einem Slot die Berechnung
+     * eines Teilproblems tatschlich beginnt. Bis dahin hat das Teilproblem
+     * darauf gewartet, da eine andere Berechnung des Operatives endet.
+     *
+     * @param  operative  Referenz auf den Operative.
+     * @param  slot       Die Nummer des Slots, auf dem die Berechnung
+     *                    beginnt.
+     *
+     * @throws RemoteException  bei RMI-Verbindungsproblemen.
+     */
+    public abstract void notifyComputationStart(Operative operative, int slot)
         throws RemoteException;
 
     /**
@@ -93,12 +155,14 @@ public interface ComputeManager extends Remote {
      *
      * @param operative         Referenz auf den Operative, auf dem der Fehler
      *                          auftrat.
+     * @param slot              Die Nummer des Slots, auf dem der Fehler
+     *                          auftrat.
      * @param exceptionCode     Integerwert, der die Ausnahme charakterisisert.
      * @param exceptionMessage  Fehlermeldung um die Ausnahme nher zu beschreiben.
      * @throws RemoteException  bei RMI-Verbindungsproblemen.
      */
-    public void reportException(Operative operative, int exceptionCode,
-                                String exceptionMessage)
+    public void reportException(Operative operative, int slot,
+                                int exceptionCode, String exceptionMessage)
         throws RemoteException;
 }
 
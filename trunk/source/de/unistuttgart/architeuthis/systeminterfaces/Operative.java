@@ -46,7 +46,11 @@ import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStore;
 import de.unistuttgart.architeuthis.userinterfaces.develop.RemoteStoreGenerator;
 
 /**
- * RMI Remote-Interface des Operative.
+ * RMI Remote-Interface des Operative. Ein Operative stellt einen oder
+ * mehrere Berechnungspltze (Slots) zur Verfgung, von denen jeder genau ein
+ * Teilproblem gleichzeitig berechnen kann. Die Slots werden fortlaufend ab
+ * Null numeriert und ihre Anzahl wird bei der Anmeldung am ComputeManager
+ * mitgeteilt.
  *
  * @author Jrgen Heit
  */
@@ -64,9 +68,11 @@ public interface Operative extends Remote {
     public boolean isReachable() throws RemoteException;
 
     /**
-     * Wird vom ComputeManager aufgerufen um einem unttigen Operative ein
-     * neues Teilproblem zuzuweisen.
+     * Wird vom ComputeManager aufgerufen um einem unttigen Slot des
+     * Operative ein neues Teilproblem zuzuweisen.
      *
+     * @param slot         Die Nummer des Slots, der das Teilproblem berechnen
+     *                     soll.
      * @param parProb      Vom Operative zu berechnendes Teilproblem
      * @param remoteStore  Zentraler RemoteStore oder <CODE>null</CODE>, falls
      *                     keiner verwendet wird
@@ -82,20 +88,51 @@ public interface Operative extends Remote {
      *                                  und zentralem <CODE>RemoteStore</CODE>
      *                                  war nicht mglich.
      */
-    public void fetchPartialProblem(PartialProblem parProb,
+    public void fetchPartialProblem(int slot,
+                                    PartialProblem parProb,
                                     RemoteStore remoteStore,
                                     RemoteStoreGenerator generator)
         throws RemoteException, ProblemComputeException,
                RemoteStoreGenException, RemoteStoreException;
 
+    /**
+     * Wird vom ComputeManager aufgerufen, um mehreren unttigen Slots des
+     * Operative mit einem Aufruf jeweils ein neues Teilproblem zuzuweisen.
+     * Die Teilprobleme verwenden keinen RemoteStore. Auerdem wird die
+     * Anzahl der Teillsungen bergeben, die der Operative sammeln kann, um
+     * sie mit einem Aufruf an den ComputeManager zu bergeben. Wenn einer
+     * der Slots nicht unttig ist, wird keines der Teilprobleme angenommen.
+     *
+     * @param slots              Die Nummern der Slots, die die Teilprobleme
+     *                           berechnen sollen.
+     * @param parProbs           Die zu berechnenden Teilprobleme. Das
+     *                           Teilproblem mit einem bestimmten Index ist
+     *                           fr den Slot mit dem gleichen Index in
+     *                           <CODE>slots</CODE> bestimmt.
+     * @param solutionBatchSize  Die Anzahl der Teillsungen, die hchstens
+     *                           gesammelt zurckgegeben werden sollen.
+     *
+     * @throws RemoteException          Bei Kommunikationsproblemen ber RMI.
+     * @throws ProblemComputeException  Falls einer der Slots bereits ein
+     *                                  Teilproblem berechnet.
+     */
+    public void fetchPartialProblems(int[] slots,
+                                     PartialProblem[] parProbs,
+                                     int solutionBatchSize)
+        throws RemoteException, ProblemComputeException;
+
     /**
      * Wird vom ComputeManager aufgerufen, um die aktuelle Berechnung eines
-     * Teilproblems abzubrechen. Dies sollte z.B. dann geschehen, wenn ein
-     * Teilproblem bereits von einem anderen Operative berechnet wurde.
+     * Teilproblems auf einem Slot abzubrechen. Dies sollte z.B. dann
+     * geschehen, wenn ein Teilproblem bereits von einem anderen Operative
+     * berechnet wurde.
+     *
+     * @param slot  Die Nummer des Slots, dessen Berechnung abgebrochen
+     *              werden soll.
      *
      * @throws RemoteException bei Kommunikationsproblemen ber RMI
      */
-    public void stopComputation() throws RemoteException;
+    public void stopComputation(int slot) throws RemoteException;
 
 
     /**
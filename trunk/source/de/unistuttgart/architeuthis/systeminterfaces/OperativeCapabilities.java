@@ -0,0 +1,230 @@
+/*
+ * file:        OperativeCapabilities.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.systeminterfaces;
+
+import java.io.Serializable;
+
+/**
+ * Enthlt die Leistungsmerkmale eines Operatives, die er bei seiner
+ * Anmeldung dem ComputeManager bergibt. Das sind die Anzahl der
+ * Prozessoren, der maximal verfgbare Speicher und das Ergebnis eines
+ * kurzen Leistungstests. Der ComputeManager verwendet die Werte als erste
+ * Schtzung der Geschwindigkeit des Operatives, solange er noch keine
+ * Berechnungszeiten beobachtet hat. Hlt der Operative einen Vorrat an
+ * Teilproblemen, ist auerdem die Anzahl der gleichzeitig rechnenden Slots
+ * angegeben.
+ */
+public class OperativeCapabilities implements Serializable {
+
+    /**
+     * Generierte <code>serialVersionUID</code>.
+     */
+    private static final long serialVersionUID = 3862170421933569207L;
+
+    /**
+     * Die Zeitdauer in Millisekunden, die der Leistungstest mindestens
+     * dauert.
+     */
+    private static final long BENCHMARK_DURATION = 100;
+
+    /**
+     * Die Anzahl der Rechenschritte einer Runde des Leistungstests.
+     */
+    private static final int BENCHMARK_ROUND = 10000;
+
+    /**
+     * Dient dazu, da der Leistungstest nicht wegoptimiert wird.
+     */
+    private static volatile long benchmarkSink = 0;
+
+    /**
+     * Die Anzahl der Prozessoren.
+     */
+    private int processors;
+
+    /**
+     * Der maximal verfgbare Speicher in Byte.
+     */
+    private long maxMemory;
+
+    /**
+     * Die Anzahl der Runden des Leistungstests je Millisekunde mit einem
+     * Thread.
+     */
+    private double benchmarkScore;
+
+    /**
+     * Die Anzahl der Slots, die gleichzeitig rechnen, oder Null, wenn alle
+     * Slots gleichzeitig rechnen.
+     */
+    private int computations;
+
+    /**
+     * Erzeugt eine neue Instanz mit den bergebenen Werten fr einen
+     * Operative, dessen Slots alle gleichzeitig rechnen.
+     *
+     * @param processors      Die Anzahl der Prozessoren.
+     * @param maxMemory       Der maximal verfgbare Speicher in Byte.
+     * @param benchmarkScore  Das Ergebnis des Leistungstests. Ein Wert
+     *                        kleiner oder gleich Null bedeutet, da kein
+     *                        Ergebnis vorliegt.
+     */
+    public OperativeCapabilities(int processors, long maxMemory,
+                                 double benchmarkScore) {
+        this(processors, maxMemory, benchmarkScore, 0);
+    }
+
+    /**
+     * Erzeugt eine neue Instanz mit den bergebenen Werten.
+     *
+     * @param processors      Die Anzahl der Prozessoren.
+     * @param maxMemory       Der maximal verfgbare Speicher in Byte.
+     * @param benchmarkScore  Das Ergebnis des Leistungstests. Ein Wert
+     *                        kleiner oder gleich Null bedeutet, da kein
+     *                        Ergebnis vorliegt.
+     * @param computations    Die Anzahl der Slots, die gleichzeitig rechnen.
+     *                        Ein Wert kleiner oder gleich Null bedeutet, da
+     *                        alle Slots gleichzeitig rechnen.
+     */
+    public OperativeCapabilities(int processors, long maxMemory,
+                                 double benchmarkScore, int computations) {
+        this.processors = processors;
+        this.maxMemory = maxMemory;
+        this.benchmarkScore = benchmarkScore;
+        this.computations = Math.max(computations, 0);
+    }
+
+    /**
+     * Ermittelt die Leistungsmerkmale der aktuellen virtuellen Maschine. Dazu
+     * wird ein kurzer Leistungstest mit einem Thread durchgefhrt.
+     *
+     * @return  Die Leistungsmerkmale der aktuellen virtuellen Maschine.
+     */
+    public static OperativeCapabilities determine() {
+        return determine(0);
+    }
+
+    /**
+     * Ermittelt die Leistungsmerkmale der aktuellen virtuellen Maschine fr
+     * einen Operative, von dessen Slots nur die bergebene Anzahl
+     * gleichzeitig rechnet. Dazu wird ein kurzer Leistungstest mit einem
+     * Thread durchgefhrt.
+     *
+     * @param computations  Die Anzahl der Slots, die gleichzeitig rechnen.
+     *                      Ein Wert kleiner oder gleich Null bedeutet, da
+     *                      alle Slots gleichzeitig rechnen.
+     *
+     * @return  Die Leistungsmerkmale der aktuellen virtuellen Maschine.
+     */
+    public static OperativeCapabilities determine(int computations) {
+        Runtime runtime = Runtime.getRuntime();
+
+        return new OperativeCapabilities(runtime.availableProcessors(),
+                                         runtime.maxMemory(),
+                                         benchmark(), computations);
+    }
+
+    /**
+     * Fhrt einen kurzen Leistungstest mit Ganzzahl- und
+     * Gleitkommaoperationen durch.
+     *
+     * @return  Die Anzahl der Runden je Millisekunde.
+     */
+    private static double benchmark() {
+        long start = System.currentTimeMillis();
+        long duration;
+        long rounds = 0;
+        long value = 1;
+        double real = 1;
+
+        do {
+            for (int i = 0; i < BENCHMARK_ROUND; i++) {
+                value = value * 31 + (value >>> 7) + i;
+                real = real * 1.000001 + 0.5 / (i + 1);
+            }
+            rounds++;
+            duration = System.currentTimeMillis() - start;
+        } while (duration < BENCHMARK_DURATION);
+        benchmarkSink = value + (long) real;
+
+        return ((double) rounds) / duration;
+    }
+
+    /**
+     * Liefert die Anzahl der Prozessoren.
+     *
+     * @return  Die Anzahl der Prozessoren.
+     */
+    public int getProcessors() {
+        return processors;
+    }
+
+    /**
+     * Liefert den maximal verfgbaren Speicher.
+     *
+     * @return  Den maximal verfgbaren Speicher in Byte.
+     */
+    public long getMaxMemory() {
+        return maxMemory;
+    }
+
+    /**
+     * Liefert das Ergebnis des Leistungstests mit einem Thread. Ein hherer
+     * Wert bedeutet eine hhere Geschwindigkeit.
+     *
+     * @return  Das Ergebnis des Leistungstests oder einen Wert kleiner oder
+     *          gleich Null, wenn kein Ergebnis vorliegt.
+     */
+    public double getBenchmarkScore() {
+        return benchmarkScore;
+    }
+
+    /**
+     * Liefert die Anzahl der Slots, die gleichzeitig rechnen. Die brigen
+     * Slots halten einen Vorrat an Teilproblemen, deren Berechnung erst
+     * beginnt, wenn eine andere Berechnung beendet ist. Der Beginn einer
+     * solchen Berechnung wird dem ComputeManager mit
+     * {@link ComputeManager#notifyComputationStart} gemeldet.
+     *
+     * @return  Die Anzahl der gleichzeitig rechnenden Slots oder Null, wenn
+     *          alle Slots gleichzeitig rechnen.
+     */
+    public int getComputations() {
+        return computations;
+    }
+
+    /**
+     * Liefert eine Beschreibung der Leistungsmerkmale.
+     *
+     * @return  Eine Beschreibung der Leistungsmerkmale.
+     */
+    public String toString() {
+        return processors + " Prozessoren, "
+               + (maxMemory / (1024 * 1024)) + " MB Speicher, Leistung "
+               + Math.round(benchmarkScore)
+               + ((computations > 0)
+                  ? (", " + computations + " gleichzeitig rechnende Slots")
+                  : "");
+    }
+}
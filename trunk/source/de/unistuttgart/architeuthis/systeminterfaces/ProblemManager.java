@@ -70,6 +70,11 @@ public interface ProblemManager extends Remote {
      */
     String PROBLEMMANAGER_ID_STRING = "ProblemManager";
 
+    /**
+     * Das Gewicht eines Problems, fr das kein Gewicht angegeben wurde.
+     */
+    int DEFAULT_PROBLEM_WEIGHT = 1;
+
     /**
      * Teilt dem Compute-System die Position der Quelldateien fr ein neues
      * Problem mit. Ntiger Quellcode wird von einem HTTP-Server geladen und
@@ -106,6 +111,41 @@ public interface ProblemManager extends Remote {
         throws RemoteException, ClassNotFoundException,
                ProblemComputeException, RemoteStoreGenException;
 
+    /**
+     * Wie {@link #loadProblem(ProblemTransmitter, URL, String, Object[],
+     * RemoteStoreGenerator)}, wobei zustzlich das Gewicht des Problems
+     * angegeben wird. Je nach verwendetem Scheduler erhlt ein Problem einen
+     * Anteil an den Operatives, der seinem Gewicht im Verhltnis zu den
+     * Gewichten der anderen Probleme entspricht.
+     *
+     * @param transmitter        Problem-bermittler, der das Problem sendet
+     *                           und die Lsung empfangen soll.
+     * @param url                Pfad zu den Quelldateien auf einem HTTP-Server.
+     * @param className          {@link Problem}-spezifischer Name, das die
+     *                           Berechnung startet.
+     * @param problemParameters  Die formalen Parameter des vom Problem zu
+     *                           startenden Konstruktors.
+     * @param generator          Zum Erzeugen der RemoteStores bentigter
+     *                           Generator oder <CODE>null</CODE>, falls keiner
+     *                           verwendet wird.
+     * @param weight             Das Gewicht des Problems, das grer als Null
+     *                           sein mu.
+     *
+     * @throws RemoteException          Bei einem RMI-Verbindungsproblem.
+     * @throws ClassNotFoundException   Falls die angegebene Klasse nicht
+     *                                  auf dem HTTP-Server unter <code>url</code>
+     *                                  gefunden wurde.
+     * @throws ProblemComputeException  Bei einem Berechnungsfehler oder einem
+     *                                  unzulssigen Gewicht.
+     * @throws RemoteStoreGenException  Der zentrale <CODE>RemoteStore</CODE>
+     *                                  konnte nicht erzeugt werden.
+     */
+    public void loadProblem(ProblemTransmitter transmitter, URL url,
+                            String className, Object[] problemParameters,
+                            RemoteStoreGenerator generator, int weight)
+        throws RemoteException, ClassNotFoundException,
+               ProblemComputeException, RemoteStoreGenException;
+
     /**
      * Schickt dem Problem-Manager ein neues serialisierbares Problem und
      * ein RemoteStoreGenerator.<br>
@@ -133,6 +173,29 @@ public interface ProblemManager extends Remote {
                                RemoteStoreGenerator generator)
         throws RemoteException, ProblemComputeException, RemoteStoreGenException;
 
+    /**
+     * Wie {@link #receiveProblem(ProblemTransmitter, SerializableProblem,
+     * RemoteStoreGenerator)}, wobei zustzlich das Gewicht des Problems
+     * angegeben wird.
+     *
+     * @param transmitter  Problem-bermittler, der das Problem sendet und die
+     *                     Lsung empfangen soll
+     * @param problem      serialisierbares Problem, das verteilt berechnet werden soll.
+     * @param generator    RemoteStoreGenerator zum erzeugen des verteilten Speichers
+     * @param weight       Das Gewicht des Problems, das grer als Null sein
+     *                     mu.
+     *
+     * @throws RemoteException          Bei einem RMI-Verbindungsproblem.
+     * @throws ProblemComputeException  Bei einem Berechnungsfehler oder einem
+     *                                  unzulssigen Gewicht.
+     * @throws RemoteStoreGenException  Der zentrale <CODE>RemoteStore</CODE>
+     *                                  konnte nicht erzeugt werden.
+     */
+    public void receiveProblem(ProblemTransmitter transmitter,
+                               SerializableProblem problem,
+                               RemoteStoreGenerator generator, int weight)
+        throws RemoteException, ProblemComputeException, RemoteStoreGenException;
+
     /**
      * Liefert problemespezifische Statistik-Werte zurck.
      *
@@ -133,6 +133,15 @@ public interface UserProblemTransmitter {
         throws RemoteException, NotBoundException,
                MalformedURLException, ProblemComputeException;
 
+    /**
+     * Legt das Gewicht fest, mit dem die anschlieend bermittelten Probleme
+     * auf dem Compute-System berechnet werden.
+     *
+     * @param weight  Das Gewicht der folgenden Probleme, das grer als Null
+     *                sein mu.
+     */
+    public void setProblemWeight(int weight);
+
     /**
      * Bricht die Berechnung eines Problems ab.
      *
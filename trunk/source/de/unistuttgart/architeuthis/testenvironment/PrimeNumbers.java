@@ -37,6 +37,8 @@ package de.unistuttgart.architeuthis.testenvironment;
 
 import java.util.ArrayList;
 
+import de.unistuttgart.architeuthis.userinterfaces.develop.CancellationToken;
+
 /**
  * Beinhaltet Methoden zur Test und zur Errechnung von Primzahlen.
  *
@@ -85,6 +87,28 @@ public class PrimeNumbers {
      *          sind.
      */
     public static ArrayList primzahlTeilbereich(long minWert, long maxWert) {
+        return primzahlTeilbereich(minWert, maxWert, null);
+    }
+
+    /**
+     * Ermittelt alle Primzahlen aus einem angegebenen Intervall wie
+     * {@link #primzahlTeilbereich(long, long)}. Wird ber das bergebene
+     * Objekt ein Abbruch angezeigt, endet die Berechnung vorzeitig.
+     *
+     * @param minWert       Der untere Wert des Intervalls, aus dem die
+     *                      Primzahlen geliefert werden
+     * @param maxWert       Der obere Wert des Intervalls, aus dem die
+     *                      Primzahlen geliefert werden.
+     * @param cancellation  Das Objekt, das einen Abbruch anzeigt, oder
+     *                      <CODE>null</CODE>.
+     *
+     * @return  Eine aufsteigend geordnete Liste, deren Elemente vom Typ
+     *          <CODE>Long</CODE> die Primzahlen aus dem angegebenen Intervall
+     *          sind, oder <CODE>null</CODE>, wenn die Berechnung
+     *          abgebrochen wurde.
+     */
+    public static ArrayList primzahlTeilbereich(long minWert, long maxWert,
+                                                CancellationToken cancellation) {
         ArrayList teilbereich = new ArrayList();
         long      startWert   = minWert;
 
@@ -103,6 +127,9 @@ public class PrimeNumbers {
             if (istPrim(testZahl)) {
                 teilbereich.add(new Long(testZahl));
             }
+            if ((cancellation != null) && cancellation.isCancelled()) {
+                return null;
+            }
         }
 
         return teilbereich;
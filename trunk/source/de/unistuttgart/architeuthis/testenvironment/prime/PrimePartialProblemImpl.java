@@ -33,18 +33,29 @@
 
 package de.unistuttgart.architeuthis.testenvironment.prime;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
 import de.unistuttgart.architeuthis.testenvironment.PrimeNumbers;
 import de.unistuttgart.architeuthis.userinterfaces.ProblemComputeException;
+import de.unistuttgart.architeuthis.userinterfaces.develop.CancellablePartialProblem;
+import de.unistuttgart.architeuthis.userinterfaces.develop.CancellationToken;
 import de.unistuttgart.architeuthis.userinterfaces.develop.NonCommPartialProblem;
 import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
 import de.unistuttgart.architeuthis.abstractproblems.ContainerPartialSolution;
 
 /**
- * Dient zur Berechnung der Primzahlen in einem anzugebeden Intervall.
+ * Dient zur Berechnung der Primzahlen in einem anzugebeden Intervall. Bei
+ * einem Abbruch endet die Berechnung vorzeitig. Fr die bertragung werden
+ * nur die beiden Intervallgrenzen geschrieben.
  *
  * @author Achim Linke, Dietmar Lippold
  */
-public class PrimePartialProblemImpl implements NonCommPartialProblem {
+public class PrimePartialProblemImpl
+    implements NonCommPartialProblem, CancellablePartialProblem,
+               Externalizable {
 
     /**
      * Zahl, ab der nach Primzahlen gesucht werden soll.
@@ -56,6 +67,18 @@ public class PrimePartialProblemImpl implements NonCommPartialProblem {
      */
     private long maxWert;
 
+    /**
+     * Das Objekt, das einen Abbruch der Berechnung anzeigt.
+     */
+    private transient CancellationToken cancellation = null;
+
+    /**
+     * Konstruktor fr die Deserialisierung. Er sollte nicht anderweitig
+     * verwendet werden.
+     */
+    public PrimePartialProblemImpl() {
+    }
+
     /**
      * Liefert eine neue Instanz zu einem vorgegebenen Intervall. Die
      * Grenzen des Interalls sind Teil von diesem.
@@ -68,6 +91,40 @@ public class PrimePartialProblemImpl implements NonCommPartialProblem {
         maxWert = max;
     }
 
+    /**
+     * Schreibt die Intervallgrenzen.
+     *
+     * @param out  Der Stream, auf den geschrieben wird.
+     *
+     * @throws IOException  Bei einem Fehler beim Schreiben.
+     */
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeLong(minWert);
+        out.writeLong(maxWert);
+    }
+
+    /**
+     * Liest die mit <code>writeExternal</code> geschriebenen
+     * Intervallgrenzen.
+     *
+     * @param in  Der Stream, von dem gelesen wird.
+     *
+     * @throws IOException  Bei einem Fehler beim Lesen.
+     */
+    public void readExternal(ObjectInput in) throws IOException {
+        minWert = in.readLong();
+        maxWert = in.readLong();
+    }
+
+    /**
+     * bernimmt das Objekt, das einen Abbruch der Berechnung anzeigt.
+     *
+     * @param token  Das Objekt, das einen Abbruch der Berechnung anzeigt.
+     */
+    public void setCancellationToken(CancellationToken token) {
+        cancellation = token;
+    }
+
     /**
      * Berechnet alle Primzahlen aus dem Intervall, das dem Konstruktor
      * bergeben wurde, und liefert die Lsung in Form eines
@@ -81,7 +138,7 @@ public class PrimePartialProblemImpl implements NonCommPartialProblem {
      */
     public PartialSolution compute() throws ProblemComputeException {
         return new ContainerPartialSolution(
-            PrimeNumbers.primzahlTeilbereich(minWert, maxWert));
+            PrimeNumbers.primzahlTeilbereich(minWert, maxWert, cancellation));
     }
 }
 
@@ -40,6 +40,7 @@ import java.util.ArrayList;
 
 import de.unistuttgart.architeuthis.userinterfaces.develop.PartialProblem;
 import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
+import de.unistuttgart.architeuthis.userinterfaces.develop.StagedProblem;
 import de.unistuttgart.architeuthis.abstractproblems.AbstractFixedSizeProblem;
 import de.unistuttgart.architeuthis.abstractproblems.ContainerPartialSolution;
 import de.unistuttgart.architeuthis.testenvironment.prime.PrimePartialProblemImpl;
@@ -51,11 +52,14 @@ import de.unistuttgart.architeuthis.testenvironment.prime.PrimePartialProblemImp
  * definieren. Gegenber einer gleichmigen Zerlegung des Gesamtintervalls
  * ist der Rechenaufwand fr die Teilprobleme bei dieser Vorgehensweise
  * (abgesehen von sehr kleinen Gesamtintervallen) gleicher, was zu einer
- * effizienteren Berechnung des Gesamtproblems fhrt.
+ * effizienteren Berechnung des Gesamtproblems fhrt. Die Erzeugung der
+ * Teilprobleme und die Verarbeitung der Teillsungen knnen in getrennten
+ * Threads erfolgen.
  *
  * @author Ralf Kible, Achim Linke, Dietmar Lippold
  */
-public class PrimeRangeProblemImpl extends AbstractFixedSizeProblem {
+public class PrimeRangeProblemImpl extends AbstractFixedSizeProblem
+    implements StagedProblem {
 
     /**
      * Die Zahl, ab der nach Primzahlen gesucht wird.
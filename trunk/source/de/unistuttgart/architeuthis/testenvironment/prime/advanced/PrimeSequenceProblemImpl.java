@@ -35,27 +35,42 @@
 package de.unistuttgart.architeuthis.testenvironment.prime.advanced;
 
 import java.io.Serializable;
-import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.ArrayList;
 
 import de.unistuttgart.architeuthis.userinterfaces.develop.PartialProblem;
 import de.unistuttgart.architeuthis.userinterfaces.develop.PartialSolution;
+import de.unistuttgart.architeuthis.userinterfaces.develop.StagedProblem;
 import de.unistuttgart.architeuthis.abstractproblems.AbstractOrderedProblem;
 import de.unistuttgart.architeuthis.abstractproblems.ContainerPartialSolution;
+import de.unistuttgart.architeuthis.testenvironment.prime.PrimePartialProblemImpl;
 
 /**
  * Klasse dient der Ermittlung von Primzahlen aus einen Bereichs von Nummern
- * der Primzahlen.
+ * der Primzahlen. Da die Erzeugung der Teilprobleme und die Verarbeitung
+ * der Teillsungen keine gemeinsamen Daten verwenden, knnen sie in
+ * getrennten Threads erfolgen. Die Teilprobleme werden erst bei Bedarf
+ * erzeugt und ihre Gre den Hinweisen des Dispatchers angepat.
  *
  * @author Ralf Kible, Achim Linke, Dietmar Lippold
  */
-public class PrimeSequenceProblemImpl extends AbstractOrderedProblem {
+public class PrimeSequenceProblemImpl extends AbstractOrderedProblem
+    implements StagedProblem {
 
     /**
-     * Liste der noch nicht ausgegebenen Teilprobleme.
+     * Die untere Grenze des Intervalls des nchsten Teilproblems.
      */
-    private LinkedList partialProblems = new LinkedList();
+    private long nextLowerBound = 2;
+
+    /**
+     * Die obere Grenze des Intervalls des letzten Teilproblems.
+     */
+    private long maxValue;
+
+    /**
+     * Die Differenz der Wurzeln der Grenzen der Intervalle der ersten
+     * Teilprobleme.
+     */
+    private double parItvSqrtSize;
 
     /**
      * Liste, die alle Primzahlen mit einer greren Nummer als
@@ -81,8 +96,8 @@ public class PrimeSequenceProblemImpl extends AbstractOrderedProblem {
 
     /**
      * Gibt an, ob die Methode <code>createPartialProblem()</code> zum ersten
-     * Mal aufgerufen wurde. Falls das der Fall ist, werden zuerst
-     * Teilprobleme generiert.
+     * Mal aufgerufen wurde. Falls das der Fall ist, wird zuerst die Gre
+     * der Teilintervalle festgelegt.
      */
     private boolean firstCall = true;
 
@@ -109,8 +124,9 @@ public class PrimeSequenceProblemImpl extends AbstractOrderedProblem {
 
     /**
      * Liefert ein neues Teilproblem oder <code>null</code>, wenn es kein
-     * Teilproblem mehr gibt. Beim ersten Aufruf werden auerdem die
-     * Teilprobleme generiert.
+     * Teilproblem mehr gibt. Beim ersten Aufruf wird auerdem die Gre der
+     * Intervalle der Teilprobleme festgelegt, die anschlieend entsprechend
+     * dem Wert von <code>getSizeScale()</code> verndert wird.
      *
      * @param parProbsSuggested  Die vom ProblemManager vorgeschlagene Anzahl
      *                           bereitzuhaltender Teilprobleme.
@@ -118,12 +134,10 @@ public class PrimeSequenceProblemImpl extends AbstractOrderedProblem {
      * @return  Neues Teilproblem zur Berechnung.
      */
     protected PartialProblem createPartialProblem(int parProbsSuggested) {
-        PrimeRangeProblemImpl primeRange;
-        PartialProblem[]      createdParProbs;
-        PartialProblem        nextParProb;
-        long                  maxValue;
+        double upperBoundSqrt;
+        long   lowerBound, upperBound;
 
-        // Falls erster Aufruf, dann Teilprobleme generieren.
+        // Falls erster Aufruf, dann die Gre der Teilintervalle festlegen.
         if (firstCall) {
             firstCall = false;
 
@@ -144,20 +158,24 @@ public class PrimeSequenceProblemImpl extends AbstractOrderedProblem {
                                                - 0.9385));
             }
 
-            // Teilprobleme erzeugen und in eine Liste aufnehmen.
-            primeRange = new PrimeRangeProblemImpl(2, maxValue);
-            createdParProbs = primeRange.createPartialProblems(2 * parProbsSuggested);
-            partialProblems = new LinkedList(Arrays.asList(createdParProbs));
+            // Die Differenz der Wurzeln der Grenzen der Teilintervalle
+            // ermitteln, wie sie auch PrimeRangeProblemImpl verwendet.
+            parItvSqrtSize = ((Math.sqrt(maxValue) - Math.sqrt(nextLowerBound))
+                              / (2 * parProbsSuggested));
         }
 
-        // Nchstes Teilproblem aus der Liste liefern.
-        if (partialProblems.isEmpty()) {
+        if (nextLowerBound > maxValue) {
             return null;
-        } else {
-            nextParProb = (PartialProblem) partialProblems.getFirst();
-            partialProblems.removeFirst();
-            return nextParProb;
         }
+
+        // Das nchste Teilintervall mit der angepaten Gre bilden.
+        lowerBound = nextLowerBound;
+        upperBoundSqrt = Math.sqrt(lowerBound) + parItvSqrtSize * getSizeScale();
+        upperBound = (long) Math.ceil(Math.pow(upperBoundSqrt, 2));
+        upperBound = Math.max(lowerBound, Math.min(maxValue, upperBound));
+        nextLowerBound = upperBound + 1;
+
+        return new PrimePartialProblemImpl(lowerBound, upperBound);
     }
 
     /**
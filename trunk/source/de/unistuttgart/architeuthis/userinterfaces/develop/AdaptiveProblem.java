@@ -0,0 +1,59 @@
+/*
+ * file:        AdaptiveProblem.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.userinterfaces.develop;
+
+/**
+ * Kann von einer Problem-Klasse zustzlich zu {@link Problem} implementiert
+ * werden, um vom Dispatcher Hinweise zur Gre der zu erzeugenden
+ * Teilprobleme zu erhalten. Der Dispatcher mit die Berechnungszeiten der
+ * Teilprobleme und die Dauer ihrer bergabe an die Operatives und ermittelt
+ * daraus fortlaufend eine angestrebte Berechnungszeit. Diese ist gro genug,
+ * da der Aufwand der bertragung nicht ins Gewicht fllt, und klein genug,
+ * da einzelne lange laufende Teilprobleme das Ende der Berechnung nicht
+ * wesentlich verzgern.<p>
+ *
+ * Die Methode <code>setSizeHint</code> wird vom gleichen Thread wie
+ * <code>getPartialProblem</code> aufgerufen, bei einem {@link ParallelProblem}
+ * aber mglicherweise gleichzeitig mit <code>getPartialProblem</code>.
+ */
+public interface AdaptiveProblem extends Problem {
+
+    /**
+     * Teilt dem Problem mit, um welchen Faktor die als nchstes erzeugten
+     * Teilprobleme grer sein sollten als die zuletzt berechneten. Die
+     * Methode wird nur aufgerufen, wenn seit dem letzten Aufruf weitere
+     * Teilprobleme berechnet wurden und eine nderung der Gre angebracht
+     * ist.
+     *
+     * @param sizeFactor      Der Faktor, um den die Berechnungszeit der
+     *                        nchsten Teilprobleme grer sein sollte als die
+     *                        der zuletzt berechneten. Ein Wert kleiner Eins
+     *                        bedeutet, da sie kleiner sein sollten. Der
+     *                        Wert ist grer als Null.
+     * @param targetDuration  Die angestrebte Berechnungszeit eines
+     *                        Teilproblems in Millisekunden.
+     */
+    public void setSizeHint(double sizeFactor, long targetDuration);
+}
+
@@ -0,0 +1,56 @@
+/*
+ * file:        CancellablePartialProblem.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.userinterfaces.develop;
+
+/**
+ * Kann von einem Teilproblem zustzlich zu {@link NonCommPartialProblem}
+ * oder {@link CommunicationPartialProblem} implementiert werden, um bei
+ * einem Abbruch seiner Berechnung von sich aus zu enden. Der Operative
+ * bergibt dem Teilproblem vor dem Aufruf von <code>compute</code> ein
+ * {@link CancellationToken}, das das Teilproblem whrend der Berechnung
+ * regelmig abfragen sollte. Wird ein Abbruch angezeigt, sollte die
+ * Methode <code>compute</code> mglichst bald zurckkehren. Der
+ * zurckgegebene Wert oder eine ausgelste Exception wird dann
+ * ignoriert.<p>
+ *
+ * Unabhngig davon wird der berechnende Thread bei einem Abbruch
+ * unterbrochen (<code>Thread.interrupt</code>), so da auch ein Teilproblem,
+ * das dieses Interface nicht implementiert, z.B. bei einem
+ * <code>wait</code> oder <code>sleep</code> enden kann. Endet die Berechnung
+ * nicht innerhalb kurzer Zeit, luft sie mit niedriger Prioritt zu Ende
+ * und ihr Ergebnis wird verworfen.<p>
+ *
+ * Das bergebene Objekt sollte in einem <code>transient</code> Attribut
+ * gespeichert werden.
+ */
+public interface CancellablePartialProblem extends PartialProblem {
+
+    /**
+     * bergibt das Objekt, das einen Abbruch der Berechnung anzeigt. Die
+     * Methode wird auf dem Operative vor <code>compute</code> aufgerufen.
+     *
+     * @param token  Das Objekt, das einen Abbruch der Berechnung anzeigt.
+     */
+    public void setCancellationToken(CancellationToken token);
+}
@@ -0,0 +1,42 @@
+/*
+ * file:        CancellationToken.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.userinterfaces.develop;
+
+/**
+ * Zeigt einem Teilproblem whrend seiner Berechnung an, ob die Berechnung
+ * abgebrochen werden soll. Das ist z.B. der Fall, wenn das gleiche
+ * Teilproblem auf einem anderen Operative schon fertig berechnet wurde.
+ */
+public interface CancellationToken {
+
+    /**
+     * Ermittelt, ob die Berechnung abgebrochen werden soll. Die Methode kann
+     * beliebig oft aufgerufen werden und ist schnell genug fr den Aufruf in
+     * einer inneren Schleife.
+     *
+     * @return  <code>true</code>, wenn die Berechnung abgebrochen werden
+     *          soll, sonst <code>false</code>.
+     */
+    public boolean isCancelled();
+}
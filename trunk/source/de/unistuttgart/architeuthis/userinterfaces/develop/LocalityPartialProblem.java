@@ -0,0 +1,54 @@
+/*
+ * file:        LocalityPartialProblem.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.userinterfaces.develop;
+
+import java.util.Collection;
+
+/**
+ * Kann von einem {@link CommunicationPartialProblem} zustzlich
+ * implementiert werden, um dem Dispatcher mitzuteilen, welche Eintrge des
+ * <CODE>RemoteStore</CODE> das Teilproblem bei seiner Berechnung liest. Der
+ * Dispatcher vermerkt sich fr jeden Operative die Schlssel der
+ * Teilprobleme, die er ihm zugewiesen hat. Wenn beim Dispatcher eine
+ * Auswahl unter den Teilproblemen eingestellt ist, erhlt ein Operative
+ * bevorzugt ein Teilproblem, dessen Schlssel er schon verwendet hat. In
+ * der Statistik des Problems wird angegeben, wieviele Schlssel bei der
+ * Zuweisung schon auf dem Operative verwendet worden waren und wieviele
+ * nicht.<p>
+ *
+ * Die Methode <code>getLocalityKeys</code> wird auf dem Dispatcher
+ * aufgerufen, bevor das Teilproblem an einen Operative bergeben wird.
+ */
+public interface LocalityPartialProblem extends CommunicationPartialProblem {
+
+    /**
+     * Liefert die Schlssel der Eintrge des <CODE>RemoteStore</CODE>, die
+     * das Teilproblem bei seiner Berechnung liest. Die Schlssel mssen
+     * <code>equals</code> und <code>hashCode</code> passend implementieren.
+     *
+     * @return  Die Schlssel oder <code>null</code>, wenn keine angegeben
+     *          werden.
+     */
+    public Collection getLocalityKeys();
+}
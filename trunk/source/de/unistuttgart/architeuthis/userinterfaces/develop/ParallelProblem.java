@@ -0,0 +1,66 @@
+/*
+ * file:        ParallelProblem.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.userinterfaces.develop;
+
+/**
+ * Kann von einer Problem-Klasse zustzlich zu {@link Problem} implementiert
+ * werden, wenn deren Methode <code>getPartialProblem</code> von mehreren
+ * Threads gleichzeitig aufgerufen werden darf. Das ist sinnvoll, wenn die
+ * Erzeugung eines Teilproblems so aufwendig ist, da der Dispatcher mit
+ * einem einzelnen Thread nicht genug Teilprobleme fr alle Operatives
+ * erzeugen kann. Die Methode <code>getPartialProblem</code> mu dann selbst
+ * fr die ntige Synchronisation sorgen. Sie wird dabei auch gleichzeitig
+ * mit den Methoden <code>collectPartialSolution</code> und
+ * <code>getSolution</code> aufgerufen.<p>
+ *
+ * Optional knnen auch die Methoden <code>collectPartialSolution</code> und
+ * <code>getSolution</code> gleichzeitig von mehreren Threads aufgerufen
+ * werden. Das mu ausdrcklich durch die Methode
+ * <code>allowsConcurrentCollection</code> erlaubt werden.
+ */
+public interface ParallelProblem extends Problem {
+
+    /**
+     * Liefert die maximale Anzahl der Threads, die gleichzeitig die Methode
+     * <code>getPartialProblem</code> aufrufen drfen. Bei einem Wert kleiner
+     * oder gleich Eins werden die Teilprobleme wie bei einem gewhnlichen
+     * Problem von einem einzelnen Thread erzeugt.
+     *
+     * @return  Die maximale Anzahl der Threads zur Erzeugung der
+     *          Teilprobleme.
+     */
+    public int getMaxGeneratorThreads();
+
+    /**
+     * Gibt an, ob die Methoden <code>collectPartialSolution</code> und
+     * <code>getSolution</code> gleichzeitig von mehreren Threads und
+     * gleichzeitig mit <code>getPartialProblem</code> aufgerufen werden
+     * drfen.
+     *
+     * @return  <code>true</code>, wenn die Teillsungen gleichzeitig
+     *          bergeben werden drfen, anderenfalls <code>false</code>.
+     */
+    public boolean allowsConcurrentCollection();
+}
+
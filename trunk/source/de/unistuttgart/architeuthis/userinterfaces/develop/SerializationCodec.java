@@ -0,0 +1,78 @@
+/*
+ * file:        SerializationCodec.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.userinterfaces.develop;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+
+/**
+ * Schreibt Objekte bestimmter Klassen in einer kompakteren Form als die
+ * Standard-Serialisierung von Java. Ein solcher Codec kann z.B. einer
+ * {@link de.unistuttgart.architeuthis.abstractproblems.ContainerPartialSolution}
+ * bergeben werden, um deren Inhalt bei der bertragung zwischen Operative
+ * und Dispatcher zu kodieren. Ein eigener Codec wird mit den Daten
+ * bertragen und mu daher serialisierbar sein und sollte keine Attribute
+ * besitzen.
+ */
+public interface SerializationCodec extends Serializable {
+
+    /**
+     * Ermittelt, ob das bergebene Objekt mit diesem Codec geschrieben
+     * werden kann.
+     *
+     * @param object  Das zu schreibende Objekt.
+     *
+     * @return  <code>true</code>, wenn das Objekt geschrieben werden kann,
+     *          sonst <code>false</code>.
+     */
+    public boolean accepts(Object object);
+
+    /**
+     * Schreibt das bergebene Objekt, fr das <code>accepts</code> den Wert
+     * <code>true</code> geliefert hat.
+     *
+     * @param object  Das zu schreibende Objekt.
+     * @param out     Der Stream, auf den das Objekt geschrieben wird.
+     *
+     * @throws IOException  Bei einem Fehler beim Schreiben.
+     */
+    public void write(Object object, ObjectOutput out) throws IOException;
+
+    /**
+     * Liest ein Objekt, das mit der Methode <code>write</code> geschrieben
+     * wurde.
+     *
+     * @param in  Der Stream, von dem das Objekt gelesen wird.
+     *
+     * @return  Das gelesene Objekt, das dem geschriebenen gleich ist.
+     *
+     * @throws IOException             Bei einem Fehler beim Lesen.
+     * @throws ClassNotFoundException  Wenn eine bentigte Klasse nicht
+     *                                 geladen werden kann.
+     */
+    public Object read(ObjectInput in)
+        throws IOException, ClassNotFoundException;
+}
@@ -0,0 +1,47 @@
+/*
+ * file:        StagedProblem.java
+ * created:     18.10.2026
+ * last change: 18.10.2026
+ *
+ * This file is part of Architeuthis.
+ *
+ * Architeuthis is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation; either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Architeuthis is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Architeuthis; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA  02111-1307  USA
+ */
+
+
+package de.unistuttgart.architeuthis.userinterfaces.develop;
+
+/**
+ * Kann von einer Problem-Klasse zustzlich zu {@link Problem} implementiert
+ * werden, um zu erlauben, da die Erzeugung der Teilprobleme und die
+ * Verarbeitung der Teillsungen in zwei getrennten Threads erfolgen. Die
+ * Methode <code>getPartialProblem</code> kann dann gleichzeitig mit den
+ * Methoden <code>collectPartialSolution</code> und <code>getSolution</code>
+ * aufgerufen werden. Die beiden letzten Methoden werden aber weiterhin nur
+ * von einem Thread und nicht gleichzeitig aufgerufen, ebenso wie
+ * <code>getPartialProblem</code> nicht gleichzeitig von mehreren Threads
+ * aufgerufen wird.<p>
+ *
+ * Das ist sinnvoll, wenn die Verarbeitung einer Teillsung aufwendig ist
+ * und die Erzeugung weiterer Teilprobleme nicht verzgern soll. Die Klasse
+ * mu dafr sorgen, da Daten, die von beiden Seiten verwendet werden,
+ * synchronisiert werden.<p>
+ *
+ * Bei einem {@link ParallelProblem}, das die gleichzeitige bergabe der
+ * Teillsungen erlaubt, hat das Interface keine Wirkung.
+ */
+public interface StagedProblem extends Problem {
+}
+
@@ -59,6 +59,80 @@ public interface ProblemStatistics extends AbstractStatistics {
      */
     public long getRequestedPartialProblems();
 
+    /**
+     * Liefert die Standardabweichung der Berechnungszeiten aller fertig
+     * berechneten Teilprobleme.
+     *
+     * @return  Die Standardabweichung in Millisekunden.
+     */
+    public long getComputationDurationDeviation();
+
+    /**
+     * Liefert die durchschnittliche Dauer des Aufrufs, mit dem ein
+     * Teilproblem an einen Operative bergeben wird.
+     *
+     * @return  Die durchschnittliche Dauer in Millisekunden.
+     */
+    public long getAverageDispatchDuration();
+
+    /**
+     * Liefert die Anzahl der spekulativen Berechnungen, d.h. der zustzlichen
+     * Vergaben von Teilproblemen, die schon in Berechnung waren.
+     *
+     * @return  Die Anzahl der spekulativen Berechnungen.
+     */
+    public long getSpeculativeExecutions();
+
+    /**
+     * Liefert die Anzahl der Teilprobleme, deren Teillsung von einer
+     * spekulativen Berechnung geliefert wurde.
+     *
+     * @return  Die Anzahl der erfolgreichen spekulativen Berechnungen.
+     */
+    public long getSuccessfulSpeculations();
+
+    /**
+     * Liefert die gesamte Zeit der Berechnungen, die abgebrochen wurden,
+     * weil eine andere Berechnung des gleichen Teilproblems zuerst eine
+     * Teillsung geliefert hat.
+     *
+     * @return  Die verschwendete Zeit in Millisekunden.
+     */
+    public long getWastedComputationDuration();
+
+    /**
+     * Liefert die geschtzte gesamte Zeit, um die Teillsungen durch
+     * spekulative Berechnungen frher vorlagen. Fr eine Teillsung, die
+     * eine spekulative Berechnung geliefert hat, wird angenommen, da die
+     * ursprngliche Berechnung noch so lange gedauert htte, wie sie schon
+     * gelaufen war.
+     *
+     * @return  Die eingesparte Zeit in Millisekunden.
+     */
+    public long getSavedComputationDuration();
+
+    /**
+     * Liefert die Anzahl der Schlssel, die die zugewiesenen Teilprobleme vom
+     * Typ
+     * {@link de.unistuttgart.architeuthis.userinterfaces.develop.LocalityPartialProblem}
+     * angegeben haben und die auf dem jeweiligen Operative schon von
+     * frheren Teilproblemen verwendet worden waren.
+     *
+     * @return  Die Anzahl der lokal vorhandenen Schlssel.
+     */
+    public long getLocalKeyAccesses();
+
+    /**
+     * Liefert die Anzahl der Schlssel, die die zugewiesenen Teilprobleme vom
+     * Typ
+     * {@link de.unistuttgart.architeuthis.userinterfaces.develop.LocalityPartialProblem}
+     * angegeben haben und die auf dem jeweiligen Operative noch nicht
+     * verwendet worden waren.
+     *
+     * @return  Die Anzahl der entfernt abzurufenden Schlssel.
+     */
+    public long getRemoteKeyAccesses();
+
     /**
      * Liefert die Zeitdauer seit dem Empfang des Problems.
      *
@@ -42,7 +42,8 @@ package de.unistuttgart.architeuthis.userinterfaces.exec;
 public interface SystemStatistics extends AbstractStatistics {
 
     /**
-     * Liefert die Anzahl der am System angemeldeten Operatives.
+     * Liefert die Anzahl der am System angemeldeten Operatives. Ein Operative
+     * mit mehreren Slots wird dabei fr jeden Slot gezhlt.
      *
      * @return  Anzahl der angemeldeten Operatives
      */
@@ -50,12 +51,88 @@ public interface SystemStatistics extends AbstractStatistics {
 
     /**
      * Liefert die Anzahl der angemeldeten freien Operatives. Ein angemeldeter
-     * Operative ist frei, wenn ihm kein Teilproblem zugeordnet ist.
+     * Operative ist frei, wenn ihm kein Teilproblem zugeordnet ist. Bei einem
+     * Operative mit mehreren Slots wird jeder freie Slot gezhlt.
      *
      * @return  Anzahl der freien Operatives
      */
     public long getFreeOperatives();
 
+    /**
+     * Liefert die Anzahl der Operatives, die seit dem Start des Dispatcher
+     * als nicht erreichbar entfernt wurden. Ein Operative mit mehreren Slots
+     * wird dabei nur einmal gezhlt.
+     *
+     * @return  Anzahl der als nicht erreichbar entfernten Operatives
+     */
+    public long getUnreachableOperatives();
+
+    /**
+     * Liefert die durchschnittliche Zeitdauer vom ersten fehlgeschlagenen
+     * Erreichbarkeitstest eines Operatives bis zu seiner Entfernung.
+     *
+     * @return  Zeitdauer in Millisekunden
+     */
+    public long getAverageDetectionLatency();
+
+    /**
+     * Liefert die Anzahl der Auftrge, die auf ihre Ausfhrung durch die
+     * Threads fr die Hintergrundarbeiten des Dispatchers warten.
+     *
+     * @return  Anzahl der wartenden Auftrge
+     */
+    public long getBackgroundQueueSize();
+
+    /**
+     * Liefert die Anzahl der Auftrge, die gerade von den Threads fr die
+     * Hintergrundarbeiten des Dispatchers ausgefhrt werden.
+     *
+     * @return  Anzahl der gerade ausgefhrten Auftrge
+     */
+    public long getActiveBackgroundTasks();
+
+    /**
+     * Liefert die Anzahl der Auftrge fr die Hintergrundarbeiten, die seit
+     * dem Start des Dispatcher wegen einer vollen Warteschlange abgewiesen
+     * und zurckgestellt wurden.
+     *
+     * @return  Anzahl der abgewiesenen Auftrge
+     */
+    public long getRejectedBackgroundTasks();
+
+    /**
+     * Liefert die Anzahl der Eintrge im Puffer, in dem die als nchstes zu
+     * verteilenden Teilprobleme aller Probleme bereitgestellt werden.
+     *
+     * @return  Anzahl der bereitgestellten Eintrge
+     */
+    public long getStagedPartialProblems();
+
+    /**
+     * Liefert die derzeitige maximale Anzahl der Eintrge im Puffer der
+     * bereitgestellten Teilprobleme.
+     *
+     * @return  maximale Anzahl der bereitgestellten Eintrge
+     */
+    public long getStagingDepth();
+
+    /**
+     * Liefert die Anzahl der Anfragen nach einem Teilproblem, die seit dem
+     * Start des Dispatchers ohne Teilproblem beantwortet wurden, whrend
+     * Probleme in Bearbeitung waren.
+     *
+     * @return  Anzahl der Anfragen ohne Teilproblem
+     */
+    public long getStagingStarvations();
+
+    /**
+     * Liefert die durchschnittliche Zeitdauer, die ein Problem zur Erzeugung
+     * eines Teilproblems bentigt hat.
+     *
+     * @return  Zeitdauer in Millisekunden
+     */
+    public long getAverageGenerationDuration();
+
     /**
      * Liefert die Anzahl der seit dem Start des Dispatcher empfangenen
      * Probleme.